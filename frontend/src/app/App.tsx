@@ -32,7 +32,7 @@ function AppContent() {
   const getPageFromPath = (path: string) => {
     if (path === "/admin") return "admin";
     if (path === "/portfolio") return "portfolio";
-    if (path === "/blog") return "blog";
+    if (path === "/blog" || path.startsWith("/blog/")) return "blog";
     if (path === "/contact") return "contact";
     if (path === "/about") return "about";
     return "home";
@@ -55,6 +55,7 @@ function AppContent() {
             <Route path="/portfolio" element={<PortfolioPage />} />
             <Route path="/about" element={<AboutPage />} />
             <Route path="/blog" element={<BlogPage />} />
+            <Route path="/blog/:postId" element={<BlogPage />} />
             <Route path="/contact" element={<ContactPage />} />
             <Route path="/admin" element={<AdminBlogPage />} />
             <Route path="*" element={<HomePage />} />
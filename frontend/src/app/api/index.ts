@@ -36,9 +36,11 @@ export interface GithubRepoResponse {
   name: string;
   description: string;
   html_url: string;
-  stargazers_count: string;
+  stargazers_count: number;
   language: string;
+  pushed_at?: string;
 }
+export type ProjectSort = 'updated' | 'stars' | 'name';
 export interface StatsResponse {
   isCodingNow: boolean;
   ideName: string;
@@ -48,6 +50,28 @@ export interface StatsResponse {
   totalSpentOnCurrentProject: string;
   totalSpentOnAllProjects: string;
 }
+export interface MediaVariant {
+  width: number;
+  url: string;
+}
+export interface MediaUpload {
+  hash: string;
+  url: string;
+  contentType: string;
+  width: number;
+  height: number;
+  size: number;
+  variants: MediaVariant[];
+  deduplicated: boolean;
+}
+export type BlogStatus = 'DRAFT' | 'SCHEDULED' | 'PUBLISHED';
+export interface BlogWriteRequest {
+  title: string;
+  content: string;
+  category?: string;
+  status?: BlogStatus;
+  publishAt?: string;
+}
 export interface BlogPost {
   id: number;
   title: string;
@@ -55,6 +79,63 @@ export interface BlogPost {
   category?: string;
   imageUrl?: string;
   createdDate: string;
+  readingMinutes?: number;
+  contentHtml?: string;
+  toc?: BlogHeading[];
+  wordCount?: number;
+  status?: BlogStatus;
+  publishAt?: string | null;
+}
+export interface BlogHeading {
+  level: number;
+  id: string;
+  text: string;
+}
+export interface BlogSummary {
+  id: number;
+  title: string;
+  category?: string;
+  createdDate: string;
+  excerpt?: string;
+  readingMinutes?: number;
+  status?: BlogStatus;
+  publishAt?: string | null;
+}
+export interface BlogPageResponse {
+  items: BlogSummary[];
+  nextCursor: string | null;
+  totalElements: number;
+}
+export interface BlogCategory {
+  name: string;
+  count: number;
+}
+export interface MostReadBlog {
+  id: number;
+  title: string;
+  category: string;
+  views: number;
+}
+export interface BlogRevision {
+  revision: number;
+  title: string;
+  category: string;
+  contentLength: number;
+  snapshot: boolean;
+  createdAt: string;
+}
+export interface BlogRevisionDiff {
+  from: number;
+  to: number;
+  fromTitle: string;
+  toTitle: string;
+  lines: { type: 'EQUAL' | 'REMOVED' | 'ADDED'; text: string }[];
+}
+export interface RelatedBlog {
+  id: number;
+  title: string;
+  category: string;
+  score: number;
 }
 export interface PaginatedResponse<T> {
   content: T[];
@@ -98,6 +179,9 @@ export interface PinnedProject {
   tags: string[];
   githubUrl?: string;
   longDescription?: string;
+  stars?: number | null;
+  primaryLanguage?: string | null;
+  pushedAt?: string | null;
 }
 export interface CreatePinnedProjectRequest {
   title: string;
@@ -134,7 +218,8 @@ export const api = {
     sendMessage: (data: SendMailRequest) => client.post('/contact', data),
   },
   projects: {
-    getAll: (pageNo = 1, pageSize = 10) => client.get<GithubRepoResponse[]>((`/projects?pageNo=${pageNo}&pageSize=${pageSize}`)).then((res) => res.data),
+    getAll: (pageNo = 1, pageSize = 10, sort: ProjectSort = 'updated', language?: string) =>
+      client.get<PaginatedResponse<GithubRepoResponse>>('/projects', { params: { pageNo, pageSize, sort, language } }).then((res) => res.data),
   },
   pinnedProjects: {
     getAll: () => client.get<PinnedProject[]>('/pinned-projects').then((res) => res.data),
@@ -146,9 +231,25 @@ export const api = {
     getCurrent: () => client.get<StatsResponse>('/stats/current').then((res) => res.data),
   },
   blogs: {
-    getAll: (pageNo = 1, pageSize = 10) => client.get<PaginatedResponse<BlogPost>>((`/blogs?pageNo=${pageNo}&pageSize=${pageSize}`)).then((res) => res.data),
-    add: (data: { title: string; content: string; category?: string }) => client.post('/blogs', data),
-    update: (id: number, data: { title: string; content: string; category?: string }) => client.put((`/blogs/${id}`), data),
+    getAll: (pageNo = 1, pageSize = 10) => client.get<PaginatedResponse<BlogSummary>>((`/blogs?pageNo=${pageNo}&pageSize=${pageSize}`)).then((res) => res.data),
+    getLatest: (cursor?: string | null, limit = 10, category?: string) =>
+      client.get<BlogPageResponse>('/blogs/latest', { params: { cursor: cursor ?? undefined, limit, category } }).then((res) => res.data),
+    getCategories: () => client.get<BlogCategory[]>('/blogs/categories').then((res) => res.data),
+    getMostRead: (limit = 5) =>
+      client.get<MostReadBlog[]>('/blogs/most-read', { params: { limit } }).then((res) => res.data),
+    getById: (id: number) => client.get<BlogPost>(`/blogs/${id}`).then((res) => res.data),
+    getRelated: (id: number, limit = 5) =>
+      client.get<RelatedBlog[]>(`/blogs/${id}/related`, { params: { limit } }).then((res) => res.data),
+    add: (data: BlogWriteRequest) => client.post('/blogs', data),
+    update: (id: number, data: BlogWriteRequest) => client.put((`/blogs/${id}`), data),
+    getAllForAdmin: (pageNo = 1, pageSize = 10) =>
+      client.get<PaginatedResponse<BlogSummary>>('/admin/blogs', { params: { pageNo, pageSize } }).then((res) => res.data),
+    getByIdForAdmin: (id: number) => client.get<BlogPost>(`/admin/blogs/${id}`).then((res) => res.data),
+    getRevisions: (id: number) =>
+      client.get<BlogRevision[]>(`/admin/blogs/${id}/revisions`).then((res) => res.data),
+    diffRevisions: (id: number, from: number, to: number) =>
+      client.get<BlogRevisionDiff>(`/admin/blogs/${id}/revisions/diff`, { params: { from, to } }).then((res) => res.data),
+    restoreRevision: (id: number, revision: number) => client.post(`/admin/blogs/${id}/revisions/${revision}/restore`),
     delete: (id: number) => client.delete((`/blogs/${id}`)),
   },
   simulation: {
@@ -161,6 +262,13 @@ export const api = {
     update: (id: number, data: CreateTechStackRequest) => client.put(`/techstacks/admin/${id}`, data),
     delete: (id: number) => client.delete(`/techstacks/admin/${id}`),
   },
+  media: {
+    upload: (file: File) => {
+      const form = new FormData();
+      form.append('file', file);
+      return client.post<MediaUpload>('/media', form).then((res) => res.data);
+    },
+  },
   github: {
     getContributions: () => client.get<GithubContributionsResponse>('/github/contributions').then(res => res.data),
   }
@@ -11,8 +11,8 @@ import {
   SelectTrigger,
   SelectValue,
 } from "@/app/components/ui/select";
-import { api, BlogPost, PinnedProject, GithubRepoResponse, TechStackResponse } from "@/app/api"; // Added PinnedProject
-import { Trash2, Plus, LogOut, FileText, ChevronLeft, Edit, Layers, ArrowRight, Code } from "lucide-react"; // Added Layers
+import { api, BlogStatus, BlogSummary, PinnedProject, GithubRepoResponse, TechStackResponse } from "@/app/api"; // Added PinnedProject
+import { Trash2, Plus, LogOut, FileText, ChevronLeft, Edit, Layers, ArrowRight, Code, ImagePlus } from "lucide-react"; // Added Layers
 import { toast } from "sonner";
 import { ContentRenderer } from "./ContentRenderer";
 
@@ -27,13 +27,17 @@ export function AdminBlogPage() {
   const setActiveTab = (tab: string) => setSearchParams({ tab });
 
   // Blog State
-  const [blogs, setBlogs] = useState<BlogPost[]>([]);
+  const [blogs, setBlogs] = useState<BlogSummary[]>([]);
   const [currentPage, setCurrentPage] = useState(1);
   const [totalPages, setTotalPages] = useState(0);
   const [title, setTitle] = useState("");
   const [content, setContent] = useState("");
   const [blogCategory, setBlogCategory] = useState("");
+  const [blogStatus, setBlogStatus] = useState<BlogStatus>("PUBLISHED");
+  // datetime-local value in the browser's time zone
+  const [publishAt, setPublishAt] = useState("");
   const [editingId, setEditingId] = useState<number | null>(null);
+  const [isUploadingImage, setIsUploadingImage] = useState(false);
   const [isAddingNew, setIsAddingNew] = useState(false);
 
   // Projects State
@@ -69,7 +73,7 @@ export function AdminBlogPage() {
 
   const fetchBlogs = async () => {
     try {
-      const data = await api.blogs.getAll(currentPage, 10);
+      const data = await api.blogs.getAllForAdmin(currentPage, 10);
       setBlogs(data.content);
       setTotalPages(data.totalPages);
     } catch (error) {
@@ -153,16 +157,25 @@ export function AdminBlogPage() {
     e.preventDefault();
     setStatus("loading");
     try {
+      const request = {
+        title,
+        content,
+        category: blogCategory,
+        status: blogStatus,
+        publishAt: blogStatus === "SCHEDULED" && publishAt ? new Date(publishAt).toISOString() : undefined,
+      };
       if (editingId) {
-        await api.blogs.update(editingId, { title, content, category: blogCategory });
+        await api.blogs.update(editingId, request);
       } else {
-        await api.blogs.add({ title, content, category: blogCategory });
+        await api.blogs.add(request);
       }
       setStatus("success");
-      toast.success(editingId ? "Updated!" : "Published!", { description: "Blog post saved successfully." });
+      toast.success(editingId ? "Updated!" : "Saved!", { description: "Blog post saved successfully." });
       setTitle("");
       setContent("");
       setBlogCategory("");
+      setBlogStatus("PUBLISHED");
+      setPublishAt("");
       setEditingId(null);
       setIsAddingNew(false);
       fetchBlogs();
@@ -187,6 +200,25 @@ export function AdminBlogPage() {
     }
   };
 
+  const handleImageUpload = async (e: React.ChangeEvent<HTMLInputElement>) => {
+    const file = e.target.files?.[0];
+    e.target.value = "";
+    if (!file) return;
+    setIsUploadingImage(true);
+    try {
+      const media = await api.media.upload(file);
+      // The widest variant keeps posts light; the original stays one click away
+      const src = media.variants.length > 0 ? media.variants[media.variants.length - 1].url : media.url;
+      const alt = file.name.replace(/\.[^.]+$/, "");
+      setContent((current) => `${current}${current && !current.endsWith("\n") ? "\n\n" : ""}[![${alt}](${src})](${media.url})\n`);
+      toast.success(media.deduplicated ? "Already uploaded" : "Image uploaded", { description: `${media.width}×${media.height}` });
+    } catch (error: any) {
+      toast.error("Error", { description: error.response?.data?.detail || "Failed to upload image." });
+    } finally {
+      setIsUploadingImage(false);
+    }
+  };
+
   const handleCreateProject = async (e: React.FormEvent) => {
       e.preventDefault();
       setStatus("loading");
@@ -290,12 +322,19 @@ export function AdminBlogPage() {
        }
   };
 
-  const handleEditClick = (blog: BlogPost) => {
-    setTitle(blog.title);
-    setContent(blog.content);
-    setBlogCategory(blog.category || "");
-    setEditingId(blog.id);
-    setIsAddingNew(true);
+  const handleEditClick = async (blog: BlogSummary) => {
+    try {
+      const post = await api.blogs.getByIdForAdmin(blog.id);
+      setTitle(post.title);
+      setContent(post.content);
+      setBlogCategory(post.category || "");
+      setBlogStatus(post.status || "PUBLISHED");
+      setPublishAt(post.publishAt ? toLocalInput(post.publishAt) : "");
+      setEditingId(post.id);
+      setIsAddingNew(true);
+    } catch (error) {
+      toast.error("Error", { description: "Failed to load blog post." });
+    }
   };
 
   const handleEditProjectClick = (project: PinnedProject) => {
@@ -410,7 +449,7 @@ export function AdminBlogPage() {
                 >
                     <div className="flex items-center justify-between mb-4">
                     <h2 className="text-xl font-medium">{editingId ? "Edit Post" : "New Post"}</h2>
-                    <Button type="button" variant="ghost" size="sm" onClick={() => { setIsAddingNew(false); setEditingId(null); setTitle(""); setContent(""); setBlogCategory(""); }}>
+                    <Button type="button" variant="ghost" size="sm" onClick={() => { setIsAddingNew(false); setEditingId(null); setTitle(""); setContent(""); setBlogCategory(""); setBlogStatus("PUBLISHED"); setPublishAt(""); }}>
                         <ChevronLeft className="w-4 h-4 mr-1" /> Cancel
                     </Button>
                     </div>
@@ -431,6 +470,39 @@ export function AdminBlogPage() {
                             className="text-lg font-medium flex-1"
                         />
                      </div>
+                     <div className="flex gap-4 items-center">
+                        <select
+                            value={blogStatus}
+                            onChange={(e) => setBlogStatus(e.target.value as BlogStatus)}
+                            className="h-9 rounded-md border border-input bg-transparent px-3 text-sm"
+                        >
+                            <option value="PUBLISHED">Publish now</option>
+                            <option value="DRAFT">Save as draft</option>
+                            <option value="SCHEDULED">Schedule</option>
+                        </select>
+                        {blogStatus === "SCHEDULED" && (
+                            <Input
+                                type="datetime-local"
+                                value={publishAt}
+                                onChange={(e) => setPublishAt(e.target.value)}
+                                required
+                                className="max-w-xs"
+                            />
+                        )}
+                     </div>
+                    <div className="flex justify-end">
+                        <label className="inline-flex items-center gap-2 text-sm text-muted-foreground hover:text-foreground cursor-pointer">
+                            <ImagePlus className="w-4 h-4" />
+                            {isUploadingImage ? "Uploading..." : "Insert image"}
+                            <input
+                                type="file"
+                                accept="image/png,image/jpeg,image/gif"
+                                className="hidden"
+                                disabled={isUploadingImage}
+                                onChange={handleImageUpload}
+                            />
+                        </label>
+                    </div>
                     <Textarea
                         placeholder="Write your thoughts... Image URLs allow you to embed images."
                         value={content}
@@ -451,7 +523,7 @@ export function AdminBlogPage() {
 
                     <div className="flex justify-end pt-4">
                     <Button type="submit" disabled={status === "loading"}>
-                        {status === "loading" ? "Saving..." : (editingId ? "Update Post" : "Publish Post")}
+                        {status === "loading" ? "Saving..." : (editingId ? "Update Post" : blogStatus === "PUBLISHED" ? "Publish Post" : "Save Post")}
                     </Button>
                     </div>
                 </motion.form>
@@ -478,7 +550,13 @@ export function AdminBlogPage() {
                 >
                     <div>
                     <h3 className="text-lg font-medium mb-1">{blog.title}</h3>
-                    <p className="text-sm text-muted-foreground font-mono">{blog.createdDate}</p>
+                    <p className="text-sm text-muted-foreground font-mono">
+                        {blog.status === "SCHEDULED" && blog.publishAt
+                            ? `SCHEDULED · ${new Date(blog.publishAt).toLocaleString()}`
+                            : blog.status === "DRAFT"
+                                ? `DRAFT · ${blog.createdDate}`
+                                : blog.createdDate}
+                    </p>
                     </div>
                     <div className="flex items-center gap-2 opacity-0 group-hover:opacity-100 transition-opacity">
                     <Button size="icon" variant="ghost" onClick={() => handleEditClick(blog)}>
@@ -702,3 +780,9 @@ export function AdminBlogPage() {
     </div>
   );
 }
+
+function toLocalInput(iso: string) {
+  const date = new Date(iso);
+  const offset = date.getTimezoneOffset() * 60000;
+  return new Date(date.getTime() - offset).toISOString().slice(0, 16);
+}
@@ -1,5 +1,5 @@
 import { motion, AnimatePresence } from "framer-motion";
-import { Calendar, ArrowRight, ArrowLeft, Loader2, ListFilter } from "lucide-react";
+import { Calendar, ArrowRight, ArrowLeft, Loader2, ListFilter, Flame } from "lucide-react";
 import { Button } from "@/app/components/ui/button";
 import {
   Select,
@@ -8,26 +8,43 @@ import {
   SelectTrigger,
   SelectValue,
 } from "@/app/components/ui/select";
-import { api, BlogPost as ApiBlogPost } from "@/app/api";
+import { api, BlogCategory, BlogPost as ApiBlogPost, BlogSummary as ApiBlogSummary, MostReadBlog, RelatedBlog } from "@/app/api";
 import { useEffect, useState } from "react";
+import { useNavigate, useParams } from "react-router-dom";
 import { useUser } from "@/app/context/UserContext";
 import { toast } from "sonner";
 import { ContentRenderer } from "./ContentRenderer";
 
-interface BlogPost extends ApiBlogPost {
+interface BlogSummary extends ApiBlogSummary {
   category: string;
   excerpt: string;
   date: string;
 }
 
+interface BlogPost extends ApiBlogPost {
+  category: string;
+  date: string;
+}
+
+const PAGE_SIZE = 10;
+
 export function BlogPage() {
-  const [posts, setPosts] = useState<BlogPost[]>([]);
+  const [posts, setPosts] = useState<BlogSummary[]>([]);
   const [loading, setLoading] = useState(true);
   const [selectedPost, setSelectedPost] = useState<BlogPost | null>(null);
   const [sortOrder, setSortOrder] = useState<"newest" | "oldest">("newest");
   const [currentPage, setCurrentPage] = useState(1);
   const [totalPages, setTotalPages] = useState(0);
+  // cursors[i] opens page i + 1; the server pages by (created time, id), not OFFSET
+  const [cursors, setCursors] = useState<(string | null)[]>([null]);
+  const [categories, setCategories] = useState<BlogCategory[]>([]);
+  const [category, setCategory] = useState<string>("all");
+  const [mostRead, setMostRead] = useState<MostReadBlog[]>([]);
+  const [related, setRelated] = useState<RelatedBlog[]>([]);
   const { role, welcomeShown, setWelcomeShown } = useUser();
+  // /blog/:postId is the permalink used by the RSS/Atom feeds and sitemap.xml
+  const { postId } = useParams();
+  const navigate = useNavigate();
 
   useEffect(() => {
     if (role === "learner" && !welcomeShown) {
@@ -39,22 +56,46 @@ export function BlogPage() {
     }
   }, [role, welcomeShown, setWelcomeShown]);
 
+  useEffect(() => {
+    api.blogs
+      .getCategories()
+      .then(setCategories)
+      .catch((error) => console.error("Failed to fetch blog categories", error));
+    api.blogs
+      .getMostRead()
+      .then(setMostRead)
+      .catch((error) => console.error("Failed to fetch most read posts", error));
+  }, []);
+
+  const selectCategory = (value: string) => {
+    setCategory(value);
+    setCursors([null]);
+    setCurrentPage(1);
+  };
+
   useEffect(() => {
     const fetchPosts = async () => {
       setLoading(true);
       try {
-        const data = await api.blogs.getAll(currentPage, 10);
+        const data = await api.blogs.getLatest(
+          cursors[currentPage - 1],
+          PAGE_SIZE,
+          category === "all" ? undefined : category
+        );
         setPosts(
-          data.content.map((post) => ({
+          data.items.map((post) => ({
             ...post,
             category: post.category || "General",
-            excerpt: post.content
-              ? post.content.substring(0, 150) + "..."
-              : "No preview available",
+            excerpt: post.excerpt || "No preview available",
             date: post.createdDate,
           }))
         );
-        setTotalPages(data.totalPages);
+        setTotalPages(Math.ceil(data.totalElements / PAGE_SIZE));
+        setCursors((previous) => {
+          const next = previous.slice(0, currentPage);
+          next[currentPage] = data.nextCursor;
+          return next;
+        });
       } catch (error) {
         console.error("Failed to fetch blog posts", error);
       } finally {
@@ -63,7 +104,40 @@ export function BlogPage() {
     };
 
     fetchPosts();
-  }, [currentPage]);
+  }, [currentPage, category]);
+
+  const openPost = async (post: { id: number; category?: string }) => {
+    setRelated([]);
+    api.blogs
+      .getRelated(post.id)
+      .then(setRelated)
+      .catch((error) => console.error("Failed to fetch related posts", error));
+    try {
+      const detail = await api.blogs.getById(post.id);
+      setSelectedPost({
+        ...detail,
+        category: post.category || detail.category || "General",
+        date: detail.createdDate,
+      });
+    } catch (error) {
+      console.error("Failed to fetch blog post", error);
+      toast.error("Error", { description: "Failed to load blog post." });
+    }
+  };
+
+  useEffect(() => {
+    const id = Number(postId);
+    if (Number.isInteger(id) && id > 0) {
+      openPost({ id });
+    }
+  }, [postId]);
+
+  const closePost = () => {
+    setSelectedPost(null);
+    if (postId) {
+      navigate("/blog");
+    }
+  };
 
   const sortedPosts = [...posts].sort((a, b) => {
     const dateA = new Date(a.createdDate).getTime();
@@ -96,6 +170,19 @@ export function BlogPage() {
             className="flex items-center gap-3"
           >
             <ListFilter className="w-4 h-4 text-muted-foreground" />
+            <Select value={category} onValueChange={selectCategory}>
+              <SelectTrigger className="w-[180px]">
+                <SelectValue placeholder="All categories" />
+              </SelectTrigger>
+              <SelectContent>
+                <SelectItem value="all">All categories</SelectItem>
+                {categories.map((facet) => (
+                  <SelectItem key={facet.name} value={facet.name}>
+                    {facet.name} ({facet.count})
+                  </SelectItem>
+                ))}
+              </SelectContent>
+            </Select>
             <Select
               value={sortOrder}
               onValueChange={(value: "newest" | "oldest") => setSortOrder(value)}
@@ -111,6 +198,24 @@ export function BlogPage() {
           </motion.div>
         </div>
 
+        {mostRead.length > 0 && (
+          <div className="max-w-4xl mb-12 flex flex-wrap items-center gap-3 text-xs font-mono uppercase tracking-widest">
+            <span className="flex items-center gap-2 text-muted-foreground">
+              <Flame className="w-3.5 h-3.5 text-primary" />
+              Most Read
+            </span>
+            {mostRead.map((post) => (
+              <button
+                key={post.id}
+                onClick={() => openPost(post)}
+                className="px-3 py-1 rounded-sm border border-white/10 bg-white/5 text-muted-foreground hover:text-primary hover:border-primary/30 transition-colors"
+              >
+                {post.title}
+              </button>
+            ))}
+          </div>
+        )}
+
         {loading ? (
           <div className="flex justify-center p-12">
             <Loader2 className="w-8 h-8 animate-spin text-primary" />
@@ -127,7 +232,7 @@ export function BlogPage() {
                     animate={{ opacity: 1, y: 0 }}
                     transition={{ delay: index * 0.1 }}
                     className="group relative p-8 glass-panel rounded-sm transition-all duration-300 hover:border-primary/50 hover:shadow-[0_0_30px_rgba(255,77,77,0.1)] hover:-translate-x-[-10px] cursor-pointer"
-                    onClick={() => setSelectedPost(post)}
+                    onClick={() => openPost(post)}
                   >
                     <div className="absolute left-0 top-0 bottom-0 w-1 bg-primary scale-y-0 group-hover:scale-y-100 transition-transform origin-top duration-300" />
 
@@ -189,7 +294,7 @@ export function BlogPage() {
                   variant="outline"
                   size="icon"
                   onClick={() => setCurrentPage((p) => Math.min(totalPages, p + 1))}
-                  disabled={currentPage === totalPages}
+                  disabled={currentPage === totalPages || !cursors[currentPage]}
                 >
                   <ArrowRight className="w-4 h-4" />
                 </Button>
@@ -224,7 +329,7 @@ export function BlogPage() {
                       <Button
                         variant="ghost"
                         className="bg-black/30 backdrop-blur-md border border-white/10 text-white hover:bg-black/50 hover:text-white rounded-full p-2 h-10 w-10 md:h-14 md:w-14 flex items-center justify-center shadow-lg transition-all duration-300 shrink-0 mt-1 md:mt-2"
-                        onClick={() => setSelectedPost(null)}
+                        onClick={closePost}
                       >
                         <ArrowLeft className="w-5 h-5 md:w-6 md:h-6 group-hover:-translate-x-1 transition-transform" />
                       </Button>
@@ -236,10 +341,51 @@ export function BlogPage() {
                     <div className="flex items-center gap-2 text-sm text-muted-foreground font-mono">
                       <Calendar className="w-4 h-4" />
                       <span>PUBLISHED ON: {selectedPost.date}</span>
+                      {selectedPost.readingMinutes && (
+                        <span className="ml-4">{selectedPost.readingMinutes} MIN READ</span>
+                      )}
                     </div>
                   </div>
 
-                  <ContentRenderer content={selectedPost.content} />
+                  {selectedPost.toc && selectedPost.toc.length > 1 && (
+                    <nav className="mb-12 border-l border-border pl-4 text-sm font-mono">
+                      {selectedPost.toc.map((heading) => (
+                        <a
+                          key={heading.id}
+                          href={`#${heading.id}`}
+                          className="block py-1 text-muted-foreground hover:text-primary transition-colors"
+                          style={{ paddingLeft: `${(heading.level - 1) * 1}rem` }}
+                        >
+                          {heading.text}
+                        </a>
+                      ))}
+                    </nav>
+                  )}
+
+                  {/* HTML is rendered and sanitized on the server when the post is saved */}
+                  {selectedPost.contentHtml ? (
+                    <div
+                      className="article-body prose prose-zinc dark:prose-invert max-w-none text-zinc-300"
+                      dangerouslySetInnerHTML={{ __html: selectedPost.contentHtml }}
+                    />
+                  ) : (
+                    <ContentRenderer content={selectedPost.content} />
+                  )}
+
+                  {related.length > 0 && (
+                    <div className="mt-16 flex flex-wrap items-center gap-3 text-xs font-mono uppercase tracking-widest">
+                      <span className="text-muted-foreground">Related</span>
+                      {related.map((post) => (
+                        <button
+                          key={post.id}
+                          onClick={() => openPost(post)}
+                          className="px-3 py-1 rounded-sm border border-white/10 bg-white/5 text-muted-foreground hover:text-primary hover:border-primary/30 transition-colors"
+                        >
+                          {post.title}
+                        </button>
+                      ))}
+                    </div>
+                  )}
 
                   <div className="mt-24 pt-8 border-t border-border opacity-50 flex justify-between items-center text-xs font-mono">
                     <span>END_OF_TRANSMISSION</span>
@@ -29,7 +29,7 @@ export function PortfolioPage() {
     try {
       const data = await api.projects.getAll(pageNo, pageSize);
 
-      const transformedProjects = data.map(repo => ({
+      const transformedProjects = data.content.map(repo => ({
         ...repo,
         homepage: null,
         forks_count: 0,
@@ -37,8 +37,7 @@ export function PortfolioPage() {
       }));
 
       setProjects(transformedProjects);
-      // If we got fewer projects than pageSize, we know there are no more pages
-      setHasMore(data.length === pageSize);
+      setHasMore(!data.last);
     } catch (error) {
       console.error("Failed to fetch projects", error);
       toast.error("Failed to fetch projects");
@@ -23,6 +23,10 @@ export default defineConfig({
         changeOrigin: true,
         secure: false,
       },
+      '^/(feed|atom|sitemap)\\.xml$': {
+        target: 'http://localhost:8080',
+        changeOrigin: true,
+      },
     },
   },
 })
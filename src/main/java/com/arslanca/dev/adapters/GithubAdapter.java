@@ -1,120 +1,271 @@
 package com.arslanca.dev.adapters;
 
-import com.arslanca.dev.business.dto.responses.ContributionDay;
-import com.arslanca.dev.business.dto.responses.GithubContributionsResponse;
+import com.arslanca.dev.adapters.models.ConditionalResponse;
+import com.arslanca.dev.adapters.models.ContributionCalendar;
+import com.arslanca.dev.adapters.models.GithubEvent;
+import com.arslanca.dev.adapters.models.GithubReadme;
+import com.arslanca.dev.adapters.models.GithubSnapshot;
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.arslanca.dev.core.utilities.resilience.UpstreamGuard;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GithubAdapter {
 
-    private final RestClient.Builder restClientBuilder;
+    // 100 depo/sayfa, yani 1000 depoya kadar
+    private static final int MAX_PAGES = 10;
+    // Depo alanları tek dosyada: snapshot ve toplu depo sorguları aynı parçayı kullanır
+    private static final String REPO_FIELDS_FRAGMENT = loadQuery("graphql/repo-fields.graphql");
+    private static final String SNAPSHOT_QUERY = loadQuery("graphql/github-snapshot.graphql") + "\n" + REPO_FIELDS_FRAGMENT;
+    private static final String CONTRIBUTIONS_QUERY = loadQuery("graphql/github-contributions.graphql");
+
+    private final RestClient githubRestClient;
+    private final UpstreamGuard githubGuard;
 
     @Value("${app.github.nickname}")
     private String githubUsername;
 
-    @Value("${app.github.token:}")
-    private String githubToken;
+    private volatile GithubSnapshot snapshot;
 
-    @Cacheable(value = "github-repos")
-    @Scheduled(fixedRate = 600000)
-    public List<GithubRepoResponse> getRepos(){
-        RestClient.Builder builder = restClientBuilder.baseUrl("https://api.github.com");
+    public List<GithubRepoResponse> getRepos() {
+        return getSnapshot().repositories();
+    }
 
-        if (githubToken != null && !githubToken.isEmpty()) {
-            builder.defaultHeader("Authorization", "Bearer " + githubToken);
+    public List<GithubRepoResponse> getPinnedRepos() {
+        return getSnapshot().pinnedRepositories();
+    }
+
+    public GithubSnapshot getSnapshot() {
+        GithubSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refreshSnapshot();
+                }
+                current = snapshot;
+            }
         }
+        return current;
+    }
 
-        RestClient restClient = builder.build();
-        return restClient.get()
-                .uri("/users/" + githubUsername + "/repos?sort=updated&direction=desc") //günceli üste al
-                .retrieve()
-                .body(new ParameterizedTypeReference<List<GithubRepoResponse>>() {});
+    // Webhook'lar değişiklikleri anında bildirir; RefreshScheduler'daki yoklama yalnızca kaçan olaylar için güvenlik ağı
+    public synchronized void refreshSnapshot() {
+        GithubSnapshot fetched = githubGuard.call("snapshot", true, this::fetchSnapshot);
+        snapshot = fetched;
+        log.info("GitHub snapshot refreshed: {} repos, {} pinned", fetched.repositories().size(), fetched.pinnedRepositories().size());
     }
 
-    @Cacheable(value = "github-contributions")
-    public String getContributionsData() {
-        String query = """
-        {
-          "query": "{ user(login: \\"%s\\") { contributionsCollection { contributionCalendar { totalContributions weeks { contributionDays { contributionCount date contributionLevel } } } } } }"
-        }
-        """.formatted(githubUsername);
-
-        RestClient restClient = restClientBuilder
-                .baseUrl("https://api.github.com/graphql")
-                .defaultHeader("Authorization", "Bearer " + githubToken)
-                .defaultHeader("Content-Type", "application/json")
-                .build();
-
-        return restClient.post()
-                .body(query)
-                .retrieve()
-                .body(String.class);
+    public ConditionalResponse<Map<String, Long>> getRepoLanguages(String repositoryName, String etag) {
+        // Yedek değer yok: eski bir yanıt yeni pushed_at ile kaydedilirse depo bir sonraki push'a kadar atlanırdı
+        return githubGuard.callWithoutFallback("languages:" + repositoryName, true, () -> {
+            ResponseEntity<Map<String, Long>> response = githubRestClient.get()
+                    .uri("/repos/{owner}/{repo}/languages", githubUsername, repositoryName)
+                    .headers(headers -> {
+                        if (etag != null) {
+                            headers.setIfNoneMatch(etag);
+                        }
+                    })
+                    .retrieve()
+                    .toEntity(new ParameterizedTypeReference<Map<String, Long>>() {});
+
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return ConditionalResponse.<Map<String, Long>>notModified(etag);
+            }
+            return new ConditionalResponse<>(false, response.getHeaders().getETag(),
+                    response.getBody() != null ? response.getBody() : Map.of());
+        });
     }
 
-    public GithubContributionsResponse getContributions() {
-        String rawJson = getContributionsData();
-        System.out.println("Raw GitHub Response: " + rawJson);
+    /**
+     * One page (newest first) of the user's public events. Only the first page is sent with an ETag;
+     * GitHub answers 304 when nothing happened, which does not count against the rate limit.
+     */
+    public ConditionalResponse<List<GithubEvent>> getPublicEvents(int page, String etag) {
+        return githubGuard.call("events:" + page, true, () -> {
+            ResponseEntity<List<GithubEvent>> response = githubRestClient.get()
+                    .uri("/users/{user}/events/public?per_page=100&page={page}", githubUsername, page)
+                    .headers(headers -> {
+                        if (etag != null) {
+                            headers.setIfNoneMatch(etag);
+                        }
+                    })
+                    .retrieve()
+                    .toEntity(new ParameterizedTypeReference<List<GithubEvent>>() {});
 
-        ObjectMapper mapper = new ObjectMapper();
-        List<ContributionDay> allDays = new ArrayList<>();
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return ConditionalResponse.<List<GithubEvent>>notModified(etag);
+            }
+            return new ConditionalResponse<>(false, response.getHeaders().getETag(),
+                    response.getBody() != null ? response.getBody() : List.of());
+        });
+    }
 
-        try {
-            JsonNode root = mapper.readTree(rawJson);
-            JsonNode calendar = root.path("data").path("user").path("contributionsCollection").path("contributionCalendar");
+    /**
+     * Looks up any number of repositories in one GraphQL request, one alias per repository.
+     *
+     * @param fullNames {@code owner/name} pairs
+     * @return metadata keyed by lower-cased {@code owner/name}; repositories that do not exist are absent
+     */
+    public Map<String, GithubRepoResponse> getRepositories(List<String> fullNames) {
+        if (fullNames.isEmpty()) {
+            return Map.of();
+        }
+
+        StringBuilder parameters = new StringBuilder();
+        StringBuilder fields = new StringBuilder();
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < fullNames.size(); i++) {
+            String[] parts = fullNames.get(i).split("/", 2);
+            parameters.append(i == 0 ? "" : ", ").append("$o").append(i).append(": String!, $n").append(i).append(": String!");
+            fields.append("  r").append(i).append(": repository(owner: $o").append(i).append(", name: $n").append(i)
+                    .append(") { ...RepoFields }\n");
+            variables.put("o" + i, parts[0]);
+            variables.put("n" + i, parts[1]);
+        }
+        String query = "query Repositories(" + parameters + ") {\n" + fields + "}\n" + REPO_FIELDS_FRAGMENT;
 
-            if (calendar.isMissingNode()) {
-                System.err.println("Calendar node is missing! Full response: " + rawJson);
-                return new GithubContributionsResponse(0, allDays);
+        Map<String, GithubRepoResponse> byAlias = githubGuard.call("repositories:" + String.join(",", fullNames), true,
+                () -> postGraphql(query, variables, GithubSnapshotParser::parseAliasedRepositories));
+
+        Map<String, GithubRepoResponse> result = new HashMap<>();
+        for (int i = 0; i < fullNames.size(); i++) {
+            GithubRepoResponse repo = byAlias.get("r" + i);
+            if (repo != null) {
+                result.put(fullNames.get(i).toLowerCase(Locale.ROOT), repo);
             }
+        }
+        return result;
+    }
 
-            int total = calendar.path("totalContributions").asInt();
-            System.out.println("Total contributions: " + total);
+    /**
+     * Conditional README fetch. A repository without a README yields a response with a null body
+     * rather than an error, so it does not count against the circuit breaker.
+     */
+    public ConditionalResponse<GithubReadme> getReadme(String repositoryName, String etag) {
+        return githubGuard.call("readme:" + repositoryName, true, () -> {
+            try {
+                ResponseEntity<GithubReadme> response = githubRestClient.get()
+                        .uri("/repos/{owner}/{repo}/readme", githubUsername, repositoryName)
+                        .headers(headers -> {
+                            if (etag != null) {
+                                headers.setIfNoneMatch(etag);
+                            }
+                        })
+                        .retrieve()
+                        .toEntity(GithubReadme.class);
 
-            calendar.path("weeks").forEach(week -> {
-                week.path("contributionDays").forEach(day -> {
-                    String levelStr = day.path("contributionLevel").asText();
-                    int level = convertLevelToInt(levelStr);
+                if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    return ConditionalResponse.<GithubReadme>notModified(etag);
+                }
+                return new ConditionalResponse<>(false, response.getHeaders().getETag(), response.getBody());
+            } catch (HttpClientErrorException.NotFound e) {
+                return new ConditionalResponse<GithubReadme>(false, null, null);
+            }
+        });
+    }
 
-                    allDays.add(new ContributionDay(
-                            day.path("date").asText(),
-                            day.path("contributionCount").asInt(),
-                            level
-                    ));
-                });
-            });
-
-            System.out.println("Total days processed: " + allDays.size());
-            return new GithubContributionsResponse(total, allDays);
-        } catch (Exception e) {
-            System.err.println("Error processing GitHub data: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("GitHub verisi işlenemedi", e);
+    /**
+     * Reads the contribution calendar between two dates (inclusive). GitHub rejects ranges longer
+     * than a year, so callers split multi-year history into per-year requests.
+     */
+    public ContributionCalendar getContributionCalendar(LocalDate from, LocalDate to) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("login", githubUsername);
+        variables.put("from", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(from.atStartOfDay().atOffset(ZoneOffset.UTC)));
+        variables.put("to", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(to.atTime(23, 59, 59).atOffset(ZoneOffset.UTC)));
+
+        // Yedek değer yok: aralık her gün kayar, eski bir takvim başka bir aralığın yerine geçemez
+        return githubGuard.callWithoutFallback("contributions", true,
+                () -> postGraphql(CONTRIBUTIONS_QUERY, variables, GithubSnapshotParser::parseContributions));
+    }
+
+    private GithubSnapshot fetchSnapshot() {
+        List<GithubRepoResponse> repositories = new ArrayList<>();
+        List<GithubRepoResponse> pinned = List.of();
+
+        String cursor = null;
+        for (int pageNo = 0; pageNo < MAX_PAGES; pageNo++) {
+            boolean firstPage = pageNo == 0;
+            GithubSnapshotParser.Page page = fetchPage(cursor, firstPage);
+
+            repositories.addAll(page.repositories());
+            if (firstPage) {
+                pinned = page.pinnedRepositories();
+            }
+            if (!page.hasNextPage() || page.endCursor() == null) {
+                break;
+            }
+            cursor = page.endCursor();
         }
+
+        return new GithubSnapshot(List.copyOf(repositories), List.copyOf(pinned), Instant.now());
     }
 
-    private int convertLevelToInt(String level) {
-        return switch (level) {
-            case "NONE" -> 0;
-            case "FIRST_QUARTILE" -> 1;
-            case "SECOND_QUARTILE" -> 2;
-            case "THIRD_QUARTILE" -> 3;
-            case "FOURTH_QUARTILE" -> 4;
-            default -> 0;
-        };
+    private GithubSnapshotParser.Page fetchPage(String cursor, boolean withExtras) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("login", githubUsername);
+        variables.put("cursor", cursor);
+        variables.put("withExtras", withExtras);
+
+        return postGraphql(SNAPSHOT_QUERY, variables, GithubSnapshotParser::parse);
     }
 
+    private <T> T postGraphql(String query, Map<String, Object> variables, BodyParser<T> bodyParser) {
+        return githubRestClient.post()
+                .uri("/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("query", query, "variables", variables))
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().is4xxClientError()) {
+                        throw HttpClientErrorException.create(response.getStatusCode(), response.getStatusText(),
+                                response.getHeaders(), null, StandardCharsets.UTF_8);
+                    }
+                    if (response.getStatusCode().is5xxServerError()) {
+                        throw HttpServerErrorException.create(response.getStatusCode(), response.getStatusText(),
+                                response.getHeaders(), null, StandardCharsets.UTF_8);
+                    }
+                    return bodyParser.parse(response.getBody());
+                });
+    }
 
+    @FunctionalInterface
+    private interface BodyParser<T> {
+        T parse(InputStream body) throws IOException;
+    }
+
+    private static String loadQuery(String path) {
+        try {
+            return StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("GraphQL sorgusu okunamadı: " + path, e);
+        }
+    }
 }
@@ -0,0 +1,265 @@
+package com.arslanca.dev.adapters;
+
+import com.arslanca.dev.adapters.models.ContributionCalendar;
+import com.arslanca.dev.business.dto.responses.ContributionDay;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token-level parser for the snapshot and contribution calendar GraphQL responses. Repositories and
+ * contribution days are built as their tokens arrive, so the raw response is never held in memory as a tree.
+ */
+public final class GithubSnapshotParser {
+
+    private static final JsonFactory JSON_FACTORY = new ObjectMapper().getFactory();
+
+    private GithubSnapshotParser() {
+    }
+
+    public record Page(
+            List<GithubRepoResponse> repositories,
+            boolean hasNextPage,
+            String endCursor,
+            List<GithubRepoResponse> pinnedRepositories) {
+    }
+
+    public static Page parse(InputStream body) throws IOException {
+        PageBuilder page = new PageBuilder();
+        readUser(body, parser -> parseUser(parser, page));
+        return page.build();
+    }
+
+    /**
+     * Parses the ranged calendar query ({@code graphql/github-contributions.graphql}).
+     */
+    public static ContributionCalendar parseContributions(InputStream body) throws IOException {
+        PageBuilder page = new PageBuilder();
+        List<Integer> years = new ArrayList<>();
+        readUser(body, parser -> forEachField(parser, field -> {
+            if (!"contributionsCollection".equals(field)) {
+                parser.skipChildren();
+                return;
+            }
+            forEachField(parser, collectionField -> {
+                switch (collectionField) {
+                    case "contributionYears" -> forEachElement(parser, () -> years.add(parser.getValueAsInt()));
+                    case "contributionCalendar" -> parseCalendar(parser, page);
+                    default -> parser.skipChildren();
+                }
+            });
+        }));
+        return new ContributionCalendar(List.copyOf(years), List.copyOf(page.days));
+    }
+
+    /**
+     * Parses a query made of aliased {@code repository(owner:, name:)} fields. Missing repositories
+     * come back as null aliases (with an entry in {@code errors}) and are simply left out.
+     */
+    public static Map<String, GithubRepoResponse> parseAliasedRepositories(InputStream body) throws IOException {
+        Map<String, GithubRepoResponse> repositories = new HashMap<>();
+        boolean[] hasData = new boolean[1];
+        String[] errors = new String[1];
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            parser.nextToken();
+            forEachField(parser, field -> {
+                switch (field) {
+                    case "data" -> {
+                        hasData[0] = parser.currentToken() == JsonToken.START_OBJECT;
+                        forEachField(parser, alias -> {
+                            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                                repositories.put(alias, parseRepository(parser));
+                            } else {
+                                parser.skipChildren();
+                            }
+                        });
+                    }
+                    case "errors" -> errors[0] = parser.readValueAsTree().toString();
+                    default -> parser.skipChildren();
+                }
+            });
+        }
+        if (!hasData[0] && errors[0] != null) {
+            throw new IllegalStateException("GitHub GraphQL hatası: " + errors[0]);
+        }
+        return repositories;
+    }
+
+    private static void readUser(InputStream body, UserHandler handler) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            parser.nextToken();
+            forEachField(parser, field -> {
+                switch (field) {
+                    case "data" -> forEachField(parser, dataField -> {
+                        if (!"user".equals(dataField)) {
+                            parser.skipChildren();
+                            return;
+                        }
+                        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                            throw new IllegalStateException("GitHub kullanıcısı bulunamadı");
+                        }
+                        handler.handle(parser);
+                    });
+                    case "errors" -> throw new IllegalStateException("GitHub GraphQL hatası: " + parser.readValueAsTree());
+                    default -> parser.skipChildren();
+                }
+            });
+        }
+    }
+
+    private static void parseUser(JsonParser parser, PageBuilder page) throws IOException {
+        forEachField(parser, field -> {
+            switch (field) {
+                case "repositories" -> forEachField(parser, repoField -> {
+                    switch (repoField) {
+                        case "pageInfo" -> forEachField(parser, infoField -> {
+                            if ("hasNextPage".equals(infoField)) {
+                                page.hasNextPage = parser.getValueAsBoolean();
+                            } else if ("endCursor".equals(infoField)) {
+                                page.endCursor = parser.getValueAsString();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        });
+                        case "nodes" -> forEachElement(parser, () -> page.repositories.add(parseRepository(parser)));
+                        default -> parser.skipChildren();
+                    }
+                });
+                case "pinnedItems" -> forEachField(parser, pinnedField -> {
+                    if ("nodes".equals(pinnedField)) {
+                        forEachElement(parser, () -> page.pinnedRepositories.add(parseRepository(parser)));
+                    } else {
+                        parser.skipChildren();
+                    }
+                });
+                default -> parser.skipChildren();
+            }
+        });
+    }
+
+    private static GithubRepoResponse parseRepository(JsonParser parser) throws IOException {
+        GithubRepoResponse repo = new GithubRepoResponse();
+        forEachField(parser, field -> {
+            switch (field) {
+                case "name" -> repo.setName(parser.getValueAsString());
+                case "description" -> repo.setDescription(parser.getValueAsString());
+                case "url" -> repo.setUrl(parser.getValueAsString());
+                case "stargazerCount" -> repo.setStars(parser.getValueAsInt());
+                case "pushedAt" -> repo.setPushedAt(parser.getValueAsString());
+                case "primaryLanguage" -> forEachField(parser, languageField -> {
+                    if ("name".equals(languageField)) {
+                        repo.setLanguage(parser.getValueAsString());
+                    } else {
+                        parser.skipChildren();
+                    }
+                });
+                default -> parser.skipChildren();
+            }
+        });
+        return repo;
+    }
+
+    private static void parseCalendar(JsonParser parser, PageBuilder page) throws IOException {
+        forEachField(parser, field -> {
+            if ("weeks".equals(field)) {
+                forEachElement(parser, () -> forEachField(parser, weekField -> {
+                    if ("contributionDays".equals(weekField)) {
+                        forEachElement(parser, () -> page.days.add(parseDay(parser)));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }));
+            } else {
+                parser.skipChildren();
+            }
+        });
+    }
+
+    private static ContributionDay parseDay(JsonParser parser) throws IOException {
+        String[] date = new String[1];
+        int[] countAndLevel = new int[2];
+        forEachField(parser, field -> {
+            switch (field) {
+                case "date" -> date[0] = parser.getValueAsString();
+                case "contributionCount" -> countAndLevel[0] = parser.getValueAsInt();
+                case "contributionLevel" -> countAndLevel[1] = convertLevelToInt(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        });
+        return new ContributionDay(date[0], countAndLevel[0], countAndLevel[1]);
+    }
+
+    static int convertLevelToInt(String level) {
+        if (level == null) return 0;
+        return switch (level) {
+            case "NONE" -> 0;
+            case "FIRST_QUARTILE" -> 1;
+            case "SECOND_QUARTILE" -> 2;
+            case "THIRD_QUARTILE" -> 3;
+            case "FOURTH_QUARTILE" -> 4;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Expects the parser on START_OBJECT (or null) and calls the handler with the parser positioned
+     * on each field's value. The handler must consume the whole value.
+     */
+    private static void forEachField(JsonParser parser, FieldHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            handler.handle(name);
+        }
+    }
+
+    private static void forEachElement(JsonParser parser, ElementHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            handler.handle();
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldHandler {
+        void handle(String field) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface UserHandler {
+        void handle(JsonParser parser) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ElementHandler {
+        void handle() throws IOException;
+    }
+
+    private static final class PageBuilder {
+        private final List<GithubRepoResponse> repositories = new ArrayList<>();
+        private final List<GithubRepoResponse> pinnedRepositories = new ArrayList<>();
+        private final List<ContributionDay> days = new ArrayList<>();
+        private boolean hasNextPage;
+        private String endCursor;
+
+        private Page build() {
+            return new Page(repositories, hasNextPage, endCursor, pinnedRepositories);
+        }
+    }
+}
@@ -3,51 +3,41 @@ package com.arslanca.dev.adapters;
 import com.arslanca.dev.adapters.models.WakaTimeResponse;
 import com.arslanca.dev.adapters.models.WakaTimeSummariesResponse;
 import com.arslanca.dev.business.dto.responses.StatsResponse;
-import jakarta.annotation.PostConstruct;
+import com.arslanca.dev.core.utilities.resilience.UpstreamGuard;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Service
+@RequiredArgsConstructor
 public class WakaTimeAdapter {
 
     @Value("${WAKA_KEY}")
     private String apiKey;
 
     private static final String BASE_URL = "https://wakatime.com/api/v1/users/current";
-    private final RestTemplate restTemplate = new RestTemplate();
-    private StatsResponse lastResponse = StatsResponse.builder().isCodingNow(false).build();
-    private final AtomicLong lastFetchTime = new AtomicLong(0);
-    private static final long RATE_LIMIT_MS = 60000;
-
-    @PostConstruct
-    public void init() {
-        refreshWakaTimeStats();
-    }
+    private final RestTemplate wakaTimeRestTemplate;
+    private final UpstreamGuard wakaTimeGuard;
+    // RefreshScheduler günceller; okuyucular hiçbir zaman WakaTime'ı beklemez
+    private volatile StatsResponse lastResponse = StatsResponse.builder().isCodingNow(false).build();
 
     public StatsResponse getCurrentStatus() {
-        long now = System.currentTimeMillis();
-        if (now - lastFetchTime.get() > RATE_LIMIT_MS) {
-            synchronized (this) {
-                if (now - lastFetchTime.get() > RATE_LIMIT_MS) {
-                    refreshWakaTimeStats();
-                }
-            }
-        }
         return lastResponse;
     }
 
-    private void refreshWakaTimeStats() {
+    public void refreshWakaTimeStats() {
         String summariesUrl = BASE_URL + "/summaries?start=today&end=today&api_key=" + apiKey;
         String heartbeatsUrl = BASE_URL + "/heartbeats?date=today&api_key=" + apiKey;
 
         try {
-            WakaTimeResponse hbResponse = restTemplate.getForObject(heartbeatsUrl, WakaTimeResponse.class);
-            WakaTimeSummariesResponse summariesResponse = restTemplate.getForObject(summariesUrl, WakaTimeSummariesResponse.class);
+            WakaTimeResponse hbResponse = wakaTimeGuard.call("heartbeats", true,
+                    () -> wakaTimeRestTemplate.getForObject(heartbeatsUrl, WakaTimeResponse.class));
+            WakaTimeSummariesResponse summariesResponse = wakaTimeGuard.call("summaries", true,
+                    () -> wakaTimeRestTemplate.getForObject(summariesUrl, WakaTimeSummariesResponse.class));
 
             var responseBuilder = StatsResponse.builder();
             String currentProjectName = null;
@@ -97,7 +87,6 @@ public class WakaTimeAdapter {
             }
 
             lastResponse = responseBuilder.build();
-            lastFetchTime.set(System.currentTimeMillis());
 
         } catch (Exception e) {
             System.err.println("WakaTime API Hata veya Rate Limit: " + e.getMessage());
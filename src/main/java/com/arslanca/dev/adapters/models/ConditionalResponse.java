@@ -0,0 +1,12 @@
+package com.arslanca.dev.adapters.models;
+
+/**
+ * Result of a conditional (If-None-Match) request. When {@code notModified} is true the body is
+ * null and the caller keeps what it already has.
+ */
+public record ConditionalResponse<T>(boolean notModified, String etag, T body) {
+
+    public static <T> ConditionalResponse<T> notModified(String etag) {
+        return new ConditionalResponse<>(true, etag, null);
+    }
+}
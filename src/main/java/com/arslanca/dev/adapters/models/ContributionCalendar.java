@@ -0,0 +1,11 @@
+package com.arslanca.dev.adapters.models;
+
+import com.arslanca.dev.business.dto.responses.ContributionDay;
+
+import java.util.List;
+
+/**
+ * One ranged contribution calendar read from GitHub, plus the years the account has activity in.
+ */
+public record ContributionCalendar(List<Integer> contributionYears, List<ContributionDay> days) {
+}
@@ -0,0 +1,32 @@
+package com.arslanca.dev.adapters.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+
+/**
+ * One entry of {@code GET /users/{user}/events/public}. Event ids grow over time, so the largest id
+ * seen so far is enough to tell new events from old ones.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GithubEvent(
+        String id,
+        String type,
+        Repo repo,
+        JsonNode payload,
+        @JsonProperty("created_at") Instant createdAt) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Repo(String name) {
+    }
+
+    public long numericId() {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException | NullPointerException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.arslanca.dev.adapters.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * {@code GET /repos/{owner}/{repo}/readme}. {@code sha} is the README blob's git SHA, so it only
+ * changes when the file content does.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GithubReadme(
+        String sha,
+        String path,
+        String content,
+        String encoding,
+        @JsonProperty("html_url") String htmlUrl) {
+
+    public String decodedContent() {
+        if (content == null) {
+            return "";
+        }
+        if (!"base64".equals(encoding)) {
+            return content;
+        }
+        return new String(Base64.getMimeDecoder().decode(content), StandardCharsets.UTF_8);
+    }
+}
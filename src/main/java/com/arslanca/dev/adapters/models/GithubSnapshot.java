@@ -0,0 +1,15 @@
+package com.arslanca.dev.adapters.models;
+
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Point-in-time view of everything we read from GitHub, fetched in one GraphQL round-trip.
+ */
+public record GithubSnapshot(
+        List<GithubRepoResponse> repositories,
+        List<GithubRepoResponse> pinnedRepositories,
+        Instant fetchedAt) {
+}
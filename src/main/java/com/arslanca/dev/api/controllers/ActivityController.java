@@ -0,0 +1,24 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.abstracts.ActivityService;
+import com.arslanca.dev.business.dto.responses.ActivityPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/activity")
+@RequiredArgsConstructor
+public class ActivityController {
+
+    private final ActivityService activityService;
+
+    @GetMapping
+    public ActivityPageResponse getActivity(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return activityService.getActivity(cursor, limit);
+    }
+}
@@ -0,0 +1,50 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.abstracts.BlogRevisionService;
+import com.arslanca.dev.business.abstracts.BlogService;
+import com.arslanca.dev.business.dto.responses.BlogRevisionDiffResponse;
+import com.arslanca.dev.business.dto.responses.BlogRevisionResponse;
+import com.arslanca.dev.business.dto.responses.BlogSummaryResponse;
+import com.arslanca.dev.business.dto.responses.GetBlogResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Taslak ve zamanlanmış yazılar yalnızca buradan görünür; /api/admin/** kimlik doğrulama ister
+@RestController
+@RequestMapping("/api/admin/blogs")
+@RequiredArgsConstructor
+public class AdminBlogController {
+    private final BlogService blogService;
+    private final BlogRevisionService blogRevisionService;
+
+    @GetMapping
+    public Page<BlogSummaryResponse> getAll(
+            @RequestParam(defaultValue = "1") int pageNo,
+            @RequestParam(defaultValue = "10") int pageSize
+    ){
+        return blogService.getAllForAdmin(pageNo, pageSize);
+    }
+
+    @GetMapping("/{id}")
+    public GetBlogResponse getById(@PathVariable int id){
+        return blogService.getByIdForAdmin(id);
+    }
+
+    @GetMapping("/{id}/revisions")
+    public List<BlogRevisionResponse> getRevisions(@PathVariable int id){
+        return blogRevisionService.getRevisions(id);
+    }
+
+    @GetMapping("/{id}/revisions/diff")
+    public BlogRevisionDiffResponse diff(@PathVariable int id, @RequestParam int from, @RequestParam int to){
+        return blogRevisionService.diff(id, from, to);
+    }
+
+    @PostMapping("/{id}/revisions/{revision}/restore")
+    public void restore(@PathVariable int id, @PathVariable int revision){
+        blogRevisionService.restore(id, revision);
+    }
+}
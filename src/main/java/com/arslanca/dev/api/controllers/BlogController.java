@@ -1,25 +1,92 @@
 package com.arslanca.dev.api.controllers;
 
+import com.arslanca.dev.business.abstracts.BlogChangeService;
 import com.arslanca.dev.business.abstracts.BlogService;
+import com.arslanca.dev.business.abstracts.BlogViewService;
+import com.arslanca.dev.business.abstracts.RelatedPostService;
 import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
+import com.arslanca.dev.business.dto.responses.BlogCategoryResponse;
+import com.arslanca.dev.business.dto.responses.BlogChangesResponse;
+import com.arslanca.dev.business.dto.responses.BlogPageResponse;
+import com.arslanca.dev.business.dto.responses.BlogSearchResponse;
+import com.arslanca.dev.business.dto.responses.BlogSummaryResponse;
 import com.arslanca.dev.business.dto.responses.GetBlogResponse;
+import com.arslanca.dev.business.dto.responses.MostReadBlogResponse;
+import com.arslanca.dev.business.dto.responses.RelatedBlogResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("api/blogs")
 @RequiredArgsConstructor
 public class BlogController {
     private final BlogService blogService;
+    private final BlogViewService blogViewService;
+    private final BlogChangeService blogChangeService;
+    private final RelatedPostService relatedPostService;
 
     @GetMapping
-    public Page<GetBlogResponse> getAll(
+    public Page<BlogSummaryResponse> getAll(
             @RequestParam(defaultValue = "1") int pageNo,
-            @RequestParam(defaultValue = "10") int pageSize
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) String category
+    ){
+        return blogService.getAll(pageNo, pageSize, category);
+    }
+
+    @GetMapping("/latest")
+    public BlogPageResponse getLatest(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String category
+    ){
+        return blogService.getLatest(cursor, limit, category);
+    }
+
+    @GetMapping("/categories")
+    public List<BlogCategoryResponse> getCategories(){
+        return blogService.getCategories();
+    }
+
+    @GetMapping("/search")
+    public BlogSearchResponse search(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit
     ){
-        return blogService.getAll(pageNo, pageSize);
+        return blogService.search(q, cursor, limit);
+    }
+
+    // Yerel kopyasını tutan istemciler için: yalnızca since'ten sonra eklenen, değişen ya da silinen yazılar
+    @GetMapping("/changes")
+    public BlogChangesResponse getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int limit
+    ){
+        return blogChangeService.getChanges(since, limit);
+    }
+
+    @GetMapping("/most-read")
+    public List<MostReadBlogResponse> getMostRead(@RequestParam(defaultValue = "5") int limit){
+        return blogViewService.getMostRead(limit);
+    }
+
+    @GetMapping("/{id}")
+    public GetBlogResponse getById(@PathVariable int id, HttpServletRequest httpRequest){
+        GetBlogResponse response = blogService.getById(id);
+        // Yalnızca yayındaki yazılar sayılır; getById diğerleri için NotFoundException fırlatır
+        blogViewService.recordView(id, httpRequest.getRemoteAddr() + " " + httpRequest.getHeader("User-Agent"));
+        return response;
+    }
+
+    @GetMapping("/{id}/related")
+    public List<RelatedBlogResponse> getRelated(@PathVariable int id, @RequestParam(defaultValue = "5") int limit){
+        return relatedPostService.getRelated(id, limit);
     }
 
     @PostMapping
@@ -0,0 +1,60 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.abstracts.ContentTransferService;
+import com.arslanca.dev.business.dto.responses.ImportResultResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// NDJSON: her satır bir kayıt. Dışa aktarma doğrudan yanıt akışına yazılır, içe aktarma istek gövdesinden satır satır okunur
+@RestController
+@RequestMapping("/api/admin/transfer")
+@RequiredArgsConstructor
+public class ContentTransferController {
+    private final ContentTransferService contentTransferService;
+
+    @GetMapping("/blogs")
+    public void exportBlogPosts(HttpServletResponse response) throws IOException {
+        contentTransferService.exportBlogPosts(attachment(response, "blogs.ndjson"));
+    }
+
+    @GetMapping("/tech-stacks")
+    public void exportTechStacks(HttpServletResponse response) throws IOException {
+        contentTransferService.exportTechStacks(attachment(response, "tech-stacks.ndjson"));
+    }
+
+    @GetMapping("/pinned-projects")
+    public void exportPinnedProjects(HttpServletResponse response) throws IOException {
+        contentTransferService.exportPinnedProjects(attachment(response, "pinned-projects.ndjson"));
+    }
+
+    @PostMapping(value = "/blogs", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ImportResultResponse importBlogPosts(HttpServletRequest request) throws IOException {
+        return contentTransferService.importBlogPosts(request.getInputStream());
+    }
+
+    @PostMapping(value = "/tech-stacks", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ImportResultResponse importTechStacks(HttpServletRequest request) throws IOException {
+        return contentTransferService.importTechStacks(request.getInputStream());
+    }
+
+    @PostMapping(value = "/pinned-projects", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ImportResultResponse importPinnedProjects(HttpServletRequest request) throws IOException {
+        return contentTransferService.importPinnedProjects(request.getInputStream());
+    }
+
+    private static OutputStream attachment(HttpServletResponse response, String fileName) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+        return response.getOutputStream();
+    }
+}
@@ -1,35 +1,67 @@
 package com.arslanca.dev.api.controllers;
 
 import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.business.abstracts.ContributionHistoryService;
+import com.arslanca.dev.business.abstracts.ContributionsSvgService;
+import com.arslanca.dev.business.dto.responses.ContributionStatsResponse;
 import com.arslanca.dev.business.dto.responses.GithubContributionsResponse;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.CacheManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/github")
 @RequiredArgsConstructor
 public class ContributionsTreeController {
 
     private final GithubAdapter githubAdapter;
-    private final CacheManager cacheManager;
+    private final ContributionsSvgService contributionsSvgService;
+    private final ContributionHistoryService contributionHistoryService;
 
     @GetMapping("/contributions")
     public GithubContributionsResponse getContributions() {
-        return githubAdapter.getContributions();
+        return contributionHistoryService.getRecentYear();
+    }
+
+    @GetMapping("/contributions/history")
+    public GithubContributionsResponse getContributionHistory(@RequestParam(required = false) Integer year) {
+        return contributionHistoryService.getHistory(year);
+    }
+
+    @GetMapping("/contributions/stats")
+    public ContributionStatsResponse getContributionStats() {
+        return contributionHistoryService.getStats();
+    }
+
+    @GetMapping("/contributions.svg")
+    public ResponseEntity<byte[]> getContributionsSvg(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return contributionsSvgService.getHeatmap().toResponse(ifNoneMatch, acceptEncoding,
+                CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic().staleWhileRevalidate(Duration.ofHours(1)));
+    }
+
+    @GetMapping("/pinned")
+    public List<GithubRepoResponse> getPinnedRepos() {
+        return githubAdapter.getPinnedRepos();
     }
 
     @PostMapping("/contributions/clear-cache")
     public String clearCache() {
-        var cache = cacheManager.getCache("github-contributions");
-        if (cache != null) {
-            cache.clear();
-            return "Cache cleared successfully";
-        }
-        return "Cache not found";
+        githubAdapter.refreshSnapshot();
+        contributionHistoryService.refresh();
+        return "Cache cleared successfully";
     }
 
 }
@@ -0,0 +1,60 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.abstracts.FeedService;
+import com.arslanca.dev.core.utilities.http.CachedAsset;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+// Kök dizinde: okuyucular ve arama motorları bu adresleri bekler
+@RestController
+@RequiredArgsConstructor
+public class FeedController {
+
+    private static final CacheControl CACHE = CacheControl.maxAge(Duration.ofMinutes(15)).cachePublic()
+            .staleWhileRevalidate(Duration.ofHours(1));
+
+    private final FeedService feedService;
+
+    @GetMapping("/feed.xml")
+    public ResponseEntity<byte[]> getRss(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        return respond(feedService.getRss(), ifNoneMatch, request, acceptEncoding);
+    }
+
+    @GetMapping("/atom.xml")
+    public ResponseEntity<byte[]> getAtom(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        return respond(feedService.getAtom(), ifNoneMatch, request, acceptEncoding);
+    }
+
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> getSitemap(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        return respond(feedService.getSitemap(), ifNoneMatch, request, acceptEncoding);
+    }
+
+    private static ResponseEntity<byte[]> respond(CachedAsset asset, String ifNoneMatch, HttpServletRequest request,
+                                                  String acceptEncoding) {
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            ifModifiedSince = -1;
+        }
+        return asset.toResponse(ifNoneMatch, ifModifiedSince, acceptEncoding, CACHE);
+    }
+}
@@ -0,0 +1,30 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.abstracts.GithubWebhookService;
+import com.arslanca.dev.business.dto.responses.GithubWebhookResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// GitHub'da: Payload URL = https://<host>/api/webhooks/github, Content type = application/json
+@RestController
+@RequestMapping("/api/webhooks")
+@RequiredArgsConstructor
+public class GithubWebhookController {
+
+    private final GithubWebhookService githubWebhookService;
+
+    @PostMapping("/github")
+    public ResponseEntity<GithubWebhookResponse> receive(
+            @RequestBody byte[] body,
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestHeader(value = "X-GitHub-Event", required = false) String event,
+            @RequestHeader(value = "X-GitHub-Delivery", required = false) String deliveryId) {
+        // İmza ham gövde üzerinden doğrulanır, bu yüzden gövde JSON olarak değil byte[] olarak alınır
+        if (!githubWebhookService.isSignatureValid(body, signature)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(githubWebhookService.receive(event, deliveryId, body));
+    }
+}
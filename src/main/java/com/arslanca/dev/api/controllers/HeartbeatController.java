@@ -0,0 +1,61 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.abstracts.HeartbeatService;
+import com.arslanca.dev.business.dto.requests.HeartbeatRequest;
+import com.arslanca.dev.business.dto.responses.HeartbeatResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+// WakaTime API uyumlu uç noktalar: eklentide api_url = https://<host>/api/waka/v1
+@RestController
+@RequestMapping("/api/waka/v1/users/current")
+@RequiredArgsConstructor
+public class HeartbeatController {
+
+    private final HeartbeatService heartbeatService;
+
+    @PostMapping("/heartbeats")
+    public ResponseEntity<?> addHeartbeat(
+            @Valid @RequestBody HeartbeatRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            @RequestParam(name = "api_key", required = false) String apiKey) {
+        if (!heartbeatService.isAuthorized(authorization, apiKey)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        HeartbeatResponse response = heartbeatService.record(request, userAgent);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("data", response));
+    }
+
+    @PostMapping("/heartbeats.bulk")
+    public ResponseEntity<?> addHeartbeats(
+            @RequestBody List<@Valid HeartbeatRequest> requests,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            @RequestParam(name = "api_key", required = false) String apiKey) {
+        if (!heartbeatService.isAuthorized(authorization, apiKey)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        List<List<Object>> responses = requests.stream()
+                .map(request -> List.<Object>of(Map.of("data", heartbeatService.record(request, userAgent)), HttpStatus.CREATED.value()))
+                .toList();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("responses", responses));
+    }
+
+    @GetMapping("/statusbar/today")
+    public ResponseEntity<?> statusBar(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestParam(name = "api_key", required = false) String apiKey) {
+        if (!heartbeatService.isAuthorized(authorization, apiKey)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(Map.of("data", Map.of("grand_total", Map.of("text", heartbeatService.getTodayTotalText()))));
+    }
+}
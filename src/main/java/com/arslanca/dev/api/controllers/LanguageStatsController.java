@@ -0,0 +1,23 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.abstracts.LanguageStatsService;
+import com.arslanca.dev.business.dto.responses.LanguageShareResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/github")
+@RequiredArgsConstructor
+public class LanguageStatsController {
+
+    private final LanguageStatsService languageStatsService;
+
+    @GetMapping("/languages")
+    public List<LanguageShareResponse> getLanguages() {
+        return languageStatsService.getLanguageShares();
+    }
+}
@@ -0,0 +1,42 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.abstracts.MediaService;
+import com.arslanca.dev.business.dto.responses.MediaResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/media")
+@RequiredArgsConstructor
+public class MediaController {
+
+    // Adres içeriğin özetidir; aynı adres hiçbir zaman başka bayt döndürmez
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final MediaService mediaService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public MediaResponse upload(@RequestParam("file") MultipartFile file) {
+        return mediaService.upload(file);
+    }
+
+    // If-None-Match eşleşirse Spring ETag'e bakıp 304 döner; Range istekleri de Resource üzerinden karşılanır
+    @GetMapping("/{name:.+}")
+    public ResponseEntity<Resource> get(@PathVariable String name) {
+        MediaService.MediaFile file = mediaService.get(name)
+                .orElseThrow(() -> new NotFoundException("Görsel bulunamadı"));
+        return ResponseEntity.ok()
+                .eTag(file.name())
+                .cacheControl(IMMUTABLE)
+                .contentType(MediaType.parseMediaType(file.contentType()))
+                .body(file.resource());
+    }
+}
@@ -1,14 +1,21 @@
 package com.arslanca.dev.api.controllers;
 
+import com.arslanca.dev.business.abstracts.ProjectReadmeService;
 import com.arslanca.dev.business.abstracts.ProjectService;
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.business.dto.responses.PageResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -16,12 +23,24 @@ import java.util.List;
 public class  ProjectsController {
 
     private final ProjectService projectService;
+    private final ProjectReadmeService projectReadmeService;
 
     @GetMapping
-    public List<GithubRepoResponse> getAll(
+    public PageResponse<GithubRepoResponse> getAll(
             @RequestParam(defaultValue = "1") int pageNo,
-            @RequestParam(defaultValue = "10") int pageSize
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) String language,
+            @RequestParam(defaultValue = "updated") String sort
     ){
-        return projectService.getProjects(pageNo, pageSize);
+        return projectService.getProjects(pageNo, pageSize, language, sort);
+    }
+
+    @GetMapping("/{name}/readme")
+    public ResponseEntity<byte[]> getReadme(
+            @PathVariable String name,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return projectReadmeService.getReadme(name).toResponse(ifNoneMatch, acceptEncoding,
+                CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic());
     }
 }
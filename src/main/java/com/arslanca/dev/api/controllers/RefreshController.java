@@ -0,0 +1,34 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.dto.responses.RefreshDashboardResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.core.utilities.scheduler.RefreshScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/refresh")
+@RequiredArgsConstructor
+public class RefreshController {
+
+    private final RefreshScheduler refreshScheduler;
+
+    @GetMapping
+    public RefreshDashboardResponse getDashboard() {
+        return refreshScheduler.getDashboard();
+    }
+
+    @PostMapping("/{source}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void trigger(@PathVariable String source) {
+        if (!refreshScheduler.triggerNow(source)) {
+            throw new NotFoundException("Yenileme kaynağı bulunamadı: " + source);
+        }
+    }
+}
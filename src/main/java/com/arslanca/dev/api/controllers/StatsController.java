@@ -1,7 +1,7 @@
 package com.arslanca.dev.api.controllers;
 
 
-import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.business.abstracts.StatsService;
 import com.arslanca.dev.business.dto.responses.StatsResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,10 +13,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class StatsController {
 
-    private final WakaTimeAdapter wakaTimeAdapter;
+    private final StatsService statsService;
 
     @GetMapping("/current")
     public StatsResponse getCurrentStatus() {
-        return wakaTimeAdapter.getCurrentStatus();
+        return statsService.getCurrentStatus();
     }
 }
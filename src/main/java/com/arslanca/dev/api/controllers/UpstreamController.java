@@ -0,0 +1,25 @@
+package com.arslanca.dev.api.controllers;
+
+import com.arslanca.dev.business.dto.responses.UpstreamStatusResponse;
+import com.arslanca.dev.core.utilities.resilience.UpstreamGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/upstreams")
+@RequiredArgsConstructor
+public class UpstreamController {
+
+    private final List<UpstreamGuard> guards;
+
+    @GetMapping
+    public List<UpstreamStatusResponse> getAll() {
+        return guards.stream()
+                .map(UpstreamGuard::getStatus)
+                .toList();
+    }
+}
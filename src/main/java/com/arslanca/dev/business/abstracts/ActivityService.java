@@ -0,0 +1,10 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.ActivityPageResponse;
+
+public interface ActivityService {
+    ActivityPageResponse getActivity(String cursor, int limit);
+    void pollGithubEvents();
+    void sampleCodingStatus();
+    void compact();
+}
@@ -0,0 +1,7 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.BlogChangesResponse;
+
+public interface BlogChangeService {
+    BlogChangesResponse getChanges(String since, int limit);
+}
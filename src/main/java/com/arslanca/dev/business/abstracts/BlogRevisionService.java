@@ -0,0 +1,14 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.BlogRevisionDiffResponse;
+import com.arslanca.dev.business.dto.responses.BlogRevisionResponse;
+
+import java.util.List;
+
+public interface BlogRevisionService {
+    List<BlogRevisionResponse> getRevisions(int postId);
+    BlogRevisionDiffResponse diff(int postId, int from, int to);
+
+    // Eski içerik yeni bir revizyon olarak kaydedilir; geçmiş silinmez
+    void restore(int postId, int revision);
+}
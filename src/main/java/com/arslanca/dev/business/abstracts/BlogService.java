@@ -1,15 +1,32 @@
 package com.arslanca.dev.business.abstracts;
 
 import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
+import com.arslanca.dev.business.dto.responses.BlogCategoryResponse;
+import com.arslanca.dev.business.dto.responses.BlogPageResponse;
+import com.arslanca.dev.business.dto.responses.BlogSearchResponse;
+import com.arslanca.dev.business.dto.responses.BlogSummaryResponse;
 import com.arslanca.dev.business.dto.responses.GetBlogResponse;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 
 public interface BlogService {
-    Page<GetBlogResponse> getAll(int pageNo, int pageSize);
+    Page<BlogSummaryResponse> getAll(int pageNo, int pageSize, String category);
+    BlogPageResponse getLatest(String cursor, int limit, String category);
+    List<BlogCategoryResponse> getCategories();
+    GetBlogResponse getById(int id);
+    BlogSearchResponse search(String query, String cursor, int limit);
     void add(CreateBlogRequest request);
     void update(int id, CreateBlogRequest request);
     void delete(int id);
 
+    // Zamanı gelmiş SCHEDULED yazıları yayına alır, kaç yazı yayınlandığını döner
+    int publishDue();
+
+    // Yönetim paneli: taslak ve zamanlanmış yazılar dahil
+    Page<BlogSummaryResponse> getAllForAdmin(int pageNo, int pageSize);
+    GetBlogResponse getByIdForAdmin(int id);
+
 
 }
@@ -0,0 +1,16 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.MostReadBlogResponse;
+
+import java.util.List;
+
+public interface BlogViewService {
+
+    // Aynı ziyaretçinin pencere içindeki tekrar görüntülemeleri sayılmaz
+    void recordView(int postId, String visitor);
+
+    // Biriken artışları veritabanına toplu yazar
+    void flush();
+
+    List<MostReadBlogResponse> getMostRead(int limit);
+}
@@ -0,0 +1,17 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.ImportResultResponse;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// NDJSON: her satır bir kayıt. Dışa aktarım veritabanı imleciyle akar, içe aktarım tek işlemde toplu INSERT yapar
+public interface ContentTransferService {
+    void exportBlogPosts(OutputStream out);
+    void exportTechStacks(OutputStream out);
+    void exportPinnedProjects(OutputStream out);
+
+    ImportResultResponse importBlogPosts(InputStream in);
+    ImportResultResponse importTechStacks(InputStream in);
+    ImportResultResponse importPinnedProjects(InputStream in);
+}
@@ -0,0 +1,11 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.ContributionStatsResponse;
+import com.arslanca.dev.business.dto.responses.GithubContributionsResponse;
+
+public interface ContributionHistoryService {
+    GithubContributionsResponse getHistory(Integer year);
+    GithubContributionsResponse getRecentYear();
+    ContributionStatsResponse getStats();
+    void refresh();
+}
@@ -0,0 +1,7 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.core.utilities.http.CachedAsset;
+
+public interface ContributionsSvgService {
+    CachedAsset getHeatmap();
+}
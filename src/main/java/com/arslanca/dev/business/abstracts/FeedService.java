@@ -0,0 +1,9 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.core.utilities.http.CachedAsset;
+
+public interface FeedService {
+    CachedAsset getRss();
+    CachedAsset getAtom();
+    CachedAsset getSitemap();
+}
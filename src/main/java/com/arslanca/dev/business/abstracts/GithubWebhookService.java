@@ -0,0 +1,10 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.GithubWebhookResponse;
+
+public interface GithubWebhookService {
+    boolean isSignatureValid(byte[] body, String signatureHeader);
+    GithubWebhookResponse receive(String event, String deliveryId, byte[] body);
+    GithubWebhookResponse handle(String event, String deliveryId, byte[] body);
+    void flush();
+}
@@ -0,0 +1,15 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.requests.HeartbeatRequest;
+import com.arslanca.dev.business.dto.responses.HeartbeatResponse;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+
+import java.util.Optional;
+
+public interface HeartbeatService {
+    boolean isAuthorized(String authorizationHeader, String apiKeyParam);
+    HeartbeatResponse record(HeartbeatRequest request, String userAgent);
+    Optional<StatsResponse> getCurrentStatus();
+    String getTodayTotalText();
+    void flush();
+}
@@ -0,0 +1,10 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.LanguageShareResponse;
+
+import java.util.List;
+
+public interface LanguageStatsService {
+    List<LanguageShareResponse> getLanguageShares();
+    void refresh();
+}
@@ -0,0 +1,17 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.MediaResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+
+public interface MediaService {
+    MediaResponse upload(MultipartFile file);
+
+    Optional<MediaFile> get(String name);
+
+    // name içerik özetini taşır; ETag olarak kullanılabilir
+    record MediaFile(String name, String contentType, Resource resource) {
+    }
+}
@@ -1,9 +1,8 @@
 package com.arslanca.dev.business.abstracts;
 
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
-
-import java.util.List;
+import com.arslanca.dev.business.dto.responses.PageResponse;
 
 public interface ProjectService {
-    List<GithubRepoResponse> getProjects(int pageNo, int pageSize);
+    PageResponse<GithubRepoResponse> getProjects(int pageNo, int pageSize, String language, String sort);
 }
@@ -0,0 +1,9 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.RelatedBlogResponse;
+
+import java.util.List;
+
+public interface RelatedPostService {
+    List<RelatedBlogResponse> getRelated(int id, int limit);
+}
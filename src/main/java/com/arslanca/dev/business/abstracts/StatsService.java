@@ -0,0 +1,7 @@
+package com.arslanca.dev.business.abstracts;
+
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+
+public interface StatsService {
+    StatsResponse getCurrentStatus();
+}
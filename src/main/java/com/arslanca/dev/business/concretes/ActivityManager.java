@@ -0,0 +1,486 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.models.ConditionalResponse;
+import com.arslanca.dev.adapters.models.GithubEvent;
+import com.arslanca.dev.business.abstracts.ActivityService;
+import com.arslanca.dev.business.abstracts.StatsService;
+import com.arslanca.dev.business.dto.responses.ActivityEventResponse;
+import com.arslanca.dev.business.dto.responses.ActivityPageResponse;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.dataAccess.ActivityEventRepository;
+import com.arslanca.dev.entities.ActivityEvent;
+import com.arslanca.dev.entities.enums.ActivitySource;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Developer activity timeline built from GitHub public events and changes in the coding status.
+ * The newest entries live in a bounded, time-ordered skip list that serves reads without locking;
+ * new entries are written to Postgres in batches, with bursts of pushes to the same branch merged
+ * first. Pages older than the buffer are read with a keyset query, so depth never means a scan.
+ */
+@Slf4j
+@Service
+public class ActivityManager implements ActivityService {
+
+    static final int MAX_LIMIT = 100;
+    private static final int EVENTS_PER_PAGE = 100;
+    // GitHub en fazla 300 olay döndürür
+    private static final int MAX_EVENT_PAGES = 3;
+    static final Duration PUSH_MERGE_WINDOW = Duration.ofHours(1);
+
+    private static final Comparator<Key> NEWEST_FIRST =
+            Comparator.comparing(Key::occurredAt).thenComparing(Key::id).reversed();
+
+    private final ActivityEventRepository activityEventRepository;
+    private final GithubAdapter githubAdapter;
+    private final StatsService statsService;
+    private final int capacity;
+
+    private final ConcurrentSkipListMap<Key, ActivityEvent> buffer = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+
+    // Guarded by "this".
+    private final List<ActivityEvent> pending = new ArrayList<>();
+    private int buffered;
+
+    private volatile boolean loaded;
+    private volatile boolean olderInDatabase;
+
+    // Only touched by the refresh thread (and the initial load).
+    private volatile long lastEventId;
+    private volatile String eventsEtag;
+    private volatile CodingState codingState;
+    private volatile Instant lastStatusChangeAt;
+
+    public ActivityManager(ActivityEventRepository activityEventRepository,
+                           GithubAdapter githubAdapter,
+                           StatsService statsService,
+                           @Value("${app.activity.buffer-capacity:2000}") int capacity) {
+        this.activityEventRepository = activityEventRepository;
+        this.githubAdapter = githubAdapter;
+        this.statsService = statsService;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public ActivityPageResponse getActivity(String cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("limit 1 ile " + MAX_LIMIT + " arasında olmalıdır");
+        }
+        ensureLoaded();
+
+        Key after = cursor != null && !cursor.isBlank() ? Key.decode(cursor) : null;
+        NavigableMap<Key, ActivityEvent> view = after == null ? buffer : buffer.tailMap(after, false);
+
+        List<ActivityEvent> items = new ArrayList<>(limit);
+        for (ActivityEvent event : view.values()) {
+            items.add(event);
+            if (items.size() == limit) {
+                break;
+            }
+        }
+
+        // Tamponun gerisi: (occurredAt, id) indeksinden devam
+        Key from = items.isEmpty() ? after : keyOf(items.get(items.size() - 1));
+        if (items.size() < limit && olderInDatabase && from != null) {
+            items.addAll(activityEventRepository.findOlderThan(from.occurredAt(), from.id(),
+                    PageRequest.of(0, limit - items.size())));
+        }
+
+        String nextCursor = items.size() == limit ? keyOf(items.get(items.size() - 1)).encode() : null;
+        return new ActivityPageResponse(items.stream().map(ActivityManager::toResponse).toList(), nextCursor);
+    }
+
+    @Override
+    public void pollGithubEvents() {
+        ensureLoaded();
+
+        long seen = lastEventId;
+        String etag = null;
+        List<GithubEvent> fresh = new ArrayList<>();
+        for (int page = 1; page <= MAX_EVENT_PAGES; page++) {
+            ConditionalResponse<List<GithubEvent>> response =
+                    githubAdapter.getPublicEvents(page, page == 1 ? eventsEtag : null);
+            if (response.notModified()) {
+                return;
+            }
+            if (page == 1) {
+                etag = response.etag();
+            }
+
+            boolean reachedSeen = false;
+            for (GithubEvent event : response.body()) {
+                if (event.numericId() > seen) {
+                    fresh.add(event);
+                } else {
+                    reachedSeen = true;
+                }
+            }
+            if (reachedSeen || response.body().size() < EVENTS_PER_PAGE) {
+                break;
+            }
+        }
+
+        List<ActivityEvent> activities = new ArrayList<>(fresh.size());
+        long newest = seen;
+        for (GithubEvent event : fresh) {
+            newest = Math.max(newest, event.numericId());
+            ActivityEvent activity = fromGithub(event);
+            if (activity != null) {
+                activities.add(activity);
+            }
+        }
+        ingest(activities);
+
+        lastEventId = newest;
+        eventsEtag = etag;
+        if (!fresh.isEmpty()) {
+            log.info("Activity: {} new GitHub events, {} kept", fresh.size(), activities.size());
+        }
+    }
+
+    @Override
+    public void sampleCodingStatus() {
+        ensureLoaded();
+
+        StatsResponse status = statsService.getCurrentStatus();
+        boolean coding = Boolean.TRUE.equals(status.getIsCodingNow());
+        CodingState current = new CodingState(coding, coding ? status.getProjectName() : null, status.getIdeName());
+        CodingState previous = codingState;
+        codingState = current;
+
+        // İlk örnek yalnızca başlangıç noktası; yeniden başlatmalar sahte "başladı" olayı üretmesin
+        if (previous != null) {
+            // Aynı milisaniyeye düşen iki geçiş aynı anahtarı almasın
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+            Instant last = lastStatusChangeAt;
+            if (last != null && !now.isAfter(last)) {
+                now = last.plusMillis(1);
+            }
+            ActivityEvent event = statusChange(previous, current, now);
+            if (event != null) {
+                lastStatusChangeAt = event.getOccurredAt();
+                ingest(List.of(event));
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.activity.compaction-ms:60000}")
+    public void compact() {
+        List<ActivityEvent> compacted;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<ActivityEvent> batch = new ArrayList<>(pending);
+            pending.clear();
+            compacted = compactPushes(batch);
+
+            // Birleşen push'lar tamponda da tek kayda insin
+            Set<String> kept = compacted.stream().map(ActivityEvent::getId).collect(Collectors.toSet());
+            for (ActivityEvent event : batch) {
+                if (!kept.contains(event.getId()) && buffer.remove(keyOf(event)) != null) {
+                    buffered--;
+                }
+            }
+            for (ActivityEvent event : compacted) {
+                if (buffer.put(keyOf(event), event) == null) {
+                    buffered++;
+                }
+            }
+            trim();
+        }
+
+        try {
+            activityEventRepository.upsertAll(compacted);
+        } catch (Exception e) {
+            log.error("Activity batch could not be persisted, will retry on next compaction", e);
+            synchronized (this) {
+                pending.addAll(compacted);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compact();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<ActivityEvent> newest =
+                    activityEventRepository.findAllByOrderByOccurredAtDescIdDesc(PageRequest.of(0, capacity));
+            long maxEventId = 0;
+            for (ActivityEvent event : newest) {
+                buffer.put(keyOf(event), event);
+                if (event.getSource() == ActivitySource.GITHUB) {
+                    maxEventId = Math.max(maxEventId, githubEventId(event.getId()));
+                }
+            }
+            buffered = buffer.size();
+            olderInDatabase = newest.size() == capacity;
+            lastEventId = maxEventId;
+            loaded = true;
+        }
+    }
+
+    private synchronized void ingest(List<ActivityEvent> events) {
+        for (ActivityEvent event : events) {
+            if (buffer.put(keyOf(event), event) == null) {
+                buffered++;
+            }
+            pending.add(event);
+        }
+        trim();
+    }
+
+    // Guarded by "this".
+    private void trim() {
+        while (buffered > capacity) {
+            // Bekleyen bir kayıt düşse bile "pending" listesi onu yazar
+            buffer.pollLastEntry();
+            buffered--;
+            olderInDatabase = true;
+        }
+    }
+
+    /**
+     * Merges pushes to the same branch that are at most {@link #PUSH_MERGE_WINDOW} apart into the
+     * newest of them, summing their commit counts.
+     */
+    static List<ActivityEvent> compactPushes(List<ActivityEvent> batch) {
+        List<ActivityEvent> ordered = new ArrayList<>(batch);
+        ordered.sort(Comparator.comparing(ActivityEvent::getOccurredAt).thenComparing(ActivityEvent::getId));
+
+        List<ActivityEvent> result = new ArrayList<>(ordered.size());
+        for (ActivityEvent event : ordered) {
+            ActivityEvent previous = result.isEmpty() ? null : result.get(result.size() - 1);
+            if (previous != null && "PUSH".equals(event.getType()) && "PUSH".equals(previous.getType())
+                    && Objects.equals(previous.getUrl(), event.getUrl())
+                    && Duration.between(previous.getOccurredAt(), event.getOccurredAt()).compareTo(PUSH_MERGE_WINDOW) <= 0) {
+                int commits = previous.getCount() + event.getCount();
+                result.set(result.size() - 1, ActivityEvent.builder()
+                        .id(event.getId())
+                        .source(event.getSource())
+                        .type(event.getType())
+                        .title(pushTitle(commits, branchOf(event.getUrl())))
+                        .repository(event.getRepository())
+                        .url(event.getUrl())
+                        .count(commits)
+                        .occurredAt(event.getOccurredAt())
+                        .build());
+            } else {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    static ActivityEvent fromGithub(GithubEvent event) {
+        if (event.type() == null || event.repo() == null || event.createdAt() == null) {
+            return null;
+        }
+        String repository = event.repo().name();
+        String repositoryUrl = "https://github.com/" + repository;
+        JsonNode payload = event.payload() != null ? event.payload() : MissingNode.getInstance();
+
+        String type;
+        String title;
+        String url = repositoryUrl;
+        int count = 1;
+        switch (event.type()) {
+            case "PushEvent" -> {
+                String branch = payload.path("ref").asText("").replaceFirst("^refs/heads/", "");
+                count = Math.max(1, payload.path("size").asInt(payload.path("commits").size()));
+                type = "PUSH";
+                title = pushTitle(count, branch);
+                url = repositoryUrl + "/tree/" + branch;
+            }
+            case "PullRequestEvent" -> {
+                JsonNode pullRequest = payload.path("pull_request");
+                String action = payload.path("action").asText();
+                String verb = switch (action) {
+                    case "opened" -> "Opened";
+                    case "reopened" -> "Reopened";
+                    case "closed" -> pullRequest.path("merged").asBoolean() ? "Merged" : "Closed";
+                    default -> null;
+                };
+                if (verb == null) {
+                    return null;
+                }
+                type = "PULL_REQUEST";
+                title = verb + " pull request #" + pullRequest.path("number").asInt() + ": " + pullRequest.path("title").asText();
+                url = pullRequest.path("html_url").asText(repositoryUrl);
+            }
+            case "IssuesEvent" -> {
+                JsonNode issue = payload.path("issue");
+                String action = payload.path("action").asText();
+                if (!action.equals("opened") && !action.equals("closed") && !action.equals("reopened")) {
+                    return null;
+                }
+                type = "ISSUE";
+                title = Character.toUpperCase(action.charAt(0)) + action.substring(1)
+                        + " issue #" + issue.path("number").asInt() + ": " + issue.path("title").asText();
+                url = issue.path("html_url").asText(repositoryUrl);
+            }
+            case "CreateEvent" -> {
+                String refType = payload.path("ref_type").asText("repository");
+                type = "CREATE";
+                title = refType.equals("repository") ? "Created repository " + repository
+                        : "Created " + refType + " " + payload.path("ref").asText();
+            }
+            case "ReleaseEvent" -> {
+                if (!payload.path("action").asText().equals("published")) {
+                    return null;
+                }
+                JsonNode release = payload.path("release");
+                type = "RELEASE";
+                title = "Released " + release.path("tag_name").asText();
+                url = release.path("html_url").asText(repositoryUrl);
+            }
+            case "WatchEvent" -> {
+                type = "STAR";
+                title = "Starred " + repository;
+            }
+            case "ForkEvent" -> {
+                type = "FORK";
+                title = "Forked " + repository;
+                url = payload.path("forkee").path("html_url").asText(repositoryUrl);
+            }
+            case "PublicEvent" -> {
+                type = "PUBLIC";
+                title = "Made " + repository + " public";
+            }
+            default -> {
+                return null;
+            }
+        }
+
+        return ActivityEvent.builder()
+                .id("gh:" + event.id())
+                .source(ActivitySource.GITHUB)
+                .type(type)
+                .title(truncate(title))
+                .repository(repository)
+                .url(url)
+                .count(count)
+                .occurredAt(event.createdAt().truncatedTo(ChronoUnit.MILLIS))
+                .build();
+    }
+
+    static ActivityEvent statusChange(CodingState previous, CodingState current, Instant now) {
+        String type;
+        String title;
+        String project;
+        if (!previous.coding() && current.coding()) {
+            type = "CODING_STARTED";
+            project = current.project();
+            title = "Started coding" + (project != null ? " on " + project : "")
+                    + (current.ide() != null ? " in " + current.ide() : "");
+        } else if (previous.coding() && !current.coding()) {
+            type = "CODING_STOPPED";
+            project = previous.project();
+            title = "Stopped coding" + (project != null ? " on " + project : "");
+        } else if (current.coding() && current.project() != null && !current.project().equals(previous.project())) {
+            type = "PROJECT_SWITCHED";
+            project = current.project();
+            title = "Switched to " + project;
+        } else {
+            return null;
+        }
+
+        Instant at = now.truncatedTo(ChronoUnit.MILLIS);
+        return ActivityEvent.builder()
+                .id("wk:" + at.toEpochMilli())
+                .source(ActivitySource.WAKATIME)
+                .type(type)
+                .title(truncate(title))
+                .repository(project)
+                .count(1)
+                .occurredAt(at)
+                .build();
+    }
+
+    private static String pushTitle(int commits, String branch) {
+        return "Pushed " + commits + (commits == 1 ? " commit" : " commits") + " to " + branch;
+    }
+
+    private static String branchOf(String url) {
+        int tree = url != null ? url.indexOf("/tree/") : -1;
+        return tree < 0 ? "" : url.substring(tree + 6);
+    }
+
+    private static long githubEventId(String id) {
+        try {
+            return Long.parseLong(id.substring(3));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static String truncate(String title) {
+        return title.length() <= 500 ? title : title.substring(0, 497) + "...";
+    }
+
+    private static Key keyOf(ActivityEvent event) {
+        return new Key(event.getOccurredAt(), event.getId());
+    }
+
+    private static ActivityEventResponse toResponse(ActivityEvent event) {
+        return new ActivityEventResponse(event.getId(), event.getSource().name(), event.getType(), event.getTitle(),
+                event.getRepository(), event.getUrl(), event.getCount(), event.getOccurredAt());
+    }
+
+    record CodingState(boolean coding, String project, String ide) {
+    }
+
+    /**
+     * Position in the timeline. The cursor is its URL-safe Base64 form, {@code <epoch millis>|<id>}.
+     */
+    record Key(Instant occurredAt, String id) {
+
+        String encode() {
+            String raw = occurredAt.toEpochMilli() + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Key decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Key(Instant.ofEpochMilli(Long.parseLong(raw.substring(0, separator))), raw.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new BusinessException("Geçersiz cursor: " + cursor);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.BlogChangeService;
+import com.arslanca.dev.business.dto.responses.BlogChangeResponse;
+import com.arslanca.dev.business.dto.responses.BlogChangesResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.dataAccess.BlogChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Delta sync for blog mirrors. A client keeps the cursor from its last call and gets back only the
+ * posts created, edited, published, unpublished or deleted since then, in change order; an empty
+ * cursor replays everything once.
+ */
+@Service
+@RequiredArgsConstructor
+public class BlogChangeManager implements BlogChangeService {
+
+    static final int MAX_LIMIT = 500;
+
+    private final BlogChangeRepository blogChangeRepository;
+
+    @Override
+    public BlogChangesResponse getChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("limit 1 ile " + MAX_LIMIT + " arasında olmalıdır");
+        }
+        long after = decode(since);
+
+        // Bir fazlası okunur: sonraki sayfanın varlığı ayrı bir sorgu gerektirmez
+        List<BlogChangeRepository.BlogChange> rows = blogChangeRepository.findSince(after, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<BlogChangeRepository.BlogChange> page = hasMore ? rows.subList(0, limit) : rows;
+
+        List<BlogChangeResponse> changes = page.stream().map(BlogChangeRepository.BlogChange::change).toList();
+        long last = page.isEmpty() ? after : page.get(page.size() - 1).sequence();
+        return new BlogChangesResponse(changes, encode(last), hasMore);
+    }
+
+    static String encode(long sequence) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(sequence).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            long sequence = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (sequence < 0) {
+                throw new NumberFormatException();
+            }
+            return sequence;
+        } catch (RuntimeException e) {
+            throw new BusinessException("Geçersiz cursor: " + cursor);
+        }
+    }
+}
@@ -3,38 +3,196 @@ package com.arslanca.dev.business.concretes;
 
 import com.arslanca.dev.business.abstracts.BlogService;
 import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
+import com.arslanca.dev.business.dto.responses.BlogCategoryResponse;
+import com.arslanca.dev.business.dto.responses.BlogPageResponse;
+import com.arslanca.dev.business.dto.responses.BlogSearchResponse;
+import com.arslanca.dev.business.dto.responses.BlogSummaryResponse;
 import com.arslanca.dev.business.dto.responses.GetBlogResponse;
 import com.arslanca.dev.business.mappers.BlogMapper;
 import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
 import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.core.utilities.markdown.MarkdownRenderer;
+import com.arslanca.dev.dataAccess.BlogCategoryCountRepository;
 import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.dataAccess.BlogSearchRepository;
 import com.arslanca.dev.entities.BlogPost;
+import com.arslanca.dev.entities.enums.BlogStatus;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BlogManager implements BlogService {
 
+    static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_TERMS = 8;
+    static final int EXCERPT_LENGTH = 200;
+    private static final int WORDS_PER_MINUTE = 200;
+    private static final int RERENDER_BATCH_SIZE = 20;
+
     private final BlogRepository blogRepository;
     private final BlogMapper blogMapper;
+    private final BlogSearchRepository blogSearchRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final BlogCategoryCountRepository blogCategoryCountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Yayındaki yazı sayısı. Her sayfada COUNT(*) yerine: ilk okumada sayılır, sonra yazma işlemleriyle güncellenir (-1 = henüz sayılmadı)
+    private final AtomicLong postCount = new AtomicLong(-1);
+
+    // Kategori sayaç tablosunun bellekteki kopyası, okunmaya başlandığı nesille birlikte. Commit edilen her yazma
+    // nesli artırır; nesli güncel olmayan kopya kullanılmaz (null = henüz okunmadı)
+    private final AtomicReference<CategoryCache> categories = new AtomicReference<>();
+    private final AtomicLong categoriesGeneration = new AtomicLong();
 
+    private record CategoryCache(long generation, List<BlogCategoryResponse> items) {
+    }
+
+    // Eski istemciler için OFFSET sayfalama; derin sayfalar için getLatest kullanılmalı
     @Override
-    public Page<GetBlogResponse> getAll(int pageNo, int pageSize) {
+    public Page<BlogSummaryResponse> getAll(int pageNo, int pageSize, String category) {
         if (pageNo < 1) pageNo = 1;
-        Pageable pageable = PageRequest.of(pageNo - 1, pageSize, Sort.by(Sort.Direction.DESC, "createdDate"));
+        PageRequest pageable = PageRequest.of(pageNo - 1, pageSize);
+
+        if (category == null || category.isBlank()) {
+            return new PageImpl<>(blogRepository.findLatestSummaries(pageable), pageable, countPosts());
+        }
+        return new PageImpl<>(blogRepository.findLatestSummariesInCategory(category, pageable), pageable, countPosts(category));
+    }
+
+    @Override
+    public BlogPageResponse getLatest(String cursor, int limit, String category) {
+        checkLimit(limit);
+        PageRequest pageable = PageRequest.of(0, limit);
+        boolean filtered = category != null && !category.isBlank();
+
+        List<BlogSummaryResponse> items;
+        if (cursor == null || cursor.isBlank()) {
+            items = filtered
+                    ? blogRepository.findLatestSummariesInCategory(category, pageable)
+                    : blogRepository.findLatestSummaries(pageable);
+        } else {
+            Instant afterCreatedAt;
+            int afterId;
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                afterCreatedAt = Instant.parse(parts[0]);
+                afterId = Integer.parseInt(parts[1]);
+            } catch (RuntimeException e) {
+                throw new BusinessException("Geçersiz cursor: " + cursor);
+            }
+            items = filtered
+                    ? blogRepository.findSummariesInCategoryOlderThan(category, afterCreatedAt, afterId, pageable)
+                    : blogRepository.findSummariesOlderThan(afterCreatedAt, afterId, pageable);
+        }
+
+        String nextCursor = null;
+        if (items.size() == limit) {
+            BlogSummaryResponse last = items.get(items.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((last.getCreatedAt() + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new BlogPageResponse(items, nextCursor, filtered ? countPosts(category) : countPosts());
+    }
+
+    @Override
+    public List<BlogCategoryResponse> getCategories() {
+        // Nesil okumadan önce alınır: okuma sürerken commit edilen bir yazma bu kopyayı hemen eskitir
+        long generation = categoriesGeneration.get();
+        CategoryCache cached = categories.get();
+        if (cached != null && cached.generation() == generation) {
+            return cached.items();
+        }
+        List<BlogCategoryResponse> items = blogCategoryCountRepository.findAllByOrderByPostCountDescCategoryAsc().stream()
+                .map(count -> new BlogCategoryResponse(count.getCategory(), count.getPostCount()))
+                .toList();
+        categories.set(new CategoryCache(generation, items));
+        return items;
+    }
+
+    @Override
+    public GetBlogResponse getById(int id) {
+        BlogPost blogPost = blogRepository.findById(id)
+                .filter(post -> post.getStatus() == BlogStatus.PUBLISHED)
+                .orElseThrow(() -> new NotFoundException("Blog yazısı bulunamadı (ID: " + id + ")"));
+        return blogMapper.toResponse(blogPost);
+    }
+
+    @Override
+    public BlogSearchResponse search(String query, String cursor, int limit) {
+        checkLimit(limit);
+        String tsQuery = toPrefixQuery(query);
 
-        return blogRepository.findAll(pageable).map(blogMapper::toResponse);
+        Float afterRank = null;
+        Integer afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                afterRank = Float.parseFloat(parts[0]);
+                afterId = Integer.parseInt(parts[1]);
+            } catch (RuntimeException e) {
+                throw new BusinessException("Geçersiz cursor: " + cursor);
+            }
+        }
+
+        List<BlogSearchRepository.SearchRow> rows = blogSearchRepository.search(tsQuery, afterRank, afterId, limit);
+        List<BlogSearchResponse.Hit> hits = rows.stream()
+                .map(row -> new BlogSearchResponse.Hit(row.id(), row.title(), row.category(), row.createdDate(), row.snippet()))
+                .toList();
+
+        String nextCursor = null;
+        if (rows.size() == limit) {
+            BlogSearchRepository.SearchRow last = rows.get(rows.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((last.rank() + "|" + last.id()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new BlogSearchResponse(hits, nextCursor);
     }
 
+    /**
+     * Turns free text into {@code term1:* & term2:*}. Only letters and digits survive, so user input
+     * can never inject tsquery operators.
+     */
+    static String toPrefixQuery(String query) {
+        List<String> terms = new ArrayList<>();
+        if (query != null) {
+            for (String token : query.split("[^\\p{L}\\p{M}\\p{N}]+")) {
+                if (!token.isEmpty() && terms.size() < MAX_QUERY_TERMS) {
+                    terms.add(token + ":*");
+                }
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new BusinessException("Arama ifadesi en az bir harf veya rakam içermelidir");
+        }
+        return String.join(" & ", terms);
+    }
 
     @Override
+    @Transactional
     public void add(CreateBlogRequest request) {
         if (blogRepository.existsByTitle(request.getTitle())) {
             throw new BusinessException("Bu başlıkta bir blog yazısı zaten mevcut: " + request.getTitle());
@@ -44,29 +202,286 @@ public class BlogManager implements BlogService {
 
         BlogPost blogPost = blogMapper.toBlogPost(request);
         blogPost.setCreatedDate(LocalDate.now());
+        blogPost.setCreatedAt(Instant.now());
+        applyStatus(blogPost, request.getStatus(), request.getPublishAt(), null, null);
+        render(blogPost);
         blogRepository.save(blogPost);
+        onVisibilityChange(null, false, blogPost);
+        onPublicContentChange(blogPost.getId(), false, blogPost);
+        eventPublisher.publishEvent(new BlogRevisionManager.Saved(blogPost.getId(), null, versionOf(blogPost)));
+        if (blogPost.getStatus() == BlogStatus.SCHEDULED) {
+            eventPublisher.publishEvent(new BlogPublisher.ScheduleChanged());
+        }
     }
 
     @Override
+    @Transactional
     public void update(int id, CreateBlogRequest request) {
         BlogPost blogPost = blogRepository.findById(id).orElseThrow(() -> new NotFoundException("Blog yazısı bulunamadı (ID: " + id + ")"));
 
         setDefaultCategory(request);
 
+        BlogRevisionManager.Version previousVersion = versionOf(blogPost);
+        String previousContent = blogPost.getContent();
+        String previousCategory = blogPost.getCategory();
+        BlogStatus previousStatus = blogPost.getStatus();
+        Instant previousPublishAt = blogPost.getPublishAt();
         blogMapper.updateBlogPostFromRequest(request, blogPost);
+        applyStatus(blogPost, request.getStatus(),
+                request.getPublishAt() != null ? request.getPublishAt() : previousPublishAt, previousStatus, previousPublishAt);
+        if (!Objects.equals(previousContent, blogPost.getContent()) || isStale(blogPost)) {
+            render(blogPost);
+        }
         blogRepository.save(blogPost);
+
+        onVisibilityChange(previousCategory, previousStatus == BlogStatus.PUBLISHED, blogPost);
+        onPublicContentChange(id, previousStatus == BlogStatus.PUBLISHED, blogPost);
+        eventPublisher.publishEvent(new BlogRevisionManager.Saved(id, previousVersion, versionOf(blogPost)));
+        if (previousStatus == BlogStatus.SCHEDULED || blogPost.getStatus() == BlogStatus.SCHEDULED) {
+            eventPublisher.publishEvent(new BlogPublisher.ScheduleChanged());
+        }
     }
 
     @Override
+    @Transactional
     public void delete(int id) {
-        checkIfBlogExists(id);
+        BlogPost blogPost = blogRepository.findById(id).orElseThrow(() -> new NotFoundException("Silinecek blog yazısı bulunamadı (ID: " + id + ")"));
         blogRepository.deleteById(id);
+        onVisibilityChange(blogPost.getCategory(), blogPost.getStatus() == BlogStatus.PUBLISHED, null);
+        onPublicContentChange(id, blogPost.getStatus() == BlogStatus.PUBLISHED, null);
+        eventPublisher.publishEvent(new BlogRevisionManager.Saved(id, versionOf(blogPost), null));
+        if (blogPost.getStatus() == BlogStatus.SCHEDULED) {
+            eventPublisher.publishEvent(new BlogPublisher.ScheduleChanged());
+        }
+    }
+
+    @Override
+    @Transactional
+    public int publishDue() {
+        List<BlogPost> due = blogRepository.findAllByStatusAndPublishAtLessThanEqual(BlogStatus.SCHEDULED, Instant.now());
+        for (BlogPost blogPost : due) {
+            // Listede yayın anına göre sıralanır, yazıldığı ana göre değil
+            Instant publishAt = blogPost.getPublishAt();
+            blogPost.setStatus(BlogStatus.PUBLISHED);
+            blogPost.setCreatedAt(publishAt);
+            blogPost.setCreatedDate(LocalDate.ofInstant(publishAt, ZoneId.systemDefault()));
+            blogPost.setPublishAt(null);
+            onVisibilityChange(null, false, blogPost);
+            eventPublisher.publishEvent(RelatedPostManager.PostChanged.of(blogPost.getId(), blogPost));
+        }
+        if (!due.isEmpty()) {
+            blogRepository.saveAll(due);
+            eventPublisher.publishEvent(new FeedManager.ContentChanged());
+            log.info("Published {} scheduled blog posts", due.size());
+        }
+        return due.size();
+    }
+
+    @Override
+    public Page<BlogSummaryResponse> getAllForAdmin(int pageNo, int pageSize) {
+        if (pageNo < 1) pageNo = 1;
+        return blogRepository.findAllSummaries(PageRequest.of(pageNo - 1, pageSize));
+    }
+
+    @Override
+    public GetBlogResponse getByIdForAdmin(int id) {
+        BlogPost blogPost = blogRepository.findById(id).orElseThrow(() -> new NotFoundException("Blog yazısı bulunamadı (ID: " + id + ")"));
+        return blogMapper.toResponse(blogPost);
+    }
+
+    /**
+     * Resolves the requested status. Without one, a new post is published and an existing post keeps
+     * its state; a schedule in the past publishes immediately.
+     */
+    private static void applyStatus(BlogPost blogPost, BlogStatus requested, Instant publishAt,
+                                    BlogStatus previousStatus, Instant previousPublishAt) {
+        BlogStatus status = requested != null ? requested : previousStatus != null ? previousStatus : BlogStatus.PUBLISHED;
+        if (status == BlogStatus.SCHEDULED) {
+            if (publishAt == null) {
+                throw new BusinessException("Zamanlanmış yazı için yayın zamanı (publishAt) gereklidir");
+            }
+            if (!publishAt.isAfter(Instant.now())) {
+                status = BlogStatus.PUBLISHED;
+            }
+        }
+
+        blogPost.setStatus(status);
+        blogPost.setPublishAt(status == BlogStatus.SCHEDULED ? publishAt : null);
+        if (status == BlogStatus.PUBLISHED && previousStatus != null && previousStatus != BlogStatus.PUBLISHED) {
+            blogPost.setCreatedAt(Instant.now());
+            blogPost.setCreatedDate(LocalDate.now());
+        }
+    }
+
+    /**
+     * Keeps the public counters in step with what readers can see. Only published posts are counted,
+     * so a draft never shows up in facets or totals.
+     *
+     * @param after the post as it is now, or null when it was deleted
+     */
+    private void onVisibilityChange(String previousCategory, boolean wasPublished, BlogPost after) {
+        boolean isPublished = after != null && after.getStatus() == BlogStatus.PUBLISHED;
+        String category = after != null ? after.getCategory() : null;
+        if (wasPublished == isPublished && (!isPublished || Objects.equals(previousCategory, category))) {
+            return;
+        }
+
+        if (wasPublished) {
+            blogCategoryCountRepository.adjust(previousCategory, -1);
+            blogCategoryCountRepository.deleteEmpty();
+        }
+        if (isPublished) {
+            blogCategoryCountRepository.adjust(category, 1);
+        }
+        applyCountsAfterCommit((isPublished ? 1 : 0) - (wasPublished ? 1 : 0));
+    }
+
+    // Revizyonlar commit sonrası, istek iş parçacığı dışında kaydedilir; olay yalnızca metni taşır
+    private static BlogRevisionManager.Version versionOf(BlogPost blogPost) {
+        return new BlogRevisionManager.Version(blogPost.getTitle(), blogPost.getCategory(),
+                Objects.requireNonNullElse(blogPost.getContent(), ""));
+    }
+
+    // Taslak ve zamanlanmış yazılar beslemelerde yok; yalnızca okuyucunun gördüğü içerik değişince yeniden üretilir
+    private void onPublicContentChange(int id, boolean wasPublished, BlogPost after) {
+        if (wasPublished || (after != null && after.getStatus() == BlogStatus.PUBLISHED)) {
+            eventPublisher.publishEvent(new FeedManager.ContentChanged());
+            eventPublisher.publishEvent(RelatedPostManager.PostChanged.of(id, after));
+        }
+    }
+
+    // created_at sütunundan önce yazılmış yazılar için tek seferlik doldurma; eski render'lar arka planda yenilenir
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDerivedColumns() {
+        try {
+            int dated = blogRepository.backfillCreatedAt();
+            if (dated > 0) {
+                log.info("Backfilled created_at for {} blog posts", dated);
+            }
+        } catch (Exception e) {
+            log.error("Blog created_at could not be backfilled", e);
+        }
+        try {
+            blogRepository.backfillDefaultCategory();
+            if (blogCategoryCountRepository.count() == 0) {
+                int rebuilt = blogCategoryCountRepository.rebuildFromPosts();
+                log.info("Built blog category counts for {} categories", rebuilt);
+            }
+        } catch (Exception e) {
+            log.error("Blog category counts could not be built", e);
+        }
+        Thread.ofVirtual().name("blog-rerender").start(this::rerenderStale);
+    }
+
+    // İçe aktarılan yazılar render edilmeden kaydedilir; sayaçlar sıfırlanır, HTML ve özetler arka planda üretilir
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImported(ContentTransferManager.Imported imported) {
+        if (imported.content() != ContentTransferManager.Content.BLOG_POSTS) {
+            return;
+        }
+        postCount.set(-1);
+        categoriesGeneration.incrementAndGet();
+        Thread.ofVirtual().name("blog-rerender").start(this::rerenderStale);
+    }
+
+    /**
+     * Re-renders posts written by an older {@link MarkdownRenderer#VERSION}, a few at a time so large
+     * bodies are not all held in memory at once. Only the rendered columns are written, and only while
+     * the row is still stale, so an edit saved in the meantime is never overwritten.
+     */
+    void rerenderStale() {
+        try {
+            List<Integer> ids = blogRepository.findIdsRenderedBefore(MarkdownRenderer.VERSION);
+            for (int from = 0; from < ids.size(); from += RERENDER_BATCH_SIZE) {
+                List<BlogPost> batch = blogRepository.findAllById(ids.subList(from, Math.min(from + RERENDER_BATCH_SIZE, ids.size())));
+                for (BlogPost blogPost : batch) {
+                    render(blogPost);
+                    // Tüm varlık kaydedilmez: yüklemeden sonra yapılan bir düzenlemenin üzerine eski içerik yazılmasın
+                    blogRepository.updateRenderedIfStale(blogPost.getId(), blogPost.getContentHtml(), blogPost.getToc(),
+                            blogPost.getWordCount(), blogPost.getExcerpt(), blogPost.getReadingMinutes(),
+                            MarkdownRenderer.VERSION);
+                }
+            }
+            if (!ids.isEmpty()) {
+                // Özetler değişmiş olabilir
+                eventPublisher.publishEvent(new FeedManager.ContentChanged());
+                log.info("Re-rendered {} blog posts with renderer version {}", ids.size(), MarkdownRenderer.VERSION);
+            }
+        } catch (Exception e) {
+            log.error("Blog posts could not be re-rendered", e);
+        }
+    }
+
+    void render(BlogPost blogPost) {
+        MarkdownRenderer.Article article = markdownRenderer.renderArticle(blogPost.getContent());
+        blogPost.setContentHtml(article.html());
+        blogPost.setToc(article.toc());
+        blogPost.setWordCount(article.wordCount());
+        blogPost.setExcerpt(excerptOf(article.text().replaceAll("\\s+", " ").trim()));
+        blogPost.setReadingMinutes(readingMinutesOf(article.wordCount()));
+        blogPost.setRendererVersion(MarkdownRenderer.VERSION);
+    }
+
+    private static boolean isStale(BlogPost blogPost) {
+        return blogPost.getRendererVersion() == null || blogPost.getRendererVersion() < MarkdownRenderer.VERSION;
+    }
+
+    static String excerptOf(String text) {
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        int cut = text.lastIndexOf(' ', EXCERPT_LENGTH);
+        return text.substring(0, cut > EXCERPT_LENGTH / 2 ? cut : EXCERPT_LENGTH).stripTrailing() + "…";
+    }
+
+    static int readingMinutesOf(int words) {
+        return Math.max(1, (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+    }
+
+    long countPosts() {
+        long count = postCount.get();
+        if (count < 0) {
+            postCount.compareAndSet(-1, blogRepository.countByStatus(BlogStatus.PUBLISHED));
+            count = postCount.get();
+        }
+        return count;
+    }
+
+    private void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("limit 1 ile " + MAX_LIMIT + " arasında olmalıdır");
+        }
+    }
+
+    private long countPosts(String category) {
+        return getCategories().stream()
+                .filter(facet -> facet.name().equals(category))
+                .mapToLong(BlogCategoryResponse::count)
+                .findFirst()
+                .orElse(0);
+    }
+
+    // Nesil commit'ten sonra artırılır: önce artsaydı, commit'i beklerken eski sayıları okuyan bir istek onları yeni
+    // nesille önbelleğe alırdı. Commit'ten önce okumaya başlamış bir istek eski nesli taşıdığından kopyası kullanılmaz.
+    // Toplam yazı sayısı da commit'te değişir: geri alınan bir işlem sayacı kaydırmasın
+    private void applyCountsAfterCommit(long postDelta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyCounts(postDelta);
+                }
+            });
+        } else {
+            applyCounts(postDelta);
+        }
     }
 
-    private void checkIfBlogExists(int id) {
-        if (!blogRepository.existsById(id)) {
-            throw new NotFoundException("Silinecek blog yazısı bulunamadı (ID: " + id + ")");
+    private void applyCounts(long postDelta) {
+        if (postDelta != 0) {
+            postCount.updateAndGet(count -> count < 0 ? count : count + postDelta);
         }
+        categoriesGeneration.incrementAndGet();
     }
 
     private void setDefaultCategory(CreateBlogRequest request) {
@@ -0,0 +1,88 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.BlogService;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Publishes scheduled blog posts at their {@code publishAt}. Instead of polling, a single timer is
+ * armed for the earliest pending post and re-armed whenever the schedule changes or a run finishes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlogPublisher {
+
+    /**
+     * Published by {@link BlogManager} when a post enters or leaves the SCHEDULED state; handled after commit.
+     */
+    public record ScheduleChanged() {
+    }
+
+    static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final BlogService blogService;
+    private final BlogRepository blogRepository;
+    private final TaskScheduler taskScheduler;
+
+    private ScheduledFuture<?> timer;
+    private Instant timerAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // Kapalıyken zamanı geçmiş yazılar hemen yayınlanır
+        publishNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChanged event) {
+        arm();
+    }
+
+    synchronized void arm() {
+        Instant next = blogRepository.findNextPublishAt();
+        if (next != null && next.equals(timerAt) && timer != null && !timer.isDone()) {
+            return;
+        }
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        timerAt = next;
+        timer = next == null ? null : taskScheduler.schedule(this::publishNow, next);
+    }
+
+    void publishNow() {
+        // Bu çalışma zamanlayıcının kendisi olabilir; bitmediği için arm() onu hâlâ kurulu sanmasın
+        synchronized (this) {
+            timer = null;
+            timerAt = null;
+        }
+        try {
+            blogService.publishDue();
+        } catch (Exception e) {
+            // Yazı hâlâ SCHEDULED; aynı ana yeniden kurmak hemen tekrar denemek olur, kısa bir beklemeyle denenir
+            log.error("Scheduled blog posts could not be published; retrying in {}", RETRY_DELAY, e);
+            retryLater();
+            return;
+        }
+        arm();
+    }
+
+    private synchronized void retryLater() {
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        timerAt = Instant.now().plus(RETRY_DELAY);
+        timer = taskScheduler.schedule(this::publishNow, timerAt);
+    }
+}
@@ -0,0 +1,219 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.BlogRevisionService;
+import com.arslanca.dev.business.abstracts.BlogService;
+import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
+import com.arslanca.dev.business.dto.responses.BlogRevisionDiffResponse;
+import com.arslanca.dev.business.dto.responses.BlogRevisionResponse;
+import com.arslanca.dev.core.utilities.diff.LineDiff;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.dataAccess.BlogPostRevisionRepository;
+import com.arslanca.dev.entities.BlogPostRevision;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revision history of blog posts, stored as a full snapshot every {@value #SNAPSHOT_INTERVAL} revisions
+ * and line deltas against the previous revision in between. Rebuilding any revision reads one snapshot
+ * and applies at most {@code SNAPSHOT_INTERVAL - 1} deltas.
+ * <p>
+ * Saves are recorded after commit on a single background thread, in the order they happened, so the
+ * editor never waits for a diff. A revision may therefore show up in the list a moment after the save.
+ */
+@Slf4j
+@Service
+public class BlogRevisionManager implements BlogRevisionService {
+
+    static final int SNAPSHOT_INTERVAL = 10;
+
+    private final BlogPostRevisionRepository revisionRepository;
+    private final BlogService blogService;
+    private final TransactionTemplate transaction;
+
+    private final ExecutorService recorder = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("blog-revisions").factory());
+
+    public BlogRevisionManager(BlogPostRevisionRepository revisionRepository, BlogService blogService,
+                               PlatformTransactionManager transactionManager) {
+        this.revisionRepository = revisionRepository;
+        this.blogService = blogService;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    public record Version(String title, String category, String content) {
+    }
+
+    // previous null: yeni yazı; current null: yazı silindi
+    public record Saved(int postId, Version previous, Version current) {
+    }
+
+    private record Loaded(BlogPostRevision revision, String content, int snapshotRevision) {
+    }
+
+    @Override
+    public List<BlogRevisionResponse> getRevisions(int postId) {
+        return revisionRepository.findSummaries(postId);
+    }
+
+    @Override
+    public BlogRevisionDiffResponse diff(int postId, int from, int to) {
+        Loaded before = load(postId, from);
+        Loaded after = load(postId, to);
+
+        List<String> a = LineDiff.lines(before.content());
+        List<String> b = LineDiff.lines(after.content());
+        List<BlogRevisionDiffResponse.Line> lines = new ArrayList<>(Math.max(a.size(), b.size()));
+        int inA = 0;
+        int inB = 0;
+        for (LineDiff.Edit edit : LineDiff.diff(a, b)) {
+            for (int i = 0; i < edit.count(); i++) {
+                switch (edit.op()) {
+                    case EQUAL -> {
+                        lines.add(new BlogRevisionDiffResponse.Line(BlogRevisionDiffResponse.Type.EQUAL, b.get(inB++)));
+                        inA++;
+                    }
+                    case DELETE -> lines.add(new BlogRevisionDiffResponse.Line(BlogRevisionDiffResponse.Type.REMOVED, a.get(inA++)));
+                    case INSERT -> lines.add(new BlogRevisionDiffResponse.Line(BlogRevisionDiffResponse.Type.ADDED, b.get(inB++)));
+                }
+            }
+        }
+        return new BlogRevisionDiffResponse(from, to, before.revision().getTitle(), after.revision().getTitle(), lines);
+    }
+
+    @Override
+    public void restore(int postId, int revision) {
+        Loaded loaded = load(postId, revision);
+
+        CreateBlogRequest request = new CreateBlogRequest();
+        request.setTitle(loaded.revision().getTitle());
+        request.setCategory(loaded.revision().getCategory());
+        request.setContent(loaded.content());
+        // status boş: yazının yayın durumu korunur, yalnızca metni geri alınır
+        blogService.update(postId, request);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(Saved saved) {
+        recorder.execute(() -> record(saved));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Kuyruktaki revizyonlar kaybolmasın: kapanmadan önce kısa süre beklenir
+        recorder.shutdown();
+        try {
+            if (!recorder.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Pending blog revisions were not recorded before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void record(Saved saved) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (saved.current() == null) {
+                    revisionRepository.deleteAllByPostId(saved.postId());
+                    return;
+                }
+                Optional<BlogPostRevision> latest = revisionRepository.findTopByPostIdOrderByRevisionDesc(saved.postId());
+                if (latest.isPresent()) {
+                    append(saved.postId(), load(saved.postId(), latest.get()), saved.current());
+                } else if (saved.previous() != null) {
+                    // Geçmişi olmayan eski ya da içe aktarılmış yazı: düzenlemeden önceki hali ilk revizyon olur
+                    BlogPostRevision first = revisionRepository.save(snapshot(saved.postId(), 1, saved.previous()));
+                    append(saved.postId(), new Loaded(first, saved.previous().content(), 1), saved.current());
+                } else {
+                    revisionRepository.save(snapshot(saved.postId(), 1, saved.current()));
+                }
+            });
+        } catch (Exception e) {
+            log.error("Revision of blog post {} could not be recorded", saved.postId(), e);
+        }
+    }
+
+    private void append(int postId, Loaded latest, Version current) {
+        BlogPostRevision previous = latest.revision();
+        if (Objects.equals(previous.getTitle(), current.title())
+                && Objects.equals(previous.getCategory(), current.category())
+                && Objects.equals(latest.content(), current.content())) {
+            return;
+        }
+
+        int revision = previous.getRevision() + 1;
+        String delta = LineDiff.encode(latest.content(), current.content());
+        // Delta içeriğin yarısından büyükse tam kopya daha ucuz; zinciri de kısaltır
+        if (revision - latest.snapshotRevision() >= SNAPSHOT_INTERVAL || delta.length() > current.content().length() / 2) {
+            revisionRepository.save(snapshot(postId, revision, current));
+            return;
+        }
+        revisionRepository.save(BlogPostRevision.builder()
+                .postId(postId)
+                .revision(revision)
+                .title(current.title())
+                .category(current.category())
+                .snapshot(false)
+                .data(delta)
+                .contentLength(current.content().length())
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    private static BlogPostRevision snapshot(int postId, int revision, Version version) {
+        return BlogPostRevision.builder()
+                .postId(postId)
+                .revision(revision)
+                .title(version.title())
+                .category(version.category())
+                .snapshot(true)
+                .data(version.content())
+                .contentLength(version.content().length())
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private Loaded load(int postId, int revision) {
+        if (revision < 1) {
+            throw new BusinessException("Revizyon numarası 1 veya daha büyük olmalıdır");
+        }
+        BlogPostRevision snapshot = revisionRepository
+                .findTopByPostIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(postId, revision)
+                .orElseThrow(() -> new NotFoundException("Revizyon bulunamadı (yazı: " + postId + ", revizyon: " + revision + ")"));
+        List<BlogPostRevision> chain = revisionRepository.findAllByPostIdAndRevisionBetweenOrderByRevision(
+                postId, snapshot.getRevision(), revision);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevision() != revision) {
+            throw new NotFoundException("Revizyon bulunamadı (yazı: " + postId + ", revizyon: " + revision + ")");
+        }
+        return rebuild(chain);
+    }
+
+    private Loaded load(int postId, BlogPostRevision revision) {
+        return revision.isSnapshot()
+                ? new Loaded(revision, revision.getData(), revision.getRevision())
+                : load(postId, revision.getRevision());
+    }
+
+    // chain: bir tam kopya ve ardından gelen deltalar, revizyon sırasıyla
+    private static Loaded rebuild(List<BlogPostRevision> chain) {
+        BlogPostRevision snapshot = chain.get(0);
+        String content = snapshot.getData();
+        for (int i = 1; i < chain.size(); i++) {
+            content = LineDiff.apply(content, chain.get(i).getData());
+        }
+        return new Loaded(chain.get(chain.size() - 1), content, snapshot.getRevision());
+    }
+}
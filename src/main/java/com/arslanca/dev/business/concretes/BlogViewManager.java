@@ -0,0 +1,126 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.BlogViewService;
+import com.arslanca.dev.business.dto.responses.MostReadBlogResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.dataAccess.BlogViewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind view counter. A read only bumps a {@link LongAdder} (striped, so concurrent readers of
+ * the same post do not contend); the scheduled flush writes one aggregated delta per post. Views that
+ * have not been flushed yet are lost only if the process dies without a graceful shutdown.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlogViewManager implements BlogViewService {
+
+    static final int MAX_RANKING = 50;
+    // Bellek sınırı: dolduğunda yeni ziyaretçiler sayılır ama hatırlanmaz
+    static final int MAX_TRACKED_VISITORS = 100_000;
+
+    private final BlogViewRepository blogViewRepository;
+
+    @Value("${app.blog.views.dedupe-window-ms:1800000}")
+    private long dedupeWindowMs;
+
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+    // (yazı id, ziyaretçi hash) -> pencerenin bittiği an; süresi geçenler flush sırasında temizlenir
+    private final Map<Long, Long> recentVisitors = new ConcurrentHashMap<>();
+
+    private volatile List<MostReadBlogResponse> mostRead;
+
+    @Override
+    public void recordView(int postId, String visitor) {
+        long now = System.currentTimeMillis();
+        long key = ((long) postId << 32) | (visitor.hashCode() & 0xFFFFFFFFL);
+        long expiresAt = now + dedupeWindowMs;
+
+        Long previous = recentVisitors.get(key);
+        if (previous == null) {
+            if (recentVisitors.size() < MAX_TRACKED_VISITORS && recentVisitors.putIfAbsent(key, expiresAt) != null) {
+                return;
+            }
+        } else if (previous > now || !recentVisitors.replace(key, previous, expiresAt)) {
+            return;
+        }
+
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.blog.views.flush-interval-ms:30000}")
+    public synchronized void flush() {
+        long now = System.currentTimeMillis();
+        recentVisitors.values().removeIf(expiresAt -> expiresAt <= now);
+
+        Map<Integer, Long> deltas = new HashMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            blogViewRepository.addAll(deltas);
+        } catch (Exception e) {
+            log.error("Blog view counts could not be persisted, will retry on next flush", e);
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            return;
+        }
+        refreshRanking();
+    }
+
+    // Silinen ya da taslağa çekilen yazı, başka bir yazı okunana kadar sıralamada eski başlığıyla kalmasın
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(FeedManager.ContentChanged event) {
+        mostRead = null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Override
+    public List<MostReadBlogResponse> getMostRead(int limit) {
+        if (limit < 1 || limit > MAX_RANKING) {
+            throw new BusinessException("limit 1 ile " + MAX_RANKING + " arasında olmalıdır");
+        }
+        List<MostReadBlogResponse> ranking = mostRead;
+        if (ranking == null) {
+            ranking = refreshRanking();
+        }
+        return ranking.subList(0, Math.min(limit, ranking.size()));
+    }
+
+    // Sıralama toplu sayaç tablosundan okunur; yeni sayımlar yazıldığında ya da yayındaki içerik değiştiğinde yenilenir
+    private List<MostReadBlogResponse> refreshRanking() {
+        try {
+            List<MostReadBlogResponse> ranking = List.copyOf(blogViewRepository.findMostRead(MAX_RANKING));
+            mostRead = ranking;
+            return ranking;
+        } catch (Exception e) {
+            log.error("Most read ranking could not be loaded", e);
+            List<MostReadBlogResponse> previous = mostRead;
+            return previous != null ? previous : List.of();
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.ContentTransferService;
+import com.arslanca.dev.business.dto.responses.ImportResultResponse;
+import com.arslanca.dev.business.dto.transfer.BlogPostRow;
+import com.arslanca.dev.business.dto.transfer.PinnedProjectRow;
+import com.arslanca.dev.business.dto.transfer.TechStackRow;
+import com.arslanca.dev.dataAccess.BlogCategoryCountRepository;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.dataAccess.PinnedProjectRepository;
+import com.arslanca.dev.dataAccess.TechStackRepository;
+import com.arslanca.dev.entities.BlogPost;
+import com.arslanca.dev.entities.PinnedProject;
+import com.arslanca.dev.entities.TechStack;
+import com.arslanca.dev.entities.enums.BlogStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * NDJSON import and export for blog posts, tech stacks and pinned projects.
+ * <p>
+ * Export reads through a database cursor into a single JSON generator, so memory stays flat however
+ * many rows there are. Import validates each line, then persists it; the session is flushed and
+ * cleared every {@code app.import.batch-size} rows, which Hibernate sends as one JDBC batch (ids come
+ * from pooled sequences, so no row needs its own round trip). A whole file is one transaction; invalid
+ * lines are skipped and reported.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentTransferManager implements ContentTransferService {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    private final BlogRepository blogRepository;
+    private final TechStackRepository techStackRepository;
+    private final PinnedProjectRepository pinnedProjectRepository;
+    private final BlogCategoryCountRepository blogCategoryCountRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    public enum Content { BLOG_POSTS, TECH_STACKS, PINNED_PROJECTS }
+
+    // İçe aktarma commit edildikten sonra işlenir; sayaçlar ve önbellekler satır satır güncellenmediği için tazelenir
+    public record Imported(Content content, int count) {
+    }
+
+    @Override
+    public void exportBlogPosts(OutputStream out) {
+        exportRows(out, blogRepository::streamExportRows, Function.identity());
+    }
+
+    @Override
+    public void exportTechStacks(OutputStream out) {
+        exportRows(out, techStackRepository::streamExportRows, Function.identity());
+    }
+
+    @Override
+    public void exportPinnedProjects(OutputStream out) {
+        exportRows(out, pinnedProjectRepository::streamAllOrderById, project -> {
+            PinnedProjectRow row = new PinnedProjectRow(project.getId(), project.getTitle(), project.getDescription(),
+                    project.getLongDescription(), project.getTags() != null ? List.copyOf(project.getTags()) : null,
+                    project.getGithubUrl());
+            entityManager.detach(project);
+            return row;
+        });
+    }
+
+    @Override
+    public ImportResultResponse importBlogPosts(InputStream in) {
+        return importRows(in, BlogPostRow.class, Content.BLOG_POSTS, () -> {
+            Set<String> titles = new HashSet<>(blogRepository.findAllTitles());
+            return row -> {
+                BlogStatus status = row.status() != null ? row.status() : BlogStatus.PUBLISHED;
+                if (status == BlogStatus.SCHEDULED && row.publishAt() == null) {
+                    return "zamanlanmış yazı için publishAt gereklidir";
+                }
+                if (!titles.add(row.title())) {
+                    return "bu başlıkta bir yazı zaten mevcut: " + row.title();
+                }
+
+                BlogPost blogPost = new BlogPost();
+                blogPost.setTitle(row.title());
+                blogPost.setContent(row.content());
+                blogPost.setCategory(row.category() == null || row.category().isBlank() ? "General" : row.category());
+                blogPost.setStatus(status);
+                blogPost.setPublishAt(status == BlogStatus.SCHEDULED ? row.publishAt() : null);
+                Instant createdAt = row.createdAt() != null ? row.createdAt() : Instant.now();
+                blogPost.setCreatedAt(createdAt);
+                blogPost.setCreatedDate(LocalDate.ofInstant(createdAt, ZoneId.systemDefault()));
+                // rendererVersion boş: HTML ve özet commit sonrası BlogManager'ın arka plan render'ında üretilir
+                entityManager.persist(blogPost);
+                return null;
+            };
+        }, () -> {
+            blogCategoryCountRepository.deleteAllInBatch();
+            blogCategoryCountRepository.rebuildFromPosts();
+            eventPublisher.publishEvent(new BlogPublisher.ScheduleChanged());
+        });
+    }
+
+    @Override
+    public ImportResultResponse importTechStacks(InputStream in) {
+        return importRows(in, TechStackRow.class, Content.TECH_STACKS, () -> {
+            Set<String> names = new HashSet<>(techStackRepository.findAllNames());
+            return row -> {
+                if (!names.add(row.name())) {
+                    return "bu isimde bir teknoloji zaten mevcut: " + row.name();
+                }
+                entityManager.persist(new TechStack(null, row.name(), row.type()));
+                return null;
+            };
+        }, () -> {
+        });
+    }
+
+    @Override
+    public ImportResultResponse importPinnedProjects(InputStream in) {
+        return importRows(in, PinnedProjectRow.class, Content.PINNED_PROJECTS, () -> {
+            Set<String> titles = new HashSet<>(pinnedProjectRepository.findAllTitles());
+            return row -> {
+                if (!titles.add(row.title())) {
+                    return "bu başlıkta bir proje zaten mevcut: " + row.title();
+                }
+                PinnedProject project = new PinnedProject();
+                project.setTitle(row.title());
+                project.setDescription(row.description());
+                project.setLongDescription(row.longDescription());
+                project.setTags(row.tags() != null ? new ArrayList<>(row.tags()) : new ArrayList<>());
+                project.setGithubUrl(row.githubUrl());
+                entityManager.persist(project);
+                return null;
+            };
+        }, () -> {
+        });
+    }
+
+    private <E, R> void exportRows(OutputStream out, Supplier<Stream<E>> rows, Function<E, R> toRow) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            try (Stream<E> stream = rows.get(); JsonGenerator generator = MAPPER.createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                for (E entity : (Iterable<E>) stream::iterator) {
+                    MAPPER.writeValue(generator, toRow.apply(entity));
+                    generator.writeRaw('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * @param importer   built inside the transaction (so it can load existing keys); persists a valid row
+     *                   or returns why it was rejected
+     * @param afterRows  runs in the same transaction once every row is flushed
+     */
+    private <R> ImportResultResponse importRows(InputStream in, Class<R> type, Content content,
+                                                Supplier<RowImporter<R>> importer, Runnable afterRows) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ImportResultResponse result = transaction.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            RowImporter<R> rowImporter = importer.get();
+
+            int lineNumber = 0;
+            int imported = 0;
+            int skipped = 0;
+            int unflushed = 0;
+            List<String> errors = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+
+                    String error = importLine(line, type, rowImporter);
+                    if (error != null) {
+                        skipped++;
+                        if (errors.size() < MAX_REPORTED_ERRORS) {
+                            errors.add("Satır " + lineNumber + ": " + error);
+                        }
+                        continue;
+                    }
+
+                    imported++;
+                    // Kalıcılık bağlamı her partiden sonra boşaltılır: bellek dosya boyutuyla büyümez
+                    if (++unflushed == batchSize) {
+                        entityManager.flush();
+                        entityManager.clear();
+                        unflushed = 0;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            if (imported > 0) {
+                afterRows.run();
+                eventPublisher.publishEvent(new Imported(content, imported));
+                eventPublisher.publishEvent(new FeedManager.ContentChanged());
+            }
+            return new ImportResultResponse(imported, skipped, errors);
+        });
+
+        log.info("Imported {} {} rows, skipped {}", result.imported(), content, result.skipped());
+        return result;
+    }
+
+    private <R> String importLine(String line, Class<R> type, RowImporter<R> rowImporter) {
+        R row;
+        try {
+            row = MAPPER.readValue(line, type);
+        } catch (JsonProcessingException e) {
+            return "geçersiz JSON (" + e.getOriginalMessage() + ")";
+        }
+
+        Set<ConstraintViolation<R>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        return rowImporter.apply(row);
+    }
+
+    @FunctionalInterface
+    private interface RowImporter<R> {
+        // null: satır kaydedildi; aksi halde reddedilme nedeni
+        String apply(R row);
+    }
+}
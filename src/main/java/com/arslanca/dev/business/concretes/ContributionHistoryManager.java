@@ -0,0 +1,219 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.models.ContributionCalendar;
+import com.arslanca.dev.business.abstracts.ContributionHistoryService;
+import com.arslanca.dev.business.dto.responses.ContributionDay;
+import com.arslanca.dev.business.dto.responses.ContributionStatsResponse;
+import com.arslanca.dev.business.dto.responses.GithubContributionsResponse;
+import com.arslanca.dev.core.utilities.stats.DailySeries;
+import com.arslanca.dev.dataAccess.ContributionDayRepository;
+import com.arslanca.dev.entities.ContributionDayRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps every contribution day since the account's first active year in Postgres and in a
+ * {@link DailySeries}. The full history is fetched once; after that only the last week is asked for,
+ * and statistics are recomputed from the first changed day onwards. The rolling-year calendar and the
+ * SVG heatmap are served from the same series, so GitHub is never asked for the whole year again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContributionHistoryManager implements ContributionHistoryService {
+
+    private static final int RECENT_DAYS = 7;
+    private static final int WEEKLY_TOTALS = 12;
+    // GitHub'ın profil takvimi gibi: bugünden 52 hafta önceki pazardan başlar
+    private static final int RECENT_WEEKS = 52;
+    private static final GithubContributionsResponse EMPTY = new GithubContributionsResponse(0, List.of());
+
+    private final GithubAdapter githubAdapter;
+    private final ContributionDayRepository contributionDayRepository;
+
+    // Guarded by "this"; readers only ever see the published view.
+    private final DailySeries series = new DailySeries();
+    private boolean loadedFromDatabase;
+
+    private volatile HistoryView view = new HistoryView(null, new int[0], new byte[0], ContributionStatsResponse.empty(), EMPTY);
+
+    @Override
+    public GithubContributionsResponse getHistory(Integer year) {
+        HistoryView current = view;
+        if (current.start() == null) {
+            return EMPTY;
+        }
+        if (year == null) {
+            return slice(current.start(), current.counts(), current.levels(), 0, current.counts().length - 1);
+        }
+        return slice(current.start(), current.counts(), current.levels(),
+                (int) Math.max(0, LocalDate.of(year, 1, 1).toEpochDay() - current.start().toEpochDay()),
+                (int) Math.min(current.counts().length - 1, LocalDate.of(year, 12, 31).toEpochDay() - current.start().toEpochDay()));
+    }
+
+    // Yayınlanırken bir kez hesaplanır; yenileme olana kadar hep aynı nesne döner (SVG önbelleği kimliğe bakar)
+    @Override
+    public GithubContributionsResponse getRecentYear() {
+        return view.recentYear();
+    }
+
+    @Override
+    public ContributionStatsResponse getStats() {
+        return view.stats();
+    }
+
+    @Override
+    public synchronized void refresh() {
+        try {
+            if (!loadedFromDatabase) {
+                for (ContributionDayRecord record : contributionDayRepository.findAllByOrderByDateAsc()) {
+                    series.put(record.getDate(), record.getCount(), record.getLevel());
+                }
+                loadedFromDatabase = true;
+            }
+
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            List<ContributionDay> fetched = series.isEmpty() ? fetchAllYears(today) : fetchRecent(today);
+
+            List<ContributionDayRecord> changed = new ArrayList<>();
+            for (ContributionDay day : fetched) {
+                LocalDate date = LocalDate.parse(day.date());
+                if (series.put(date, day.count(), day.level())) {
+                    changed.add(new ContributionDayRecord(date, day.count(), day.level()));
+                }
+            }
+            if (!changed.isEmpty()) {
+                contributionDayRepository.saveAll(changed);
+            }
+
+            if (!changed.isEmpty() || view.start() == null) {
+                publish();
+            }
+            log.info("Contribution history refreshed: {} days fetched, {} changed, {} stored",
+                    fetched.size(), changed.size(), series.size());
+        } catch (Exception e) {
+            // Eski görünüm yayında kalır; bir sonraki turda tekrar denenir
+            log.warn("Contribution history refresh failed: {}", e.getMessage());
+            if (view.start() == null && !series.isEmpty()) {
+                publish();
+            }
+        }
+    }
+
+    private List<ContributionDay> fetchAllYears(LocalDate today) {
+        ContributionCalendar currentYear = githubAdapter.getContributionCalendar(today.withDayOfYear(1), today);
+        List<ContributionDay> days = new ArrayList<>(currentYear.days());
+
+        for (Integer year : currentYear.contributionYears()) {
+            if (year < today.getYear()) {
+                days.addAll(githubAdapter.getContributionCalendar(
+                        LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)).days());
+            }
+        }
+        days.sort(Comparator.comparing(ContributionDay::date));
+        return days;
+    }
+
+    private List<ContributionDay> fetchRecent(LocalDate today) {
+        // Uygulama uzun süre kapalı kaldıysa boşluk da kapansın (GitHub en fazla bir yıl kabul ediyor)
+        LocalDate from = today.minusDays(RECENT_DAYS - 1);
+        if (series.end().isBefore(from)) {
+            from = series.end();
+        }
+        LocalDate oldestAllowed = today.minusDays(364);
+        if (from.isBefore(oldestAllowed)) {
+            from = oldestAllowed;
+        }
+        return githubAdapter.getContributionCalendar(from, today).days();
+    }
+
+    private void publish() {
+        LocalDate start = series.start();
+        int[] counts = series.counts();
+        byte[] levels = series.levels();
+        LocalDate recentFrom = series.end().minusWeeks(RECENT_WEEKS).with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+        GithubContributionsResponse recentYear = slice(start, counts, levels,
+                (int) Math.max(0, recentFrom.toEpochDay() - start.toEpochDay()), counts.length - 1);
+        view = new HistoryView(start, counts, levels, computeStats(series), recentYear);
+    }
+
+    private static GithubContributionsResponse slice(LocalDate start, int[] counts, byte[] levels, int from, int to) {
+        List<ContributionDay> days = new ArrayList<>(Math.max(0, to - from + 1));
+        int total = 0;
+        for (int i = from; i <= to; i++) {
+            days.add(new ContributionDay(start.plusDays(i).toString(), counts[i], levels[i]));
+            total += counts[i];
+        }
+        return new GithubContributionsResponse(total, days);
+    }
+
+    static ContributionStatsResponse computeStats(DailySeries series) {
+        if (series.isEmpty()) {
+            return ContributionStatsResponse.empty();
+        }
+
+        int longestEnd = series.longestStreakEndIndex();
+        int longest = series.longestStreak();
+        int best = series.bestDayIndex();
+
+        List<ContributionStatsResponse.WeeklyTotal> weeklyTotals = new ArrayList<>(WEEKLY_TOTALS);
+        LocalDate weekStart = series.end().with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+        for (int i = WEEKLY_TOTALS - 1; i >= 0; i--) {
+            LocalDate from = weekStart.minusWeeks(i);
+            if (from.plusDays(6).isBefore(series.start())) {
+                continue;
+            }
+            weeklyTotals.add(new ContributionStatsResponse.WeeklyTotal(from.toString(),
+                    series.sumBetween(from, from.plusDays(6))));
+        }
+
+        List<ContributionStatsResponse.YearlyTotal> yearlyTotals = new ArrayList<>();
+        for (int year = series.start().getYear(); year <= series.end().getYear(); year++) {
+            LocalDate from = LocalDate.of(year, 1, 1);
+            LocalDate to = year == series.end().getYear() ? series.end() : LocalDate.of(year, 12, 31);
+            long total = series.sumBetween(from, to);
+
+            Long delta = null;
+            Double deltaPercent = null;
+            if (!from.minusYears(1).isBefore(series.start())) {
+                long previous = series.sumBetween(from.minusYears(1), to.minusYears(1));
+                delta = total - previous;
+                deltaPercent = previous == 0 ? null : Math.round(delta * 1000.0 / previous) / 10.0;
+            }
+            yearlyTotals.add(new ContributionStatsResponse.YearlyTotal(year, total, delta, deltaPercent));
+        }
+
+        return new ContributionStatsResponse(
+                series.start().toString(),
+                series.end().toString(),
+                series.total(),
+                series.currentStreak(),
+                longest,
+                longest == 0 ? null : series.dateAt(longestEnd - longest + 1).toString(),
+                longest == 0 ? null : series.dateAt(longestEnd).toString(),
+                new ContributionDay(series.dateAt(best).toString(), series.countAt(best), series.levelAt(best)),
+                round(series.averageOfLast(7)),
+                round(series.averageOfLast(30)),
+                round(series.averageOfLast(365)),
+                List.copyOf(weeklyTotals),
+                List.copyOf(yearlyTotals));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    private record HistoryView(LocalDate start, int[] counts, byte[] levels, ContributionStatsResponse stats,
+                               GithubContributionsResponse recentYear) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.ContributionHistoryService;
+import com.arslanca.dev.business.abstracts.ContributionsSvgService;
+import com.arslanca.dev.business.dto.responses.ContributionDay;
+import com.arslanca.dev.business.dto.responses.GithubContributionsResponse;
+import com.arslanca.dev.core.utilities.http.CachedAsset;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+public class ContributionsSvgManager implements ContributionsSvgService {
+
+    private static final int CELL = 10;
+    private static final int STEP = 13;
+    private static final int LEFT = 28;
+    private static final int TOP = 20;
+    private static final String[] LEVEL_COLORS = {"#1f2328", "#0e4429", "#006d32", "#26a641", "#39d353"};
+
+    private final ContributionHistoryService contributionHistoryService;
+
+    private volatile Rendered rendered;
+
+    @Override
+    public CachedAsset getHeatmap() {
+        GithubContributionsResponse contributions = contributionHistoryService.getRecentYear();
+        Rendered current = rendered;
+
+        // Aynı nesne: geçmiş yenilenmedi, karşılaştırma gerekmez
+        if (current != null && current.source() == contributions) {
+            return current.asset();
+        }
+
+        synchronized (this) {
+            current = rendered;
+            if (current != null && current.source() == contributions) {
+                return current.asset();
+            }
+            // Geçmiş yenilendi ama içerik aynı: eski byte'lar (ve ETag) kalır, kaynak yenisiyle değiştirilir ki
+            // sonraki istekler yine kimlik karşılaştırmasıyla dönsün
+            if (current != null && current.source().equals(contributions)) {
+                rendered = new Rendered(contributions, current.asset());
+                return current.asset();
+            }
+            byte[] svg = render(contributions).getBytes(StandardCharsets.UTF_8);
+            current = new Rendered(contributions, CachedAsset.of(svg, "image/svg+xml", Instant.now()));
+            rendered = current;
+            return current.asset();
+        }
+    }
+
+    static String render(GithubContributionsResponse contributions) {
+        List<ContributionDay> days = contributions.days();
+        int offset = days.isEmpty() ? 0 : LocalDate.parse(days.get(0).date()).getDayOfWeek().getValue() % 7;
+        int weeks = (days.size() + offset + 6) / 7;
+        int width = LEFT + weeks * STEP + 4;
+        int height = TOP + 7 * STEP + 22;
+
+        StringBuilder svg = new StringBuilder(days.size() * 64 + 1024);
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(width)
+                .append("\" height=\"").append(height)
+                .append("\" viewBox=\"0 0 ").append(width).append(' ').append(height)
+                .append("\" role=\"img\" aria-label=\"").append(contributions.totalContributions())
+                .append(" contributions in the last year\">");
+        svg.append("<style>text{font:9px -apple-system,Segoe UI,Helvetica,Arial,sans-serif;fill:#8b949e}</style>");
+        svg.append("<rect width=\"100%\" height=\"100%\" rx=\"6\" fill=\"#0d1117\"/>");
+
+        svg.append("<text x=\"2\" y=\"").append(TOP + STEP + 8).append("\">Mon</text>");
+        svg.append("<text x=\"2\" y=\"").append(TOP + 3 * STEP + 8).append("\">Wed</text>");
+        svg.append("<text x=\"2\" y=\"").append(TOP + 5 * STEP + 8).append("\">Fri</text>");
+
+        int lastMonth = -1;
+        for (int i = 0; i < days.size(); i++) {
+            ContributionDay day = days.get(i);
+            int position = i + offset;
+            int column = position / 7;
+            int row = position % 7;
+            int x = LEFT + column * STEP;
+            int y = TOP + row * STEP;
+
+            LocalDate date = LocalDate.parse(day.date());
+            // Ay etiketi, o ayın ilk Pazar'ının sütununa yazılır
+            if ((row == 0 || i == 0) && date.getMonthValue() != lastMonth) {
+                svg.append("<text x=\"").append(x).append("\" y=\"12\">")
+                        .append(date.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
+                        .append("</text>");
+                lastMonth = date.getMonthValue();
+            }
+
+            int level = Math.max(0, Math.min(4, day.level()));
+            svg.append("<rect x=\"").append(x).append("\" y=\"").append(y)
+                    .append("\" width=\"").append(CELL).append("\" height=\"").append(CELL)
+                    .append("\" rx=\"2\" fill=\"").append(LEVEL_COLORS[level]).append("\"/>");
+        }
+
+        svg.append("<text x=\"").append(LEFT).append("\" y=\"").append(height - 6).append("\">")
+                .append(contributions.totalContributions()).append(" contributions in the last year</text>");
+        svg.append("</svg>");
+        return svg.toString();
+    }
+
+    private record Rendered(GithubContributionsResponse source, CachedAsset asset) {
+    }
+}
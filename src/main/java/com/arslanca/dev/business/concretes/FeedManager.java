@@ -0,0 +1,356 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.FeedService;
+import com.arslanca.dev.business.dto.responses.BlogFeedEntry;
+import com.arslanca.dev.core.utilities.http.CachedAsset;
+import com.arslanca.dev.core.utilities.http.CachedAssetWriter;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.dataAccess.PinnedProjectRepository;
+import com.arslanca.dev.entities.PinnedProject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * RSS, Atom and sitemap documents. All three are written in a single pass over the published posts,
+ * streamed from the database straight into {@link XMLStreamWriter}s, so no post list is ever built.
+ * The results are kept as pre-gzipped {@link CachedAsset}s and rebuilt lazily, on the first request
+ * after {@link BlogManager} or {@link PinnedProjectManager} commits a write.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedManager implements FeedService {
+
+    static final int FEED_SIZE = 50;
+    private static final String RSS_TYPE = "application/rss+xml;charset=UTF-8";
+    private static final String ATOM_TYPE = "application/atom+xml;charset=UTF-8";
+    private static final String SITEMAP_TYPE = "application/xml;charset=UTF-8";
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final List<String> STATIC_PAGES = List.of("/", "/blog", "/portfolio", "/about", "/contact");
+    private static final DateTimeFormatter RFC_822 = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter W3C_DATE = DateTimeFormatter.ISO_LOCAL_DATE.withZone(ZoneOffset.UTC);
+    private static final XMLOutputFactory XML = XMLOutputFactory.newFactory();
+
+    private final BlogRepository blogRepository;
+    private final PinnedProjectRepository pinnedProjectRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.site.url:https://arslanca.dev}")
+    private String siteUrl;
+
+    @Value("${app.site.title:arslanca.dev}")
+    private String siteTitle;
+
+    // Başlangıçta kirli: ilk istek üretir. Üretim sırasında gelen yazma işlemi bayrağı yeniden kaldırır
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile Feeds feeds;
+
+    // Yazma işlemi commit edildikten sonra yayınlanır; işlem dışında doğrudan işlenir
+    public record ContentChanged() {
+    }
+
+    @Override
+    public CachedAsset getRss() {
+        return current().rss();
+    }
+
+    @Override
+    public CachedAsset getAtom() {
+        return current().atom();
+    }
+
+    @Override
+    public CachedAsset getSitemap() {
+        return current().sitemap();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChanged event) {
+        dirty.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillProjectDates() {
+        try {
+            pinnedProjectRepository.backfillUpdatedAt();
+        } catch (Exception e) {
+            log.error("Pinned project dates could not be backfilled", e);
+        }
+    }
+
+    private Feeds current() {
+        Feeds current = feeds;
+        if (current != null && !dirty.get()) {
+            return current;
+        }
+        synchronized (this) {
+            if (feeds != null && !dirty.get()) {
+                return feeds;
+            }
+            dirty.set(false);
+            try {
+                Feeds generated = generate();
+                feeds = feeds == null ? generated : feeds.keepUnchanged(generated);
+            } catch (RuntimeException e) {
+                dirty.set(true);
+                if (feeds == null) {
+                    throw e;
+                }
+                log.error("Feeds could not be regenerated, serving the previous version", e);
+            }
+            return feeds;
+        }
+    }
+
+    Feeds generate() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        List<PinnedProject> projects = pinnedProjectRepository.findAll(Sort.by(Sort.Direction.DESC, "updatedAt", "id"));
+        Documents documents = new Documents(projects, now);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            try (Stream<BlogFeedEntry> posts = blogRepository.streamFeedEntries()) {
+                posts.forEach(documents::post);
+            }
+        });
+        return documents.finish();
+    }
+
+    record Feeds(CachedAsset rss, CachedAsset atom, CachedAsset sitemap) {
+
+        // İçerik değişmediyse eski varlık kalır: ETag ve Last-Modified sabit, okuyucular 304 alır
+        Feeds keepUnchanged(Feeds next) {
+            return new Feeds(same(rss, next.rss), same(atom, next.atom), same(sitemap, next.sitemap));
+        }
+
+        private static CachedAsset same(CachedAsset previous, CachedAsset next) {
+            return previous.etag().equals(next.etag()) ? previous : next;
+        }
+    }
+
+    /**
+     * The three documents being written. Posts arrive newest first; pinned projects (few, already in
+     * memory) are merged into the feeds by date as the posts stream past.
+     */
+    private final class Documents {
+
+        private final List<PinnedProject> projects;
+        private final Instant now;
+        private final CachedAssetWriter rssOut = new CachedAssetWriter();
+        private final CachedAssetWriter atomOut = new CachedAssetWriter();
+        private final CachedAssetWriter sitemapOut = new CachedAssetWriter();
+        private final XMLStreamWriter rss;
+        private final XMLStreamWriter atom;
+        private final XMLStreamWriter sitemap;
+        private boolean started;
+        private int feedItems;
+        private int nextProject;
+
+        Documents(List<PinnedProject> projects, Instant now) {
+            this.projects = projects;
+            this.now = now;
+            try {
+                rss = XML.createXMLStreamWriter(rssOut, "UTF-8");
+                atom = XML.createXMLStreamWriter(atomOut, "UTF-8");
+                sitemap = XML.createXMLStreamWriter(sitemapOut, "UTF-8");
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void post(BlogFeedEntry post) {
+            try {
+                if (!started) {
+                    start(post.createdAt());
+                }
+                while (feedItems < FEED_SIZE && nextProject < projects.size()
+                        && projectTime(projects.get(nextProject)).isAfter(post.createdAt())) {
+                    project(projects.get(nextProject++));
+                }
+                String link = siteUrl + "/blog/" + post.id();
+                if (feedItems < FEED_SIZE) {
+                    item(link, true, link, post.title(), post.category(), post.excerpt(), post.createdAt());
+                }
+                url(link, post.createdAt());
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException("Feed entry could not be written (post " + post.id() + ")", e);
+            }
+        }
+
+        Feeds finish() {
+            try {
+                if (!started) {
+                    start(null);
+                }
+                while (feedItems < FEED_SIZE && nextProject < projects.size()) {
+                    project(projects.get(nextProject++));
+                }
+
+                rss.writeEndElement();
+                rss.writeEndElement();
+                rss.writeEndDocument();
+                atom.writeEndElement();
+                atom.writeEndDocument();
+                sitemap.writeEndElement();
+                sitemap.writeEndDocument();
+                rss.close();
+                atom.close();
+                sitemap.close();
+
+                return new Feeds(
+                        rssOut.toAsset(RSS_TYPE, now),
+                        atomOut.toAsset(ATOM_TYPE, now),
+                        sitemapOut.toAsset(SITEMAP_TYPE, now));
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException("Feeds could not be written", e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // Başlıklar ilk yazıyla birlikte yazılır: en yeni yazının tarihi o an bilinir
+        private void start(Instant latestPost) throws XMLStreamException {
+            started = true;
+            Instant latestProject = projects.isEmpty() ? null : projectTime(projects.get(0));
+            Instant updated = latest(latestPost, latestProject);
+            if (updated == null) {
+                updated = now;
+            }
+
+            rss.writeStartDocument("UTF-8", "1.0");
+            rss.writeStartElement("rss");
+            rss.writeAttribute("version", "2.0");
+            rss.writeNamespace("atom", ATOM_NS);
+            rss.writeStartElement("channel");
+            text(rss, "title", siteTitle);
+            text(rss, "link", siteUrl + "/blog");
+            text(rss, "description", siteTitle + " blog posts and projects");
+            text(rss, "lastBuildDate", RFC_822.format(updated));
+            rss.writeEmptyElement("atom", "link", ATOM_NS);
+            rss.writeAttribute("href", siteUrl + "/feed.xml");
+            rss.writeAttribute("rel", "self");
+            rss.writeAttribute("type", "application/rss+xml");
+
+            atom.writeStartDocument("UTF-8", "1.0");
+            atom.writeStartElement("feed");
+            atom.writeDefaultNamespace(ATOM_NS);
+            text(atom, "id", siteUrl + "/");
+            text(atom, "title", siteTitle);
+            text(atom, "updated", updated.toString());
+            link(atom, siteUrl + "/blog", null);
+            link(atom, siteUrl + "/atom.xml", "self");
+            atom.writeStartElement("author");
+            text(atom, "name", siteTitle);
+            atom.writeEndElement();
+
+            sitemap.writeStartDocument("UTF-8", "1.0");
+            sitemap.writeStartElement("urlset");
+            sitemap.writeDefaultNamespace(SITEMAP_NS);
+            for (String page : STATIC_PAGES) {
+                Instant lastModified = switch (page) {
+                    case "/" -> updated;
+                    case "/blog" -> latestPost;
+                    case "/portfolio" -> latestProject;
+                    default -> null;
+                };
+                url(page.equals("/") ? siteUrl + "/" : siteUrl + page, lastModified);
+            }
+        }
+
+        private void project(PinnedProject project) throws XMLStreamException {
+            String link = project.getGithubUrl() != null && !project.getGithubUrl().isBlank()
+                    ? project.getGithubUrl()
+                    : siteUrl + "/portfolio";
+            item(siteUrl + "/portfolio#project-" + project.getId(), false, link, project.getTitle(), "Project",
+                    project.getDescription(), projectTime(project));
+        }
+
+        private void item(String id, boolean permaLink, String link, String title, String category, String summary,
+                          Instant date) throws XMLStreamException {
+            feedItems++;
+
+            rss.writeStartElement("item");
+            text(rss, "title", title);
+            text(rss, "link", link);
+            rss.writeStartElement("guid");
+            rss.writeAttribute("isPermaLink", String.valueOf(permaLink));
+            rss.writeCharacters(id);
+            rss.writeEndElement();
+            text(rss, "pubDate", RFC_822.format(date));
+            text(rss, "category", category);
+            text(rss, "description", summary);
+            rss.writeEndElement();
+
+            atom.writeStartElement("entry");
+            text(atom, "id", id);
+            text(atom, "title", title);
+            link(atom, link, null);
+            text(atom, "updated", date.toString());
+            if (category != null) {
+                atom.writeEmptyElement("category");
+                atom.writeAttribute("term", category);
+            }
+            text(atom, "summary", summary);
+            atom.writeEndElement();
+        }
+
+        private void url(String location, Instant lastModified) throws XMLStreamException {
+            sitemap.writeStartElement("url");
+            text(sitemap, "loc", location);
+            if (lastModified != null) {
+                text(sitemap, "lastmod", W3C_DATE.format(lastModified));
+            }
+            sitemap.writeEndElement();
+        }
+
+        private Instant projectTime(PinnedProject project) {
+            return project.getUpdatedAt() != null ? project.getUpdatedAt() : now;
+        }
+    }
+
+    private static void text(XMLStreamWriter writer, String element, String value) throws XMLStreamException {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        writer.writeStartElement(element);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    private static void link(XMLStreamWriter writer, String href, String rel) throws XMLStreamException {
+        writer.writeEmptyElement("link");
+        if (rel != null) {
+            writer.writeAttribute("rel", rel);
+        }
+        writer.writeAttribute("href", href);
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,238 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.business.abstracts.ContributionHistoryService;
+import com.arslanca.dev.business.abstracts.GithubWebhookService;
+import com.arslanca.dev.business.abstracts.LanguageStatsService;
+import com.arslanca.dev.business.abstracts.ProjectReadmeService;
+import com.arslanca.dev.business.dto.responses.GithubWebhookResponse;
+import com.arslanca.dev.core.utilities.scheduler.CoalescingQueue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns signed GitHub webhook deliveries into targeted cache refreshes. Events only mark what is
+ * stale; one coalesced task refreshes everything marked, in dependency order (the snapshot first,
+ * since the language and README jobs read the repository list from it).
+ */
+@Slf4j
+@Service
+public class GithubWebhookManager implements GithubWebhookService {
+
+    static final String SNAPSHOT = "snapshot";
+    static final String CONTRIBUTIONS = "contributions";
+    static final String LANGUAGES = "languages";
+    static final String README_PREFIX = "readme:";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int REMEMBERED_DELIVERIES = 1000;
+
+    private final GithubAdapter githubAdapter;
+    private final ContributionHistoryService contributionHistoryService;
+    private final LanguageStatsService languageStatsService;
+    private final ProjectReadmeService projectReadmeService;
+    private final CoalescingQueue queue;
+
+    @Value("${app.github.webhook.secret:}")
+    private String webhookSecret;
+
+    @Value("${app.github.webhook.record-dir:}")
+    private String recordDirectory;
+
+    private final Set<String> staleTargets = ConcurrentHashMap.newKeySet();
+
+    // GitHub aynı teslimatı tekrar gönderebilir (redeliver); son N teslimat kimliği tutulur
+    private final Set<String> recentDeliveries = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > REMEMBERED_DELIVERIES;
+        }
+    });
+
+    public GithubWebhookManager(GithubAdapter githubAdapter,
+                                ContributionHistoryService contributionHistoryService,
+                                LanguageStatsService languageStatsService,
+                                ProjectReadmeService projectReadmeService,
+                                @Value("${app.github.webhook.quiet-period-ms:5000}") long quietPeriodMs,
+                                @Value("${app.github.webhook.max-delay-ms:60000}") long maxDelayMs) {
+        this.githubAdapter = githubAdapter;
+        this.contributionHistoryService = contributionHistoryService;
+        this.languageStatsService = languageStatsService;
+        this.projectReadmeService = projectReadmeService;
+        this.queue = new CoalescingQueue("github-webhook", Duration.ofMillis(quietPeriodMs), Duration.ofMillis(maxDelayMs));
+    }
+
+    @Override
+    public boolean isSignatureValid(byte[] body, String signatureHeader) {
+        if (webhookSecret == null || webhookSecret.isBlank()
+                || signatureHeader == null || !signatureHeader.startsWith("sha256=")) {
+            return false;
+        }
+        byte[] expected = sign(webhookSecret, body);
+        byte[] provided;
+        try {
+            provided = HexFormat.of().parseHex(signatureHeader.substring(7));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // Sabit zamanlı karşılaştırma
+        return MessageDigest.isEqual(expected, provided);
+    }
+
+    @Override
+    public GithubWebhookResponse receive(String event, String deliveryId, byte[] body) {
+        if (recordDirectory != null && !recordDirectory.isBlank()) {
+            record(event, deliveryId, body);
+        }
+        return handle(event, deliveryId, body);
+    }
+
+    @Override
+    public GithubWebhookResponse handle(String event, String deliveryId, byte[] body) {
+        if (deliveryId != null) {
+            synchronized (recentDeliveries) {
+                if (!recentDeliveries.add(deliveryId)) {
+                    return new GithubWebhookResponse(deliveryId, event, "duplicate", List.of());
+                }
+            }
+        }
+
+        if ("ping".equals(event)) {
+            return new GithubWebhookResponse(deliveryId, event, "pong", List.of());
+        }
+
+        JsonNode payload;
+        try {
+            payload = MAPPER.readTree(body);
+        } catch (IOException e) {
+            log.warn("Webhook {} ({}) has an unreadable payload: {}", deliveryId, event, e.getMessage());
+            return new GithubWebhookResponse(deliveryId, event, "ignored", List.of());
+        }
+
+        List<String> targets = targetsFor(event, payload);
+        if (targets.isEmpty()) {
+            return new GithubWebhookResponse(deliveryId, event, "ignored", List.of());
+        }
+
+        staleTargets.addAll(targets);
+        queue.submit("github", this::refreshStaleTargets);
+        return new GithubWebhookResponse(deliveryId, event, "queued", targets);
+    }
+
+    @Override
+    public void flush() {
+        queue.flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queue.close();
+    }
+
+    static List<String> targetsFor(String event, JsonNode payload) {
+        String repository = payload.path("repository").path("name").asText(null);
+        List<String> targets = new ArrayList<>();
+
+        switch (event == null ? "" : event) {
+            case "push" -> {
+                targets.add(SNAPSHOT);
+                targets.add(CONTRIBUTIONS);
+                targets.add(LANGUAGES);
+                // README yalnızca varsayılan dala yapılan push ile değişebilir
+                String defaultBranch = payload.path("repository").path("default_branch").asText("");
+                if (repository != null && payload.path("ref").asText("").equals("refs/heads/" + defaultBranch)) {
+                    targets.add(README_PREFIX + repository);
+                }
+            }
+            case "repository", "public" -> {
+                targets.add(SNAPSHOT);
+                targets.add(LANGUAGES);
+                if (repository != null) {
+                    targets.add(README_PREFIX + repository);
+                }
+            }
+            case "star", "watch", "fork", "release" -> targets.add(SNAPSHOT);
+            case "create", "delete", "pull_request", "issues" -> targets.add(CONTRIBUTIONS);
+            default -> {
+            }
+        }
+        return targets;
+    }
+
+    private void refreshStaleTargets() {
+        List<String> targets = new ArrayList<>(staleTargets);
+        staleTargets.removeAll(targets);
+
+        if (targets.remove(SNAPSHOT)) {
+            run(SNAPSHOT, githubAdapter::refreshSnapshot);
+        }
+        if (targets.remove(CONTRIBUTIONS)) {
+            run(CONTRIBUTIONS, contributionHistoryService::refresh);
+        }
+        if (targets.remove(LANGUAGES)) {
+            run(LANGUAGES, languageStatsService::refresh);
+        }
+        for (String target : targets) {
+            if (target.startsWith(README_PREFIX)) {
+                run(target, () -> projectReadmeService.refresh(target.substring(README_PREFIX.length())));
+            }
+        }
+    }
+
+    private void run(String target, Runnable refresh) {
+        try {
+            refresh.run();
+        } catch (Exception e) {
+            // Biri başarısız olsa da diğerleri yenilensin; sıradaki yoklama (polling) telafi eder
+            log.warn("Webhook refresh of '{}' failed: {}", target, e.getMessage());
+        }
+    }
+
+    private void record(String event, String deliveryId, byte[] body) {
+        try {
+            Path directory = Path.of(recordDirectory);
+            Files.createDirectories(directory);
+            // <millis>.<event>.<delivery>.json, WebhookReplayRunner bu adı çözer
+            String name = System.currentTimeMillis() + "." + safe(event) + "." + safe(deliveryId) + ".json";
+            Files.write(directory.resolve(name), body);
+        } catch (IOException e) {
+            log.warn("Webhook payload could not be recorded: {}", e.getMessage());
+        }
+    }
+
+    private static String safe(String value) {
+        return value == null ? "none" : value.replaceAll("[^A-Za-z0-9_-]", "_");
+    }
+
+    static byte[] sign(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.HeartbeatService;
+import com.arslanca.dev.business.dto.requests.HeartbeatRequest;
+import com.arslanca.dev.business.dto.responses.HeartbeatResponse;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.dataAccess.HeartbeatRepository;
+import com.arslanca.dev.entities.Heartbeat;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeartbeatManager implements HeartbeatService {
+
+    // WakaTime'ın varsayılan "keystroke timeout" değeri: 15 dakikadan uzun boşluklar sayılmaz
+    private static final double HEARTBEAT_TIMEOUT_SECONDS = 15 * 60;
+    private static final double CODING_NOW_THRESHOLD_SECONDS = 600;
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final HeartbeatRepository heartbeatRepository;
+
+    @Value("${app.waka.collector.key:}")
+    private String collectorKey;
+
+    @Value("${app.waka.collector.zone:}")
+    private String zoneId;
+
+    // Veritabanı uzun süre kapalı kalırsa bellek sınırsız büyümesin; dolunca en eski heartbeat'ler atılır
+    @Value("${app.waka.collector.max-pending:50000}")
+    private int maxPending = 50_000;
+
+    // ConcurrentLinkedQueue.size() O(n); kuyruk boyu ayrıca sayılır
+    private final Queue<Heartbeat> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Guarded by "this"; readers only ever see the published snapshot.
+    private LocalDate currentDay;
+    private double totalSeconds;
+    private final Map<String, Double> projectSeconds = new HashMap<>();
+    private Heartbeat lastHeartbeat;
+
+    private volatile TodaySnapshot snapshot = new TodaySnapshot(null, null, 0, 0);
+
+    @Override
+    public boolean isAuthorized(String authorizationHeader, String apiKeyParam) {
+        if (collectorKey == null || collectorKey.isBlank()) {
+            return false;
+        }
+
+        String provided = apiKeyParam;
+        if (authorizationHeader != null) {
+            if (authorizationHeader.startsWith("Basic ")) {
+                try {
+                    String decoded = new String(Base64.getDecoder().decode(authorizationHeader.substring(6).trim()), StandardCharsets.UTF_8);
+                    int colon = decoded.indexOf(':');
+                    provided = colon > 0 ? decoded.substring(0, colon) : decoded;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            } else if (authorizationHeader.startsWith("Bearer ")) {
+                provided = authorizationHeader.substring(7).trim();
+            }
+        }
+
+        return provided != null && MessageDigest.isEqual(
+                provided.getBytes(StandardCharsets.UTF_8),
+                collectorKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public HeartbeatResponse record(HeartbeatRequest request, String userAgent) {
+        if (request.getTime() == null || request.getEntity() == null || request.getEntity().isBlank()) {
+            throw new BusinessException("Heartbeat için entity ve time zorunludur");
+        }
+        Heartbeat heartbeat = Heartbeat.builder()
+                .entity(request.getEntity())
+                .type(request.getType() != null ? request.getType() : "file")
+                .category(request.getCategory())
+                .project(request.getProject())
+                .branch(request.getBranch())
+                .language(request.getLanguage())
+                .isWrite(request.getIsWrite())
+                .editor(parseEditor(userAgent))
+                .time(request.getTime())
+                .build();
+
+        apply(heartbeat);
+        enqueue(heartbeat);
+
+        return new HeartbeatResponse(heartbeat.getEntity(), heartbeat.getType(), heartbeat.getTime());
+    }
+
+    @Override
+    public Optional<StatsResponse> getCurrentStatus() {
+        TodaySnapshot current = snapshot;
+        Heartbeat last = current.lastHeartbeat();
+        if (last == null || !LocalDate.now(zone()).equals(current.day())) {
+            return Optional.empty();
+        }
+
+        double nowSeconds = System.currentTimeMillis() / 1000.0;
+        boolean isActive = (nowSeconds - last.getTime()) < CODING_NOW_THRESHOLD_SECONDS;
+
+        return Optional.of(StatsResponse.builder()
+                .isCodingNow(isActive)
+                .ideName(last.getEditor())
+                .projectName(last.getProject())
+                .currentlyEditingFile(formatFileName(last.getEntity()))
+                .lastActiveTime(TIME_FORMAT.format(toInstant(last.getTime()).atZone(zone())))
+                .totalSpentOnCurrentProject(current.currentProjectSeconds() > 0
+                        ? formatDuration(current.currentProjectSeconds())
+                        : "Just started")
+                .totalSpentOnAllProjects(formatDuration(current.totalSeconds()))
+                .build());
+    }
+
+    @Override
+    public String getTodayTotalText() {
+        TodaySnapshot current = snapshot;
+        if (!LocalDate.now(zone()).equals(current.day())) {
+            return formatDuration(0);
+        }
+        return formatDuration(current.totalSeconds());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.waka.collector.flush-interval-ms:5000}")
+    public void flush() {
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            log.warn("Dropped {} oldest unsaved heartbeats; at most {} are kept while the database is unavailable", lost, maxPending);
+        }
+
+        List<Heartbeat> batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+        Heartbeat next;
+        while ((next = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(next);
+            if (batch.size() == FLUSH_BATCH_SIZE) {
+                if (!save(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            save(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreToday() {
+        double startOfDay = LocalDate.now(zone()).atStartOfDay(zone()).toEpochSecond();
+        try {
+            List<Heartbeat> today = heartbeatRepository.findByTimeGreaterThanEqualOrderByTimeAsc(startOfDay);
+            today.forEach(this::apply);
+            log.info("Restored {} heartbeats for today", today.size());
+        } catch (Exception e) {
+            log.error("Could not restore today's heartbeats", e);
+        }
+    }
+
+    private boolean save(List<Heartbeat> batch) {
+        try {
+            heartbeatRepository.saveAll(batch);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Kısıtı ihlal eden satır geri konursa her flush'ta yine patlar ve kuyruğu tıkar: satırlar tek tek denenir
+            log.warn("Heartbeat batch violates a constraint, saving its rows one by one: {}", e.getMessage());
+            return saveEach(batch);
+        } catch (Exception e) {
+            log.error("Heartbeat batch could not be persisted, will retry on next flush", e);
+            batch.forEach(this::enqueue);
+            return false;
+        }
+    }
+
+    private boolean saveEach(List<Heartbeat> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            Heartbeat heartbeat = batch.get(i);
+            try {
+                heartbeatRepository.save(heartbeat);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Dropped heartbeat for {} that cannot be stored: {}", heartbeat.getEntity(), e.getMessage());
+            } catch (Exception e) {
+                log.error("Heartbeat batch could not be persisted, will retry on next flush", e);
+                batch.subList(i, batch.size()).forEach(this::enqueue);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void enqueue(Heartbeat heartbeat) {
+        pending.add(heartbeat);
+        if (pendingCount.incrementAndGet() > maxPending && pending.poll() != null) {
+            pendingCount.decrementAndGet();
+            dropped.incrementAndGet();
+        }
+    }
+
+    private synchronized void apply(Heartbeat heartbeat) {
+        LocalDate day = toInstant(heartbeat.getTime()).atZone(zone()).toLocalDate();
+
+        if (currentDay == null || day.isAfter(currentDay)) {
+            currentDay = day;
+            totalSeconds = 0;
+            projectSeconds.clear();
+            lastHeartbeat = null;
+        } else if (day.isBefore(currentDay)) {
+            // Offline queue of an earlier day: persisted, but today's totals are unaffected.
+            return;
+        }
+
+        if (lastHeartbeat != null) {
+            double delta = heartbeat.getTime() - lastHeartbeat.getTime();
+            if (delta < 0) {
+                return;
+            }
+            if (delta <= HEARTBEAT_TIMEOUT_SECONDS) {
+                totalSeconds += delta;
+                projectSeconds.merge(projectKey(lastHeartbeat), delta, Double::sum);
+            }
+        }
+
+        lastHeartbeat = heartbeat;
+        snapshot = new TodaySnapshot(currentDay, heartbeat, totalSeconds,
+                projectSeconds.getOrDefault(projectKey(heartbeat), 0.0));
+    }
+
+    private ZoneId zone() {
+        return (zoneId == null || zoneId.isBlank()) ? ZoneId.systemDefault() : ZoneId.of(zoneId);
+    }
+
+    private static Instant toInstant(Double epochSeconds) {
+        return Instant.ofEpochMilli((long) (epochSeconds * 1000));
+    }
+
+    private static String projectKey(Heartbeat heartbeat) {
+        return heartbeat.getProject() != null ? heartbeat.getProject() : "Unknown";
+    }
+
+    // "wakatime/v1.73.0 (linux-x86_64) go1.21.1 vscode/1.85.1 vscode-wakatime/24.4.0" -> "VS Code"
+    static String parseEditor(String userAgent) {
+        if (userAgent == null || userAgent.isBlank()) {
+            return "Unknown";
+        }
+        String[] parts = userAgent.trim().split("\\s+");
+        String token = parts.length >= 2 ? parts[parts.length - 2] : parts[0];
+        String name = token.contains("/") ? token.substring(0, token.indexOf('/')) : token;
+
+        return switch (name.toLowerCase()) {
+            case "vscode" -> "VS Code";
+            case "idea", "intellij", "intellijidea" -> "IntelliJ IDEA";
+            case "neovim", "nvim" -> "Neovim";
+            case "vim" -> "Vim";
+            case "sublime_text", "sublime" -> "Sublime Text";
+            default -> name;
+        };
+    }
+
+    static String formatDuration(double seconds) {
+        long totalMinutes = (long) (seconds / 60);
+        long hours = totalMinutes / 60;
+        long minutes = totalMinutes % 60;
+        if (hours == 0) {
+            return minutes + (minutes == 1 ? " min" : " mins");
+        }
+        return hours + (hours == 1 ? " hr " : " hrs ") + minutes + (minutes == 1 ? " min" : " mins");
+    }
+
+    private String formatFileName(String fullPath) {
+        if (fullPath == null) return "Unknown";
+        int lastSlash = fullPath.lastIndexOf("/");
+        if (lastSlash == -1) lastSlash = fullPath.lastIndexOf("\\");
+        return lastSlash != -1 ? fullPath.substring(lastSlash + 1) : fullPath;
+    }
+
+    private record TodaySnapshot(LocalDate day, Heartbeat lastHeartbeat, double totalSeconds, double currentProjectSeconds) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.models.ConditionalResponse;
+import com.arslanca.dev.business.abstracts.LanguageStatsService;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.business.dto.responses.LanguageShareResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a per-repository cache of GitHub's language byte counts and a precomputed language-share
+ * table built from it. Only the background job talks to GitHub; readers get the last table.
+ */
+@Slf4j
+@Service
+public class LanguageStatsManager implements LanguageStatsService {
+
+    private final GithubAdapter githubAdapter;
+    private final ExecutorService fanOutExecutor;
+
+    private final Map<String, RepoLanguages> cache = new ConcurrentHashMap<>();
+    private volatile List<LanguageShareResponse> languageShares = List.of();
+
+    public LanguageStatsManager(GithubAdapter githubAdapter,
+                                @Value("${app.github.languages.concurrency:4}") int concurrency) {
+        this.githubAdapter = githubAdapter;
+        this.fanOutExecutor = Executors.newFixedThreadPool(concurrency);
+    }
+
+    @Override
+    public List<LanguageShareResponse> getLanguageShares() {
+        return languageShares;
+    }
+
+    @Override
+    public void refresh() {
+        List<GithubRepoResponse> repos;
+        try {
+            repos = githubAdapter.getRepos();
+        } catch (Exception e) {
+            log.warn("Language stats skipped, repositories unavailable: {}", e.getMessage());
+            return;
+        }
+
+        Set<String> names = repos.stream().map(GithubRepoResponse::getName).collect(Collectors.toSet());
+        cache.keySet().retainAll(names);
+
+        // pushed_at değişmeyen depo için istek atma
+        List<CompletableFuture<Void>> tasks = repos.stream()
+                .filter(repo -> {
+                    RepoLanguages cached = cache.get(repo.getName());
+                    return cached == null || !Objects.equals(cached.pushedAt(), repo.getPushedAt());
+                })
+                .map(repo -> CompletableFuture.runAsync(() -> fetch(repo), fanOutExecutor))
+                .toList();
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+
+        languageShares = aggregate(cache.values());
+        log.info("Language stats refreshed: {} repos fetched, {} languages", tasks.size(), languageShares.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    private void fetch(GithubRepoResponse repo) {
+        RepoLanguages cached = cache.get(repo.getName());
+        try {
+            ConditionalResponse<Map<String, Long>> response =
+                    githubAdapter.getRepoLanguages(repo.getName(), cached != null ? cached.etag() : null);
+
+            if (response.notModified() && cached != null) {
+                cache.put(repo.getName(), new RepoLanguages(repo.getPushedAt(), cached.etag(), cached.bytes()));
+            } else if (!response.notModified()) {
+                cache.put(repo.getName(), new RepoLanguages(repo.getPushedAt(), response.etag(), Map.copyOf(response.body())));
+            }
+        } catch (Exception e) {
+            // Bir deponun hatası diğerlerini etkilemesin; eski değer (varsa) eski pushed_at ile kalır, sonraki turda yeniden denenir
+            log.warn("Languages for {} could not be fetched: {}", repo.getName(), e.getMessage());
+        }
+    }
+
+    static List<LanguageShareResponse> aggregate(Iterable<RepoLanguages> repositories) {
+        Map<String, Long> bytesByLanguage = new HashMap<>();
+        Map<String, Integer> repoCountByLanguage = new HashMap<>();
+        long total = 0;
+
+        for (RepoLanguages repo : repositories) {
+            for (Map.Entry<String, Long> entry : repo.bytes().entrySet()) {
+                bytesByLanguage.merge(entry.getKey(), entry.getValue(), Long::sum);
+                repoCountByLanguage.merge(entry.getKey(), 1, Integer::sum);
+                total += entry.getValue();
+            }
+        }
+
+        List<LanguageShareResponse> result = new ArrayList<>(bytesByLanguage.size());
+        for (Map.Entry<String, Long> entry : bytesByLanguage.entrySet()) {
+            double percentage = total == 0 ? 0 : Math.round(entry.getValue() * 10000.0 / total) / 100.0;
+            result.add(new LanguageShareResponse(entry.getKey(), entry.getValue(), percentage,
+                    repoCountByLanguage.get(entry.getKey())));
+        }
+        result.sort(Comparator.comparingLong(LanguageShareResponse::bytes).reversed());
+        return List.copyOf(result);
+    }
+
+    record RepoLanguages(String pushedAt, String etag, Map<String, Long> bytes) {
+    }
+}
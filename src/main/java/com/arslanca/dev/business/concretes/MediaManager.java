@@ -0,0 +1,235 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.MediaService;
+import com.arslanca.dev.business.dto.responses.MediaResponse;
+import com.arslanca.dev.business.dto.responses.MediaVariantResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.core.utilities.media.ImageResizer;
+import com.arslanca.dev.core.utilities.media.MediaStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stores uploaded images under the SHA-256 of their bytes. Uploading the same file twice writes
+ * nothing the second time, and because a name always means the same bytes, it can be cached forever.
+ * Narrower variants are rendered once at upload time; their names derive from the original's hash,
+ * so they can be listed without keeping any metadata.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaManager implements MediaService {
+
+    static final int[] VARIANT_WIDTHS = {320, 640, 1280};
+    // Başlıktan okunur, piksel çözülmeden önce: küçük bir dosya devasa bir tuvale açılamaz
+    static final long MAX_PIXELS = 40_000_000L;
+
+    private static final Pattern NAME = Pattern.compile("[0-9a-f]{64}(?:-\\d{1,5}w)?\\.(png|jpg|gif)");
+
+    private final MediaStorage mediaStorage;
+
+    @Value("${app.media.max-bytes:10485760}")
+    private long maxBytes;
+
+    private enum Format {
+        PNG("png", "image/png", "png"),
+        JPEG("jpg", "image/jpeg", "jpeg"),
+        // Varyantlar PNG olarak üretilir: ImageIO GIF'i yalnızca ilk kareyle yeniden yazabilir
+        GIF("gif", "image/gif", "png");
+
+        final String extension;
+        final String contentType;
+        final String variantFormat;
+
+        Format(String extension, String contentType, String variantFormat) {
+            this.extension = extension;
+            this.contentType = contentType;
+            this.variantFormat = variantFormat;
+        }
+
+        String variantExtension() {
+            return variantFormat.equals("jpeg") ? "jpg" : variantFormat;
+        }
+
+        static Optional<Format> ofReader(String formatName) {
+            return switch (formatName.toLowerCase(Locale.ROOT)) {
+                case "png" -> Optional.of(PNG);
+                case "jpeg", "jpg" -> Optional.of(JPEG);
+                case "gif" -> Optional.of(GIF);
+                default -> Optional.empty();
+            };
+        }
+
+        static Format ofExtension(String extension) {
+            return switch (extension) {
+                case "png" -> PNG;
+                case "jpg" -> JPEG;
+                default -> GIF;
+            };
+        }
+    }
+
+    @Override
+    public MediaResponse upload(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new BusinessException("Dosya boş");
+        }
+        if (file.getSize() > maxBytes) {
+            throw new BusinessException("Dosya en fazla " + (maxBytes >> 20) + " MB olabilir");
+        }
+
+        Path upload = null;
+        try {
+            upload = Files.createTempFile("media-", ".upload");
+            String hash = copyAndHash(file, upload);
+
+            try (ImageInputStream input = ImageIO.createImageInputStream(upload.toFile())) {
+                ImageReader reader = readerOf(input);
+                try {
+                    reader.setInput(input, true, true);
+                    Format format = Format.ofReader(reader.getFormatName())
+                            .orElseThrow(() -> new BusinessException("Yalnızca PNG, JPEG ve GIF yüklenebilir"));
+                    int width = reader.getWidth(0);
+                    int height = reader.getHeight(0);
+                    if ((long) width * height > MAX_PIXELS) {
+                        throw new BusinessException("Görsel en fazla " + MAX_PIXELS / 1_000_000 + " megapiksel olabilir");
+                    }
+
+                    String key = hash + "." + format.extension;
+                    List<Integer> widths = variantWidths(width);
+                    boolean deduplicated = mediaStorage.exists(key);
+                    if (!deduplicated) {
+                        writeVariants(read(reader), hash, format, widths);
+                        // Orijinal en son yazılır: orijinal varsa varyantları da vardır
+                        mediaStorage.put(key, upload);
+                        log.info("Stored media {} ({}x{}, {} variants)", key, width, height, widths.size());
+                    }
+
+                    List<MediaVariantResponse> variants = widths.stream()
+                            .map(variantWidth -> new MediaVariantResponse(variantWidth,
+                                    urlOf(variantKey(hash, variantWidth, format))))
+                            .toList();
+                    return new MediaResponse(hash, urlOf(key), format.contentType, width, height, file.getSize(),
+                            variants, deduplicated);
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    @Override
+    public Optional<MediaFile> get(String name) {
+        Matcher matcher = NAME.matcher(name);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String contentType = Format.ofExtension(matcher.group(1)).contentType;
+        return mediaStorage.get(name).map(resource -> new MediaFile(name, contentType, resource));
+    }
+
+    // Orijinalden geniş varyant üretilmez; orijinal zaten en büyüğüdür
+    static List<Integer> variantWidths(int width) {
+        List<Integer> widths = new ArrayList<>();
+        for (int variantWidth : VARIANT_WIDTHS) {
+            if (variantWidth < width) {
+                widths.add(variantWidth);
+            }
+        }
+        return widths;
+    }
+
+    private void writeVariants(BufferedImage image, String hash, Format format, List<Integer> widths) throws IOException {
+        for (int width : widths) {
+            BufferedImage variant = ImageResizer.resize(image, width, format == Format.JPEG);
+            Path path = Files.createTempFile("media-", "." + format.variantExtension());
+            try {
+                if (!ImageIO.write(variant, format.variantFormat, path.toFile())) {
+                    throw new IOException("No ImageIO writer for " + format.variantFormat);
+                }
+                mediaStorage.put(variantKey(hash, width, format), path);
+            } finally {
+                deleteQuietly(path);
+            }
+        }
+    }
+
+    private static String copyAndHash(MultipartFile file, Path target) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = file.getInputStream();
+             OutputStream out = new DigestOutputStream(Files.newOutputStream(target), digest)) {
+            in.transferTo(out);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static ImageReader readerOf(ImageInputStream input) {
+        Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+        if (readers == null || !readers.hasNext()) {
+            throw new BusinessException("Dosya tanınan bir görsel biçiminde değil");
+        }
+        return readers.next();
+    }
+
+    private static BufferedImage read(ImageReader reader) throws IOException {
+        try {
+            return reader.read(0);
+        } catch (IIOException e) {
+            throw new BusinessException("Görsel okunamadı: " + e.getMessage());
+        }
+    }
+
+    private static String variantKey(String hash, int width, Format format) {
+        return hash + "-" + width + "w." + format.variantExtension();
+    }
+
+    private static String urlOf(String key) {
+        return "/api/media/" + key;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Temporary media file {} could not be deleted", path, e);
+        }
+    }
+}
@@ -1,31 +1,77 @@
 package com.arslanca.dev.business.concretes;
 
+import com.arslanca.dev.adapters.GithubAdapter;
 import com.arslanca.dev.business.abstracts.PinnedProjectService;
 import com.arslanca.dev.business.dto.requests.CreatePinnedProjectRequest;
 import com.arslanca.dev.business.dto.requests.UpdatePinnedProjectRequest;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
 import com.arslanca.dev.business.dto.responses.PinnedProjectResponse;
 import com.arslanca.dev.business.mappers.PinnedProjectMapper;
 import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
 import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
 import com.arslanca.dev.dataAccess.PinnedProjectRepository;
 import com.arslanca.dev.entities.PinnedProject;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Pinned projects joined with live GitHub metadata. The joined list is precomputed, so a read is one
+ * volatile load; once it is older than the refresh-ahead threshold the next read triggers a background
+ * rebuild and keeps serving the current list meanwhile.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PinnedProjectManager implements PinnedProjectService {
 
+    private static final Pattern GITHUB_REPO_URL =
+            Pattern.compile("^https?://(?:www\\.)?github\\.com/([^/\\s]+)/([^/\\s#?]+?)(?:\\.git)?(?:[/#?].*)?$");
+
     private final PinnedProjectRepository repository;
     private final PinnedProjectMapper mapper;
+    private final GithubAdapter githubAdapter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.github.pinned.refresh-ahead-ms:480000}")
+    private long refreshAheadMillis;
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+    // Son başarılı toplu sorgunun sonucu; DB değişikliklerinde yeniden kullanılır
+    private volatile Map<String, GithubRepoResponse> metadata = Map.of();
 
     @Override
     public List<PinnedProjectResponse> getAll() {
-        return repository.findAll().stream()
-                .map(mapper::toResponse)
-                .toList();
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild(true);
+                }
+                current = snapshot;
+            }
+        } else if (System.currentTimeMillis() - current.builtAt() > refreshAheadMillis) {
+            refreshAsync();
+        }
+        return current.responses();
     }
 
     @Override
@@ -35,6 +81,7 @@ public class PinnedProjectManager implements PinnedProjectService {
         }
         PinnedProject project = mapper.toEntity(request);
         repository.save(project);
+        onProjectsChanged();
     }
 
     @Override
@@ -49,6 +96,7 @@ public class PinnedProjectManager implements PinnedProjectService {
 
         mapper.updateEntityFromRequest(request, project);
         repository.save(project);
+        onProjectsChanged();
     }
 
     @Override
@@ -57,5 +105,91 @@ public class PinnedProjectManager implements PinnedProjectService {
             throw new NotFoundException("Silinecek proje bulunamadı (ID: " + id + ")");
         }
         repository.deleteById(id);
+        onProjectsChanged();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // Toplu içe aktarma satır satır add() çağırmaz; liste commit sonrası bir kez yeniden kurulur
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImported(ContentTransferManager.Imported imported) {
+        if (imported.content() != ContentTransferManager.Content.PINNED_PROJECTS) {
+            return;
+        }
+        synchronized (this) {
+            rebuild(false);
+        }
+        refreshAsync();
+    }
+
+    private void onProjectsChanged() {
+        eventPublisher.publishEvent(new FeedManager.ContentChanged());
+        // DB değişikliği hemen görünsün (önbellekteki GitHub bilgisiyle); yeni URL'ler arka planda çekilir
+        synchronized (this) {
+            rebuild(false);
+        }
+        refreshAsync();
+    }
+
+    private void refreshAsync() {
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                synchronized (this) {
+                    rebuild(true);
+                }
+            } finally {
+                refreshInFlight.set(false);
+            }
+        });
+    }
+
+    private void rebuild(boolean fetchMetadata) {
+        List<PinnedProject> projects = repository.findAll();
+
+        if (fetchMetadata) {
+            List<String> fullNames = projects.stream()
+                    .map(project -> fullNameOf(project.getGithubUrl()))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            try {
+                // Tüm sabitlenmiş depolar tek GraphQL isteğinde (alias'larla)
+                metadata = Map.copyOf(githubAdapter.getRepositories(fullNames));
+            } catch (Exception e) {
+                log.warn("Pinned project metadata unavailable, keeping previous values: {}", e.getMessage());
+            }
+        }
+
+        Map<String, GithubRepoResponse> current = metadata;
+        List<PinnedProjectResponse> responses = new ArrayList<>(projects.size());
+        for (PinnedProject project : projects) {
+            PinnedProjectResponse response = mapper.toResponse(project);
+            String fullName = fullNameOf(project.getGithubUrl());
+            GithubRepoResponse repo = fullName != null ? current.get(fullName.toLowerCase(Locale.ROOT)) : null;
+            if (repo != null) {
+                response.setStars(repo.getStars());
+                response.setPrimaryLanguage(repo.getLanguage());
+                response.setPushedAt(repo.getPushedAt());
+            }
+            responses.add(response);
+        }
+        snapshot = new Snapshot(List.copyOf(responses), System.currentTimeMillis());
+    }
+
+    static String fullNameOf(String githubUrl) {
+        if (githubUrl == null) {
+            return null;
+        }
+        Matcher matcher = GITHUB_REPO_URL.matcher(githubUrl.trim());
+        return matcher.matches() ? matcher.group(1) + "/" + matcher.group(2) : null;
+    }
+
+    private record Snapshot(List<PinnedProjectResponse> responses, long builtAt) {
     }
 }
@@ -3,31 +3,53 @@ package com.arslanca.dev.business.concretes;
 import com.arslanca.dev.adapters.GithubAdapter;
 import com.arslanca.dev.business.abstracts.ProjectService;
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.business.dto.responses.PageResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectManager implements ProjectService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final GithubAdapter githubAdapter;
 
+    private volatile RepoCatalog catalog;
 
     @Override
-    public List<GithubRepoResponse> getProjects(int pageNo, int pageSize) {
-        List<GithubRepoResponse> allRepos = githubAdapter.getRepos();
+    public PageResponse<GithubRepoResponse> getProjects(int pageNo, int pageSize, String language, String sort) {
+        if (pageNo < 1) pageNo = 1;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BusinessException("Sayfa boyutu 1 ile " + MAX_PAGE_SIZE + " arasında olmalıdır");
+        }
 
-        PageRequest pageRequest = PageRequest.of(pageNo - 1, pageSize);
-        int start = (int) pageRequest.getOffset();
-        int end = Math.min((start + pageRequest.getPageSize()), allRepos.size());
+        return currentCatalog().page(language, parseSort(sort), pageNo - 1, pageSize);
+    }
 
-        if (start >= allRepos.size()) {
-            return List.of();
+    // Snapshot her yenilendiğinde yeni bir liste gelir; katalog yalnızca o zaman yeniden kurulur
+    private RepoCatalog currentCatalog() {
+        List<GithubRepoResponse> repos = githubAdapter.getRepos();
+        RepoCatalog current = catalog;
+        if (current == null || !current.isBuiltFrom(repos)) {
+            current = RepoCatalog.build(repos);
+            catalog = current;
         }
+        return current;
+    }
 
-        return allRepos.subList(start, end);
+    private static RepoCatalog.Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return RepoCatalog.Sort.UPDATED;
+        }
+        try {
+            return RepoCatalog.Sort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Geçersiz sıralama: " + sort + " (updated, stars, name)");
+        }
     }
 }
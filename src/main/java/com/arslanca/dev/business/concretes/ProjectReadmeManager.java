@@ -0,0 +1,176 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.models.ConditionalResponse;
+import com.arslanca.dev.adapters.models.GithubReadme;
+import com.arslanca.dev.business.abstracts.ProjectReadmeService;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.core.utilities.http.CachedAsset;
+import com.arslanca.dev.core.utilities.markdown.MarkdownRenderer;
+import com.arslanca.dev.dataAccess.ProjectReadmeRepository;
+import com.arslanca.dev.entities.ProjectReadme;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Fetches each repository's README in the background and stores it already rendered. A README is
+ * downloaded only when GitHub's ETag changes and rendered only when its blob SHA changes; requests
+ * are served from the stored HTML.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectReadmeManager implements ProjectReadmeService {
+
+    private static final String CONTENT_TYPE = "text/html;charset=UTF-8";
+    // İsim istekten gelir: uydurma isimlerle harita büyümesin diye "README yok" sonuçları bu sayıyla sınırlı
+    static final int MAX_CACHED_MISSES = 1_000;
+
+    private final GithubAdapter githubAdapter;
+    private final ProjectReadmeRepository projectReadmeRepository;
+    private final MarkdownRenderer markdownRenderer;
+
+    @Value("${app.github.nickname}")
+    private String githubUsername;
+
+    // Boş Optional: README yok; her istekte veritabanına gidilmez, senkronizasyonda güncellenir
+    private final Map<String, Optional<CachedAsset>> assets = new ConcurrentHashMap<>();
+    private final AtomicInteger cachedMisses = new AtomicInteger();
+
+    @Override
+    public CachedAsset getReadme(String repoName) {
+        Optional<CachedAsset> asset = assets.get(repoName);
+        if (asset == null) {
+            asset = projectReadmeRepository.findByRepoName(repoName).map(ProjectReadmeManager::toAsset);
+            if (asset.isPresent() || cachedMisses.get() < MAX_CACHED_MISSES) {
+                cache(repoName, asset);
+            }
+        }
+        return asset.orElseThrow(() -> new NotFoundException("README bulunamadı: " + repoName));
+    }
+
+    @Override
+    public synchronized void refresh() {
+        List<GithubRepoResponse> repos;
+        try {
+            repos = githubAdapter.getRepos();
+        } catch (Exception e) {
+            log.warn("README refresh skipped, repositories unavailable: {}", e.getMessage());
+            return;
+        }
+
+        int rendered = 0;
+        for (GithubRepoResponse repo : repos) {
+            try {
+                if (refreshOne(repo.getName())) {
+                    rendered++;
+                }
+            } catch (Exception e) {
+                // Bir deponun hatası diğerlerini etkilemesin; kayıtlı HTML yayında kalır
+                log.warn("README for {} could not be refreshed: {}", repo.getName(), e.getMessage());
+            }
+        }
+
+        Set<String> listed = repos.stream().map(GithubRepoResponse::getName).collect(Collectors.toSet());
+        for (String stored : projectReadmeRepository.findAllRepoNames()) {
+            if (!listed.contains(stored)) {
+                remove(stored);
+            }
+        }
+        log.info("README refresh finished: {} repos checked, {} re-rendered", repos.size(), rendered);
+    }
+
+    @Override
+    public synchronized void refresh(String repoName) {
+        try {
+            refreshOne(repoName);
+        } catch (Exception e) {
+            log.warn("README for {} could not be refreshed: {}", repoName, e.getMessage());
+        }
+    }
+
+    /**
+     * @return {@code true} if the README was rendered again
+     */
+    boolean refreshOne(String repoName) {
+        ProjectReadme existing = projectReadmeRepository.findByRepoName(repoName).orElse(null);
+        ConditionalResponse<GithubReadme> response =
+                githubAdapter.getReadme(repoName, existing != null ? existing.getEtag() : null);
+
+        if (response.notModified()) {
+            return false;
+        }
+
+        GithubReadme readme = response.body();
+        if (readme == null) {
+            if (existing != null) {
+                remove(repoName);
+            }
+            return false;
+        }
+
+        if (existing != null && existing.getSha().equals(readme.sha())) {
+            // İçerik aynı, yalnızca ETag değişmiş (ör. depo meta verisi)
+            existing.setEtag(response.etag());
+            projectReadmeRepository.save(existing);
+            return false;
+        }
+
+        String directory = directoryOf(readme.path());
+        String html = markdownRenderer.render(readme.decodedContent(),
+                "https://github.com/" + githubUsername + "/" + repoName + "/blob/HEAD/" + directory,
+                "https://raw.githubusercontent.com/" + githubUsername + "/" + repoName + "/HEAD/" + directory);
+
+        ProjectReadme entity = existing != null ? existing : new ProjectReadme();
+        entity.setRepoName(repoName);
+        entity.setSha(readme.sha());
+        entity.setEtag(response.etag());
+        entity.setHtml(html);
+        entity.setRenderedAt(Instant.now());
+        projectReadmeRepository.save(entity);
+
+        cache(repoName, Optional.of(toAsset(entity)));
+        return true;
+    }
+
+    private void remove(String repoName) {
+        projectReadmeRepository.findByRepoName(repoName).ifPresent(projectReadmeRepository::delete);
+        cache(repoName, Optional.empty());
+    }
+
+    private void cache(String repoName, Optional<CachedAsset> asset) {
+        Optional<CachedAsset> previous = assets.put(repoName, asset);
+        boolean wasMiss = previous != null && previous.isEmpty();
+        if (asset.isEmpty() && !wasMiss) {
+            cachedMisses.incrementAndGet();
+        } else if (asset.isPresent() && wasMiss) {
+            cachedMisses.decrementAndGet();
+        }
+    }
+
+    private static String directoryOf(String path) {
+        if (path == null) {
+            return "";
+        }
+        int slash = path.lastIndexOf('/');
+        return slash < 0 ? "" : path.substring(0, slash + 1);
+    }
+
+    private static CachedAsset toAsset(ProjectReadme readme) {
+        return CachedAsset.of(readme.getHtml().getBytes(StandardCharsets.UTF_8), CONTENT_TYPE,
+                readme.getRenderedAt() != null ? readme.getRenderedAt() : Instant.EPOCH);
+    }
+}
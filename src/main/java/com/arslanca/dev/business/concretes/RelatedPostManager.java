@@ -0,0 +1,222 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.RelatedPostService;
+import com.arslanca.dev.business.dto.responses.RelatedBlogResponse;
+import com.arslanca.dev.business.dto.transfer.BlogPostRow;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.core.utilities.similarity.TfIdfIndex;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.entities.BlogPost;
+import com.arslanca.dev.entities.enums.BlogStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * "Related posts" served from precomputed top-K lists. The TF-IDF index is only touched on a single
+ * background thread: writes enqueue the changed post, and only the neighbour lists it affects are
+ * republished. Readers never see the index itself, just immutable lists, so a lookup is O(K).
+ * The index is rebuilt from the database on startup, after an import, and once enough edits have
+ * accumulated that document frequencies may have drifted.
+ */
+@Slf4j
+@Service
+public class RelatedPostManager implements RelatedPostService {
+
+    static final int MAX_RELATED = 5;
+    private static final int MIN_CHANGES_BEFORE_REBUILD = 50;
+    private static final int MIN_TOKEN_LENGTH = 3;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "are", "but", "not", "you", "all", "can", "was", "one", "our", "out", "has", "have",
+            "with", "this", "that", "from", "they", "will", "would", "there", "their", "what", "about", "which",
+            "when", "your", "into", "than", "then", "them", "these", "some", "also", "its", "how", "use", "using",
+            "bir", "bu", "şu", "ve", "ile", "için", "gibi", "daha", "çok", "olan", "olarak", "ama", "veya", "her",
+            "ise", "kadar", "sonra", "önce", "değil", "var", "yok", "ben", "sen", "biz", "siz", "onlar", "nasıl",
+            "neden", "diye", "şey", "bunu", "buna", "olduğu", "ancak", "üzere");
+
+    private final BlogRepository blogRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("related-index").factory());
+
+    // Yalnızca indexer iş parçacığı dokunur
+    private TfIdfIndex index = new TfIdfIndex(MAX_RELATED);
+    private int changesSinceBuild;
+
+    // Okuyucuların gördüğü kopya: liste başına değişmez dizi; yeniden kurulunca tümden değiştirilir
+    private volatile Map<Integer, Neighbours> related = new ConcurrentHashMap<>();
+    private volatile Map<Integer, Card> cards = new ConcurrentHashMap<>();
+
+    public RelatedPostManager(BlogRepository blogRepository, PlatformTransactionManager transactionManager) {
+        this.blogRepository = blogRepository;
+        this.transactionManager = transactionManager;
+    }
+
+    // Commit sonrası işlenir; title null ise yazı artık yayında değildir
+    public record PostChanged(int id, String title, String category, String content) {
+
+        static PostChanged of(int id, BlogPost after) {
+            return after != null && after.getStatus() == BlogStatus.PUBLISHED
+                    ? new PostChanged(id, after.getTitle(), after.getCategory(), after.getContent())
+                    : new PostChanged(id, null, null, null);
+        }
+    }
+
+    private record Neighbours(int[] ids, float[] scores) {
+    }
+
+    private record Card(String title, String category) {
+    }
+
+    @Override
+    public List<RelatedBlogResponse> getRelated(int id, int limit) {
+        if (limit < 1 || limit > MAX_RELATED) {
+            throw new BusinessException("limit 1 ile " + MAX_RELATED + " arasında olmalıdır");
+        }
+        Neighbours neighbours = related.get(id);
+        if (neighbours == null) {
+            return List.of();
+        }
+        Map<Integer, Card> currentCards = cards;
+        List<RelatedBlogResponse> responses = new ArrayList<>(Math.min(limit, neighbours.ids().length));
+        for (int i = 0; i < neighbours.ids().length && responses.size() < limit; i++) {
+            Card card = currentCards.get(neighbours.ids()[i]);
+            if (card != null) {
+                responses.add(new RelatedBlogResponse(neighbours.ids()[i], card.title(), card.category(), neighbours.scores()[i]));
+            }
+        }
+        return responses;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        indexer.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChanged change) {
+        indexer.execute(() -> apply(change));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImported(ContentTransferManager.Imported imported) {
+        if (imported.content() == ContentTransferManager.Content.BLOG_POSTS) {
+            indexer.execute(this::rebuild);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    void apply(PostChanged change) {
+        try {
+            Set<Integer> changed;
+            if (change.title() == null) {
+                changed = index.remove(change.id());
+                cards.remove(change.id());
+            } else {
+                cards.put(change.id(), new Card(change.title(), change.category()));
+                changed = index.put(change.id(), tokensOf(change.title(), change.category(), change.content()));
+            }
+            publish(changed);
+
+            // Ağırlıklar eklendikleri andaki doküman frekanslarıyla hesaplandı; yeterince değişiklikten sonra yeniden hesaplanır
+            if (++changesSinceBuild > Math.max(MIN_CHANGES_BEFORE_REBUILD, index.size() / 10)) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Related posts could not be updated for post {}", change.id(), e);
+        }
+    }
+
+    void rebuild() {
+        try {
+            TfIdfIndex.Builder builder = TfIdfIndex.builder(MAX_RELATED);
+            Map<Integer, Card> freshCards = new ConcurrentHashMap<>();
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<BlogPostRow> rows = blogRepository.streamExportRows()) {
+                    rows.filter(row -> row.status() == BlogStatus.PUBLISHED).forEach(row -> {
+                        builder.add(row.id(), tokensOf(row.title(), row.category(), row.content()));
+                        freshCards.put(row.id(), new Card(row.title(), row.category()));
+                    });
+                }
+            });
+
+            TfIdfIndex built = builder.build();
+            Map<Integer, Neighbours> freshRelated = new ConcurrentHashMap<>();
+            for (Integer id : freshCards.keySet()) {
+                freshRelated.put(id, new Neighbours(built.neighbours(id), built.neighbourScores(id)));
+            }
+            index = built;
+            changesSinceBuild = 0;
+            cards = freshCards;
+            related = freshRelated;
+            log.info("Built related posts for {} blog posts", built.size());
+        } catch (Exception e) {
+            log.error("Related posts index could not be built", e);
+        }
+    }
+
+    private void publish(Set<Integer> changed) {
+        for (int id : changed) {
+            if (index.contains(id)) {
+                // Index listeleri yerinde değiştirmez, yenisini atar; yayınlanan diziler sabit kalır
+                related.put(id, new Neighbours(index.neighbours(id), index.neighbourScores(id)));
+            } else {
+                related.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Lower-cased words of at least three letters, without common English and Turkish function words.
+     * The title is counted twice: it says more about the topic than any single paragraph.
+     */
+    static List<String> tokensOf(String title, String category, String content) {
+        List<String> tokens = new ArrayList<>();
+        addTokens(tokens, title);
+        addTokens(tokens, title);
+        addTokens(tokens, category);
+        addTokens(tokens, content);
+        return tokens;
+    }
+
+    private static void addTokens(List<String> tokens, String text) {
+        if (text == null) {
+            return;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{M}\\p{N}]+")) {
+            if (token.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token) && !isNumber(token)) {
+                tokens.add(token);
+            }
+        }
+    }
+
+    private static boolean isNumber(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,88 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.business.dto.responses.PageResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable view of the repository list with every sort order and every language filter precomputed.
+ * Built once per snapshot; a page query is two map lookups and a {@code subList}.
+ */
+final class RepoCatalog {
+
+    enum Sort {
+        UPDATED(Comparator.comparing(GithubRepoResponse::getPushedAt, Comparator.nullsLast(Comparator.reverseOrder()))),
+        STARS(Comparator.comparingInt(GithubRepoResponse::getStars).reversed()),
+        NAME(Comparator.comparing(GithubRepoResponse::getName, String.CASE_INSENSITIVE_ORDER));
+
+        private final Comparator<GithubRepoResponse> comparator;
+
+        Sort(Comparator<GithubRepoResponse> comparator) {
+            // Eşitlikte isim sırası, sonuç her yeniden kurulumda aynı kalsın
+            this.comparator = comparator.thenComparing(GithubRepoResponse::getName, String.CASE_INSENSITIVE_ORDER);
+        }
+    }
+
+    private static final String ALL = "";
+
+    private final List<GithubRepoResponse> source;
+    // dil (küçük harf, "" = hepsi) -> sıralama -> sıralı liste
+    private final Map<String, Map<Sort, List<GithubRepoResponse>>> index;
+
+    private RepoCatalog(List<GithubRepoResponse> source, Map<String, Map<Sort, List<GithubRepoResponse>>> index) {
+        this.source = source;
+        this.index = index;
+    }
+
+    static RepoCatalog build(List<GithubRepoResponse> repositories) {
+        Map<String, List<GithubRepoResponse>> byLanguage = new HashMap<>();
+        byLanguage.put(ALL, repositories);
+        for (GithubRepoResponse repo : repositories) {
+            if (repo.getLanguage() != null) {
+                byLanguage.computeIfAbsent(languageKey(repo.getLanguage()), key -> new ArrayList<>()).add(repo);
+            }
+        }
+
+        Map<String, Map<Sort, List<GithubRepoResponse>>> index = new HashMap<>();
+        for (Map.Entry<String, List<GithubRepoResponse>> entry : byLanguage.entrySet()) {
+            Map<Sort, List<GithubRepoResponse>> orders = new EnumMap<>(Sort.class);
+            for (Sort sort : Sort.values()) {
+                List<GithubRepoResponse> sorted = new ArrayList<>(entry.getValue());
+                sorted.sort(sort.comparator);
+                orders.put(sort, List.copyOf(sorted));
+            }
+            index.put(entry.getKey(), orders);
+        }
+        return new RepoCatalog(repositories, Map.copyOf(index));
+    }
+
+    /**
+     * @param pageIndex zero-based
+     */
+    PageResponse<GithubRepoResponse> page(String language, Sort sort, int pageIndex, int pageSize) {
+        Map<Sort, List<GithubRepoResponse>> orders = index.get(language == null ? ALL : languageKey(language));
+        List<GithubRepoResponse> sorted = orders == null ? List.of() : orders.get(sort);
+
+        long from = (long) pageIndex * pageSize;
+        if (from >= sorted.size()) {
+            return PageResponse.of(List.of(), pageIndex, pageSize, sorted.size());
+        }
+        int to = (int) Math.min(from + pageSize, sorted.size());
+        return PageResponse.of(sorted.subList((int) from, to), pageIndex, pageSize, sorted.size());
+    }
+
+    boolean isBuiltFrom(List<GithubRepoResponse> repositories) {
+        return source == repositories;
+    }
+
+    private static String languageKey(String language) {
+        return language.trim().toLowerCase(Locale.ROOT);
+    }
+}
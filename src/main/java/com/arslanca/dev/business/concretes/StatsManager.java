@@ -0,0 +1,23 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.business.abstracts.HeartbeatService;
+import com.arslanca.dev.business.abstracts.StatsService;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class StatsManager implements StatsService {
+
+    private final HeartbeatService heartbeatService;
+    private final WakaTimeAdapter wakaTimeAdapter;
+
+    // Kendi topladığımız heartbeat'ler varsa onları kullan, yoksa WakaTime API'sine düş
+    @Override
+    public StatsResponse getCurrentStatus() {
+        return heartbeatService.getCurrentStatus()
+                .orElseGet(wakaTimeAdapter::getCurrentStatus);
+    }
+}
@@ -1,9 +1,12 @@
 package com.arslanca.dev.business.dto.requests;
 
+import com.arslanca.dev.entities.enums.BlogStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import java.time.Instant;
+
 @Data
 public class CreateBlogRequest {
 
@@ -16,4 +19,10 @@ public class CreateBlogRequest {
     private String content;
 
     private String category;
+
+    // Boşsa: yeni yazı yayına alınır, güncellemede mevcut durum korunur
+    private BlogStatus status;
+
+    // SCHEDULED için zorunlu; geçmiş bir zaman hemen yayın demektir
+    private Instant publishAt;
 }
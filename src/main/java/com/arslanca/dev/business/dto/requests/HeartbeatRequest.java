@@ -0,0 +1,44 @@
+package com.arslanca.dev.business.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// WakaTime eklentilerinin gönderdiği heartbeat formatı
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HeartbeatRequest {
+
+    // Sütun uzunluklarıyla aynı: kaydedilemeyen heartbeat kuyruğa hiç girmesin
+    @NotBlank
+    @Size(max = 1000)
+    private String entity;
+
+    @Size(max = 255)
+    private String type;
+
+    @Size(max = 255)
+    private String category;
+
+    @NotNull
+    private Double time;
+
+    @Size(max = 255)
+    private String project;
+
+    @Size(max = 255)
+    private String branch;
+
+    @Size(max = 255)
+    private String language;
+
+    @JsonProperty("is_write")
+    private Boolean isWrite;
+}
@@ -0,0 +1,14 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.time.Instant;
+
+public record ActivityEventResponse(
+        String id,
+        String source,
+        String type,
+        String title,
+        String repository,
+        String url,
+        int count,
+        Instant occurredAt) {
+}
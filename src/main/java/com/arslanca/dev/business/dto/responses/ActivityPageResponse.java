@@ -0,0 +1,11 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.util.List;
+
+/**
+ * @param nextCursor pass back as {@code cursor} to get the next (older) page; null on the last page
+ */
+public record ActivityPageResponse(
+        List<ActivityEventResponse> items,
+        String nextCursor) {
+}
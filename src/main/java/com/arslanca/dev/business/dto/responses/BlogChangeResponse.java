@@ -0,0 +1,16 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.time.Instant;
+
+/**
+ * @param post the post as it is now for {@link Type#UPSERTED}; null for {@link Type#DELETED}, which also
+ *             covers posts taken back to draft
+ */
+public record BlogChangeResponse(
+        Type type,
+        int id,
+        Instant changedAt,
+        BlogSummaryResponse post) {
+
+    public enum Type { UPSERTED, DELETED }
+}
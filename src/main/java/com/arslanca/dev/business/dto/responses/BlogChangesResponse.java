@@ -0,0 +1,14 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.util.List;
+
+/**
+ * @param cursor  pass back as {@code since} to get only what changed after this page; never null, so a
+ *                client can store it even when nothing changed
+ * @param hasMore more changes are waiting; ask again right away instead of on the next poll
+ */
+public record BlogChangesResponse(
+        List<BlogChangeResponse> changes,
+        String cursor,
+        boolean hasMore) {
+}
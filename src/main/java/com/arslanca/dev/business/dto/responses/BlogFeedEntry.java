@@ -0,0 +1,12 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.time.Instant;
+
+// RSS/Atom ve sitemap için gereken sütunlar; content ve contentHtml okunmaz
+public record BlogFeedEntry(
+        int id,
+        String title,
+        String category,
+        String excerpt,
+        Instant createdAt) {
+}
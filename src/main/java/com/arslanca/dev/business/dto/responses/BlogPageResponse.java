@@ -0,0 +1,13 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.util.List;
+
+/**
+ * @param nextCursor    pass back as {@code cursor} to get the next (older) page; null on the last page
+ * @param totalElements number of published posts, for "page x of y" displays
+ */
+public record BlogPageResponse(
+        List<BlogSummaryResponse> items,
+        String nextCursor,
+        long totalElements) {
+}
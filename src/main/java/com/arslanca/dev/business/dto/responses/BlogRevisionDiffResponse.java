@@ -0,0 +1,16 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.util.List;
+
+public record BlogRevisionDiffResponse(
+        int from,
+        int to,
+        String fromTitle,
+        String toTitle,
+        List<Line> lines) {
+
+    public enum Type { EQUAL, REMOVED, ADDED }
+
+    public record Line(Type type, String text) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.time.Instant;
+
+public record BlogRevisionResponse(
+        int revision,
+        String title,
+        String category,
+        int contentLength,
+        boolean snapshot,
+        Instant createdAt) {
+}
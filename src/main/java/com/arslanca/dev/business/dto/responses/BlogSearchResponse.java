@@ -0,0 +1,23 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * @param nextCursor pass back as {@code cursor} for the next page of hits; null on the last page
+ */
+public record BlogSearchResponse(
+        List<Hit> items,
+        String nextCursor) {
+
+    /**
+     * @param snippet HTML-escaped excerpt with matches wrapped in {@code <mark>}
+     */
+    public record Hit(
+            int id,
+            String title,
+            String category,
+            LocalDate createdDate,
+            String snippet) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.arslanca.dev.business.dto.responses;
+
+import com.arslanca.dev.entities.enums.BlogStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BlogSummaryResponse {
+
+    private int id;
+
+    private String title;
+
+    private String category;
+
+    private LocalDate createdDate;
+
+    private Instant createdAt;
+
+    private String excerpt;
+
+    private Integer readingMinutes;
+
+    private BlogStatus status;
+
+    private Instant publishAt;
+}
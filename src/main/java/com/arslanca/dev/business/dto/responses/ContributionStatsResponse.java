@@ -0,0 +1,33 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.util.List;
+
+public record ContributionStatsResponse(
+        String firstDay,
+        String lastDay,
+        long totalContributions,
+        int currentStreak,
+        int longestStreak,
+        String longestStreakStart,
+        String longestStreakEnd,
+        ContributionDay bestDay,
+        double averageLast7Days,
+        double averageLast30Days,
+        double averageLast365Days,
+        List<WeeklyTotal> weeklyTotals,
+        List<YearlyTotal> yearlyTotals) {
+
+    public record WeeklyTotal(String weekStart, long total) {
+    }
+
+    /**
+     * {@code deltaFromPreviousYear} compares the same calendar span one year earlier, so the current
+     * (partial) year is compared year-to-date. It is null when there is no data for that span.
+     */
+    public record YearlyTotal(int year, long total, Long deltaFromPreviousYear, Double deltaPercent) {
+    }
+
+    public static ContributionStatsResponse empty() {
+        return new ContributionStatsResponse(null, null, 0, 0, 0, null, null, null, 0, 0, 0, List.of(), List.of());
+    }
+}
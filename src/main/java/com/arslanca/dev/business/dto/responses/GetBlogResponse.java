@@ -1,9 +1,13 @@
 package com.arslanca.dev.business.dto.responses;
+import com.arslanca.dev.core.utilities.markdown.MarkdownRenderer;
+import com.arslanca.dev.entities.enums.BlogStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
@@ -16,9 +20,22 @@ public class GetBlogResponse {
 
     private String content;
 
+    private String contentHtml;
+
+    private List<MarkdownRenderer.Heading> toc;
+
     private LocalDate createdDate;
 
     private String category;
 
+    private Integer readingMinutes;
+
+    private Integer wordCount;
+
+    private BlogStatus status;
+
+    private Instant publishAt;
+
+    private Instant updatedAt;
 
 }
@@ -13,7 +13,10 @@ public class GithubRepoResponse {
     private String url;
 
     @JsonProperty("stargazers_count")
-    private String stars;
+    private int stars;
 
     private String language;
+
+    @JsonProperty("pushed_at")
+    private String pushedAt;
 }
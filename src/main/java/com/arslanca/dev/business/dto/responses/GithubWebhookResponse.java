@@ -0,0 +1,10 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.util.List;
+
+/**
+ * @param status    {@code queued}, {@code ignored}, {@code duplicate} or {@code pong}
+ * @param targets   cache entries the event marked for refresh
+ */
+public record GithubWebhookResponse(String delivery, String event, String status, List<String> targets) {
+}
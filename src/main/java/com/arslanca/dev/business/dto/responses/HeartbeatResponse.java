@@ -0,0 +1,4 @@
+package com.arslanca.dev.business.dto.responses;
+
+public record HeartbeatResponse(String entity, String type, Double time) {
+}
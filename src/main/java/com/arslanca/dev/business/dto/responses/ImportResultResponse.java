@@ -0,0 +1,10 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.util.List;
+
+public record ImportResultResponse(
+        int imported,
+        int skipped,
+        // İlk hatalar, satır numarasıyla; tamamı değil
+        List<String> errors) {
+}
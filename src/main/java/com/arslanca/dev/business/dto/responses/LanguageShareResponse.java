@@ -0,0 +1,4 @@
+package com.arslanca.dev.business.dto.responses;
+
+public record LanguageShareResponse(String language, long bytes, double percentage, int repositoryCount) {
+}
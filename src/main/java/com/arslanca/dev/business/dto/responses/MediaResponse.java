@@ -0,0 +1,15 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.util.List;
+
+// deduplicated: aynı içerik daha önce yüklenmişti, hiçbir şey yeniden yazılmadı
+public record MediaResponse(
+        String hash,
+        String url,
+        String contentType,
+        int width,
+        int height,
+        long size,
+        List<MediaVariantResponse> variants,
+        boolean deduplicated) {
+}
@@ -0,0 +1,6 @@
+package com.arslanca.dev.business.dto.responses;
+
+public record MediaVariantResponse(
+        int width,
+        String url) {
+}
@@ -0,0 +1,8 @@
+package com.arslanca.dev.business.dto.responses;
+
+public record MostReadBlogResponse(
+        int id,
+        String title,
+        String category,
+        long views) {
+}
@@ -0,0 +1,24 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.util.List;
+
+/**
+ * Page envelope with the same field names as Spring Data's serialized {@code Page}, so the frontend
+ * can use one type for both. {@code number} is zero-based.
+ */
+public record PageResponse<T>(
+        List<T> content,
+        int number,
+        int size,
+        long totalElements,
+        int totalPages,
+        boolean first,
+        boolean last,
+        boolean empty) {
+
+    public static <T> PageResponse<T> of(List<T> content, int pageIndex, int pageSize, long totalElements) {
+        int totalPages = pageSize == 0 ? 0 : (int) ((totalElements + pageSize - 1) / pageSize);
+        return new PageResponse<>(content, pageIndex, pageSize, totalElements, totalPages,
+                pageIndex == 0, pageIndex >= totalPages - 1, content.isEmpty());
+    }
+}
@@ -16,4 +16,9 @@ public class PinnedProjectResponse {
     private List<String> tags;
     private String githubUrl;
     private String longDescription;
+
+    // GitHub'dan canlı bilgiler; depo bulunamazsa null
+    private Integer stars;
+    private String primaryLanguage;
+    private String pushedAt;
 }
@@ -0,0 +1,36 @@
+package com.arslanca.dev.business.dto.responses;
+
+import java.time.Instant;
+import java.util.List;
+
+public record RefreshDashboardResponse(
+        List<Source> sources,
+        List<Budget> budgets) {
+
+    public record Source(
+            String name,
+            String budget,
+            String priority,
+            String state,
+            long freshnessMillis,
+            long intervalMillis,
+            int cost,
+            Instant lastRunAt,
+            Instant lastSuccessAt,
+            Long ageMillis,
+            boolean stale,
+            long lastDurationMillis,
+            Instant nextRunAt,
+            int consecutiveFailures,
+            String lastError) {
+    }
+
+    public record Budget(
+            String key,
+            int limit,
+            int remaining,
+            Instant resetAt,
+            Instant pausedUntil,
+            double pressure) {
+    }
+}
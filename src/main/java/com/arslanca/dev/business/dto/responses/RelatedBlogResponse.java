@@ -0,0 +1,8 @@
+package com.arslanca.dev.business.dto.responses;
+
+public record RelatedBlogResponse(
+        int id,
+        String title,
+        String category,
+        double score) {
+}
@@ -0,0 +1,17 @@
+package com.arslanca.dev.business.dto.responses;
+
+public record UpstreamStatusResponse(
+        String name,
+        String circuitState,
+        int availableConcurrentCalls,
+        int maxConcurrentCalls,
+        long calls,
+        long successes,
+        long failures,
+        long retries,
+        long timeouts,
+        long shortCircuited,
+        long bulkheadRejections,
+        long fallbacks,
+        long averageLatencyMillis) {
+}
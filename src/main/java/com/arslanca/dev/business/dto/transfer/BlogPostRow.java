@@ -0,0 +1,18 @@
+package com.arslanca.dev.business.dto.transfer;
+
+import com.arslanca.dev.entities.enums.BlogStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+// NDJSON satırı: yalnızca kaynak alanlar; HTML, özet ve içindekiler içe aktarımdan sonra yeniden üretilir
+public record BlogPostRow(
+        Integer id,
+        @NotBlank @Size(max = 200) String title,
+        @NotBlank String content,
+        @Size(max = 255) String category,
+        BlogStatus status,
+        Instant publishAt,
+        Instant createdAt) {
+}
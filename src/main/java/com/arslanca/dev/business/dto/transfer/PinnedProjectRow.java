@@ -0,0 +1,15 @@
+package com.arslanca.dev.business.dto.transfer;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PinnedProjectRow(
+        Long id,
+        @NotBlank @Size(max = 255) String title,
+        @Size(max = 2000) String description,
+        @Size(max = 2000) String longDescription,
+        List<String> tags,
+        String githubUrl) {
+}
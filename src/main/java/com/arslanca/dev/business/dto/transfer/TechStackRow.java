@@ -0,0 +1,11 @@
+package com.arslanca.dev.business.dto.transfer;
+
+import com.arslanca.dev.entities.enums.StackLevel;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record TechStackRow(
+        Integer id,
+        @NotBlank String name,
+        @NotNull StackLevel type) {
+}
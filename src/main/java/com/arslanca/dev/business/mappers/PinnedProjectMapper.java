@@ -5,11 +5,15 @@ import com.arslanca.dev.business.dto.requests.UpdatePinnedProjectRequest;
 import com.arslanca.dev.business.dto.responses.PinnedProjectResponse;
 import com.arslanca.dev.entities.PinnedProject;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 @Mapper(componentModel = "spring")
 public interface PinnedProjectMapper {
     PinnedProject toEntity(CreatePinnedProjectRequest request);
+    @Mapping(target = "stars", ignore = true)
+    @Mapping(target = "primaryLanguage", ignore = true)
+    @Mapping(target = "pushedAt", ignore = true)
     PinnedProjectResponse toResponse(PinnedProject project);
     void updateEntityFromRequest(UpdatePinnedProjectRequest request, @MappingTarget PinnedProject project);
 }
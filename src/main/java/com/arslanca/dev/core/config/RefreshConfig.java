@@ -0,0 +1,92 @@
+package com.arslanca.dev.core.config;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.WakaTimeAdapter;
+import com.arslanca.dev.business.abstracts.ActivityService;
+import com.arslanca.dev.business.abstracts.ContributionHistoryService;
+import com.arslanca.dev.business.abstracts.LanguageStatsService;
+import com.arslanca.dev.business.abstracts.ProjectReadmeService;
+import com.arslanca.dev.core.utilities.scheduler.RefreshScheduler;
+import com.arslanca.dev.core.utilities.scheduler.RefreshScheduler.Priority;
+import com.arslanca.dev.core.utilities.scheduler.RefreshScheduler.Source;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Every periodic upstream refresh, in one table. Costs are requests per run against the quota
+ * named by the budget key; GitHub counts REST ({@code core}) and GraphQL separately, and 304
+ * responses to conditional requests are free.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RefreshConfig {
+
+    private final RefreshScheduler refreshScheduler;
+    private final GithubAdapter githubAdapter;
+    private final WakaTimeAdapter wakaTimeAdapter;
+    private final ContributionHistoryService contributionHistoryService;
+    private final LanguageStatsService languageStatsService;
+    private final ProjectReadmeService projectReadmeService;
+    private final ActivityService activityService;
+
+    @Value("${app.github.poll-interval-ms:600000}")
+    private long snapshotFreshnessMs;
+
+    // Webhook açıkken değişiklikler anında gelir; yoklama yalnızca kaçan olaylar için
+    @Value("${app.github.webhook.poll-interval-ms:3600000}")
+    private long webhookSnapshotFreshnessMs;
+
+    @Value("${app.github.webhook.secret:}")
+    private String webhookSecret;
+
+    @Value("${app.github.contributions.refresh-ms:900000}")
+    private long contributionsFreshnessMs;
+
+    @Value("${app.github.languages.refresh-ms:1800000}")
+    private long languagesFreshnessMs;
+
+    @Value("${app.github.readmes.refresh-ms:3600000}")
+    private long readmesFreshnessMs;
+
+    @Value("${app.waka.status.refresh-ms:60000}")
+    private long wakaTimeFreshnessMs;
+
+    @Value("${app.activity.events-refresh-ms:300000}")
+    private long eventsFreshnessMs;
+
+    @Value("${app.activity.status-sample-ms:60000}")
+    private long statusSampleMs;
+
+    @PostConstruct
+    public void registerSources() {
+        // Anlık "şu an kodluyor" kartı: en sık ve en öncelikli
+        refreshScheduler.register(new Source("wakatime-status", "wakatime", Priority.HIGH,
+                Duration.ofMillis(wakaTimeFreshnessMs), 2, wakaTimeAdapter::refreshWakaTimeStats), Duration.ZERO);
+        // Depo listesi diğer GitHub işlerinin girdisi; sayfa başına bir GraphQL isteği
+        refreshScheduler.register(new Source("github-snapshot", "github:graphql", Priority.HIGH,
+                snapshotFreshness(), 2, githubAdapter::refreshSnapshot), Duration.ZERO);
+        refreshScheduler.register(new Source("github-contributions", "github:graphql", Priority.NORMAL,
+                Duration.ofMillis(contributionsFreshnessMs), 1, contributionHistoryService::refresh), Duration.ofSeconds(5));
+        // Yalnızca pushed_at'i değişen depolar istenir
+        refreshScheduler.register(new Source("github-languages", "github:core", Priority.LOW,
+                Duration.ofMillis(languagesFreshnessMs), 10, languageStatsService::refresh), Duration.ofSeconds(30));
+        // ETag ile koşullu; değişmeyen README kotadan düşmez
+        refreshScheduler.register(new Source("github-readmes", "github:core", Priority.LOW,
+                Duration.ofMillis(readmesFreshnessMs), 10, projectReadmeService::refresh), Duration.ofSeconds(60));
+        // Zaman tüneli: ETag'li tek istek, yeni olay yoksa 304
+        refreshScheduler.register(new Source("github-events", "github:core", Priority.NORMAL,
+                Duration.ofMillis(eventsFreshnessMs), 1, activityService::pollGithubEvents), Duration.ofSeconds(15));
+        // Önbellekteki durumu okur, upstream'e gitmez
+        refreshScheduler.register(new Source("activity-status", "local", Priority.LOW,
+                Duration.ofMillis(statusSampleMs), 0, activityService::sampleCodingStatus), Duration.ofSeconds(20));
+    }
+
+    // Secret boşsa webhook kapalıdır ve depo listesi yalnızca yoklamayla güncellenir
+    Duration snapshotFreshness() {
+        return Duration.ofMillis(webhookSecret == null || webhookSecret.isBlank() ? snapshotFreshnessMs : webhookSnapshotFreshnessMs);
+    }
+}
@@ -0,0 +1,27 @@
+package com.arslanca.dev.core.config;
+
+import com.arslanca.dev.core.utilities.resilience.RateLimitBudget;
+import com.arslanca.dev.core.utilities.resilience.UpstreamGuard;
+import com.arslanca.dev.core.utilities.resilience.UpstreamPolicy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public UpstreamGuard githubGuard(Environment environment) {
+        return new UpstreamGuard(UpstreamPolicy.fromEnvironment(environment, "github"));
+    }
+
+    @Bean
+    public UpstreamGuard wakaTimeGuard(Environment environment) {
+        return new UpstreamGuard(UpstreamPolicy.fromEnvironment(environment, "wakatime"));
+    }
+
+    @Bean
+    public RateLimitBudget rateLimitBudget() {
+        return new RateLimitBudget();
+    }
+}
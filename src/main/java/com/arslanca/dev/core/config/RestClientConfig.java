@@ -1,8 +1,15 @@
 package com.arslanca.dev.core.config;
 
+import com.arslanca.dev.core.utilities.resilience.RateLimitBudget;
+import com.arslanca.dev.core.utilities.resilience.RateLimitHeaderInterceptor;
+import com.arslanca.dev.core.utilities.resilience.UpstreamGuard;
+import com.arslanca.dev.core.utilities.resilience.UpstreamPolicy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestClientConfig {
@@ -11,4 +18,34 @@ public class RestClientConfig {
     public RestClient.Builder restClientBuilder(){
         return RestClient.builder();
     }
+
+    @Bean
+    public RestClient githubRestClient(UpstreamGuard githubGuard, RateLimitBudget rateLimitBudget,
+                                       @Value("${app.github.token:}") String githubToken) {
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl("https://api.github.com")
+                .requestFactory(requestFactory(githubGuard.getPolicy()))
+                .requestInterceptor(new RateLimitHeaderInterceptor(rateLimitBudget, "github"));
+
+        if (githubToken != null && !githubToken.isEmpty()) {
+            builder.defaultHeader("Authorization", "Bearer " + githubToken);
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public RestTemplate wakaTimeRestTemplate(UpstreamGuard wakaTimeGuard, RateLimitBudget rateLimitBudget) {
+        RestTemplate restTemplate = new RestTemplate(requestFactory(wakaTimeGuard.getPolicy()));
+        // WakaTime limit başlığı göndermez; yalnızca 429 yanıtları bütçeye yansır
+        restTemplate.getInterceptors().add(new RateLimitHeaderInterceptor(rateLimitBudget, "wakatime"));
+        return restTemplate;
+    }
+
+    // Bağlantı ve okuma için süre sınırı: asılı kalan bir upstream Tomcat thread'ini kilitlemesin
+    private SimpleClientHttpRequestFactory requestFactory(UpstreamPolicy policy) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(policy.connectTimeout());
+        factory.setReadTimeout(policy.readTimeout());
+        return factory;
+    }
 }
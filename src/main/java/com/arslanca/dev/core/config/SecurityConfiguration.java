@@ -33,10 +33,13 @@ public class SecurityConfiguration {
                                 "/api/auth/**",
                                 "/api/contact/**",
                                 "/api/simulation/**",
+                                "/api/waka/**",
+                                "/api/webhooks/**",
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html"
                         ).permitAll()
+                        .requestMatchers("/api/admin/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/**").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/**").authenticated()
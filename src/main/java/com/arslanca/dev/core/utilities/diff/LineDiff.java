@@ -0,0 +1,198 @@
+package com.arslanca.dev.core.utilities.diff;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Line-level diff (Myers, O((N + M) D)) and a compact text delta built on it. A delta only names the
+ * lines to keep or skip from the base by count and carries the inserted lines verbatim, so a small edit
+ * to a long post costs a few bytes plus the changed lines.
+ * <p>
+ * Delta format, one instruction per line: {@code =n} copies n base lines, {@code -n} skips n base
+ * lines, {@code +n} is followed by n lines to insert. Splitting and joining on {@code \n} is lossless,
+ * so {@code apply(base, encode(base, target))} returns {@code target} exactly.
+ */
+public final class LineDiff {
+
+    // Bu kadar farklılıktan sonra arama bırakılır: ortadaki bölüm tümden silinip yeniden eklenmiş sayılır
+    static final int MAX_EDIT_DISTANCE = 1000;
+
+    public enum Op { EQUAL, DELETE, INSERT }
+
+    public record Edit(Op op, int count) {
+    }
+
+    private LineDiff() {
+    }
+
+    public static List<String> lines(String text) {
+        return Arrays.asList(text.split("\n", -1));
+    }
+
+    /**
+     * Runs of equal, deleted and inserted lines that turn {@code a} into {@code b}, in order.
+     * Counts of {@code EQUAL} and {@code DELETE} advance through {@code a}; {@code EQUAL} and
+     * {@code INSERT} advance through {@code b}.
+     */
+    public static List<Edit> diff(List<String> a, List<String> b) {
+        // Satırlar tamsayıya çevrilir: arama sırasında String.equals yerine int karşılaştırması
+        Map<String, Integer> ids = new HashMap<>();
+        int[] x = new int[a.size()];
+        int[] y = new int[b.size()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = ids.computeIfAbsent(a.get(i), line -> ids.size());
+        }
+        for (int i = 0; i < y.length; i++) {
+            y[i] = ids.computeIfAbsent(b.get(i), line -> ids.size());
+        }
+
+        int prefix = 0;
+        while (prefix < x.length && prefix < y.length && x[prefix] == y[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < x.length - prefix && suffix < y.length - prefix
+                && x[x.length - 1 - suffix] == y[y.length - 1 - suffix]) {
+            suffix++;
+        }
+
+        List<Edit> edits = new ArrayList<>();
+        append(edits, Op.EQUAL, prefix);
+        for (Edit edit : middle(x, y, prefix, x.length - suffix, prefix, y.length - suffix)) {
+            append(edits, edit.op(), edit.count());
+        }
+        append(edits, Op.EQUAL, suffix);
+        return edits;
+    }
+
+    public static String encode(String base, String target) {
+        List<String> from = lines(base);
+        List<String> to = lines(target);
+        StringBuilder delta = new StringBuilder();
+        int inTarget = 0;
+        for (Edit edit : diff(from, to)) {
+            if (!delta.isEmpty()) {
+                delta.append('\n');
+            }
+            switch (edit.op()) {
+                case EQUAL -> {
+                    delta.append('=').append(edit.count());
+                    inTarget += edit.count();
+                }
+                case DELETE -> delta.append('-').append(edit.count());
+                case INSERT -> {
+                    delta.append('+').append(edit.count());
+                    for (int i = 0; i < edit.count(); i++) {
+                        delta.append('\n').append(to.get(inTarget++));
+                    }
+                }
+            }
+        }
+        return delta.toString();
+    }
+
+    public static String apply(String base, String delta) {
+        List<String> from = lines(base);
+        List<String> instructions = lines(delta);
+        List<String> result = new ArrayList<>();
+        int inBase = 0;
+        int i = 0;
+        try {
+            while (i < instructions.size()) {
+                String instruction = instructions.get(i++);
+                int count = Integer.parseInt(instruction.substring(1));
+                switch (instruction.charAt(0)) {
+                    case '=' -> {
+                        result.addAll(from.subList(inBase, inBase + count));
+                        inBase += count;
+                    }
+                    case '-' -> inBase += count;
+                    case '+' -> {
+                        result.addAll(instructions.subList(i, i + count));
+                        i += count;
+                    }
+                    default -> throw new IllegalArgumentException("Unknown delta instruction: " + instruction);
+                }
+            }
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Delta does not match its base", e);
+        }
+        if (inBase != from.size()) {
+            throw new IllegalArgumentException("Delta does not match its base");
+        }
+        return String.join("\n", result);
+    }
+
+    // Myers: d. adımda her k köşegeninde ulaşılan en uzak x; geri izleme için her adımın durumu saklanır
+    private static List<Edit> middle(int[] a, int[] b, int aFrom, int aTo, int bFrom, int bTo) {
+        int n = aTo - aFrom;
+        int m = bTo - bFrom;
+        if (n == 0 || m == 0) {
+            return List.of(new Edit(Op.DELETE, n), new Edit(Op.INSERT, m));
+        }
+        int max = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[aFrom + x] == b[bFrom + y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, n, m);
+                }
+            }
+        }
+        return List.of(new Edit(Op.DELETE, n), new Edit(Op.INSERT, m));
+    }
+
+    private static List<Edit> backtrack(List<int[]> trace, int n, int m) {
+        List<Edit> reversed = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d > 0; d--) {
+            // trace[d]: d. adımdan önceki durum, k = -d..d için k + d indeksinde
+            int[] v = trace.get(d);
+            int k = x - y;
+            int previousK = k == -d || (k != d && v[k - 1 + d] < v[k + 1 + d]) ? k + 1 : k - 1;
+            int previousX = v[previousK + d];
+            int previousY = previousX - previousK;
+            boolean inserted = previousK == k + 1;
+            append(reversed, Op.EQUAL, x - (inserted ? previousX : previousX + 1));
+            append(reversed, inserted ? Op.INSERT : Op.DELETE, 1);
+            x = previousX;
+            y = previousY;
+        }
+        append(reversed, Op.EQUAL, x);
+
+        List<Edit> edits = new ArrayList<>(reversed.size());
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            append(edits, reversed.get(i).op(), reversed.get(i).count());
+        }
+        return edits;
+    }
+
+    private static void append(List<Edit> edits, Op op, int count) {
+        if (count == 0) {
+            return;
+        }
+        int last = edits.size() - 1;
+        if (last >= 0 && edits.get(last).op() == op) {
+            edits.set(last, new Edit(op, edits.get(last).count() + count));
+        } else {
+            edits.add(new Edit(op, count));
+        }
+    }
+}
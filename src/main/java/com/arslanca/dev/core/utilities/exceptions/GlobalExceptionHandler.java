@@ -5,12 +5,18 @@ import com.arslanca.dev.core.utilities.exceptions.details.ProblemDetails;
 import com.arslanca.dev.core.utilities.exceptions.details.ValidationProblemDetails;
 import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
 import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.core.utilities.exceptions.types.UpstreamUnavailableException;
+import org.springframework.context.MessageSourceResolvable;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
@@ -41,6 +47,18 @@ public class GlobalExceptionHandler {
         return problemDetails;
     }
 
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ProblemDetails handleUpstreamUnavailableException(UpstreamUnavailableException exception) {
+        log.warn("Upstream Unavailable: {}", exception.getMessage());
+        ProblemDetails problemDetails = new ProblemDetails();
+        problemDetails.setTitle("Service Unavailable");
+        problemDetails.setDetail(exception.getMessage());
+        problemDetails.setType("http://arslanca.com/exceptions/upstream-unavailable");
+        problemDetails.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        return problemDetails;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ValidationProblemDetails handleValidationException(MethodArgumentNotValidException exception) {
@@ -57,6 +75,45 @@ public class GlobalExceptionHandler {
         return validationProblemDetails;
     }
 
+    // Liste elemanları gibi @RequestBody dışındaki kısıtlar (ör. List<@Valid ...>) buraya düşer
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ValidationProblemDetails handleMethodValidationException(HandlerMethodValidationException exception) {
+        log.warn("Validation Failed: {}", exception.getMessage());
+        ValidationProblemDetails validationProblemDetails = new ValidationProblemDetails();
+        validationProblemDetails.setDetail("Validation failed");
+
+        Map<String, String> validationErrors = new HashMap<>();
+        for (ParameterValidationResult result : exception.getAllValidationResults()) {
+            String parameter = result.getMethodParameter().getParameterName()
+                    + (result.getContainerIndex() != null ? "[" + result.getContainerIndex() + "]" : "");
+            if (result instanceof ParameterErrors errors) {
+                for (FieldError fieldError : errors.getFieldErrors()) {
+                    validationErrors.put(parameter + "." + fieldError.getField(), fieldError.getDefaultMessage());
+                }
+            } else {
+                for (MessageSourceResolvable error : result.getResolvableErrors()) {
+                    validationErrors.put(parameter, error.getDefaultMessage());
+                }
+            }
+        }
+        validationProblemDetails.setErrors(validationErrors);
+
+        return validationProblemDetails;
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ProblemDetails handleMaxUploadSizeExceededException(MaxUploadSizeExceededException exception) {
+        log.warn("Upload Too Large: {}", exception.getMessage());
+        ProblemDetails problemDetails = new ProblemDetails();
+        problemDetails.setTitle("Payload Too Large");
+        problemDetails.setDetail("Dosya izin verilen boyutu aşıyor");
+        problemDetails.setType("http://arslanca.com/exceptions/payload-too-large");
+        problemDetails.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        return problemDetails;
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ProblemDetails handleGeneralException(Exception e) {
@@ -0,0 +1,82 @@
+package com.arslanca.dev.core.utilities.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A generated response body kept both raw and pre-gzipped, with a strong content-hash ETag.
+ * Building it is the expensive part; serving it is a header check and a byte copy.
+ */
+public record CachedAsset(byte[] raw, byte[] gzipped, String etag, Instant lastModified, String contentType) {
+
+    public static CachedAsset of(byte[] raw, String contentType, Instant lastModified) {
+        return new CachedAsset(raw, gzip(raw), "\"" + sha256(raw) + "\"", lastModified, contentType);
+    }
+
+    public static CachedAsset ofGzipped(byte[] raw, byte[] gzipped, String contentType, Instant lastModified) {
+        return new CachedAsset(raw, gzipped, "\"" + sha256(raw) + "\"", lastModified, contentType);
+    }
+
+    public ResponseEntity<byte[]> toResponse(String ifNoneMatch, String acceptEncoding, CacheControl cacheControl) {
+        return toResponse(ifNoneMatch, -1, acceptEncoding, cacheControl);
+    }
+
+    /**
+     * @param ifModifiedSince epoch millis of {@code If-Modified-Since}, or -1; only consulted without an
+     *                        {@code If-None-Match}, as HTTP requires
+     */
+    public ResponseEntity<byte[]> toResponse(String ifNoneMatch, long ifModifiedSince, String acceptEncoding,
+                                             CacheControl cacheControl) {
+        boolean notModified = ifNoneMatch != null
+                ? ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*")
+                : ifModifiedSince >= 0 && lastModified.getEpochSecond() <= ifModifiedSince / 1000;
+        if (notModified) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.CONTENT_TYPE, contentType)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? gzipped : raw);
+    }
+
+    public static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
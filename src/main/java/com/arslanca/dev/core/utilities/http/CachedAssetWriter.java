@@ -0,0 +1,43 @@
+package com.arslanca.dev.core.utilities.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds a {@link CachedAsset} in one pass: every byte written goes to the raw body and through gzip at
+ * the same time, so a streamed document is never held twice or compressed afterwards.
+ */
+public final class CachedAssetWriter extends OutputStream {
+
+    private final ByteArrayOutputStream raw = new ByteArrayOutputStream(8192);
+    private final ByteArrayOutputStream compressed = new ByteArrayOutputStream(2048);
+    private final GZIPOutputStream gzip;
+
+    public CachedAssetWriter() {
+        try {
+            gzip = new GZIPOutputStream(compressed, 8192);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        raw.write(b);
+        gzip.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        raw.write(b, off, len);
+        gzip.write(b, off, len);
+    }
+
+    public CachedAsset toAsset(String contentType, Instant lastModified) throws IOException {
+        gzip.finish();
+        return CachedAsset.ofGzipped(raw.toByteArray(), compressed.toByteArray(), contentType, lastModified);
+    }
+}
@@ -0,0 +1,176 @@
+package com.arslanca.dev.core.utilities.markdown;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Small lexical highlighter for fenced code blocks. It only recognises comments, strings, numbers,
+ * keywords, literals and annotations, which is what a blog post needs and keeps the output stable
+ * enough to store. Tokens become {@code <span class="tok-…">}; everything else is HTML-escaped.
+ */
+final class CodeHighlighter {
+
+    private record Language(Set<String> keywords, Set<String> literals, Pattern pattern, boolean caseInsensitive) {
+    }
+
+    private static final String BLOCK_COMMENT = "/\\*[\\s\\S]*?(?:\\*/|$)";
+    private static final String DOUBLE_QUOTED = "\"(?:\\\\.|[^\"\\\\\\n])*\"?";
+    private static final String SINGLE_QUOTED = "'(?:\\\\.|[^'\\\\\\n])*'?";
+    private static final String BACKTICK = "`(?:\\\\.|[^`\\\\])*`?";
+    private static final String TRIPLE_QUOTED = "\"\"\"[\\s\\S]*?(?:\"\"\"|$)|'''[\\s\\S]*?(?:'''|$)";
+    private static final String NUMBER = "\\b(?:0[xX][0-9a-fA-F_]+|\\d[\\d_]*(?:\\.\\d+)?(?:[eE][+-]?\\d+)?)[lLfFdDnN]?\\b";
+    private static final String ANNOTATION = "@[A-Za-z_][\\w.]*";
+    private static final String WORD = "[A-Za-z_$][\\w$]*";
+
+    private static final Set<String> C_LITERALS = Set.of("true", "false", "null");
+
+    private static final Language JAVA = language(
+            "abstract assert break case catch class continue default do else enum extends final finally for if "
+                    + "implements import instanceof interface native new package private protected public record return "
+                    + "sealed static super switch synchronized this throw throws transient try var void volatile while yield "
+                    + "boolean byte char double float int long short",
+            C_LITERALS, "//", true, false, false, true, false);
+
+    private static final Language KOTLIN = language(
+            "as break class companion continue data do else enum for fun if import in interface is object "
+                    + "override package private protected public return sealed super this throw try typealias val var when while",
+            C_LITERALS, "//", true, false, true, true, false);
+
+    private static final Language JAVASCRIPT = language(
+            "async await break case catch class const continue default delete do else export extends finally for "
+                    + "from function if import in instanceof interface let new of return static super switch this throw "
+                    + "try type typeof var void while yield enum implements private protected public readonly",
+            Set.of("true", "false", "null", "undefined", "NaN"), "//", true, true, false, true, false);
+
+    private static final Language PYTHON = language(
+            "and as assert async await break class continue def del elif else except finally for from global if "
+                    + "import in is lambda nonlocal not or pass raise return try while with yield",
+            Set.of("True", "False", "None"), "#", false, false, true, true, false);
+
+    private static final Language GO = language(
+            "break case chan const continue default defer else fallthrough for func go goto if import interface "
+                    + "map package range return select struct switch type var",
+            Set.of("true", "false", "nil", "iota"), "//", true, true, false, false, false);
+
+    private static final Language C_FAMILY = language(
+            "auto break case catch char class const continue default delete do double else enum extern float for "
+                    + "goto if inline int long namespace new private protected public return short signed sizeof static "
+                    + "struct switch template this throw try typedef union unsigned using virtual void volatile while "
+                    + "async await base foreach in is lock out override readonly ref string var",
+            Set.of("true", "false", "null", "nullptr", "NULL"), "//", true, false, false, false, false);
+
+    private static final Language SQL = language(
+            "add all alter and as asc begin between by case check column commit constraint create cross default "
+                    + "delete desc distinct drop else end exists foreign from full group having if in index inner insert "
+                    + "into is join key left like limit not offset on or order outer primary references returning right "
+                    + "rollback select set table then union unique update using values view when where with",
+            Set.of("true", "false", "null"), "--", true, false, false, false, true);
+
+    private static final Language SHELL = language(
+            "case do done elif else esac export fi for function if in local read return then until while "
+                    + "cd echo exit source",
+            Set.of("true", "false"), "#", false, false, false, false, false);
+
+    private static final Language JSON = language("", C_LITERALS, null, false, false, false, false, false);
+
+    private static final Language YAML = language("", Set.of("true", "false", "null", "yes", "no", "on", "off"),
+            "#", false, false, false, false, true);
+
+    private static final Map<String, Language> LANGUAGES = Map.ofEntries(
+            Map.entry("java", JAVA),
+            Map.entry("kotlin", KOTLIN), Map.entry("kt", KOTLIN),
+            Map.entry("javascript", JAVASCRIPT), Map.entry("js", JAVASCRIPT), Map.entry("jsx", JAVASCRIPT),
+            Map.entry("typescript", JAVASCRIPT), Map.entry("ts", JAVASCRIPT), Map.entry("tsx", JAVASCRIPT),
+            Map.entry("python", PYTHON), Map.entry("py", PYTHON),
+            Map.entry("go", GO),
+            Map.entry("c", C_FAMILY), Map.entry("cpp", C_FAMILY), Map.entry("csharp", C_FAMILY), Map.entry("cs", C_FAMILY),
+            Map.entry("sql", SQL),
+            Map.entry("bash", SHELL), Map.entry("sh", SHELL), Map.entry("shell", SHELL), Map.entry("zsh", SHELL),
+            Map.entry("json", JSON),
+            Map.entry("yaml", YAML), Map.entry("yml", YAML));
+
+    private CodeHighlighter() {
+    }
+
+    /**
+     * @return highlighted, escaped HTML for the inside of {@code <code>}, or null if the language is unknown
+     */
+    static String highlight(String code, String language) {
+        Language lang = language == null ? null : LANGUAGES.get(language.toLowerCase(Locale.ROOT));
+        if (lang == null) {
+            return null;
+        }
+
+        StringBuilder html = new StringBuilder(code.length() + code.length() / 2);
+        Matcher matcher = lang.pattern().matcher(code);
+        int last = 0;
+        while (matcher.find()) {
+            String tokenClass = classOf(lang, matcher);
+            if (tokenClass == null) {
+                continue;
+            }
+            escape(code, last, matcher.start(), html);
+            html.append("<span class=\"").append(tokenClass).append("\">");
+            escape(code, matcher.start(), matcher.end(), html);
+            html.append("</span>");
+            last = matcher.end();
+        }
+        escape(code, last, code.length(), html);
+        return html.toString();
+    }
+
+    private static String classOf(Language lang, Matcher matcher) {
+        if (matcher.group("comment") != null) return "tok-com";
+        if (matcher.group("string") != null) return "tok-str";
+        if (matcher.group("meta") != null) return "tok-meta";
+        if (matcher.group("number") != null) return "tok-num";
+
+        String word = matcher.group("word");
+        String key = lang.caseInsensitive() ? word.toLowerCase(Locale.ROOT) : word;
+        if (lang.literals().contains(key)) return "tok-lit";
+        if (lang.keywords().contains(key)) return "tok-kw";
+        return null;
+    }
+
+    private static Language language(String keywords, Set<String> literals, String lineComment,
+                                     boolean blockComments, boolean backticks, boolean tripleQuotes,
+                                     boolean annotations, boolean caseInsensitive) {
+        StringBuilder comment = new StringBuilder();
+        if (blockComments) comment.append(BLOCK_COMMENT);
+        if (lineComment != null) {
+            if (!comment.isEmpty()) comment.append('|');
+            comment.append(Pattern.quote(lineComment)).append("[^\\n]*");
+        }
+
+        StringBuilder string = new StringBuilder();
+        if (tripleQuotes) string.append(TRIPLE_QUOTED).append('|');
+        string.append(DOUBLE_QUOTED).append('|').append(SINGLE_QUOTED);
+        if (backticks) string.append('|').append(BACKTICK);
+
+        // Sıra önemli: yorum ve string içindeki kelimeler anahtar kelime sayılmaz
+        String regex = "(?<comment>" + (comment.isEmpty() ? "(?!)" : comment) + ")|"
+                + "(?<string>" + string + ")|"
+                + "(?<meta>" + (annotations ? ANNOTATION : "(?!)") + ")|"
+                + "(?<number>" + NUMBER + ")|"
+                + "(?<word>" + WORD + ")";
+
+        Set<String> keywordSet = keywords.isBlank() ? Set.of() : Set.of(keywords.split(" "));
+        return new Language(keywordSet, literals, Pattern.compile(regex), caseInsensitive);
+    }
+
+    private static void escape(String text, int from, int to, StringBuilder out) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.arslanca.dev.core.utilities.markdown;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * GitHub-flavoured Markdown to sanitized HTML. Parser and renderer are immutable and thread-safe,
+ * so one instance serves every caller.
+ */
+@Component
+public class MarkdownRenderer {
+
+    // Çıktı biçimi değiştiğinde artırılır; saklanan blog HTML'i arka planda yeniden üretilir
+    public static final int VERSION = 1;
+
+    private static final int TOC_DEPTH = 3;
+
+    private static final List<Extension> EXTENSIONS = List.of(
+            TablesExtension.create(),
+            StrikethroughExtension.create(),
+            AutolinkExtension.create());
+
+    // README'lerde sık kullanılan hizalama ve rozet öğelerine izin ver, script/style/iframe yok
+    private static final Safelist ABSOLUTE_LINKS = safelist(false);
+    private static final Safelist RELATIVE_LINKS = safelist(true);
+    // Dil sınıfı vurgulayıcıya kadar korunur; span/id sanitize sonrasında bu sınıf tarafından eklenir
+    private static final Safelist ARTICLE = safelist(true).addAttributes("code", "class");
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder().extensions(EXTENSIONS).build();
+
+    public String render(String markdown) {
+        return render(markdown, null, null);
+    }
+
+    /**
+     * @param linkBase  base URL for relative links (e.g. {@code https://github.com/u/r/blob/HEAD/})
+     * @param imageBase base URL for relative images (e.g. {@code https://raw.githubusercontent.com/u/r/HEAD/})
+     */
+    public String render(String markdown, String linkBase, String imageBase) {
+        Node document = parser.parse(markdown == null ? "" : markdown);
+        String unsafeHtml = renderer.render(document);
+
+        if (imageBase != null) {
+            Document dom = Jsoup.parseBodyFragment(unsafeHtml, imageBase);
+            for (Element image : dom.select("img[src]")) {
+                image.attr("src", image.absUrl("src"));
+            }
+            unsafeHtml = dom.body().html();
+        }
+
+        String safeHtml = linkBase != null
+                ? Jsoup.clean(unsafeHtml, linkBase, ABSOLUTE_LINKS)
+                : Jsoup.clean(unsafeHtml, RELATIVE_LINKS);
+
+        Document cleaned = Jsoup.parseBodyFragment(safeHtml);
+        markExternalLinks(cleaned);
+        return cleaned.body().html();
+    }
+
+    /**
+     * Renders a blog post once, at write time: sanitized HTML with highlighted code blocks and
+     * anchored headings, plus the table of contents and the visible text.
+     */
+    public Article renderArticle(String markdown) {
+        String unsafeHtml = renderer.render(parser.parse(markdown == null ? "" : markdown));
+        Document dom = Jsoup.parseBodyFragment(Jsoup.clean(unsafeHtml, ARTICLE));
+        markExternalLinks(dom);
+
+        for (Element code : dom.select("code")) {
+            String language = code.className().startsWith("language-") ? code.className().substring("language-".length()) : null;
+            String highlighted = code.parent() != null && "pre".equals(code.parent().tagName())
+                    ? CodeHighlighter.highlight(code.wholeText(), language)
+                    : null;
+            code.removeAttr("class");
+            if (highlighted != null) {
+                code.html(highlighted);
+                code.addClass("language-" + language);
+            }
+        }
+
+        List<Heading> toc = new ArrayList<>();
+        Map<String, Integer> usedIds = new HashMap<>();
+        for (Element heading : dom.select("h1, h2, h3, h4, h5, h6")) {
+            String text = heading.text();
+            String id = uniqueId(slugOf(text), usedIds);
+            heading.attr("id", id);
+            heading.prependElement("a").addClass("heading-anchor").attr("href", "#" + id).attr("aria-hidden", "true");
+
+            int level = heading.tagName().charAt(1) - '0';
+            if (level <= TOC_DEPTH) {
+                toc.add(new Heading(level, id, text));
+            }
+        }
+
+        String text = dom.body().text();
+        int wordCount = text.isBlank() ? 0 : text.trim().split("\\s+").length;
+        return new Article(dom.body().html(), toc, text, wordCount);
+    }
+
+    static String slugOf(String text) {
+        String ascii = Normalizer.normalize(text.replace('ı', 'i').replace('İ', 'I'), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        String slug = ascii.replaceAll("[^a-z0-9]+", "-").replaceAll("^-+|-+$", "");
+        return slug.isEmpty() ? "section" : slug;
+    }
+
+    private static String uniqueId(String slug, Map<String, Integer> usedIds) {
+        int seen = usedIds.merge(slug, 1, Integer::sum);
+        return seen == 1 ? slug : slug + "-" + seen;
+    }
+
+    // Dış bağlantılar referrer sızdırmasın ve arama motoruna "oy" vermesin
+    private static void markExternalLinks(Document document) {
+        for (Element link : document.select("a[href^=http]")) {
+            link.attr("rel", "noopener noreferrer nofollow");
+        }
+    }
+
+    public record Heading(int level, String id, String text) {
+    }
+
+    /**
+     * @param text visible text of the post, for excerpts and word counts
+     */
+    public record Article(String html, List<Heading> toc, String text, int wordCount) {
+    }
+
+    private static Safelist safelist(boolean preserveRelativeLinks) {
+        return Safelist.relaxed()
+                .addTags("del", "s", "details", "summary", "picture", "source")
+                .addAttributes(":all", "align")
+                .addAttributes("source", "srcset", "media", "type")
+                .addAttributes("a", "rel")
+                .addProtocols("a", "href", "#")
+                .preserveRelativeLinks(preserveRelativeLinks);
+    }
+}
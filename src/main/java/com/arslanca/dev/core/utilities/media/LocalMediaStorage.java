@@ -0,0 +1,64 @@
+package com.arslanca.dev.core.utilities.media;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "app.media.storage", havingValue = "local", matchIfMissing = true)
+public class LocalMediaStorage implements MediaStorage {
+
+    private final Path root;
+
+    public LocalMediaStorage(@Value("${app.media.dir:./media}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(pathOf(key));
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        Path target = pathOf(key);
+        if (Files.exists(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        // Aynı dizinde yazılıp taşınır: taşıma atomiktir, okuyucu hiçbir zaman yarım dosya görmez
+        Path partial = Files.createTempFile(target.getParent(), key, ".part");
+        try {
+            Files.copy(source, partial, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(String key) {
+        Path path = pathOf(key);
+        return Files.isRegularFile(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+    }
+
+    // İlk iki karakterle alt dizinlere dağıtılır: tek dizinde on binlerce dosya birikmez
+    private Path pathOf(String key) {
+        if (key.length() < 3) {
+            throw new IllegalArgumentException("Geçersiz medya anahtarı: " + key);
+        }
+        Path path = root.resolve(key.substring(0, 2)).resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Geçersiz medya anahtarı: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,23 @@
+package com.arslanca.dev.core.utilities.media;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Where uploaded media bytes live. Keys are content-addressed, so a key is written at most once and
+ * never changes afterwards; implementations may skip a write when the key already exists.
+ * {@link LocalMediaStorage} is the default; another backend only needs to be a bean of this type with
+ * {@code app.media.storage} set to something other than {@code local}.
+ */
+public interface MediaStorage {
+
+    boolean exists(String key);
+
+    // Dosyanın kopyası anahtar altına yazılır; kaynak dosya çağıranda kalır
+    void put(String key, Path source) throws IOException;
+
+    Optional<Resource> get(String key);
+}
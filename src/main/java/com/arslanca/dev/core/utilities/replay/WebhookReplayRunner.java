@@ -0,0 +1,65 @@
+package com.arslanca.dev.core.utilities.replay;
+
+import com.arslanca.dev.business.abstracts.GithubWebhookService;
+import com.arslanca.dev.business.dto.responses.GithubWebhookResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Feeds webhook payloads recorded by {@code app.github.webhook.record-dir} back through the same
+ * handler, in the order they arrived, then runs the coalesced refresh once. Start the app with
+ * {@code --spring.profiles.active=webhook-replay --app.github.webhook.replay-dir=...}.
+ */
+@Slf4j
+@Component
+@Profile("webhook-replay")
+@RequiredArgsConstructor
+public class WebhookReplayRunner implements ApplicationRunner {
+
+    private final GithubWebhookService githubWebhookService;
+
+    @Value("${app.github.webhook.replay-dir}")
+    private String replayDirectory;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<GithubWebhookResponse> responses = replay(githubWebhookService, Path.of(replayDirectory));
+        responses.forEach(response -> log.info("Replayed {} ({}): {} {}",
+                response.delivery(), response.event(), response.status(), response.targets()));
+        log.info("Webhook replay finished: {} payloads", responses.size());
+    }
+
+    /**
+     * File names follow the recorder's {@code <millis>.<event>.<delivery>.json} pattern.
+     */
+    public static List<GithubWebhookResponse> replay(GithubWebhookService service, Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(".json")).sorted().toList();
+        }
+
+        List<GithubWebhookResponse> responses = new ArrayList<>(files.size());
+        for (Path file : files) {
+            String[] parts = file.getFileName().toString().replaceFirst("\\.json$", "").split("\\.", 3);
+            if (parts.length < 3) {
+                log.warn("Skipping {}: name is not <millis>.<event>.<delivery>.json", file.getFileName());
+                continue;
+            }
+            responses.add(service.handle(parts[1], parts[2], Files.readAllBytes(file)));
+        }
+        service.flush();
+        return responses;
+    }
+}
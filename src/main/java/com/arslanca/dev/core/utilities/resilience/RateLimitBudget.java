@@ -0,0 +1,70 @@
+package com.arslanca.dev.core.utilities.resilience;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last known rate-limit window of every upstream quota, keyed like {@code github:graphql} or
+ * {@code wakatime}. Filled from response headers by {@link RateLimitHeaderInterceptor}; read by the
+ * refresh scheduler to decide how often (and whether) a source may run.
+ */
+public class RateLimitBudget {
+
+    // Kotanın bu kadarı yalnızca yüksek öncelikli kaynaklara bırakılır
+    private static final double RESERVE_RATIO = 0.05;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public void record(String key, int limit, int remaining, long resetAtMillis) {
+        windows.compute(key, (k, current) -> new Window(k, limit, remaining, resetAtMillis,
+                current != null ? current.pausedUntilMillis() : 0, System.currentTimeMillis()));
+    }
+
+    /**
+     * Used when the upstream answers 429 (or GitHub's 403 with zero remaining) and the limit itself
+     * is unknown.
+     */
+    public void pause(String key, long untilMillis) {
+        windows.compute(key, (k, current) -> current == null
+                ? new Window(k, -1, -1, 0, untilMillis, System.currentTimeMillis())
+                : new Window(k, current.limit(), current.remaining(), current.resetAtMillis(),
+                        Math.max(current.pausedUntilMillis(), untilMillis), System.currentTimeMillis()));
+    }
+
+    public Window window(String key) {
+        return windows.get(key);
+    }
+
+    public List<Window> windows() {
+        return List.copyOf(windows.values());
+    }
+
+    /**
+     * @param cost           requests the caller is about to spend
+     * @param mayUseReserve  whether the caller may dip into the reserved share of the quota
+     * @return the time until which the caller should wait, or {@code 0} if it may run now
+     */
+    public long blockedUntil(String key, int cost, boolean mayUseReserve, long now) {
+        Window window = windows.get(key);
+        if (window == null) {
+            return 0;
+        }
+        if (window.pausedUntilMillis() > now) {
+            return window.pausedUntilMillis();
+        }
+        if (window.limit() > 0 && window.resetAtMillis() > now
+                && window.remaining() - cost < (mayUseReserve ? 0 : reserveOf(window.limit()))) {
+            return window.resetAtMillis();
+        }
+        return 0;
+    }
+
+    public static int reserveOf(int limit) {
+        return (int) Math.ceil(limit * RESERVE_RATIO);
+    }
+
+    public record Window(String key, int limit, int remaining, long resetAtMillis, long pausedUntilMillis,
+                         long updatedAtMillis) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.arslanca.dev.core.utilities.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Copies {@code X-RateLimit-*} headers into the {@link RateLimitBudget} and turns 429 responses into a
+ * pause. GitHub reports a separate quota per resource ({@code core}, {@code graphql}, ...), so the
+ * budget key is {@code <upstream>:<resource>} when the resource header is present.
+ */
+@Slf4j
+public class RateLimitHeaderInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final long DEFAULT_PAUSE_MS = 60_000;
+
+    private final RateLimitBudget budget;
+    private final String upstream;
+
+    public RateLimitHeaderInterceptor(RateLimitBudget budget, String upstream) {
+        this.budget = budget;
+        this.upstream = upstream;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        ClientHttpResponse response = execution.execute(request, body);
+        try {
+            observe(response.getStatusCode().value(), response.getHeaders(), System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            // Bozuk bir başlık isteği düşürmesin
+            log.debug("Rate limit headers of {} ignored: {}", upstream, e.getMessage());
+        }
+        return response;
+    }
+
+    void observe(int status, HttpHeaders headers, long now) {
+        String resource = headers.getFirst("X-RateLimit-Resource");
+        String key = resource != null ? upstream + ":" + resource : upstream;
+
+        Integer limit = intHeader(headers, "X-RateLimit-Limit");
+        Integer remaining = intHeader(headers, "X-RateLimit-Remaining");
+        Long reset = longHeader(headers, "X-RateLimit-Reset");
+        if (limit != null && remaining != null && reset != null) {
+            budget.record(key, limit, remaining, reset * 1000);
+        }
+
+        boolean exhausted = status == HttpStatus.FORBIDDEN.value() && remaining != null && remaining == 0;
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value() || exhausted) {
+            Long retryAfter = longHeader(headers, HttpHeaders.RETRY_AFTER);
+            long until = retryAfter != null ? now + retryAfter * 1000
+                    : reset != null ? reset * 1000
+                    : now + DEFAULT_PAUSE_MS;
+            budget.pause(key, until);
+            log.warn("{} rate limit hit, pausing '{}' for {} s", upstream, key, Math.max(0, (until - now) / 1000));
+        }
+    }
+
+    private static Integer intHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        return value != null ? Integer.valueOf(value.trim()) : null;
+    }
+
+    private static Long longHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        // Retry-After bir HTTP tarihi de olabilir; o durumda varsayılan bekleme kullanılır
+        return value != null && value.trim().matches("\\d+") ? Long.valueOf(value.trim()) : null;
+    }
+}
@@ -0,0 +1,174 @@
+package com.arslanca.dev.core.utilities.resilience;
+
+import com.arslanca.dev.business.dto.responses.UpstreamStatusResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.UpstreamUnavailableException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Wraps every outbound call to one upstream with a bulkhead, a circuit breaker and bounded retries.
+ * The last successful result of each operation is kept so that an open circuit (or an exhausted
+ * retry budget) degrades to slightly stale data instead of an error.
+ */
+@Slf4j
+public class UpstreamGuard {
+
+    @Getter
+    private final UpstreamPolicy policy;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    @Getter
+    private final UpstreamMetrics metrics = new UpstreamMetrics();
+    private final Map<String, Object> lastGoodValues = new ConcurrentHashMap<>();
+
+    public UpstreamGuard(UpstreamPolicy policy) {
+        this.policy = policy;
+        this.circuitBreaker = new CircuitBreaker(policy.failureThreshold(), policy.openDuration());
+        this.bulkhead = new Semaphore(policy.maxConcurrentCalls());
+    }
+
+    public String getName() {
+        return policy.name();
+    }
+
+    public <T> T call(String operation, boolean idempotent, Supplier<T> supplier) {
+        return call(operation, idempotent, supplier, true);
+    }
+
+    /**
+     * Like {@link #call}, but throws {@link UpstreamUnavailableException} instead of returning the last
+     * good value. For callers that must tell a real answer from a replayed one, e.g. conditional
+     * requests whose result is stored together with the time it was fetched.
+     */
+    public <T> T callWithoutFallback(String operation, boolean idempotent, Supplier<T> supplier) {
+        return call(operation, idempotent, supplier, false);
+    }
+
+    private <T> T call(String operation, boolean idempotent, Supplier<T> supplier, boolean useFallback) {
+        metrics.getCalls().increment();
+
+        if (!bulkhead.tryAcquire()) {
+            metrics.getBulkheadRejections().increment();
+            return fallback(operation, null, useFallback);
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            metrics.getShortCircuited().increment();
+            return fallback(operation, null, useFallback);
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            int maxAttempts = idempotent ? Math.max(1, policy.maxAttempts()) : 1;
+            RuntimeException lastError = null;
+
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                try {
+                    T result = supplier.get();
+                    circuitBreaker.onSuccess();
+                    metrics.getSuccesses().increment();
+                    if (result != null && useFallback) {
+                        lastGoodValues.put(operation, result);
+                    }
+                    return result;
+                } catch (RuntimeException e) {
+                    lastError = e;
+                    if (isTimeout(e)) {
+                        metrics.getTimeouts().increment();
+                    }
+                    if (attempt == maxAttempts || !isRetryable(e)) {
+                        break;
+                    }
+                    metrics.getRetries().increment();
+                    sleepWithJitter(attempt);
+                }
+            }
+
+            metrics.getFailures().increment();
+            circuitBreaker.onFailure();
+            log.warn("{} call '{}' failed: {}", policy.name(), operation, lastError.getMessage());
+            return fallback(operation, lastError, useFallback);
+        } finally {
+            metrics.getTotalLatencyMillis().add(System.currentTimeMillis() - start);
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Some callers (e.g. 304 handling) produce a value without going through {@link #call}; this keeps
+     * the fallback cache in sync with what they last served.
+     */
+    public void remember(String operation, Object value) {
+        if (value != null) {
+            lastGoodValues.put(operation, value);
+        }
+    }
+
+    public UpstreamStatusResponse getStatus() {
+        long calls = metrics.getCalls().sum();
+        return new UpstreamStatusResponse(
+                policy.name(),
+                circuitBreaker.getState().name(),
+                bulkhead.availablePermits(),
+                policy.maxConcurrentCalls(),
+                calls,
+                metrics.getSuccesses().sum(),
+                metrics.getFailures().sum(),
+                metrics.getRetries().sum(),
+                metrics.getTimeouts().sum(),
+                metrics.getShortCircuited().sum(),
+                metrics.getBulkheadRejections().sum(),
+                metrics.getFallbacks().sum(),
+                calls == 0 ? 0 : metrics.getTotalLatencyMillis().sum() / calls);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T fallback(String operation, RuntimeException cause, boolean useFallback) {
+        Object cached = useFallback ? lastGoodValues.get(operation) : null;
+        if (cached != null) {
+            metrics.getFallbacks().increment();
+            return (T) cached;
+        }
+        String message = policy.name() + " servisine şu anda ulaşılamıyor (" + operation + ")";
+        throw cause != null
+                ? new UpstreamUnavailableException(message, cause)
+                : new UpstreamUnavailableException(message);
+    }
+
+    private void sleepWithJitter(int attempt) {
+        // "full jitter": uniformly random between 0 and base * 2^(attempt-1)
+        long cap = policy.baseBackoff().toMillis() << (attempt - 1);
+        long sleep = ThreadLocalRandom.current().nextLong(cap + 1);
+        try {
+            Thread.sleep(sleep);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
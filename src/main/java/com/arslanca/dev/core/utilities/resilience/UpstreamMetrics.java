@@ -0,0 +1,18 @@
+package com.arslanca.dev.core.utilities.resilience;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+@Getter
+public class UpstreamMetrics {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder bulkheadRejections = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+}
@@ -0,0 +1,32 @@
+package com.arslanca.dev.core.utilities.resilience;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Per-upstream limits, read from {@code app.upstream.<name>.*}.
+ */
+public record UpstreamPolicy(
+        String name,
+        Duration connectTimeout,
+        Duration readTimeout,
+        int maxAttempts,
+        Duration baseBackoff,
+        int failureThreshold,
+        Duration openDuration,
+        int maxConcurrentCalls) {
+
+    public static UpstreamPolicy fromEnvironment(Environment environment, String name) {
+        String prefix = "app.upstream." + name + ".";
+        return new UpstreamPolicy(
+                name,
+                Duration.ofMillis(environment.getProperty(prefix + "connect-timeout-ms", Long.class, 2000L)),
+                Duration.ofMillis(environment.getProperty(prefix + "read-timeout-ms", Long.class, 5000L)),
+                environment.getProperty(prefix + "max-attempts", Integer.class, 3),
+                Duration.ofMillis(environment.getProperty(prefix + "backoff-ms", Long.class, 200L)),
+                environment.getProperty(prefix + "failure-threshold", Integer.class, 5),
+                Duration.ofMillis(environment.getProperty(prefix + "open-duration-ms", Long.class, 30000L)),
+                environment.getProperty(prefix + "max-concurrent-calls", Integer.class, 4));
+    }
+}
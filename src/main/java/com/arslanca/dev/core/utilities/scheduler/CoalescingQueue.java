@@ -0,0 +1,108 @@
+package com.arslanca.dev.core.utilities.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keyed debounce: submitting a key that is already waiting only pushes its run back by the quiet
+ * period, so a burst of events becomes one execution. {@code maxDelay} caps how long a steady stream
+ * can postpone it. Tasks run one at a time on a single background thread.
+ */
+@Slf4j
+public class CoalescingQueue implements AutoCloseable {
+
+    private final Duration quietPeriod;
+    private final Duration maxDelay;
+    private final ScheduledExecutorService executor;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong executed = new AtomicLong();
+
+    public CoalescingQueue(String name, Duration quietPeriod, Duration maxDelay) {
+        this.quietPeriod = quietPeriod;
+        this.maxDelay = maxDelay;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void submit(String key, Runnable task) {
+        submitted.incrementAndGet();
+        pending.compute(key, (k, current) -> {
+            long now = System.nanoTime();
+            if (current == null) {
+                return new Pending(task, now, schedule(k, quietPeriod.toNanos()));
+            }
+            // Zaten bekleyen iş: yalnızca süreyi ötele (maxDelay'i aşmadan)
+            current.future().cancel(false);
+            long remainingBudget = current.firstSubmittedAt() + maxDelay.toNanos() - now;
+            long delay = Math.max(0, Math.min(quietPeriod.toNanos(), remainingBudget));
+            return new Pending(task, current.firstSubmittedAt(), schedule(k, delay));
+        });
+    }
+
+    /**
+     * Runs every waiting task now on the caller's thread. Used on shutdown and by the offline replay.
+     */
+    public void flush() {
+        List<String> keys = new ArrayList<>(pending.keySet());
+        for (String key : keys) {
+            Pending removed = pending.remove(key);
+            if (removed != null) {
+                removed.future().cancel(false);
+                execute(key, removed.task());
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public long submittedCount() {
+        return submitted.get();
+    }
+
+    public long executedCount() {
+        return executed.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private ScheduledFuture<?> schedule(String key, long delayNanos) {
+        return executor.schedule(() -> {
+            Pending removed = pending.remove(key);
+            if (removed != null) {
+                execute(key, removed.task());
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void execute(String key, Runnable task) {
+        try {
+            task.run();
+            executed.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("Coalesced task '{}' failed: {}", key, e.getMessage());
+        }
+    }
+
+    private record Pending(Runnable task, long firstSubmittedAt, ScheduledFuture<?> future) {
+    }
+}
@@ -0,0 +1,273 @@
+package com.arslanca.dev.core.utilities.scheduler;
+
+import com.arslanca.dev.business.dto.responses.RefreshDashboardResponse;
+import com.arslanca.dev.core.utilities.resilience.RateLimitBudget;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single place that decides when upstream data is refreshed. Every source declares how fresh it
+ * should be, which quota it spends and how much of it; the interval is stretched when the projected
+ * spend until the quota resets exceeds what is left (low priority sources first), jittered so sources
+ * do not line up, and held entirely while the quota is exhausted. Sources run one at a time.
+ */
+@Slf4j
+@Component
+public class RefreshScheduler {
+
+    // Bütçe ne kadar daralırsa daralsın aralık tazelik hedefinin bu katını aşmaz
+    static final double MAX_STRETCH = 16;
+
+    public enum Priority {
+        // elasticity: bütçe baskısının aralığa yansıma üssü (0 = hiç esnemez)
+        HIGH(0.5), NORMAL(1.0), LOW(1.5);
+
+        private final double elasticity;
+
+        Priority(double elasticity) {
+            this.elasticity = elasticity;
+        }
+    }
+
+    public record Source(String name, String budgetKey, Priority priority, Duration freshness, int cost,
+                         Runnable task) {
+    }
+
+    private final RateLimitBudget budget;
+    private final long tickMillis;
+    private final double jitter;
+
+    // Guarded by "this"; tasks themselves run outside the lock.
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private ScheduledExecutorService executor;
+
+    public RefreshScheduler(RateLimitBudget budget,
+                            @Value("${app.refresh.tick-ms:1000}") long tickMillis,
+                            @Value("${app.refresh.jitter:0.1}") double jitter) {
+        this.budget = budget;
+        this.tickMillis = tickMillis;
+        this.jitter = jitter;
+    }
+
+    public synchronized void register(Source source, Duration initialDelay) {
+        if (entries.containsKey(source.name())) {
+            throw new IllegalStateException("Yenileme kaynağı zaten kayıtlı: " + source.name());
+        }
+        entries.put(source.name(), new Entry(source, System.currentTimeMillis() + jittered(initialDelay.toMillis())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upstream-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> runDue(System.currentTimeMillis()), 0, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Refresh scheduler started with {} sources", entries.size());
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Moves a source to the front of the queue. It still waits for its quota if that is exhausted.
+     *
+     * @return {@code false} if no such source is registered
+     */
+    public synchronized boolean triggerNow(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return false;
+        }
+        entry.nextRunAt = System.currentTimeMillis();
+        return true;
+    }
+
+    /**
+     * Runs every source that is due at {@code now}, most important first.
+     */
+    void runDue(long now) {
+        List<Entry> due = new ArrayList<>();
+        synchronized (this) {
+            for (Entry entry : entries.values()) {
+                if (entry.nextRunAt > now) {
+                    continue;
+                }
+                Source source = entry.source;
+                long blockedUntil = budget.blockedUntil(source.budgetKey(), source.cost(),
+                        source.priority() == Priority.HIGH, now);
+                if (blockedUntil > now) {
+                    // Kota sıfırlanınca hepsi aynı anda başlamasın
+                    entry.nextRunAt = blockedUntil + jittered(Math.min(source.freshness().toMillis(), 60_000) / 4);
+                    log.info("Refresh of '{}' paused until {}: '{}' quota exhausted",
+                            source.name(), Instant.ofEpochMilli(entry.nextRunAt), source.budgetKey());
+                    continue;
+                }
+                due.add(entry);
+            }
+        }
+        due.sort(Comparator.comparing(entry -> entry.source.priority()));
+
+        for (Entry entry : due) {
+            run(entry);
+        }
+    }
+
+    private void run(Entry entry) {
+        long started = System.currentTimeMillis();
+        String error = null;
+        try {
+            entry.source.task().run();
+        } catch (Exception e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            log.warn("Refresh of '{}' failed: {}", entry.source.name(), error);
+        }
+
+        long finished = System.currentTimeMillis();
+        synchronized (this) {
+            entry.lastRunAt = started;
+            entry.lastDurationMillis = finished - started;
+            if (error == null) {
+                entry.lastSuccessAt = finished;
+                entry.consecutiveFailures = 0;
+                entry.lastError = null;
+            } else {
+                entry.consecutiveFailures++;
+                entry.lastError = error;
+            }
+            entry.intervalMillis = intervalOf(entry.source, finished);
+            entry.nextRunAt = finished + jittered(entry.intervalMillis);
+        }
+    }
+
+    /**
+     * Freshness target scaled by the pressure on the source's quota, raised to the priority's
+     * elasticity. Guarded by "this".
+     */
+    long intervalOf(Source source, long now) {
+        long freshness = source.freshness().toMillis();
+        double stretch = Math.pow(pressureOf(source.budgetKey(), now), source.priority().elasticity);
+        return (long) (freshness * Math.min(stretch, MAX_STRETCH));
+    }
+
+    /**
+     * Requests the registered sources would spend before the quota resets, divided by what is left
+     * above the reserve. {@code 1} means the budget covers the target freshness of every source.
+     */
+    double pressureOf(String budgetKey, long now) {
+        RateLimitBudget.Window window = budget.window(budgetKey);
+        if (window == null || window.limit() <= 0 || window.resetAtMillis() <= now) {
+            return 1;
+        }
+
+        long untilReset = window.resetAtMillis() - now;
+        double demand = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.source.budgetKey().equals(budgetKey)) {
+                demand += entry.source.cost() * Math.max(1.0, (double) untilReset / entry.source.freshness().toMillis());
+            }
+        }
+
+        double available = window.remaining() - RateLimitBudget.reserveOf(window.limit());
+        if (available <= 0) {
+            return MAX_STRETCH;
+        }
+        return Math.max(1.0, demand / available);
+    }
+
+    public synchronized RefreshDashboardResponse getDashboard() {
+        long now = System.currentTimeMillis();
+
+        List<RefreshDashboardResponse.Source> sources = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            Source source = entry.source;
+            long blockedUntil = budget.blockedUntil(source.budgetKey(), source.cost(), source.priority() == Priority.HIGH, now);
+            String state = blockedUntil > now ? "PAUSED" : entry.nextRunAt <= now ? "DUE" : "SCHEDULED";
+            Long age = entry.lastSuccessAt > 0 ? now - entry.lastSuccessAt : null;
+
+            sources.add(new RefreshDashboardResponse.Source(
+                    source.name(),
+                    source.budgetKey(),
+                    source.priority().name(),
+                    state,
+                    source.freshness().toMillis(),
+                    entry.intervalMillis,
+                    source.cost(),
+                    instantOf(entry.lastRunAt),
+                    instantOf(entry.lastSuccessAt),
+                    age,
+                    age == null || age > source.freshness().toMillis(),
+                    entry.lastDurationMillis,
+                    instantOf(entry.nextRunAt),
+                    entry.consecutiveFailures,
+                    entry.lastError));
+        }
+
+        List<RefreshDashboardResponse.Budget> budgets = budget.windows().stream()
+                .sorted(Comparator.comparing(RateLimitBudget.Window::key))
+                .map(window -> new RefreshDashboardResponse.Budget(
+                        window.key(),
+                        window.limit(),
+                        window.remaining(),
+                        instantOf(window.resetAtMillis()),
+                        window.pausedUntilMillis() > now ? instantOf(window.pausedUntilMillis()) : null,
+                        pressureOf(window.key(), now)))
+                .toList();
+
+        return new RefreshDashboardResponse(sources, budgets);
+    }
+
+    private long jittered(long millis) {
+        if (jitter <= 0 || millis <= 0) {
+            return millis;
+        }
+        // ±jitter oranında düzgün dağılımlı sapma
+        double factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Math.round(millis * factor);
+    }
+
+    private static Instant instantOf(long millis) {
+        return millis > 0 ? Instant.ofEpochMilli(millis) : null;
+    }
+
+    private static final class Entry {
+        private final Source source;
+        private long nextRunAt;
+        private long intervalMillis;
+        private long lastRunAt;
+        private long lastSuccessAt;
+        private long lastDurationMillis;
+        private int consecutiveFailures;
+        private String lastError;
+
+        private Entry(Source source, long nextRunAt) {
+            this.source = source;
+            this.nextRunAt = nextRunAt;
+            this.intervalMillis = source.freshness().toMillis();
+        }
+    }
+}
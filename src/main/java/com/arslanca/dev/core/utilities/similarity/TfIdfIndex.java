@@ -0,0 +1,460 @@
+package com.arslanca.dev.core.utilities.similarity;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Top-K cosine neighbours over TF-IDF vectors, kept up to date one document at a time.
+ * <p>
+ * Vectors, postings and neighbour lists live in primitive arrays indexed by a slot per document. Adding a
+ * document scores it against the others through the postings of its own terms only, then offers it to
+ * the neighbour lists it beats. Removing one recomputes only the lists that contained it. Weights use
+ * the document frequencies at the time a document was added, so scores drift slightly as the corpus
+ * grows; callers that care rebuild now and then.
+ * <p>
+ * Not thread-safe: one writer at a time, and readers must not run concurrently with it.
+ */
+public final class TfIdfIndex {
+
+    // Uzun yazılarda vektör en ağırlıklı terimlerle sınırlanır: puanlama maliyeti yazı boyuyla büyümez
+    static final int MAX_TERMS_PER_DOCUMENT = 64;
+    // Belgelerin onda birinden fazlasında geçen terim ayırt edici değildir; yalnızca posting listelerini uzatır
+    private static final int COMMON_TERM_DIVISOR = 10;
+    private static final int MIN_DOCUMENTS_FOR_PRUNING = 50;
+
+    private static final int[] NO_IDS = new int[0];
+    private static final float[] NO_SCORES = new float[0];
+
+    private final int k;
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private int termCount;
+    private int[] documentFrequency = new int[1024];
+    private int[][] postingSlots = new int[1024][];
+    private float[][] postingWeights = new float[1024][];
+    private int[] postingLength = new int[1024];
+
+    private final Map<Integer, Integer> slotOf = new HashMap<>();
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private int size;
+    private int[] ids = new int[256];
+    // Belgedeki tüm farklı terimler: silinirken doküman frekansları geri alınır
+    private int[][] distinctTerms = new int[256][];
+    private int[][] vectorTerms = new int[256][];
+    private float[][] vectorWeights = new float[256][];
+    private int[][] neighbourIds = new int[256][];
+    private float[][] neighbourScores = new float[256][];
+
+    // Puanlama tamponları; her sorguda yeniden kullanılır
+    private float[] accumulator = new float[256];
+    private int[] touched = new int[256];
+    private int[] touchedEpoch = new int[256];
+    private int epoch;
+
+    public TfIdfIndex(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.k = k;
+    }
+
+    /**
+     * Fills a fresh index in two passes, so every vector is weighted with the document frequencies of the
+     * whole corpus rather than of the documents added before it.
+     */
+    public static Builder builder(int k) {
+        return new Builder(new TfIdfIndex(k));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int id) {
+        return slotOf.containsKey(id);
+    }
+
+    // Puana göre azalan sırada; dizi index'e aittir, değiştirilmemelidir
+    public int[] neighbours(int id) {
+        Integer slot = slotOf.get(id);
+        return slot != null ? neighbourIds[slot] : NO_IDS;
+    }
+
+    public float[] neighbourScores(int id) {
+        Integer slot = slotOf.get(id);
+        return slot != null ? neighbourScores[slot] : NO_SCORES;
+    }
+
+    /**
+     * Adds or replaces a document.
+     *
+     * @return ids whose neighbour lists changed, including this one
+     */
+    public Set<Integer> put(int id, Collection<String> tokens) {
+        Set<Integer> changed = new LinkedHashSet<>();
+        if (slotOf.containsKey(id)) {
+            changed.addAll(remove(id));
+        }
+
+        int slot = allocate(id);
+        int[][] counts = count(tokens);
+        register(slot, counts[0]);
+        vectorize(slot, counts[0], counts[1]);
+        indexPostings(slot);
+
+        int touchedCount = accumulate(slot);
+        assignNeighbours(slot, touchedCount);
+        for (int i = 0; i < touchedCount; i++) {
+            int other = touched[i];
+            if (offer(other, id, accumulator[other])) {
+                changed.add(ids[other]);
+            }
+        }
+        resetAccumulator(touchedCount);
+        changed.add(id);
+        return changed;
+    }
+
+    /**
+     * @return ids whose neighbour lists changed, including the removed one; empty if it was not indexed
+     */
+    public Set<Integer> remove(int id) {
+        Integer boxed = slotOf.get(id);
+        if (boxed == null) {
+            return Set.of();
+        }
+        int slot = boxed;
+
+        // Benzerlik simetrik: bu belgeyi listesinde tutan her belge, kendi terimlerinin posting'lerinde de görünür
+        int touchedCount = accumulate(slot);
+        int[] affected = new int[touchedCount];
+        int affectedCount = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            if (indexOf(neighbourIds[touched[i]], id) >= 0) {
+                affected[affectedCount++] = touched[i];
+            }
+        }
+        resetAccumulator(touchedCount);
+
+        unindexPostings(slot);
+        for (int term : distinctTerms[slot]) {
+            documentFrequency[term]--;
+        }
+        release(slot);
+
+        Set<Integer> changed = new LinkedHashSet<>();
+        for (int i = 0; i < affectedCount; i++) {
+            int other = affected[i];
+            int count = accumulate(other);
+            assignNeighbours(other, count);
+            resetAccumulator(count);
+            changed.add(ids[other]);
+        }
+        changed.add(id);
+        return changed;
+    }
+
+    private int allocate(int id) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            slot = slotCount++;
+            if (slot == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                distinctTerms = Arrays.copyOf(distinctTerms, capacity);
+                vectorTerms = Arrays.copyOf(vectorTerms, capacity);
+                vectorWeights = Arrays.copyOf(vectorWeights, capacity);
+                neighbourIds = Arrays.copyOf(neighbourIds, capacity);
+                neighbourScores = Arrays.copyOf(neighbourScores, capacity);
+                accumulator = Arrays.copyOf(accumulator, capacity);
+                touched = Arrays.copyOf(touched, capacity);
+                touchedEpoch = Arrays.copyOf(touchedEpoch, capacity);
+            }
+        }
+        ids[slot] = id;
+        neighbourIds[slot] = NO_IDS;
+        neighbourScores[slot] = NO_SCORES;
+        slotOf.put(id, slot);
+        size++;
+        return slot;
+    }
+
+    private void release(int slot) {
+        slotOf.remove(ids[slot]);
+        distinctTerms[slot] = null;
+        vectorTerms[slot] = null;
+        vectorWeights[slot] = null;
+        neighbourIds[slot] = NO_IDS;
+        neighbourScores[slot] = NO_SCORES;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+        size--;
+    }
+
+    private void register(int slot, int[] terms) {
+        distinctTerms[slot] = terms;
+        for (int term : terms) {
+            documentFrequency[term]++;
+        }
+    }
+
+    // [0]: sıralı farklı terim kimlikleri, [1]: her birinin belgedeki tekrar sayısı
+    private int[][] count(Collection<String> tokens) {
+        int[] sequence = new int[tokens.size()];
+        int n = 0;
+        for (String token : tokens) {
+            sequence[n++] = termIdOf(token);
+        }
+        Arrays.sort(sequence);
+
+        int[] terms = new int[n];
+        int[] counts = new int[n];
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct > 0 && terms[distinct - 1] == sequence[i]) {
+                counts[distinct - 1]++;
+            } else {
+                terms[distinct] = sequence[i];
+                counts[distinct++] = 1;
+            }
+        }
+        return new int[][]{Arrays.copyOf(terms, distinct), Arrays.copyOf(counts, distinct)};
+    }
+
+    private int termIdOf(String token) {
+        Integer existing = termIds.get(token);
+        if (existing != null) {
+            return existing;
+        }
+        int term = termCount++;
+        if (term == documentFrequency.length) {
+            int capacity = documentFrequency.length * 2;
+            documentFrequency = Arrays.copyOf(documentFrequency, capacity);
+            postingSlots = Arrays.copyOf(postingSlots, capacity);
+            postingWeights = Arrays.copyOf(postingWeights, capacity);
+            postingLength = Arrays.copyOf(postingLength, capacity);
+        }
+        termIds.put(token, term);
+        return term;
+    }
+
+    private void vectorize(int slot, int[] terms, int[] counts) {
+        boolean prune = size >= MIN_DOCUMENTS_FOR_PRUNING;
+        int[] keptTerms = new int[terms.length];
+        float[] keptWeights = new float[terms.length];
+        int kept = 0;
+        for (int i = 0; i < terms.length; i++) {
+            int df = documentFrequency[terms[i]];
+            if (prune && (long) df * COMMON_TERM_DIVISOR > size) {
+                continue;
+            }
+            double idf = Math.log((1.0 + size) / (1.0 + df)) + 1.0;
+            keptTerms[kept] = terms[i];
+            keptWeights[kept++] = (float) ((1.0 + Math.log(counts[i])) * idf);
+        }
+
+        if (kept > MAX_TERMS_PER_DOCUMENT) {
+            // Pozitif float'ların bit deseni sayısal sırayla aynıdır: ağırlık ve konum tek long'da sıralanır
+            long[] keys = new long[kept];
+            for (int i = 0; i < kept; i++) {
+                keys[i] = ((long) Float.floatToIntBits(keptWeights[i]) << 32) | i;
+            }
+            Arrays.sort(keys);
+            int[] topTerms = new int[MAX_TERMS_PER_DOCUMENT];
+            float[] topWeights = new float[MAX_TERMS_PER_DOCUMENT];
+            for (int i = 0; i < MAX_TERMS_PER_DOCUMENT; i++) {
+                int position = (int) keys[kept - 1 - i];
+                topTerms[i] = keptTerms[position];
+                topWeights[i] = keptWeights[position];
+            }
+            keptTerms = topTerms;
+            keptWeights = topWeights;
+            kept = MAX_TERMS_PER_DOCUMENT;
+        }
+
+        double norm = 0;
+        for (int i = 0; i < kept; i++) {
+            norm += (double) keptWeights[i] * keptWeights[i];
+        }
+        norm = Math.sqrt(norm);
+        for (int i = 0; i < kept; i++) {
+            keptWeights[i] = (float) (keptWeights[i] / norm);
+        }
+        vectorTerms[slot] = Arrays.copyOf(keptTerms, kept);
+        vectorWeights[slot] = Arrays.copyOf(keptWeights, kept);
+    }
+
+    private void indexPostings(int slot) {
+        int[] terms = vectorTerms[slot];
+        float[] weights = vectorWeights[slot];
+        for (int i = 0; i < terms.length; i++) {
+            int term = terms[i];
+            int length = postingLength[term];
+            if (postingSlots[term] == null) {
+                postingSlots[term] = new int[4];
+                postingWeights[term] = new float[4];
+            } else if (length == postingSlots[term].length) {
+                postingSlots[term] = Arrays.copyOf(postingSlots[term], length * 2);
+                postingWeights[term] = Arrays.copyOf(postingWeights[term], length * 2);
+            }
+            postingSlots[term][length] = slot;
+            postingWeights[term][length] = weights[i];
+            postingLength[term] = length + 1;
+        }
+    }
+
+    private void unindexPostings(int slot) {
+        for (int term : vectorTerms[slot]) {
+            int[] slots = postingSlots[term];
+            int last = postingLength[term] - 1;
+            for (int i = 0; i <= last; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[last];
+                    postingWeights[term][i] = postingWeights[term][last];
+                    postingLength[term] = last;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dot products of the slot's vector with every document sharing a term, left in {@code accumulator};
+     * the documents reached are listed in {@code touched}.
+     */
+    private int accumulate(int slot) {
+        epoch++;
+        int count = 0;
+        int[] terms = vectorTerms[slot];
+        float[] weights = vectorWeights[slot];
+        for (int i = 0; i < terms.length; i++) {
+            int term = terms[i];
+            int[] slots = postingSlots[term];
+            float[] otherWeights = postingWeights[term];
+            float weight = weights[i];
+            for (int j = 0, length = postingLength[term]; j < length; j++) {
+                int other = slots[j];
+                if (other == slot) {
+                    continue;
+                }
+                if (touchedEpoch[other] != epoch) {
+                    touchedEpoch[other] = epoch;
+                    touched[count++] = other;
+                }
+                accumulator[other] += weight * otherWeights[j];
+            }
+        }
+        return count;
+    }
+
+    private void resetAccumulator(int touchedCount) {
+        for (int i = 0; i < touchedCount; i++) {
+            accumulator[touched[i]] = 0f;
+        }
+    }
+
+    private void assignNeighbours(int slot, int touchedCount) {
+        int[] topIds = new int[Math.min(k, touchedCount)];
+        float[] topScores = new float[topIds.length];
+        int n = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int other = touched[i];
+            n = insert(topIds, topScores, n, ids[other], accumulator[other]);
+        }
+        neighbourIds[slot] = topIds;
+        neighbourScores[slot] = topScores;
+    }
+
+    private boolean offer(int slot, int id, float score) {
+        int[] current = neighbourIds[slot];
+        int n = current.length;
+        if (n == k && !ranksBefore(id, score, current[n - 1], neighbourScores[slot][n - 1])) {
+            return false;
+        }
+        int[] nextIds = Arrays.copyOf(current, Math.min(k, n + 1));
+        float[] nextScores = Arrays.copyOf(neighbourScores[slot], nextIds.length);
+        insert(nextIds, nextScores, Math.min(n, nextIds.length), id, score);
+        neighbourIds[slot] = nextIds;
+        neighbourScores[slot] = nextScores;
+        return true;
+    }
+
+    // Sabit kapasiteli, azalan sıralı listeye ekleme; kapasite doluysa son eleman düşer
+    private static int insert(int[] topIds, float[] topScores, int n, int id, float score) {
+        int capacity = topIds.length;
+        if (capacity == 0 || (n == capacity && !ranksBefore(id, score, topIds[n - 1], topScores[n - 1]))) {
+            return n;
+        }
+        int position = Math.min(n, capacity - 1);
+        while (position > 0 && ranksBefore(id, score, topIds[position - 1], topScores[position - 1])) {
+            topIds[position] = topIds[position - 1];
+            topScores[position] = topScores[position - 1];
+            position--;
+        }
+        topIds[position] = id;
+        topScores[position] = score;
+        return Math.min(n + 1, capacity);
+    }
+
+    // Eşit puanda küçük kimlik önce gelir: sonuç ekleme sırasından bağımsızdır
+    private static boolean ranksBefore(int id, float score, int otherId, float otherScore) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static final class Builder {
+
+        private final TfIdfIndex index;
+        private int[][] pendingCounts = new int[256][];
+
+        private Builder(TfIdfIndex index) {
+            this.index = index;
+        }
+
+        public Builder add(int id, Collection<String> tokens) {
+            if (index.contains(id)) {
+                throw new IllegalArgumentException("Duplicate document " + id);
+            }
+            int slot = index.allocate(id);
+            int[][] counts = index.count(tokens);
+            index.register(slot, counts[0]);
+            if (slot >= pendingCounts.length) {
+                pendingCounts = Arrays.copyOf(pendingCounts, Math.max(slot + 1, pendingCounts.length * 2));
+            }
+            pendingCounts[slot] = counts[1];
+            return this;
+        }
+
+        public TfIdfIndex build() {
+            for (int slot = 0; slot < index.slotCount; slot++) {
+                index.vectorize(slot, index.distinctTerms[slot], pendingCounts[slot]);
+                index.indexPostings(slot);
+            }
+            pendingCounts = null;
+            for (int slot = 0; slot < index.slotCount; slot++) {
+                int touchedCount = index.accumulate(slot);
+                index.assignNeighbours(slot, touchedCount);
+                index.resetAccumulator(touchedCount);
+            }
+            return index;
+        }
+    }
+}
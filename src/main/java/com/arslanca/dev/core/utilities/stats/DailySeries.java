@@ -0,0 +1,204 @@
+package com.arslanca.dev.core.utilities.stats;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * A dense day-indexed series of counts backed by primitive arrays, with prefix sums, streak runs and
+ * running maxima kept alongside. Writing a day only marks the derived arrays dirty from that index on,
+ * so a weekly refresh of the tail costs a few days of work instead of a pass over every year.
+ * <p>
+ * Not thread-safe: callers own the locking and publish copies to readers.
+ */
+public class DailySeries {
+
+    private static final int INITIAL_CAPACITY = 512;
+
+    private LocalDate start;
+    private int size;
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private byte[] levels = new byte[INITIAL_CAPACITY];
+
+    // prefixSums[i + 1] = counts[0] + ... + counts[i]
+    private long[] prefixSums = new long[INITIAL_CAPACITY + 1];
+    // Aralıksız (count > 0) gün sayısı, i. günde biten
+    private int[] runEnding = new int[INITIAL_CAPACITY];
+    // [0..i] aralığındaki en uzun serinin bittiği indeks
+    private int[] longestRunEnd = new int[INITIAL_CAPACITY];
+    // [0..i] aralığındaki en yüksek günün indeksi
+    private int[] bestDayUpTo = new int[INITIAL_CAPACITY];
+
+    private int dirtyFrom;
+
+    /**
+     * @return {@code true} if the stored value changed
+     */
+    public boolean put(LocalDate date, int count, int level) {
+        if (start == null) {
+            start = date;
+        } else if (date.isBefore(start)) {
+            prepend((int) (start.toEpochDay() - date.toEpochDay()));
+            start = date;
+        }
+
+        int index = (int) (date.toEpochDay() - start.toEpochDay());
+        if (index >= size) {
+            ensureCapacity(index + 1);
+            // Aradaki boş günler sıfırla doldurulur
+            Arrays.fill(counts, size, index, 0);
+            Arrays.fill(levels, size, index, (byte) 0);
+            dirtyFrom = Math.min(dirtyFrom, size);
+            size = index + 1;
+        } else if (counts[index] == count && levels[index] == level) {
+            return false;
+        }
+
+        counts[index] = count;
+        levels[index] = (byte) level;
+        dirtyFrom = Math.min(dirtyFrom, index);
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LocalDate start() {
+        return start;
+    }
+
+    public LocalDate end() {
+        return size == 0 ? null : start.plusDays(size - 1);
+    }
+
+    public LocalDate dateAt(int index) {
+        return start.plusDays(index);
+    }
+
+    public int countAt(int index) {
+        return counts[index];
+    }
+
+    public int levelAt(int index) {
+        return levels[index];
+    }
+
+    public int[] counts() {
+        return Arrays.copyOf(counts, size);
+    }
+
+    public byte[] levels() {
+        return Arrays.copyOf(levels, size);
+    }
+
+    public long total() {
+        refresh();
+        return prefixSums[size];
+    }
+
+    /**
+     * Sum of the days in {@code [from, to]}, clamped to the stored range.
+     */
+    public long sumBetween(LocalDate from, LocalDate to) {
+        if (size == 0) {
+            return 0;
+        }
+        refresh();
+        int fromIndex = (int) Math.max(0, from.toEpochDay() - start.toEpochDay());
+        int toIndex = (int) Math.min(size - 1, to.toEpochDay() - start.toEpochDay());
+        return fromIndex > toIndex ? 0 : prefixSums[toIndex + 1] - prefixSums[fromIndex];
+    }
+
+    /**
+     * Average per day over the last {@code days} stored days (fewer if the series is shorter).
+     */
+    public double averageOfLast(int days) {
+        if (size == 0) {
+            return 0;
+        }
+        refresh();
+        int window = Math.min(days, size);
+        return (double) (prefixSums[size] - prefixSums[size - window]) / window;
+    }
+
+    /**
+     * GitHub-style current streak: a zero on the last day does not break it, since that day may
+     * simply not be over yet.
+     */
+    public int currentStreak() {
+        if (size == 0) {
+            return 0;
+        }
+        refresh();
+        int last = size - 1;
+        return counts[last] == 0 && last > 0 ? runEnding[last - 1] : runEnding[last];
+    }
+
+    public int longestStreak() {
+        if (size == 0) {
+            return 0;
+        }
+        refresh();
+        return runEnding[longestRunEnd[size - 1]];
+    }
+
+    public int longestStreakEndIndex() {
+        refresh();
+        return longestRunEnd[size - 1];
+    }
+
+    public int bestDayIndex() {
+        refresh();
+        return bestDayUpTo[size - 1];
+    }
+
+    private void refresh() {
+        if (dirtyFrom >= size) {
+            return;
+        }
+        for (int i = dirtyFrom; i < size; i++) {
+            prefixSums[i + 1] = prefixSums[i] + counts[i];
+
+            runEnding[i] = counts[i] == 0 ? 0 : (i == 0 ? 1 : runEnding[i - 1] + 1);
+
+            if (i == 0) {
+                longestRunEnd[i] = 0;
+                bestDayUpTo[i] = 0;
+            } else {
+                int previousLongest = longestRunEnd[i - 1];
+                longestRunEnd[i] = runEnding[i] > runEnding[previousLongest] ? i : previousLongest;
+
+                int previousBest = bestDayUpTo[i - 1];
+                bestDayUpTo[i] = counts[i] > counts[previousBest] ? i : previousBest;
+            }
+        }
+        dirtyFrom = Integer.MAX_VALUE;
+    }
+
+    private void prepend(int days) {
+        ensureCapacity(size + days);
+        System.arraycopy(counts, 0, counts, days, size);
+        System.arraycopy(levels, 0, levels, days, size);
+        Arrays.fill(counts, 0, days, 0);
+        Arrays.fill(levels, 0, days, (byte) 0);
+        size += days;
+        dirtyFrom = 0;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= counts.length) {
+            return;
+        }
+        int capacity = Math.max(required, counts.length * 2);
+        counts = Arrays.copyOf(counts, capacity);
+        levels = Arrays.copyOf(levels, capacity);
+        prefixSums = Arrays.copyOf(prefixSums, capacity + 1);
+        runEnding = Arrays.copyOf(runEnding, capacity);
+        longestRunEnd = Arrays.copyOf(longestRunEnd, capacity);
+        bestDayUpTo = Arrays.copyOf(bestDayUpTo, capacity);
+    }
+}
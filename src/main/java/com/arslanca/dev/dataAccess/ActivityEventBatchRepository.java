@@ -0,0 +1,11 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.entities.ActivityEvent;
+
+import java.util.List;
+
+public interface ActivityEventBatchRepository {
+
+    // Tek JDBC partisi; aynı id ile gelen olay mevcut satırı günceller
+    void upsertAll(List<ActivityEvent> events);
+}
@@ -0,0 +1,43 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.entities.ActivityEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batched upsert for {@link ActivityEventRepository}. The ids are assigned natural keys, so
+ * {@code saveAll} would call {@code merge} and issue a SELECT per row before each INSERT; here the
+ * whole compaction goes out as one JDBC batch and conflicts are resolved by Postgres.
+ */
+public class ActivityEventBatchRepositoryImpl implements ActivityEventBatchRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO activity_events (id, source, type, title, repository, url, count, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+                title = EXCLUDED.title, repository = EXCLUDED.repository, url = EXCLUDED.url,
+                count = EXCLUDED.count, occurred_at = EXCLUDED.occurred_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActivityEventBatchRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional
+    public void upsertAll(List<ActivityEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (ActivityEvent event : events) {
+            rows.add(new Object[]{event.getId(), event.getSource().name(), event.getType(), event.getTitle(),
+                    event.getRepository(), event.getUrl(), event.getCount(), Timestamp.from(event.getOccurredAt())});
+        }
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+}
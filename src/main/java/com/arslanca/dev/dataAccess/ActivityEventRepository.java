@@ -0,0 +1,20 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.entities.ActivityEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, String>, ActivityEventBatchRepository {
+
+    List<ActivityEvent> findAllByOrderByOccurredAtDescIdDesc(Pageable pageable);
+
+    // Keyset sayfalama: (occurredAt, id) indeksinde konumlanır, önceki satırları taramaz
+    @Query("select e from ActivityEvent e where e.occurredAt < :occurredAt "
+            + "or (e.occurredAt = :occurredAt and e.id < :id) order by e.occurredAt desc, e.id desc")
+    List<ActivityEvent> findOlderThan(@Param("occurredAt") Instant occurredAt, @Param("id") String id, Pageable pageable);
+}
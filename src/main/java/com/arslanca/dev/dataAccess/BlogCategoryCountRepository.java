@@ -0,0 +1,34 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.entities.BlogCategoryCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface BlogCategoryCountRepository extends JpaRepository<BlogCategoryCount, String> {
+
+    List<BlogCategoryCount> findAllByOrderByPostCountDescCategoryAsc();
+
+    // Tek satırlık upsert: aynı kategoriye eşzamanlı yazılar satır kilidinde sıralanır
+    @Modifying
+    @Query(value = "INSERT INTO blog_category_counts (category, post_count) VALUES (:category, :delta) "
+            + "ON CONFLICT (category) DO UPDATE SET post_count = blog_category_counts.post_count + EXCLUDED.post_count",
+            nativeQuery = true)
+    void adjust(@Param("category") String category, @Param("delta") long delta);
+
+    @Modifying
+    @Query("delete from BlogCategoryCount c where c.postCount <= 0")
+    void deleteEmpty();
+
+    // Sayaç tablosu ilk kez oluşturulduğunda mevcut yayındaki yazılardan doldurulur
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO blog_category_counts (category, post_count) "
+            + "SELECT category, COUNT(*) FROM blog_posts WHERE status = 'PUBLISHED' GROUP BY category",
+            nativeQuery = true)
+    int rebuildFromPosts();
+}
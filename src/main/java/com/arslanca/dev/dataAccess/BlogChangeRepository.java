@@ -0,0 +1,144 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.business.dto.responses.BlogChangeResponse;
+import com.arslanca.dev.business.dto.responses.BlogSummaryResponse;
+import com.arslanca.dev.entities.enums.BlogStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Change log of blog posts for delta sync. Every insert and update of a row in {@code blog_posts} stamps
+ * it with the next value of {@code blog_change_seq}, and every delete leaves a tombstone with its own
+ * value, all from triggers, so bulk imports and native updates are tracked the same way as edits.
+ * <p>
+ * Writers take a transaction-scoped advisory lock before they touch the table. A sequence value
+ * is therefore never handed out while a transaction holding a smaller one is still open, and a
+ * reader that has seen value n will never later find a newly committed change below n.
+ */
+@Slf4j
+@Repository
+public class BlogChangeRepository {
+
+    public static final List<String> SCHEMA = List.of(
+            "CREATE SEQUENCE IF NOT EXISTS blog_change_seq",
+            "ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS change_seq bigint",
+            "ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS updated_at timestamp(6) with time zone",
+            "CREATE TABLE IF NOT EXISTS blog_post_tombstones ("
+                    + "post_id integer PRIMARY KEY, "
+                    + "change_seq bigint NOT NULL, "
+                    + "deleted_at timestamp(6) with time zone NOT NULL)",
+            """
+            CREATE OR REPLACE FUNCTION blog_posts_lock_changes() RETURNS trigger LANGUAGE plpgsql AS $$
+            BEGIN
+                PERFORM pg_advisory_xact_lock(hashtext('blog_change_seq'));
+                RETURN NULL;
+            END $$""",
+            """
+            CREATE OR REPLACE FUNCTION blog_posts_track_change() RETURNS trigger LANGUAGE plpgsql AS $$
+            BEGIN
+                IF TG_OP = 'DELETE' THEN
+                    INSERT INTO blog_post_tombstones (post_id, change_seq, deleted_at)
+                    VALUES (OLD.id, nextval('blog_change_seq'), now())
+                    ON CONFLICT (post_id) DO UPDATE SET change_seq = EXCLUDED.change_seq, deleted_at = EXCLUDED.deleted_at;
+                    RETURN OLD;
+                END IF;
+                NEW.change_seq := nextval('blog_change_seq');
+                NEW.updated_at := now();
+                RETURN NEW;
+            END $$""",
+            // Tetikleyicilerden önce: mevcut yazılar oluşturulma sırasıyla numaralanır (nextval satır sırası garanti etmez)
+            """
+            WITH ordered AS (
+                SELECT id, row_number() OVER (ORDER BY created_at, id) AS n FROM blog_posts WHERE change_seq IS NULL)
+            UPDATE blog_posts b
+            SET change_seq = (SELECT last_value FROM blog_change_seq) + o.n, updated_at = COALESCE(b.created_at, now())
+            FROM ordered o
+            WHERE b.id = o.id""",
+            "SELECT setval('blog_change_seq', GREATEST((SELECT COALESCE(MAX(change_seq), 0) FROM blog_posts), "
+                    + "(SELECT COALESCE(MAX(change_seq), 0) FROM blog_post_tombstones), 1))",
+            // Kilit satır kilitlerinden önce, deyim düzeyinde alınır: yazarlar arasında kilitlenme (deadlock) olmaz
+            """
+            DO $$
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'blog_posts_lock_changes' AND tgrelid = 'blog_posts'::regclass) THEN
+                    CREATE TRIGGER blog_posts_lock_changes BEFORE INSERT OR UPDATE OR DELETE ON blog_posts
+                        FOR EACH STATEMENT EXECUTE FUNCTION blog_posts_lock_changes();
+                END IF;
+                IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'blog_posts_track_change' AND tgrelid = 'blog_posts'::regclass) THEN
+                    CREATE TRIGGER blog_posts_track_change BEFORE INSERT OR UPDATE OR DELETE ON blog_posts
+                        FOR EACH ROW EXECUTE FUNCTION blog_posts_track_change();
+                END IF;
+            END $$""",
+            "CREATE UNIQUE INDEX IF NOT EXISTS idx_blog_posts_change_seq ON blog_posts (change_seq)",
+            "CREATE UNIQUE INDEX IF NOT EXISTS idx_blog_post_tombstones_change_seq ON blog_post_tombstones (change_seq)");
+
+    // Her dal kendi indeksinden en fazla limit satır okur; birleşim yine change_seq sırasıyla kesilir
+    private static final String CHANGES_SINCE = """
+            (SELECT change_seq, id, status, title, category, created_date, created_at, excerpt, reading_minutes,
+                    updated_at AS changed_at
+             FROM blog_posts WHERE change_seq > ? ORDER BY change_seq LIMIT ?)
+            UNION ALL
+            (SELECT change_seq, post_id, NULL, NULL, NULL, NULL, NULL, NULL, NULL, deleted_at
+             FROM blog_post_tombstones WHERE change_seq > ? ORDER BY change_seq LIMIT ?)
+            ORDER BY change_seq
+            LIMIT ?
+            """;
+
+    // Yayında olmayan yazı herkese açık kopyadan silinmelidir: taslağa çekilen ya da henüz yayınlanmamış yazı DELETED görünür
+    private static final RowMapper<BlogChange> ROW_MAPPER = (rs, rowNum) -> {
+        int id = rs.getInt("id");
+        Instant changedAt = instantOf(rs.getTimestamp("changed_at"));
+        String status = rs.getString("status");
+        BlogChangeResponse change;
+        if (BlogStatus.PUBLISHED.name().equals(status)) {
+            Integer readingMinutes = rs.getObject("reading_minutes", Integer.class);
+            BlogSummaryResponse post = new BlogSummaryResponse(id, rs.getString("title"), rs.getString("category"),
+                    rs.getObject("created_date", LocalDate.class), instantOf(rs.getTimestamp("created_at")),
+                    rs.getString("excerpt"), readingMinutes, BlogStatus.PUBLISHED, null);
+            change = new BlogChangeResponse(BlogChangeResponse.Type.UPSERTED, id, changedAt, post);
+        } else {
+            change = new BlogChangeResponse(BlogChangeResponse.Type.DELETED, id, changedAt, null);
+        }
+        return new BlogChange(rs.getLong("change_seq"), change);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BlogChangeRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public record BlogChange(long sequence, BlogChangeResponse change) {
+    }
+
+    // Yazı tablosundaki her yazma işlemi tetikleyicilere bağlı; BlogManager'ın backfill'lerinden önce kurulur
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSchema() {
+        try {
+            SCHEMA.forEach(jdbcTemplate::execute);
+        } catch (Exception e) {
+            log.error("Blog change tracking could not be set up; /api/blogs/changes will miss writes", e);
+        }
+    }
+
+    public List<BlogChange> findSince(long sequence, int limit) {
+        return jdbcTemplate.query(CHANGES_SINCE, ROW_MAPPER, sequence, limit, sequence, limit, limit);
+    }
+
+    private static Instant instantOf(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
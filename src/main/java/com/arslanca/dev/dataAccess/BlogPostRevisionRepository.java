@@ -0,0 +1,30 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.business.dto.responses.BlogRevisionResponse;
+import com.arslanca.dev.entities.BlogPostRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BlogPostRevisionRepository extends JpaRepository<BlogPostRevision, Long> {
+
+    // data (TEXT) sütunu seçilmez
+    @Query("select new com.arslanca.dev.business.dto.responses.BlogRevisionResponse("
+            + "r.revision, r.title, r.category, r.contentLength, r.snapshot, r.createdAt) "
+            + "from BlogPostRevision r where r.postId = :postId order by r.revision desc")
+    List<BlogRevisionResponse> findSummaries(@Param("postId") int postId);
+
+    Optional<BlogPostRevision> findTopByPostIdOrderByRevisionDesc(int postId);
+
+    Optional<BlogPostRevision> findTopByPostIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(int postId, int revision);
+
+    List<BlogPostRevision> findAllByPostIdAndRevisionBetweenOrderByRevision(int postId, int from, int to);
+
+    @Modifying
+    @Query("delete from BlogPostRevision r where r.postId = :postId")
+    int deleteAllByPostId(@Param("postId") int postId);
+}
@@ -1,8 +1,107 @@
 package com.arslanca.dev.dataAccess;
 
+import com.arslanca.dev.business.dto.responses.BlogFeedEntry;
+import com.arslanca.dev.business.dto.responses.BlogSummaryResponse;
+import com.arslanca.dev.business.dto.transfer.BlogPostRow;
+import com.arslanca.dev.core.utilities.markdown.MarkdownRenderer;
 import com.arslanca.dev.entities.BlogPost;
+import com.arslanca.dev.entities.enums.BlogStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface BlogRepository extends JpaRepository<BlogPost, Integer> {
+
+    // content (TEXT) sütunu seçilmez
+    String SUMMARY = "select new com.arslanca.dev.business.dto.responses.BlogSummaryResponse("
+            + "b.id, b.title, b.category, b.createdDate, b.createdAt, b.excerpt, b.readingMinutes, b.status, b.publishAt) "
+            + "from BlogPost b ";
+
+    // Parametre değil sabit: Postgres kısmi indeksleri (WHERE status = 'PUBLISHED') ancak böyle eşleştirir
+    String PUBLISHED = "b.status = com.arslanca.dev.entities.enums.BlogStatus.PUBLISHED ";
+
     boolean existsByTitle(String title);
+
+    long countByStatus(BlogStatus status);
+
+    // COUNT(*) çalıştırmaz; toplam BlogManager'daki sayaçtan gelir
+    @Query(SUMMARY + "where " + PUBLISHED + "order by b.createdAt desc, b.id desc")
+    List<BlogSummaryResponse> findLatestSummaries(Pageable pageable);
+
+    // Keyset sayfalama: (created_at, id) indeksinde konumlanır, önceki satırları taramaz
+    @Query(SUMMARY + "where " + PUBLISHED + "and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id)) "
+            + "order by b.createdAt desc, b.id desc")
+    List<BlogSummaryResponse> findSummariesOlderThan(@Param("createdAt") Instant createdAt, @Param("id") int id, Pageable pageable);
+
+    // Kategori filtresi (category, created_at, id) indeksini kullanır
+    @Query(SUMMARY + "where " + PUBLISHED + "and b.category = :category order by b.createdAt desc, b.id desc")
+    List<BlogSummaryResponse> findLatestSummariesInCategory(@Param("category") String category, Pageable pageable);
+
+    @Query(SUMMARY + "where " + PUBLISHED + "and b.category = :category "
+            + "and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id)) "
+            + "order by b.createdAt desc, b.id desc")
+    List<BlogSummaryResponse> findSummariesInCategoryOlderThan(@Param("category") String category,
+                                                               @Param("createdAt") Instant createdAt,
+                                                               @Param("id") int id, Pageable pageable);
+
+    // Yönetim paneli: taslak ve zamanlanmış yazılar dahil
+    @Query(value = SUMMARY + "order by b.createdAt desc, b.id desc", countQuery = "select count(b) from BlogPost b")
+    Page<BlogSummaryResponse> findAllSummaries(Pageable pageable);
+
+    @Query("select min(b.publishAt) from BlogPost b where b.status = com.arslanca.dev.entities.enums.BlogStatus.SCHEDULED")
+    Instant findNextPublishAt();
+
+    List<BlogPost> findAllByStatusAndPublishAtLessThanEqual(BlogStatus status, Instant publishAt);
+
+    // Beslemeler satır satır yazılır: sürücü sonucu parça parça getirir, tüm yazılar bellekte tutulmaz (işlem içinde çağrılmalı)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("select new com.arslanca.dev.business.dto.responses.BlogFeedEntry(b.id, b.title, b.category, b.excerpt, b.createdAt) "
+            + "from BlogPost b where " + PUBLISHED + "order by b.createdAt desc, b.id desc")
+    Stream<BlogFeedEntry> streamFeedEntries();
+
+    // Dışa aktarım: DTO projeksiyonu kalıcılık bağlamına girmez, bellek kullanımı yazı sayısıyla büyümez
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.arslanca.dev.business.dto.transfer.BlogPostRow("
+            + "b.id, b.title, b.content, b.category, b.status, b.publishAt, b.createdAt) from BlogPost b order by b.id")
+    Stream<BlogPostRow> streamExportRows();
+
+    @Query("select b.title from BlogPost b")
+    List<String> findAllTitles();
+
+    @Query("select b.id from BlogPost b where b.rendererVersion is null or b.rendererVersion < :version order by b.id")
+    List<Integer> findIdsRenderedBefore(@Param("version") int version);
+
+    // Yalnızca render sütunları yazılır; bu arada düzenlenen yazı zaten güncel sürümle render edildiğinden atlanır
+    @Modifying
+    @Transactional
+    @Query("update BlogPost b set b.contentHtml = :contentHtml, b.toc = :toc, b.wordCount = :wordCount, "
+            + "b.excerpt = :excerpt, b.readingMinutes = :readingMinutes, b.rendererVersion = :version "
+            + "where b.id = :id and (b.rendererVersion is null or b.rendererVersion < :version)")
+    int updateRenderedIfStale(@Param("id") int id, @Param("contentHtml") String contentHtml,
+                              @Param("toc") List<MarkdownRenderer.Heading> toc, @Param("wordCount") Integer wordCount,
+                              @Param("excerpt") String excerpt, @Param("readingMinutes") Integer readingMinutes,
+                              @Param("version") int version);
+
+    // created_at sütunundan önce yazılmış yazılar gün başına yerleşir; aynı gün içinde id sırası korunur
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE blog_posts SET created_at = CAST(COALESCE(created_date, CURRENT_DATE) AS timestamp) AT TIME ZONE 'UTC' "
+            + "WHERE created_at IS NULL", nativeQuery = true)
+    int backfillCreatedAt();
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE blog_posts SET category = 'General' WHERE category IS NULL OR category = ''", nativeQuery = true)
+    int backfillDefaultCategory();
 }
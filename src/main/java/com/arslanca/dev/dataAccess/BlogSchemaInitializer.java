@@ -0,0 +1,52 @@
+package com.arslanca.dev.dataAccess;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Partial indexes over published blog posts. JPA cannot declare an index with a WHERE clause, so they
+ * are created here on startup (idempotently). Public queries filter on the literal
+ * {@code status = 'PUBLISHED'}, which lets Postgres match them; drafts and scheduled posts never
+ * take space in these indexes.
+ */
+@Slf4j
+@Component
+public class BlogSchemaInitializer {
+
+    public static final List<String> SCHEMA = List.of(
+            // status sütunundan önceki yazılar yayındaydı
+            "UPDATE blog_posts SET status = 'PUBLISHED' WHERE status IS NULL",
+            "DROP INDEX IF EXISTS idx_blog_posts_created_at_id",
+            "DROP INDEX IF EXISTS idx_blog_posts_category_created_at_id",
+            "CREATE INDEX IF NOT EXISTS idx_blog_posts_published_created_at_id "
+                    + "ON blog_posts (created_at DESC, id DESC) WHERE status = 'PUBLISHED'",
+            "CREATE INDEX IF NOT EXISTS idx_blog_posts_published_category "
+                    + "ON blog_posts (category, created_at DESC, id DESC) WHERE status = 'PUBLISHED'",
+            "CREATE INDEX IF NOT EXISTS idx_blog_posts_scheduled_publish_at "
+                    + "ON blog_posts (publish_at) WHERE status = 'SCHEDULED'");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BlogSchemaInitializer(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // Sayaçlar ve yayın zamanlayıcısı status sütununa güvenir; onlardan önce çalışır
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSchema() {
+        try {
+            SCHEMA.forEach(jdbcTemplate::execute);
+        } catch (Exception e) {
+            log.error("Blog partial indexes could not be created; public listings will scan the table", e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.arslanca.dev.dataAccess;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Full-text search over published {@code blog_posts}. JPA's schema update cannot create generated
+ * columns or GIN indexes, so both are added here on startup (idempotently). Title words weigh more
+ * than the category, which weighs more than the body.
+ */
+@Slf4j
+@Repository
+public class BlogSearchRepository {
+
+    // 'simple': kök bulma yok, Türkçe ve İngilizce yazılar aynı şekilde eşleşir; önek araması bunu telafi eder
+    public static final List<String> SCHEMA = List.of(
+            "ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS ("
+                    + "setweight(to_tsvector('simple', coalesce(title, '')), 'A') || "
+                    + "setweight(to_tsvector('simple', coalesce(category, '')), 'B') || "
+                    + "setweight(to_tsvector('simple', coalesce(content, '')), 'C')) STORED",
+            "DROP INDEX IF EXISTS idx_blog_posts_search_vector",
+            // Taslaklar indekste yer kaplamaz; sorgu aynı koşulu içerdiği için planlayıcı bu indeksi seçer
+            "CREATE INDEX IF NOT EXISTS idx_blog_posts_published_search_vector ON blog_posts USING GIN (search_vector) "
+                    + "WHERE status = 'PUBLISHED'");
+
+    // ts_headline pahalı: yalnızca LIMIT sonrası kalan satırlar için hesaplanır
+    private static final String SEARCH = """
+            SELECT p.id, p.title, p.category, p.created_date, p.rank,
+                   ts_headline('simple', replace(replace(replace(b.content, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                               to_tsquery('simple', :query),
+                               'StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=12, MaxFragments=2') AS snippet
+            FROM (
+                SELECT id, title, category, created_date, ts_rank(search_vector, query) AS rank
+                FROM blog_posts, to_tsquery('simple', :query) query
+                WHERE search_vector @@ query AND status = 'PUBLISHED'
+                %s
+                ORDER BY rank DESC, id DESC
+                LIMIT :limit
+            ) p
+            JOIN blog_posts b ON b.id = p.id
+            ORDER BY p.rank DESC, p.id DESC
+            """;
+
+    private static final String AFTER = "AND (ts_rank(search_vector, query) < :rank "
+            + "OR (ts_rank(search_vector, query) = :rank AND id < :id))";
+
+    private static final RowMapper<SearchRow> ROW_MAPPER = (rs, rowNum) -> new SearchRow(
+            rs.getInt("id"),
+            rs.getString("title"),
+            rs.getString("category"),
+            rs.getObject("created_date", LocalDate.class),
+            rs.getFloat("rank"),
+            rs.getString("snippet"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BlogSearchRepository(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSchema() {
+        try {
+            SCHEMA.forEach(statement -> jdbcTemplate.getJdbcTemplate().execute(statement));
+        } catch (Exception e) {
+            log.error("Blog search schema could not be created; search will fail until it is", e);
+        }
+    }
+
+    /**
+     * @param tsQuery an already sanitized {@code to_tsquery} expression
+     * @param afterId together with {@code afterRank}, the last hit of the previous page; null for the first page
+     */
+    public List<SearchRow> search(String tsQuery, Float afterRank, Integer afterId, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", tsQuery)
+                .addValue("limit", limit);
+        if (afterRank == null || afterId == null) {
+            return jdbcTemplate.query(SEARCH.formatted(""), parameters, ROW_MAPPER);
+        }
+        parameters.addValue("rank", afterRank).addValue("id", afterId);
+        return jdbcTemplate.query(SEARCH.formatted(AFTER), parameters, ROW_MAPPER);
+    }
+
+    public record SearchRow(int id, String title, String category, LocalDate createdDate, float rank, String snippet) {
+    }
+}
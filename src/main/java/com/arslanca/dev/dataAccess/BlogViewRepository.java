@@ -0,0 +1,82 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.business.dto.responses.MostReadBlogResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated view counts, one narrow row per post. Kept out of {@code blog_posts} so that counting
+ * views never rewrites the wide post rows or contends with edits; rows go away with their post.
+ */
+@Slf4j
+@Repository
+public class BlogViewRepository {
+
+    public static final List<String> SCHEMA = List.of(
+            // Boş alan bırakılır: sayaç güncellemeleri aynı sayfada kalır (HOT), indeks yazılmaz
+            "CREATE TABLE IF NOT EXISTS blog_view_counts ("
+                    + "post_id integer PRIMARY KEY REFERENCES blog_posts (id) ON DELETE CASCADE, "
+                    + "view_count bigint NOT NULL) WITH (fillfactor = 70)");
+
+    // Silinmiş bir yazının bekleyen sayımı tüm partiyi düşürmesin diye EXISTS ile atlanır
+    private static final String ADD = """
+            INSERT INTO blog_view_counts (post_id, view_count)
+            SELECT ?, ? WHERE EXISTS (SELECT 1 FROM blog_posts WHERE id = ?)
+            ON CONFLICT (post_id) DO UPDATE SET view_count = blog_view_counts.view_count + EXCLUDED.view_count
+            """;
+
+    private static final String MOST_READ = """
+            SELECT b.id, b.title, b.category, v.view_count
+            FROM blog_view_counts v
+            JOIN blog_posts b ON b.id = v.post_id
+            WHERE b.status = 'PUBLISHED'
+            ORDER BY v.view_count DESC, b.id DESC
+            LIMIT ?
+            """;
+
+    private static final RowMapper<MostReadBlogResponse> ROW_MAPPER = (rs, rowNum) -> new MostReadBlogResponse(
+            rs.getInt("id"),
+            rs.getString("title"),
+            rs.getString("category"),
+            rs.getLong("view_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BlogViewRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSchema() {
+        try {
+            SCHEMA.forEach(jdbcTemplate::execute);
+        } catch (Exception e) {
+            log.error("Blog view count table could not be created; views will stay in memory until it is", e);
+        }
+    }
+
+    /**
+     * Adds the given deltas in a single JDBC batch: one statement per post, not per view. The batch is
+     * one transaction, so a failure adds nothing and the caller can safely retry the same deltas.
+     */
+    @Transactional
+    public void addAll(Map<Integer, Long> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> rows.add(new Object[]{postId, delta, postId}));
+        jdbcTemplate.batchUpdate(ADD, rows);
+    }
+
+    public List<MostReadBlogResponse> findMostRead(int limit) {
+        return jdbcTemplate.query(MOST_READ, ROW_MAPPER, limit);
+    }
+}
@@ -0,0 +1,11 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.entities.ContributionDayRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ContributionDayRepository extends JpaRepository<ContributionDayRecord, LocalDate> {
+    List<ContributionDayRecord> findAllByOrderByDateAsc();
+}
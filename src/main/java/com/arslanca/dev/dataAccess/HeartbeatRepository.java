@@ -0,0 +1,10 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.entities.Heartbeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface HeartbeatRepository extends JpaRepository<Heartbeat, Long> {
+    List<Heartbeat> findByTimeGreaterThanEqualOrderByTimeAsc(Double time);
+}
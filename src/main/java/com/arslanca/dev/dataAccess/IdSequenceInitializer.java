@@ -0,0 +1,44 @@
+package com.arslanca.dev.dataAccess;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Moves the id sequences past the ids handed out while the tables still used IDENTITY columns.
+ * Schema update creates each sequence starting at 1; Hibernate's pooled optimizer then reserves
+ * blocks of 50 ids per {@code nextval}. Runs on every startup and never moves a sequence backwards.
+ */
+@Slf4j
+@Component
+public class IdSequenceInitializer {
+
+    private static final List<String> TABLES = List.of("blog_posts", "tech_stacks", "pinned_projects");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void alignSequences() {
+        for (String table : TABLES) {
+            try {
+                jdbcTemplate.queryForObject("SELECT setval('" + table + "_seq', GREATEST("
+                        + "(SELECT COALESCE(MAX(id), 0) FROM " + table + "), "
+                        + "(SELECT last_value FROM " + table + "_seq), 1))", Long.class);
+            } catch (Exception e) {
+                log.error("Id sequence of {} could not be aligned; inserts may collide with existing ids", table, e);
+            }
+        }
+    }
+}
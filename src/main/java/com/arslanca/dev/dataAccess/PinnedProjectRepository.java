@@ -1,8 +1,31 @@
 package com.arslanca.dev.dataAccess;
 
 import com.arslanca.dev.entities.PinnedProject;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface PinnedProjectRepository extends JpaRepository<PinnedProject, Long> {
     boolean existsByTitle(String title);
+
+    // Etiketler koleksiyon olduğundan varlık olarak okunur; çağıran her satırı yazdıktan sonra ayırır (detach)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select p from PinnedProject p order by p.id")
+    Stream<PinnedProject> streamAllOrderById();
+
+    @Query("select p.title from PinnedProject p")
+    List<String> findAllTitles();
+
+    // updated_at sütunundan önce eklenmiş projeler
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE pinned_projects SET updated_at = now() WHERE updated_at IS NULL", nativeQuery = true)
+    int backfillUpdatedAt();
 }
@@ -0,0 +1,15 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.entities.ProjectReadme;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectReadmeRepository extends JpaRepository<ProjectReadme, Long> {
+    Optional<ProjectReadme> findByRepoName(String repoName);
+
+    @Query("select r.repoName from ProjectReadme r")
+    List<String> findAllRepoNames();
+}
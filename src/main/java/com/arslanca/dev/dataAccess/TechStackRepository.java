@@ -1,8 +1,23 @@
 package com.arslanca.dev.dataAccess;
 
+import com.arslanca.dev.business.dto.transfer.TechStackRow;
 import com.arslanca.dev.entities.TechStack;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface TechStackRepository extends JpaRepository<TechStack, Integer> {
     boolean existsByName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.arslanca.dev.business.dto.transfer.TechStackRow(t.id, t.name, t.type) from TechStack t order by t.id")
+    Stream<TechStackRow> streamExportRows();
+
+    @Query("select t.name from TechStack t")
+    List<String> findAllNames();
 }
@@ -0,0 +1,46 @@
+package com.arslanca.dev.entities;
+
+import com.arslanca.dev.entities.enums.ActivitySource;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "activity_events",
+        indexes = @Index(name = "idx_activity_events_occurred_at_id", columnList = "occurredAt DESC, id DESC"))
+public class ActivityEvent {
+
+    // Kaynağa göre önekli doğal anahtar ("gh:<event id>", "wk:<millis>"); tekrar yazmak kopya üretmez
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ActivitySource source;
+
+    @Column(nullable = false, length = 32)
+    private String type;
+
+    @Column(nullable = false, length = 500)
+    private String title;
+
+    private String repository;
+
+    private String url;
+
+    // Birleştirilmiş push'larda commit sayısı, diğerlerinde 1
+    @Column(nullable = false)
+    private int count;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+}
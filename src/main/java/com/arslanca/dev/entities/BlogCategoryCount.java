@@ -0,0 +1,24 @@
+package com.arslanca.dev.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "blog_category_counts")
+public class BlogCategoryCount {
+
+    // Kategori başına tek satır, yalnızca yayındaki yazılar; yazı yayına girip çıktıkça aynı işlemde güncellenir
+    @Id
+    @Column(name = "category")
+    private String category;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+}
@@ -1,21 +1,30 @@
 package com.arslanca.dev.entities;
 
+import com.arslanca.dev.core.utilities.markdown.MarkdownRenderer;
+import com.arslanca.dev.entities.enums.BlogStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 
 @Entity
 @Data
+// İndeksler yalnızca yayındaki satırları kapsar (kısmi indeks), bkz. BlogSchemaInitializer
 @Table(name = "blog_posts")
 @AllArgsConstructor
 @NoArgsConstructor
 public class BlogPost {
 
+    // IDENTITY Hibernate'in toplu INSERT'ini kapatır; sekans 50'lik bloklar halinde ayrılır (pooled)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "blog_posts_seq")
+    @SequenceGenerator(name = "blog_posts_seq", sequenceName = "blog_posts_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
 
@@ -28,11 +37,46 @@ public class BlogPost {
     @Column(name = "created_date")
     private LocalDate createdDate = LocalDate.now();
 
-    @Column(name = "is_draft")
-    private Boolean isDraft; //gelecekte eklicem
+    // Sayfalama anahtarı (created_at, id); created_date gün içinde sıralamayı belirleyemez
+    @Column(name = "created_at")
+    private Instant createdAt = Instant.now();
+
+    // Herkese açık sorgular yalnızca PUBLISHED satırları okur
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 16)
+    private BlogStatus status = BlogStatus.PUBLISHED;
+
+    // Yalnızca SCHEDULED için dolu; BlogPublisher tam bu anda yayına alır
+    @Column(name = "publish_at")
+    private Instant publishAt;
 
     @Column(name = "category")
     private String category;
-    
+
+    // Liste sayfası TEXT sütununu okumasın diye yazarken hesaplanır
+    @Column(name = "excerpt", length = 300)
+    private String excerpt;
+
+    @Column(name = "reading_minutes")
+    private Integer readingMinutes;
+
+    // Aşağıdakiler content'ten yazarken üretilir; okuyucular hazır HTML alır
+    @Column(name = "content_html", columnDefinition = "TEXT")
+    private String contentHtml;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "toc")
+    private List<MarkdownRenderer.Heading> toc;
+
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    // MarkdownRenderer.VERSION'dan küçükse yeniden render edilir
+    @Column(name = "renderer_version")
+    private Integer rendererVersion;
+
+    // Tetikleyici yazar (her INSERT/UPDATE'te, change_seq ile birlikte; bkz. BlogChangeRepository); JPA yalnızca okur
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Instant updatedAt;
 
 }
@@ -0,0 +1,50 @@
+package com.arslanca.dev.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "blog_post_revisions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_blog_post_revisions_post_revision", columnNames = {"post_id", "revision"}))
+public class BlogPostRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Yazı silinince revizyonları da silinir; yabancı anahtar yok, içe aktarılan yazılar geçmişsiz başlar
+    @Column(name = "post_id", nullable = false)
+    private int postId;
+
+    // Yazı başına 1'den başlar, arada boşluk olmaz
+    @Column(name = "revision", nullable = false)
+    private int revision;
+
+    @Column(name = "title", length = 200, nullable = false)
+    private String title;
+
+    @Column(name = "category")
+    private String category;
+
+    // true: data içeriğin tamamı; false: bir önceki revizyona göre LineDiff deltası
+    @Column(name = "snapshot", nullable = false)
+    private boolean snapshot;
+
+    @Column(name = "data", columnDefinition = "TEXT", nullable = false)
+    private String data;
+
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,28 @@
+package com.arslanca.dev.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "contribution_days")
+public class ContributionDayRecord {
+
+    // Gün başına tek satır; aynı gün tekrar yazıldığında üzerine yazılır
+    @Id
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private int count;
+
+    @Column(nullable = false)
+    private int level;
+}
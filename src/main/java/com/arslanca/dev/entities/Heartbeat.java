@@ -0,0 +1,41 @@
+package com.arslanca.dev.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "heartbeats", indexes = @Index(name = "idx_heartbeats_time", columnList = "time"))
+public class Heartbeat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 1000)
+    private String entity;
+
+    private String type;
+
+    private String category;
+
+    private String project;
+
+    private String branch;
+
+    private String language;
+
+    private String editor;
+
+    private Boolean isWrite;
+
+    // epoch seconds, same unit the WakaTime plugins send
+    @Column(nullable = false)
+    private Double time;
+}
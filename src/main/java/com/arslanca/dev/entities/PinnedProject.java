@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 import java.util.List;
 
 @Entity
@@ -14,7 +17,8 @@ import java.util.List;
 public class PinnedProject {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pinned_projects_seq")
+    @SequenceGenerator(name = "pinned_projects_seq", sequenceName = "pinned_projects_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -31,4 +35,9 @@ public class PinnedProject {
     private List<String> tags;
 
     private String githubUrl;
+
+    // Beslemelerdeki proje kayıtlarının tarihi; ekleme ve her güncellemede Hibernate yazar
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 }
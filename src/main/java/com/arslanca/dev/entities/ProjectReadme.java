@@ -0,0 +1,37 @@
+package com.arslanca.dev.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "project_readmes")
+public class ProjectReadme {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String repoName;
+
+    // README blob SHA; değişmediyse yeniden render edilmez
+    @Column(nullable = false)
+    private String sha;
+
+    // GitHub'ın döndürdüğü ETag, bir sonraki If-None-Match için
+    private String etag;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String html;
+
+    private Instant renderedAt;
+}
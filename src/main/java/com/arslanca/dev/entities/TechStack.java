@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class TechStack {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tech_stacks_seq")
+    @SequenceGenerator(name = "tech_stacks_seq", sequenceName = "tech_stacks_seq", allocationSize = 50)
     private Integer id;
 
     private String name;
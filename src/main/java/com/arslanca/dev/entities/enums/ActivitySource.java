@@ -0,0 +1,6 @@
+package com.arslanca.dev.entities.enums;
+
+public enum ActivitySource {
+    GITHUB,
+    WAKATIME
+}
@@ -0,0 +1,7 @@
+package com.arslanca.dev.entities.enums;
+
+public enum BlogStatus {
+    DRAFT,
+    SCHEDULED,
+    PUBLISHED
+}
@@ -0,0 +1,70 @@
+package com.arslanca.dev.adapters;
+
+import com.arslanca.dev.adapters.models.ContributionCalendar;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GithubSnapshotParserTest {
+
+    @Test
+    void parse_shouldReadRepositoriesAndPinnedItemsInOnePass() throws Exception {
+        String json = """
+                {"data":{"user":{
+                  "repositories":{
+                    "pageInfo":{"hasNextPage":true,"endCursor":"Y3Vyc29y"},
+                    "nodes":[
+                      {"name":"dev","description":"Portfolio","url":"https://github.com/u/dev","stargazerCount":12,
+                       "pushedAt":"2026-01-02T10:00:00Z","primaryLanguage":{"name":"Java"}},
+                      {"name":"notes","description":null,"url":"https://github.com/u/notes","stargazerCount":0,
+                       "pushedAt":"2025-12-01T10:00:00Z","primaryLanguage":null}
+                    ]},
+                  "pinnedItems":{"nodes":[{"name":"dev","url":"https://github.com/u/dev","stargazerCount":12}]}
+                }}}
+                """;
+
+        GithubSnapshotParser.Page page = GithubSnapshotParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, page.repositories().size());
+        assertEquals("dev", page.repositories().get(0).getName());
+        assertEquals(12, page.repositories().get(0).getStars());
+        assertEquals("Java", page.repositories().get(0).getLanguage());
+        assertNull(page.repositories().get(1).getLanguage());
+        assertTrue(page.hasNextPage());
+        assertEquals("Y3Vyc29y", page.endCursor());
+        assertEquals(1, page.pinnedRepositories().size());
+    }
+
+    @Test
+    void parseContributions_shouldReadYearsAndDays() throws Exception {
+        String json = """
+                {"data":{"user":{"contributionsCollection":{
+                  "contributionYears":[2026,2025],
+                  "contributionCalendar":{"totalContributions":5,"weeks":[
+                    {"contributionDays":[
+                      {"contributionCount":0,"date":"2026-01-01","contributionLevel":"NONE"},
+                      {"contributionCount":5,"date":"2026-01-02","contributionLevel":"FOURTH_QUARTILE"}]}
+                  ]}
+                }}}}
+                """;
+
+        ContributionCalendar calendar = GithubSnapshotParser.parseContributions(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of(2026, 2025), calendar.contributionYears());
+        assertEquals(2, calendar.days().size());
+        assertEquals(4, calendar.days().get(1).level());
+    }
+
+    @Test
+    void parse_shouldFail_whenGraphqlReturnsErrors() {
+        String json = "{\"data\":null,\"errors\":[{\"message\":\"Bad credentials\"}]}";
+
+        assertThrows(IllegalStateException.class,
+                () -> GithubSnapshotParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+    }
+}
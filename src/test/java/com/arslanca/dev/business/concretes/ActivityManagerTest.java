@@ -0,0 +1,177 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.models.ConditionalResponse;
+import com.arslanca.dev.adapters.models.GithubEvent;
+import com.arslanca.dev.business.abstracts.StatsService;
+import com.arslanca.dev.business.dto.responses.ActivityEventResponse;
+import com.arslanca.dev.business.dto.responses.ActivityPageResponse;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.dataAccess.ActivityEventRepository;
+import com.arslanca.dev.entities.ActivityEvent;
+import com.arslanca.dev.entities.enums.ActivitySource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+class ActivityManagerTest {
+
+    private static final Instant T0 = Instant.parse("2025-03-01T10:00:00Z");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ActivityEventRepository activityEventRepository;
+    private GithubAdapter githubAdapter;
+    private StatsService statsService;
+    private ActivityManager activityManager;
+
+    @BeforeEach
+    void setUp() {
+        activityEventRepository = Mockito.mock(ActivityEventRepository.class);
+        githubAdapter = Mockito.mock(GithubAdapter.class);
+        statsService = Mockito.mock(StatsService.class);
+        activityManager = new ActivityManager(activityEventRepository, githubAdapter, statsService, 3);
+    }
+
+    @Test
+    void getActivity_shouldPageThroughBufferThenDatabase() {
+        // Tampon kapasitesi (3) dolu: daha eskileri veritabanında
+        List<ActivityEvent> newest = List.of(stored("gh:5", 50), stored("gh:4", 40), stored("gh:3", 30));
+        Mockito.when(activityEventRepository.findAllByOrderByOccurredAtDescIdDesc(any())).thenReturn(newest);
+        Mockito.when(activityEventRepository.findOlderThan(eq(T0.plusSeconds(30)), eq("gh:3"), any()))
+                .thenReturn(List.of(stored("gh:2", 20)));
+
+        ActivityPageResponse first = activityManager.getActivity(null, 2);
+        assertEquals(List.of("gh:5", "gh:4"), ids(first.items()));
+        assertNotNull(first.nextCursor());
+
+        ActivityPageResponse second = activityManager.getActivity(first.nextCursor(), 2);
+        assertEquals(List.of("gh:3", "gh:2"), ids(second.items()));
+        Mockito.verify(activityEventRepository).findAllByOrderByOccurredAtDescIdDesc(any());
+    }
+
+    @Test
+    void getActivity_shouldRejectMalformedCursorAndLimit() {
+        Mockito.when(activityEventRepository.findAllByOrderByOccurredAtDescIdDesc(any())).thenReturn(List.of());
+
+        assertThrows(BusinessException.class, () -> activityManager.getActivity("%%%", 10));
+        assertThrows(BusinessException.class, () -> activityManager.getActivity(null, 101));
+        assertNull(activityManager.getActivity(null, 10).nextCursor());
+    }
+
+    @Test
+    void pollGithubEvents_shouldIngestOnlyNewEvents_andReuseEtag() throws Exception {
+        Mockito.when(activityEventRepository.findAllByOrderByOccurredAtDescIdDesc(any()))
+                .thenReturn(List.of(stored("gh:100", 0)));
+        Mockito.when(githubAdapter.getPublicEvents(1, null)).thenReturn(new ConditionalResponse<>(false, "\"e1\"", List.of(
+                event("102", "WatchEvent", "{}", 60),
+                event("101", "PushEvent", "{\"ref\":\"refs/heads/main\",\"size\":2}", 30),
+                event("100", "PushEvent", "{\"ref\":\"refs/heads/main\",\"size\":1}", 0))));
+        Mockito.when(githubAdapter.getPublicEvents(1, "\"e1\"")).thenReturn(ConditionalResponse.notModified("\"e1\""));
+
+        activityManager.pollGithubEvents();
+        activityManager.pollGithubEvents();
+
+        List<ActivityEventResponse> items = activityManager.getActivity(null, 10).items();
+        assertEquals(List.of("gh:102", "gh:101", "gh:100"), ids(items));
+        assertEquals("Starred octo/dev", items.get(0).title());
+        assertEquals("Pushed 2 commits to main", items.get(1).title());
+        Mockito.verify(githubAdapter, Mockito.never()).getPublicEvents(eq(2), any());
+    }
+
+    @Test
+    void compact_shouldMergePushBurstsBeforeWriting() throws Exception {
+        Mockito.when(activityEventRepository.findAllByOrderByOccurredAtDescIdDesc(any())).thenReturn(List.of());
+        Mockito.when(githubAdapter.getPublicEvents(1, null)).thenReturn(new ConditionalResponse<>(false, "\"e1\"", List.of(
+                event("3", "PushEvent", "{\"ref\":\"refs/heads/main\",\"size\":3}", 1200),
+                event("2", "PushEvent", "{\"ref\":\"refs/heads/main\",\"size\":1}", 600),
+                event("1", "PushEvent", "{\"ref\":\"refs/heads/dev\",\"size\":1}", 0))));
+
+        activityManager.pollGithubEvents();
+        activityManager.compact();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActivityEvent>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(activityEventRepository).upsertAll(captor.capture());
+        List<ActivityEvent> written = captor.getValue();
+        assertEquals(2, written.size());
+        assertEquals("gh:3", written.get(1).getId());
+        assertEquals(4, written.get(1).getCount());
+        assertEquals("Pushed 4 commits to main", written.get(1).getTitle());
+
+        assertEquals(List.of("gh:3", "gh:1"), ids(activityManager.getActivity(null, 10).items()));
+    }
+
+    @Test
+    void sampleCodingStatus_shouldRecordOnlyTransitions() {
+        Mockito.when(activityEventRepository.findAllByOrderByOccurredAtDescIdDesc(any())).thenReturn(List.of());
+        Mockito.when(statsService.getCurrentStatus()).thenReturn(
+                status(false, null),
+                status(false, null),
+                status(true, "dev"),
+                status(true, "dev"),
+                status(true, "blog"),
+                status(false, null));
+
+        for (int i = 0; i < 6; i++) {
+            activityManager.sampleCodingStatus();
+        }
+
+        ActivityManager.CodingState idle = new ActivityManager.CodingState(false, null, null);
+        ActivityManager.CodingState coding = new ActivityManager.CodingState(true, "dev", "IntelliJ");
+        assertEquals("CODING_STARTED", ActivityManager.statusChange(idle, coding, T0).getType());
+        assertEquals("Started coding on dev in IntelliJ", ActivityManager.statusChange(idle, coding, T0).getTitle());
+        assertNull(ActivityManager.statusChange(coding, coding, T0));
+
+        activityManager.compact();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActivityEvent>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(activityEventRepository).upsertAll(captor.capture());
+        assertEquals(List.of("CODING_STARTED", "PROJECT_SWITCHED", "CODING_STOPPED"),
+                captor.getValue().stream().map(ActivityEvent::getType).toList());
+    }
+
+    @Test
+    void fromGithub_shouldSkipUninterestingEvents() throws Exception {
+        assertNull(ActivityManager.fromGithub(event("1", "PullRequestEvent", "{\"action\":\"synchronize\"}", 0)));
+        assertNull(ActivityManager.fromGithub(event("2", "GollumEvent", "{}", 0)));
+
+        ActivityEvent merged = ActivityManager.fromGithub(event("3", "PullRequestEvent",
+                "{\"action\":\"closed\",\"pull_request\":{\"number\":7,\"title\":\"Cache\",\"merged\":true,"
+                        + "\"html_url\":\"https://github.com/octo/dev/pull/7\"}}", 0));
+        assertEquals("Merged pull request #7: Cache", merged.getTitle());
+        assertEquals("https://github.com/octo/dev/pull/7", merged.getUrl());
+    }
+
+    private static ActivityEvent stored(String id, int secondsAfterT0) {
+        return ActivityEvent.builder()
+                .id(id)
+                .source(ActivitySource.GITHUB)
+                .type("STAR")
+                .title("Starred octo/dev")
+                .repository("octo/dev")
+                .count(1)
+                .occurredAt(T0.plusSeconds(secondsAfterT0))
+                .build();
+    }
+
+    private static GithubEvent event(String id, String type, String payload, int secondsAfterT0) throws Exception {
+        return new GithubEvent(id, type, new GithubEvent.Repo("octo/dev"), MAPPER.readTree(payload), T0.plusSeconds(secondsAfterT0));
+    }
+
+    private static StatsResponse status(boolean coding, String project) {
+        return StatsResponse.builder().isCodingNow(coding).projectName(project).ideName("IntelliJ").build();
+    }
+
+    private static List<String> ids(List<ActivityEventResponse> items) {
+        return items.stream().map(ActivityEventResponse::id).toList();
+    }
+}
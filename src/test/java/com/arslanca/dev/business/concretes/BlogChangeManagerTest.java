@@ -0,0 +1,71 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.dto.responses.BlogChangeResponse;
+import com.arslanca.dev.business.dto.responses.BlogChangesResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.dataAccess.BlogChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlogChangeManagerTest {
+
+    private BlogChangeRepository blogChangeRepository;
+    private BlogChangeManager blogChangeManager;
+
+    @BeforeEach
+    void setUp() {
+        blogChangeRepository = Mockito.mock(BlogChangeRepository.class);
+        blogChangeManager = new BlogChangeManager(blogChangeRepository);
+    }
+
+    @Test
+    void getChanges_shouldStartFromTheBeginning_andReturnTheLastSequenceAsCursor() {
+        Mockito.when(blogChangeRepository.findSince(0, 3)).thenReturn(List.of(deleted(4, 7), deleted(9, 8)));
+
+        BlogChangesResponse response = blogChangeManager.getChanges(null, 2);
+
+        assertEquals(List.of(7, 8), response.changes().stream().map(BlogChangeResponse::id).toList());
+        assertEquals(BlogChangeManager.encode(9), response.cursor());
+        assertFalse(response.hasMore());
+    }
+
+    @Test
+    void getChanges_shouldTrimTheExtraRow_andReportMore() {
+        Mockito.when(blogChangeRepository.findSince(9, 3)).thenReturn(List.of(deleted(10, 1), deleted(11, 2), deleted(12, 3)));
+
+        BlogChangesResponse response = blogChangeManager.getChanges(BlogChangeManager.encode(9), 2);
+
+        assertEquals(2, response.changes().size());
+        assertEquals(BlogChangeManager.encode(11), response.cursor());
+        assertTrue(response.hasMore());
+    }
+
+    @Test
+    void getChanges_shouldKeepTheCursor_whenNothingChanged() {
+        Mockito.when(blogChangeRepository.findSince(42, 101)).thenReturn(List.of());
+
+        BlogChangesResponse response = blogChangeManager.getChanges(BlogChangeManager.encode(42), 100);
+
+        assertTrue(response.changes().isEmpty());
+        assertEquals(BlogChangeManager.encode(42), response.cursor());
+    }
+
+    @Test
+    void getChanges_shouldRejectBadCursorsAndLimits() {
+        assertThrows(BusinessException.class, () -> blogChangeManager.getChanges("not-a-cursor", 10));
+        assertThrows(BusinessException.class, () -> blogChangeManager.getChanges(BlogChangeManager.encode(-1), 10));
+        assertThrows(BusinessException.class, () -> blogChangeManager.getChanges(null, BlogChangeManager.MAX_LIMIT + 1));
+        Mockito.verifyNoInteractions(blogChangeRepository);
+    }
+
+    private static BlogChangeRepository.BlogChange deleted(long sequence, int id) {
+        return new BlogChangeRepository.BlogChange(sequence,
+                new BlogChangeResponse(BlogChangeResponse.Type.DELETED, id, Instant.EPOCH, null));
+    }
+}
@@ -1,14 +1,28 @@
 package com.arslanca.dev.business.concretes;
 
 import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
+import com.arslanca.dev.business.dto.responses.BlogCategoryResponse;
+import com.arslanca.dev.business.dto.responses.BlogPageResponse;
+import com.arslanca.dev.business.dto.responses.BlogSearchResponse;
+import com.arslanca.dev.business.dto.responses.BlogSummaryResponse;
 import com.arslanca.dev.business.dto.responses.GetBlogResponse;
 import com.arslanca.dev.business.mappers.BlogMapper;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.core.utilities.markdown.MarkdownRenderer;
+import com.arslanca.dev.dataAccess.BlogCategoryCountRepository;
 import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.dataAccess.BlogSearchRepository;
+import com.arslanca.dev.entities.BlogCategoryCount;
 import com.arslanca.dev.entities.BlogPost;
+import com.arslanca.dev.entities.enums.BlogStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,40 +33,133 @@ class BlogManagerTest {
 
     private BlogRepository blogRepository;
     private BlogMapper blogMapper;
+    private BlogSearchRepository blogSearchRepository;
+    private BlogCategoryCountRepository blogCategoryCountRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     @BeforeEach
     void setUp() {
         blogRepository = org.mockito.Mockito.mock(BlogRepository.class);
         blogMapper = org.mockito.Mockito.mock(BlogMapper.class);
-        blogManager = new BlogManager(blogRepository, blogMapper);
+        blogSearchRepository = org.mockito.Mockito.mock(BlogSearchRepository.class);
+        blogCategoryCountRepository = org.mockito.Mockito.mock(BlogCategoryCountRepository.class);
+        eventPublisher = org.mockito.Mockito.mock(ApplicationEventPublisher.class);
+        blogManager = new BlogManager(blogRepository, blogMapper, blogSearchRepository, new MarkdownRenderer(),
+                blogCategoryCountRepository, eventPublisher);
     }
 
     @Test
-    void getAll_shouldReturnListOfGetBlogResponse() {
-        BlogPost blogPost = new BlogPost();
-        blogPost.setId(1);
-        blogPost.setTitle("Test Title");
+    void getAll_shouldReturnSummariesWithoutContent() {
+        BlogSummaryResponse summary = new BlogSummaryResponse(1, "Test Title", "General", null, null, "Short excerpt", 3, BlogStatus.PUBLISHED, null);
 
-        List<BlogPost> blogList = List.of(blogPost);
-        org.springframework.data.domain.Page<BlogPost> blogPage = new org.springframework.data.domain.PageImpl<>(blogList);
+        Mockito.when(blogRepository.findLatestSummaries(Mockito.any(org.springframework.data.domain.Pageable.class)))
+                .thenReturn(List.of(summary));
+        Mockito.when(blogRepository.countByStatus(BlogStatus.PUBLISHED)).thenReturn(1L);
 
-        GetBlogResponse response = new GetBlogResponse();
-        response.setId(1);
-        response.setTitle("Test Title");
+        org.springframework.data.domain.Page<BlogSummaryResponse> result = blogManager.getAll(0, 5, null);
 
-        Mockito.when(blogRepository.findAll(Mockito.any(org.springframework.data.domain.Pageable.class)))
-                .thenReturn(blogPage);
+        assertEquals(1, result.getContent().size());
+        assertEquals("Test Title", result.getContent().get(0).getTitle());
+        assertEquals("Short excerpt", result.getContent().get(0).getExcerpt());
 
-        Mockito.when(blogMapper.toResponse(blogPost)).thenReturn(response);
+        Mockito.verify(blogRepository, Mockito.times(1)).findLatestSummaries(Mockito.any(org.springframework.data.domain.Pageable.class));
+        Mockito.verify(blogRepository, Mockito.never()).findAll(Mockito.any(org.springframework.data.domain.Pageable.class));
+    }
 
-        org.springframework.data.domain.Page<GetBlogResponse> result = blogManager.getAll(0, 5);
+    @Test
+    void getLatest_shouldContinueFromCursorWithoutOffset() {
+        Instant day = Instant.parse("2025-03-01T10:00:00Z");
+        BlogSummaryResponse newest = new BlogSummaryResponse(7, "Newest", "Java", null, day.plusSeconds(60), "a", 1, BlogStatus.PUBLISHED, null);
+        BlogSummaryResponse sameInstant = new BlogSummaryResponse(5, "Older", "Java", null, day, "b", 1, BlogStatus.PUBLISHED, null);
+        Mockito.when(blogRepository.findLatestSummaries(Mockito.any())).thenReturn(List.of(newest, sameInstant));
+        Mockito.when(blogRepository.findSummariesOlderThan(Mockito.eq(day), Mockito.eq(5), Mockito.any())).thenReturn(List.of());
+        Mockito.when(blogRepository.countByStatus(BlogStatus.PUBLISHED)).thenReturn(2L);
+
+        BlogPageResponse first = blogManager.getLatest(null, 2, null);
+        assertEquals(2, first.items().size());
+        assertNotNull(first.nextCursor());
+
+        BlogPageResponse second = blogManager.getLatest(first.nextCursor(), 2, null);
+        assertTrue(second.items().isEmpty());
+        assertNull(second.nextCursor());
+        assertEquals(2, second.totalElements());
+
+        assertThrows(BusinessException.class, () -> blogManager.getLatest("%%%", 2, null));
+        assertThrows(BusinessException.class, () -> blogManager.getLatest(null, BlogManager.MAX_LIMIT + 1, null));
+    }
 
-        assertEquals(1, result.getContent().size());
-        assertEquals("Test Title", result.getContent().get(0).getTitle());
+    @Test
+    void countPosts_shouldCountOnceAndFollowWrites() {
+        Mockito.when(blogRepository.countByStatus(BlogStatus.PUBLISHED)).thenReturn(4L);
+        Mockito.when(blogRepository.existsByTitle(Mockito.any())).thenReturn(false);
+        Mockito.when(blogMapper.toBlogPost(Mockito.any())).thenReturn(new BlogPost());
+        Mockito.when(blogRepository.findById(1)).thenReturn(java.util.Optional.of(new BlogPost()));
+
+        assertEquals(4, blogManager.countPosts());
+        CreateBlogRequest request = new CreateBlogRequest();
+        request.setTitle("New");
+        blogManager.add(request);
+        assertEquals(5, blogManager.countPosts());
+        blogManager.delete(1);
+        blogManager.delete(1);
+        assertEquals(3, blogManager.countPosts());
+
+        Mockito.verify(blogRepository, Mockito.times(1)).countByStatus(BlogStatus.PUBLISHED);
+    }
+
+    @Test
+    void countPosts_shouldIgnoreAWrite_whoseTransactionRolledBack() {
+        Mockito.when(blogRepository.countByStatus(BlogStatus.PUBLISHED)).thenReturn(4L);
+        Mockito.when(blogMapper.toBlogPost(Mockito.any())).thenReturn(new BlogPost());
+        assertEquals(4, blogManager.countPosts());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            CreateBlogRequest request = new CreateBlogRequest();
+            request.setTitle("New");
+            blogManager.add(request);
+            assertEquals(4, blogManager.countPosts());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(4, blogManager.countPosts());
+    }
+
+    @Test
+    void getById_shouldReturnFullPost_orThrowWhenMissing() {
+        BlogPost blogPost = new BlogPost();
+        blogPost.setId(1);
+        blogPost.setContent("Full content");
+        GetBlogResponse response = new GetBlogResponse();
+        response.setContent("Full content");
+        Mockito.when(blogRepository.findById(1)).thenReturn(java.util.Optional.of(blogPost));
+        Mockito.when(blogRepository.findById(2)).thenReturn(java.util.Optional.empty());
+        Mockito.when(blogMapper.toResponse(blogPost)).thenReturn(response);
 
-        Mockito.verify(blogRepository, Mockito.times(1)).findAll(Mockito.any(org.springframework.data.domain.Pageable.class));
+        assertEquals("Full content", blogManager.getById(1).getContent());
+        assertThrows(com.arslanca.dev.core.utilities.exceptions.types.NotFoundException.class, () -> blogManager.getById(2));
     }
 
+    @Test
+    void render_shouldStoreHtmlAndSummaryAlongsideSource() {
+        BlogPost blogPost = new BlogPost();
+        blogPost.setContent("# Title\n\nSome **bold** text with a [link](https://example.com).\n\n" + "word ".repeat(450));
+
+        blogManager.render(blogPost);
+
+        assertTrue(blogPost.getContentHtml().contains("<h1 id=\"title\">"));
+        assertEquals(List.of(new MarkdownRenderer.Heading(1, "title", "Title")), blogPost.getToc());
+        assertEquals(457, blogPost.getWordCount());
+        assertEquals(MarkdownRenderer.VERSION, blogPost.getRendererVersion());
+
+        assertTrue(blogPost.getExcerpt().startsWith("Title Some bold text with a link"));
+        assertTrue(blogPost.getExcerpt().endsWith("…"));
+        assertTrue(blogPost.getExcerpt().length() <= BlogManager.EXCERPT_LENGTH + 1);
+        assertEquals(3, blogPost.getReadingMinutes());
+    }
 
     @Test
     void add_shouldSaveBlog_whenTitleDoesNotExist() {
@@ -68,6 +175,7 @@ class BlogManagerTest {
         blogManager.add(request);
 
         Mockito.verify(blogRepository, Mockito.times(1)).save(blogPost);
+        Mockito.verify(eventPublisher).publishEvent(Mockito.any(FeedManager.ContentChanged.class));
     }
 
     @Test
@@ -102,6 +210,191 @@ class BlogManagerTest {
         Mockito.verify(blogRepository, Mockito.times(1)).save(existingBlogPost);
     }
 
+    @Test
+    void update_shouldSkipRendering_whenContentAndRendererAreUnchanged() {
+        BlogPost existingBlogPost = new BlogPost();
+        existingBlogPost.setId(1);
+        existingBlogPost.setContent("Same body");
+        existingBlogPost.setContentHtml("<p>stored</p>");
+        existingBlogPost.setRendererVersion(MarkdownRenderer.VERSION);
+        CreateBlogRequest request = new CreateBlogRequest();
+        request.setTitle("New Title");
+
+        Mockito.when(blogRepository.findById(1)).thenReturn(java.util.Optional.of(existingBlogPost));
+
+        blogManager.update(1, request);
+        assertEquals("<p>stored</p>", existingBlogPost.getContentHtml());
+
+        existingBlogPost.setRendererVersion(MarkdownRenderer.VERSION - 1);
+        blogManager.update(1, request);
+        assertTrue(existingBlogPost.getContentHtml().contains("<p>Same body</p>"));
+    }
+
+    @Test
+    void rerenderStale_shouldRenderOutdatedPostsInBatches() {
+        List<Integer> ids = java.util.stream.IntStream.rangeClosed(1, 25).boxed().toList();
+        Mockito.when(blogRepository.findIdsRenderedBefore(MarkdownRenderer.VERSION)).thenReturn(ids);
+        Mockito.when(blogRepository.findAllById(Mockito.any())).thenAnswer(invocation -> {
+            List<BlogPost> posts = new java.util.ArrayList<>();
+            for (Integer id : invocation.<Iterable<Integer>>getArgument(0)) {
+                BlogPost post = new BlogPost();
+                post.setId(id);
+                post.setContent("Body " + id);
+                posts.add(post);
+            }
+            return posts;
+        });
+
+        blogManager.rerenderStale();
+
+        @SuppressWarnings("unchecked")
+        org.mockito.ArgumentCaptor<Iterable<Integer>> batches = org.mockito.ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(blogRepository, Mockito.times(2)).findAllById(batches.capture());
+        assertEquals(List.of(20, 5), batches.getAllValues().stream().map(batch -> ((List<?>) batch).size()).toList());
+        Mockito.verify(blogRepository).updateRenderedIfStale(Mockito.eq(7), Mockito.contains("<p>Body 7</p>"),
+                Mockito.any(), Mockito.any(), Mockito.eq("Body 7"), Mockito.eq(1), Mockito.eq(MarkdownRenderer.VERSION));
+        Mockito.verify(blogRepository, Mockito.times(25)).updateRenderedIfStale(Mockito.anyInt(), Mockito.any(),
+                Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(MarkdownRenderer.VERSION));
+        Mockito.verify(blogRepository, Mockito.never()).saveAll(Mockito.any());
+    }
+
+    @Test
+    void update_shouldMoveCategoryCount_andRefreshFacets() {
+        BlogPost existingBlogPost = new BlogPost();
+        existingBlogPost.setId(1);
+        existingBlogPost.setCategory("Java");
+        CreateBlogRequest request = new CreateBlogRequest();
+        request.setCategory("Spring");
+        Mockito.when(blogRepository.findById(1)).thenReturn(java.util.Optional.of(existingBlogPost));
+        Mockito.doAnswer(invocation -> {
+            existingBlogPost.setCategory(request.getCategory());
+            return null;
+        }).when(blogMapper).updateBlogPostFromRequest(request, existingBlogPost);
+        Mockito.when(blogCategoryCountRepository.findAllByOrderByPostCountDescCategoryAsc())
+                .thenReturn(List.of(new BlogCategoryCount("Java", 2)))
+                .thenReturn(List.of(new BlogCategoryCount("Java", 1), new BlogCategoryCount("Spring", 1)));
+
+        assertEquals(List.of(new BlogCategoryResponse("Java", 2)), blogManager.getCategories());
+        assertEquals(List.of(new BlogCategoryResponse("Java", 2)), blogManager.getCategories());
+
+        blogManager.update(1, request);
+
+        Mockito.verify(blogCategoryCountRepository).adjust("Java", -1);
+        Mockito.verify(blogCategoryCountRepository).adjust("Spring", 1);
+        assertEquals(2, blogManager.getCategories().size());
+        Mockito.verify(blogCategoryCountRepository, Mockito.times(2)).findAllByOrderByPostCountDescCategoryAsc();
+    }
+
+    @Test
+    void getCategories_shouldNotKeepCountsRead_whileAWriteCommitted() {
+        BlogPost existingBlogPost = new BlogPost();
+        existingBlogPost.setId(1);
+        existingBlogPost.setCategory("Java");
+        CreateBlogRequest request = new CreateBlogRequest();
+        request.setCategory("Spring");
+        Mockito.when(blogRepository.findById(1)).thenReturn(java.util.Optional.of(existingBlogPost));
+        Mockito.doAnswer(invocation -> {
+            existingBlogPost.setCategory(request.getCategory());
+            return null;
+        }).when(blogMapper).updateBlogPostFromRequest(request, existingBlogPost);
+        // İlk okuma sürerken bir güncelleme commit edilir; okunan sayılar artık eskidir
+        Mockito.when(blogCategoryCountRepository.findAllByOrderByPostCountDescCategoryAsc())
+                .thenAnswer(invocation -> {
+                    blogManager.update(1, request);
+                    return List.of(new BlogCategoryCount("Java", 2));
+                })
+                .thenReturn(List.of(new BlogCategoryCount("Java", 1), new BlogCategoryCount("Spring", 1)));
+
+        blogManager.getCategories();
+
+        assertEquals(2, blogManager.getCategories().size());
+        Mockito.verify(blogCategoryCountRepository, Mockito.times(2)).findAllByOrderByPostCountDescCategoryAsc();
+    }
+
+    @Test
+    void getLatest_shouldFilterByCategory_andTakeTotalFromFacets() {
+        Mockito.when(blogRepository.findLatestSummariesInCategory(Mockito.eq("Java"), Mockito.any())).thenReturn(List.of());
+        Mockito.when(blogCategoryCountRepository.findAllByOrderByPostCountDescCategoryAsc())
+                .thenReturn(List.of(new BlogCategoryCount("Java", 3)));
+
+        BlogPageResponse page = blogManager.getLatest(null, 10, "Java");
+
+        assertEquals(3, page.totalElements());
+        Mockito.verify(blogRepository, Mockito.never()).findLatestSummaries(Mockito.any());
+        Mockito.verify(blogRepository, Mockito.never()).countByStatus(Mockito.any());
+    }
+
+    @Test
+    void add_shouldKeepDraftsOutOfPublicCounters() {
+        CreateBlogRequest request = new CreateBlogRequest();
+        request.setTitle("Draft");
+        request.setStatus(BlogStatus.DRAFT);
+        BlogPost blogPost = new BlogPost();
+        Mockito.when(blogMapper.toBlogPost(request)).thenReturn(blogPost);
+        Mockito.when(blogRepository.countByStatus(BlogStatus.PUBLISHED)).thenReturn(4L);
+        Mockito.when(blogRepository.findById(3)).thenReturn(java.util.Optional.of(blogPost));
+
+        assertEquals(4, blogManager.countPosts());
+        blogManager.add(request);
+
+        assertEquals(BlogStatus.DRAFT, blogPost.getStatus());
+        assertEquals(4, blogManager.countPosts());
+        Mockito.verify(blogCategoryCountRepository, Mockito.never()).adjust(Mockito.any(), Mockito.anyLong());
+        assertThrows(com.arslanca.dev.core.utilities.exceptions.types.NotFoundException.class, () -> blogManager.getById(3));
+        // Yalnızca revizyon geçmişi kaydedilir; akış, ilgili yazılar ve zamanlayıcı taslaktan haberdar olmaz
+        org.mockito.ArgumentCaptor<Object> events = org.mockito.ArgumentCaptor.forClass(Object.class);
+        Mockito.verify(eventPublisher).publishEvent(events.capture());
+        assertInstanceOf(BlogRevisionManager.Saved.class, events.getValue());
+        Mockito.verify(eventPublisher, Mockito.never()).publishEvent(Mockito.any(FeedManager.ContentChanged.class));
+        Mockito.verify(eventPublisher, Mockito.never()).publishEvent(Mockito.any(RelatedPostManager.PostChanged.class));
+        Mockito.verify(eventPublisher, Mockito.never()).publishEvent(Mockito.any(BlogPublisher.ScheduleChanged.class));
+    }
+
+    @Test
+    void add_shouldScheduleFuturePosts_andRequirePublishAt() {
+        CreateBlogRequest request = new CreateBlogRequest();
+        request.setTitle("Later");
+        request.setStatus(BlogStatus.SCHEDULED);
+        BlogPost blogPost = new BlogPost();
+        Mockito.when(blogMapper.toBlogPost(request)).thenReturn(blogPost);
+
+        assertThrows(BusinessException.class, () -> blogManager.add(request));
+
+        Instant publishAt = Instant.now().plusSeconds(3600);
+        request.setPublishAt(publishAt);
+        blogManager.add(request);
+
+        assertEquals(BlogStatus.SCHEDULED, blogPost.getStatus());
+        assertEquals(publishAt, blogPost.getPublishAt());
+        Mockito.verify(eventPublisher).publishEvent(Mockito.any(BlogPublisher.ScheduleChanged.class));
+
+        request.setPublishAt(Instant.now().minusSeconds(1));
+        BlogPost overdue = new BlogPost();
+        Mockito.when(blogMapper.toBlogPost(request)).thenReturn(overdue);
+        blogManager.add(request);
+        assertEquals(BlogStatus.PUBLISHED, overdue.getStatus());
+        assertNull(overdue.getPublishAt());
+    }
+
+    @Test
+    void publishDue_shouldPublishAtScheduledTime_andCountThePost() {
+        Instant publishAt = Instant.parse("2025-03-01T09:00:00Z");
+        BlogPost scheduled = new BlogPost();
+        scheduled.setCategory("Java");
+        scheduled.setStatus(BlogStatus.SCHEDULED);
+        scheduled.setPublishAt(publishAt);
+        Mockito.when(blogRepository.findAllByStatusAndPublishAtLessThanEqual(Mockito.eq(BlogStatus.SCHEDULED), Mockito.any()))
+                .thenReturn(List.of(scheduled));
+
+        assertEquals(1, blogManager.publishDue());
+
+        assertEquals(BlogStatus.PUBLISHED, scheduled.getStatus());
+        assertEquals(publishAt, scheduled.getCreatedAt());
+        assertNull(scheduled.getPublishAt());
+        Mockito.verify(blogCategoryCountRepository).adjust("Java", 1);
+        Mockito.verify(blogRepository).saveAll(List.of(scheduled));
+    }
+
     @Test
     void update_shouldThrowException_whenBlogIdDoesNotExist() {
         CreateBlogRequest request = new CreateBlogRequest();
@@ -118,20 +411,47 @@ class BlogManagerTest {
 
     @Test
     void delete_shouldDeleteBlogPost_whenBlogPostIdExists() {
-        Mockito.when(blogRepository.existsById(1)).thenReturn(true);
+        BlogPost blogPost = new BlogPost();
+        blogPost.setCategory("Java");
+        Mockito.when(blogRepository.findById(1)).thenReturn(java.util.Optional.of(blogPost));
 
         blogManager.delete(1);
 
         Mockito.verify(blogRepository, Mockito.times(1)).deleteById(1);
+        Mockito.verify(blogCategoryCountRepository).adjust("Java", -1);
+        Mockito.verify(blogCategoryCountRepository).deleteEmpty();
     }
 
     @Test
     void delete_shouldThrowException_whenBlogPostIdDoesNotExist() {
-        Mockito.when(blogRepository.existsById(1)).thenReturn(false);
+        Mockito.when(blogRepository.findById(1)).thenReturn(java.util.Optional.empty());
 
         assertThrows(RuntimeException.class, () -> blogManager.delete(1));
 
         Mockito.verify(blogRepository, Mockito.never()).deleteById(1);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void toPrefixQuery_shouldKeepOnlyWordsAsPrefixTerms() {
+        assertEquals("spring:* & önbellek:*", BlogManager.toPrefixQuery("  spring | !önbellek:* "));
+        assertThrows(BusinessException.class, () -> BlogManager.toPrefixQuery("&|!"));
+    }
+
+    @Test
+    void search_shouldPassKeysetCursorBackToRepository() {
+        BlogSearchRepository.SearchRow first = new BlogSearchRepository.SearchRow(9, "Spring cache", "Java", null, 0.6f, "<mark>cache</mark>");
+        BlogSearchRepository.SearchRow second = new BlogSearchRepository.SearchRow(4, "Caching", "Java", null, 0.25f, "<mark>cach</mark>ing");
+        Mockito.when(blogSearchRepository.search("cach:*", null, null, 2)).thenReturn(List.of(first, second));
+        Mockito.when(blogSearchRepository.search("cach:*", 0.25f, 4, 2)).thenReturn(List.of());
+
+        BlogSearchResponse page = blogManager.search("cach", null, 2);
+        assertEquals(2, page.items().size());
+        assertEquals("Spring cache", page.items().get(0).title());
+        assertNotNull(page.nextCursor());
+
+        BlogSearchResponse next = blogManager.search("cach", page.nextCursor(), 2);
+        assertTrue(next.items().isEmpty());
+        assertNull(next.nextCursor());
+    }
+}
@@ -0,0 +1,91 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.BlogService;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.*;
+
+class BlogPublisherTest {
+
+    private static final Instant NEXT = Instant.parse("2030-01-01T09:00:00Z");
+
+    private BlogService blogService;
+    private BlogRepository blogRepository;
+    private TaskScheduler taskScheduler;
+    private ScheduledFuture<?> future;
+    private BlogPublisher blogPublisher;
+
+    @BeforeEach
+    void setUp() {
+        blogService = Mockito.mock(BlogService.class);
+        blogRepository = Mockito.mock(BlogRepository.class);
+        taskScheduler = Mockito.mock(TaskScheduler.class);
+        future = Mockito.mock(ScheduledFuture.class);
+        Mockito.doReturn(future).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        blogPublisher = new BlogPublisher(blogService, blogRepository, taskScheduler);
+    }
+
+    @Test
+    void arm_shouldKeepOneTimerAtTheEarliestPublishTime() {
+        Instant earlier = NEXT.minusSeconds(600);
+        Mockito.when(blogRepository.findNextPublishAt()).thenReturn(NEXT, NEXT, earlier);
+
+        blogPublisher.arm();
+        blogPublisher.arm();
+        Mockito.verify(taskScheduler, Mockito.times(1)).schedule(any(Runnable.class), eq(NEXT));
+
+        blogPublisher.arm();
+        Mockito.verify(future).cancel(false);
+        Mockito.verify(taskScheduler).schedule(any(Runnable.class), eq(earlier));
+    }
+
+    @Test
+    void publishNow_shouldPublishDuePostsThenArmForTheNext() {
+        Mockito.when(blogRepository.findNextPublishAt()).thenReturn(NEXT);
+
+        blogPublisher.start();
+
+        Mockito.verify(blogService).publishDue();
+        Mockito.verify(taskScheduler).schedule(any(Runnable.class), eq(NEXT));
+    }
+
+    @Test
+    void publishNow_shouldRetryLater_whenPublishingFailsInsideItsOwnTimer() {
+        Instant due = Instant.parse("2020-01-01T09:00:00Z");
+        Mockito.when(blogRepository.findNextPublishAt()).thenReturn(due, NEXT);
+        Mockito.when(blogService.publishDue()).thenThrow(new IllegalStateException("db down")).thenReturn(1);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+
+        blogPublisher.arm();
+        Mockito.verify(taskScheduler).schedule(task.capture(), eq(due));
+
+        // Zamanlayıcının görevi çalışırken future henüz bitmemiştir (mock isDone() false döner)
+        Instant beforeRun = Instant.now();
+        task.getValue().run();
+        ArgumentCaptor<Instant> retryAt = ArgumentCaptor.forClass(Instant.class);
+        Mockito.verify(taskScheduler, Mockito.times(2)).schedule(task.capture(), retryAt.capture());
+        assertFalse(retryAt.getValue().isBefore(beforeRun.plus(BlogPublisher.RETRY_DELAY)));
+
+        task.getValue().run();
+        Mockito.verify(blogService, Mockito.times(2)).publishDue();
+        Mockito.verify(taskScheduler).schedule(any(Runnable.class), eq(NEXT));
+    }
+
+    @Test
+    void arm_shouldStayIdleWithoutScheduledPosts() {
+        Mockito.when(blogRepository.findNextPublishAt()).thenReturn(null);
+
+        blogPublisher.onScheduleChanged(new BlogPublisher.ScheduleChanged());
+
+        Mockito.verifyNoInteractions(taskScheduler);
+    }
+}
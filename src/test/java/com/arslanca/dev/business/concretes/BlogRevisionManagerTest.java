@@ -0,0 +1,145 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.BlogService;
+import com.arslanca.dev.business.dto.requests.CreateBlogRequest;
+import com.arslanca.dev.business.dto.responses.BlogRevisionDiffResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.dataAccess.BlogPostRevisionRepository;
+import com.arslanca.dev.entities.BlogPostRevision;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlogRevisionManagerTest {
+
+    private final List<BlogPostRevision> stored = new ArrayList<>();
+    private BlogPostRevisionRepository revisionRepository;
+    private BlogService blogService;
+    private BlogRevisionManager blogRevisionManager;
+
+    @BeforeEach
+    void setUp() {
+        revisionRepository = Mockito.mock(BlogPostRevisionRepository.class);
+        blogService = Mockito.mock(BlogService.class);
+        blogRevisionManager = new BlogRevisionManager(revisionRepository, blogService, Mockito.mock(PlatformTransactionManager.class));
+
+        Mockito.when(revisionRepository.save(Mockito.any(BlogPostRevision.class))).thenAnswer(invocation -> {
+            stored.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        Mockito.when(revisionRepository.findTopByPostIdOrderByRevisionDesc(Mockito.anyInt())).thenAnswer(invocation ->
+                stored.stream().filter(r -> r.getPostId() == (int) invocation.getArgument(0))
+                        .max(Comparator.comparingInt(BlogPostRevision::getRevision)));
+        Mockito.when(revisionRepository.findTopByPostIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(Mockito.anyInt(), Mockito.anyInt()))
+                .thenAnswer(invocation -> stored.stream()
+                        .filter(r -> r.getPostId() == (int) invocation.getArgument(0) && r.isSnapshot()
+                                && r.getRevision() <= (int) invocation.getArgument(1))
+                        .max(Comparator.comparingInt(BlogPostRevision::getRevision)));
+        Mockito.when(revisionRepository.findAllByPostIdAndRevisionBetweenOrderByRevision(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenAnswer(invocation -> stored.stream()
+                        .filter(r -> r.getPostId() == (int) invocation.getArgument(0)
+                                && r.getRevision() >= (int) invocation.getArgument(1) && r.getRevision() <= (int) invocation.getArgument(2))
+                        .sorted(Comparator.comparingInt(BlogPostRevision::getRevision))
+                        .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        blogRevisionManager.shutdown();
+    }
+
+    @Test
+    void record_shouldStoreSnapshotsAtIntervals_andRebuildEveryRevision() {
+        List<String> contents = new ArrayList<>();
+        BlogRevisionManager.Version previous = null;
+        for (int i = 0; i < 25; i++) {
+            BlogRevisionManager.Version current = version("Başlık", contentWithEdit(i));
+            blogRevisionManager.record(new BlogRevisionManager.Saved(7, previous, current));
+            contents.add(current.content());
+            previous = current;
+        }
+
+        assertEquals(List.of(1, 11, 21), stored.stream().filter(BlogPostRevision::isSnapshot).map(BlogPostRevision::getRevision).toList());
+        assertTrue(stored.stream().filter(r -> !r.isSnapshot()).allMatch(r -> r.getData().length() < 100));
+
+        ArgumentCaptor<CreateBlogRequest> request = ArgumentCaptor.forClass(CreateBlogRequest.class);
+        for (int revision = 1; revision <= contents.size(); revision++) {
+            blogRevisionManager.restore(7, revision);
+        }
+        Mockito.verify(blogService, Mockito.times(contents.size())).update(Mockito.eq(7), request.capture());
+        assertEquals(contents, request.getAllValues().stream().map(CreateBlogRequest::getContent).toList());
+    }
+
+    @Test
+    void record_shouldSeedHistoryWithThePreviousVersion_whenThePostHasNone() {
+        blogRevisionManager.record(new BlogRevisionManager.Saved(3, version("Eski başlık", contentWithEdit(0)), version("Yeni başlık", contentWithEdit(1))));
+
+        assertEquals(2, stored.size());
+        assertTrue(stored.get(0).isSnapshot());
+        assertEquals("Eski başlık", stored.get(0).getTitle());
+        assertFalse(stored.get(1).isSnapshot());
+        assertEquals("Yeni başlık", stored.get(1).getTitle());
+    }
+
+    @Test
+    void record_shouldSkipSavesThatChangedNoText() {
+        BlogRevisionManager.Version version = version("Başlık", contentWithEdit(0));
+        blogRevisionManager.record(new BlogRevisionManager.Saved(3, null, version));
+        blogRevisionManager.record(new BlogRevisionManager.Saved(3, version, version));
+
+        assertEquals(1, stored.size());
+    }
+
+    @Test
+    void record_shouldDropTheHistoryOfADeletedPost() {
+        blogRevisionManager.record(new BlogRevisionManager.Saved(3, version("Başlık", "içerik"), null));
+
+        Mockito.verify(revisionRepository).deleteAllByPostId(3);
+        Mockito.verify(revisionRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void diff_shouldMarkRemovedAndAddedLines() {
+        blogRevisionManager.record(new BlogRevisionManager.Saved(3, null, version("Başlık", "a\nb\nc")));
+        blogRevisionManager.record(new BlogRevisionManager.Saved(3, null, version("Başlık", "a\nx\nc")));
+
+        BlogRevisionDiffResponse diff = blogRevisionManager.diff(3, 1, 2);
+
+        assertEquals(List.of(
+                new BlogRevisionDiffResponse.Line(BlogRevisionDiffResponse.Type.EQUAL, "a"),
+                new BlogRevisionDiffResponse.Line(BlogRevisionDiffResponse.Type.REMOVED, "b"),
+                new BlogRevisionDiffResponse.Line(BlogRevisionDiffResponse.Type.ADDED, "x"),
+                new BlogRevisionDiffResponse.Line(BlogRevisionDiffResponse.Type.EQUAL, "c")), diff.lines());
+    }
+
+    @Test
+    void restore_shouldThrowNotFound_whenTheRevisionDoesNotExist() {
+        blogRevisionManager.record(new BlogRevisionManager.Saved(3, null, version("Başlık", "içerik")));
+
+        assertThrows(NotFoundException.class, () -> blogRevisionManager.restore(3, 2));
+        assertThrows(NotFoundException.class, () -> blogRevisionManager.restore(4, 1));
+        Mockito.verifyNoInteractions(blogService);
+    }
+
+    private static BlogRevisionManager.Version version(String title, String content) {
+        return new BlogRevisionManager.Version(title, "Java", content);
+    }
+
+    // 100 satırlık yazı; her düzenlemede tek bir satır değişir
+    private static String contentWithEdit(int edit) {
+        StringBuilder content = new StringBuilder();
+        for (int line = 0; line < 100; line++) {
+            content.append(line == edit % 100 ? "düzenlendi " + edit : "satır " + line).append('\n');
+        }
+        return content.toString();
+    }
+}
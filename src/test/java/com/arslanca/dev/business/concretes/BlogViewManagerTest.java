@@ -0,0 +1,98 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.dto.responses.MostReadBlogResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.dataAccess.BlogViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+class BlogViewManagerTest {
+
+    private BlogViewRepository blogViewRepository;
+    private BlogViewManager blogViewManager;
+
+    @BeforeEach
+    void setUp() {
+        blogViewRepository = Mockito.mock(BlogViewRepository.class);
+        blogViewManager = new BlogViewManager(blogViewRepository);
+        ReflectionTestUtils.setField(blogViewManager, "dedupeWindowMs", 60_000L);
+    }
+
+    @Test
+    void flush_shouldWriteOneAggregatedDeltaPerPost_andCountRepeatVisitsOnce() {
+        blogViewManager.recordView(1, "10.0.0.1 Firefox");
+        blogViewManager.recordView(1, "10.0.0.1 Firefox");
+        blogViewManager.recordView(1, "10.0.0.2 Firefox");
+        blogViewManager.recordView(2, "10.0.0.1 Firefox");
+
+        blogViewManager.flush();
+        blogViewManager.flush();
+
+        Mockito.verify(blogViewRepository, Mockito.times(1)).addAll(Map.of(1, 2L, 2, 1L));
+    }
+
+    @Test
+    void recordView_shouldCountTheSameVisitorAgainAfterTheWindow() {
+        ReflectionTestUtils.setField(blogViewManager, "dedupeWindowMs", 0L);
+
+        blogViewManager.recordView(1, "10.0.0.1 Firefox");
+        blogViewManager.recordView(1, "10.0.0.1 Firefox");
+        blogViewManager.flush();
+
+        Mockito.verify(blogViewRepository).addAll(Map.of(1, 2L));
+    }
+
+    @Test
+    void flush_shouldKeepDeltasForTheNextFlush_whenTheBatchFails() {
+        Mockito.doThrow(new IllegalStateException("db down")).doNothing().when(blogViewRepository).addAll(anyMap());
+
+        blogViewManager.recordView(3, "10.0.0.1 Firefox");
+        blogViewManager.flush();
+        blogViewManager.recordView(3, "10.0.0.2 Firefox");
+        blogViewManager.shutdown();
+
+        Mockito.verify(blogViewRepository).addAll(Map.of(3, 2L));
+    }
+
+    @Test
+    void getMostRead_shouldServeTheCachedRanking_andRefreshItAfterAFlush() {
+        MostReadBlogResponse first = new MostReadBlogResponse(1, "A", "Java", 10);
+        MostReadBlogResponse second = new MostReadBlogResponse(2, "B", "Go", 4);
+        Mockito.when(blogViewRepository.findMostRead(BlogViewManager.MAX_RANKING))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(second, first));
+
+        assertEquals(List.of(first), blogViewManager.getMostRead(1));
+        assertEquals(List.of(first, second), blogViewManager.getMostRead(5));
+        Mockito.verify(blogViewRepository, Mockito.times(1)).findMostRead(anyInt());
+
+        blogViewManager.recordView(2, "10.0.0.1 Firefox");
+        blogViewManager.flush();
+
+        assertEquals(List.of(second, first), blogViewManager.getMostRead(5));
+        assertThrows(BusinessException.class, () -> blogViewManager.getMostRead(BlogViewManager.MAX_RANKING + 1));
+    }
+
+    @Test
+    void getMostRead_shouldReloadTheRanking_afterPublicContentChanged() {
+        MostReadBlogResponse first = new MostReadBlogResponse(1, "A", "Java", 10);
+        MostReadBlogResponse second = new MostReadBlogResponse(2, "B", "Go", 4);
+        Mockito.when(blogViewRepository.findMostRead(BlogViewManager.MAX_RANKING))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(second));
+
+        assertEquals(List.of(first, second), blogViewManager.getMostRead(5));
+        blogViewManager.onContentChanged(new FeedManager.ContentChanged());
+
+        assertEquals(List.of(second), blogViewManager.getMostRead(5));
+        Mockito.verify(blogViewRepository, Mockito.times(2)).findMostRead(anyInt());
+    }
+}
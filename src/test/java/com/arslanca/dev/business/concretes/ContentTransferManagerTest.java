@@ -0,0 +1,153 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.dto.responses.ImportResultResponse;
+import com.arslanca.dev.business.dto.transfer.BlogPostRow;
+import com.arslanca.dev.business.dto.transfer.TechStackRow;
+import com.arslanca.dev.dataAccess.BlogCategoryCountRepository;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.dataAccess.PinnedProjectRepository;
+import com.arslanca.dev.dataAccess.TechStackRepository;
+import com.arslanca.dev.entities.BlogPost;
+import com.arslanca.dev.entities.TechStack;
+import com.arslanca.dev.entities.enums.BlogStatus;
+import com.arslanca.dev.entities.enums.StackLevel;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+class ContentTransferManagerTest {
+
+    private BlogRepository blogRepository;
+    private TechStackRepository techStackRepository;
+    private BlogCategoryCountRepository blogCategoryCountRepository;
+    private EntityManager entityManager;
+    private Session session;
+    private ApplicationEventPublisher eventPublisher;
+    private ContentTransferManager contentTransferManager;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository = Mockito.mock(BlogRepository.class);
+        techStackRepository = Mockito.mock(TechStackRepository.class);
+        blogCategoryCountRepository = Mockito.mock(BlogCategoryCountRepository.class);
+        entityManager = Mockito.mock(EntityManager.class);
+        session = Mockito.mock(Session.class);
+        eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        Mockito.when(entityManager.unwrap(Session.class)).thenReturn(session);
+
+        contentTransferManager = new ContentTransferManager(blogRepository, techStackRepository,
+                Mockito.mock(PinnedProjectRepository.class), blogCategoryCountRepository, entityManager,
+                Mockito.mock(PlatformTransactionManager.class), Validation.buildDefaultValidatorFactory().getValidator(),
+                eventPublisher);
+        ReflectionTestUtils.setField(contentTransferManager, "batchSize", 2);
+    }
+
+    @Test
+    void importBlogPosts_shouldPersistValidLines_andReportTheRestByLineNumber() {
+        Mockito.when(blogRepository.findAllTitles()).thenReturn(List.of("Existing"));
+        String ndjson = """
+                {"title":"Hello","content":"# Hi","createdAt":"2026-03-01T10:00:00Z"}
+                {"title":"","content":"x"}
+
+                not json
+                {"title":"Existing","content":"x"}
+                {"title":"Later","content":"x","status":"SCHEDULED"}
+                {"title":"Draft","content":"x","category":"Java","status":"DRAFT","unknown":1}
+                """;
+
+        ImportResultResponse result = contentTransferManager.importBlogPosts(stream(ndjson));
+
+        assertEquals(2, result.imported());
+        assertEquals(4, result.skipped());
+        assertEquals(4, result.errors().size());
+        assertTrue(result.errors().get(0).startsWith("Satır 2: title"));
+        assertTrue(result.errors().get(1).startsWith("Satır 4: geçersiz JSON"));
+        assertTrue(result.errors().get(2).startsWith("Satır 5: bu başlıkta"));
+        assertTrue(result.errors().get(3).startsWith("Satır 6: zamanlanmış"));
+
+        ArgumentCaptor<BlogPost> persisted = ArgumentCaptor.forClass(BlogPost.class);
+        Mockito.verify(entityManager, Mockito.times(2)).persist(persisted.capture());
+        BlogPost hello = persisted.getAllValues().get(0);
+        // id atanmadan persist edilir; sequence flush sırasında verir
+        assertEquals(0, hello.getId());
+        assertEquals("General", hello.getCategory());
+        assertEquals(BlogStatus.PUBLISHED, hello.getStatus());
+        assertEquals(Instant.parse("2026-03-01T10:00:00Z"), hello.getCreatedAt());
+        assertNull(hello.getRendererVersion());
+        assertEquals(BlogStatus.DRAFT, persisted.getAllValues().get(1).getStatus());
+
+        Mockito.verify(session).setJdbcBatchSize(2);
+        Mockito.verify(blogCategoryCountRepository).rebuildFromPosts();
+        Mockito.verify(eventPublisher).publishEvent(new ContentTransferManager.Imported(ContentTransferManager.Content.BLOG_POSTS, 2));
+        Mockito.verify(eventPublisher).publishEvent(new FeedManager.ContentChanged());
+    }
+
+    @Test
+    void importTechStacks_shouldFlushAndClearEveryBatch() {
+        String ndjson = IntStream.range(0, 5)
+                .mapToObj(i -> "{\"name\":\"Tech " + i + "\",\"type\":\"CURRENT\"}")
+                .collect(Collectors.joining("\n"));
+
+        ImportResultResponse result = contentTransferManager.importTechStacks(stream(ndjson));
+
+        assertEquals(5, result.imported());
+        Mockito.verify(entityManager, Mockito.times(5)).persist(any(TechStack.class));
+        // 2 + 2 + kalan 1
+        Mockito.verify(entityManager, Mockito.times(3)).flush();
+        Mockito.verify(entityManager, Mockito.times(3)).clear();
+    }
+
+    @Test
+    void importTechStacks_shouldCapReportedErrors_andPublishNothingWhenNoRowIsImported() {
+        String ndjson = "{}\n".repeat(ContentTransferManager.MAX_REPORTED_ERRORS + 5);
+
+        ImportResultResponse result = contentTransferManager.importTechStacks(stream(ndjson));
+
+        assertEquals(0, result.imported());
+        assertEquals(ContentTransferManager.MAX_REPORTED_ERRORS + 5, result.skipped());
+        assertEquals(ContentTransferManager.MAX_REPORTED_ERRORS, result.errors().size());
+        Mockito.verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void exportRows_shouldWriteOneJsonObjectPerLine_withoutNulls() {
+        Mockito.when(blogRepository.streamExportRows()).thenReturn(Stream.of(
+                new BlogPostRow(1, "Hello", "# Hi", "General", BlogStatus.PUBLISHED, null, Instant.parse("2026-03-01T10:00:00Z")),
+                new BlogPostRow(2, "Next", "x", "Java", BlogStatus.DRAFT, null, null)));
+        Mockito.when(techStackRepository.streamExportRows()).thenReturn(Stream.of(new TechStackRow(7, "Java", StackLevel.CURRENT)));
+
+        ByteArrayOutputStream blogs = new ByteArrayOutputStream();
+        ByteArrayOutputStream stacks = new ByteArrayOutputStream();
+        contentTransferManager.exportBlogPosts(blogs);
+        contentTransferManager.exportTechStacks(stacks);
+
+        assertEquals("""
+                {"id":1,"title":"Hello","content":"# Hi","category":"General","status":"PUBLISHED","createdAt":"2026-03-01T10:00:00Z"}
+                {"id":2,"title":"Next","content":"x","category":"Java","status":"DRAFT"}
+                """, blogs.toString(StandardCharsets.UTF_8));
+        assertEquals("{\"id\":7,\"name\":\"Java\",\"type\":\"CURRENT\"}\n", stacks.toString(StandardCharsets.UTF_8));
+    }
+
+    private static ByteArrayInputStream stream(String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.models.ContributionCalendar;
+import com.arslanca.dev.business.dto.responses.ContributionDay;
+import com.arslanca.dev.business.dto.responses.ContributionStatsResponse;
+import com.arslanca.dev.business.dto.responses.GithubContributionsResponse;
+import com.arslanca.dev.dataAccess.ContributionDayRepository;
+import com.arslanca.dev.entities.ContributionDayRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContributionHistoryManagerTest {
+
+    private GithubAdapter githubAdapter;
+    private ContributionDayRepository contributionDayRepository;
+    private ContributionHistoryManager contributionHistoryManager;
+
+    @BeforeEach
+    void setUp() {
+        githubAdapter = Mockito.mock(GithubAdapter.class);
+        contributionDayRepository = Mockito.mock(ContributionDayRepository.class);
+        contributionHistoryManager = new ContributionHistoryManager(githubAdapter, contributionDayRepository);
+    }
+
+    @Test
+    void refresh_shouldBackfillEveryYear_whenNothingIsStored() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        int lastYear = today.getYear() - 1;
+        Mockito.when(contributionDayRepository.findAllByOrderByDateAsc()).thenReturn(List.of());
+        Mockito.when(githubAdapter.getContributionCalendar(today.withDayOfYear(1), today))
+                .thenReturn(new ContributionCalendar(List.of(today.getYear(), lastYear),
+                        List.of(new ContributionDay(today.toString(), 4, 3))));
+        Mockito.when(githubAdapter.getContributionCalendar(LocalDate.of(lastYear, 1, 1), LocalDate.of(lastYear, 12, 31)))
+                .thenReturn(new ContributionCalendar(List.of(),
+                        List.of(new ContributionDay(lastYear + "-03-01", 2, 1))));
+
+        contributionHistoryManager.refresh();
+
+        GithubContributionsResponse lastYearHistory = contributionHistoryManager.getHistory(lastYear);
+        assertEquals(2, lastYearHistory.totalContributions());
+        assertEquals(6, contributionHistoryManager.getStats().totalContributions());
+        Mockito.verify(contributionDayRepository, Mockito.times(1)).saveAll(Mockito.anyIterable());
+    }
+
+    @Test
+    void refresh_shouldOnlyAskForTheLastWeek_whenHistoryIsStored() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Mockito.when(contributionDayRepository.findAllByOrderByDateAsc())
+                .thenReturn(List.of(new ContributionDayRecord(today.minusDays(1), 1, 1)));
+        Mockito.when(githubAdapter.getContributionCalendar(today.minusDays(6), today))
+                .thenReturn(new ContributionCalendar(List.of(), List.of(
+                        new ContributionDay(today.minusDays(1).toString(), 1, 1),
+                        new ContributionDay(today.toString(), 3, 2))));
+
+        contributionHistoryManager.refresh();
+        ContributionStatsResponse stats = contributionHistoryManager.getStats();
+
+        assertEquals(4, stats.totalContributions());
+        assertEquals(2, stats.currentStreak());
+        Mockito.verify(githubAdapter, Mockito.times(1)).getContributionCalendar(Mockito.any(), Mockito.any());
+        Mockito.verify(contributionDayRepository).saveAll(List.of(new ContributionDayRecord(today, 3, 2)));
+    }
+
+    @Test
+    void getRecentYear_shouldServeTheRollingYearFromStoredHistory_untilSomethingChanges() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Mockito.when(contributionDayRepository.findAllByOrderByDateAsc()).thenReturn(List.of(
+                new ContributionDayRecord(today.minusDays(800), 5, 4),
+                new ContributionDayRecord(today.minusDays(1), 1, 1)));
+        Mockito.when(githubAdapter.getContributionCalendar(today.minusDays(6), today))
+                .thenReturn(new ContributionCalendar(List.of(), List.of(
+                        new ContributionDay(today.minusDays(1).toString(), 1, 1),
+                        new ContributionDay(today.toString(), 2, 1))));
+
+        contributionHistoryManager.refresh();
+        GithubContributionsResponse recentYear = contributionHistoryManager.getRecentYear();
+        contributionHistoryManager.refresh();
+
+        assertEquals(3, recentYear.totalContributions());
+        assertEquals(java.time.DayOfWeek.SUNDAY, LocalDate.parse(recentYear.days().get(0).date()).getDayOfWeek());
+        assertEquals(today.toString(), recentYear.days().get(recentYear.days().size() - 1).date());
+        assertSame(recentYear, contributionHistoryManager.getRecentYear());
+    }
+}
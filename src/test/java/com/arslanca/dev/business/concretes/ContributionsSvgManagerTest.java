@@ -0,0 +1,71 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.ContributionHistoryService;
+import com.arslanca.dev.business.dto.responses.ContributionDay;
+import com.arslanca.dev.business.dto.responses.GithubContributionsResponse;
+import com.arslanca.dev.core.utilities.http.CachedAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContributionsSvgManagerTest {
+
+    private ContributionHistoryService contributionHistoryService;
+    private ContributionsSvgManager contributionsSvgManager;
+
+    @BeforeEach
+    void setUp() {
+        contributionHistoryService = Mockito.mock(ContributionHistoryService.class);
+        contributionsSvgManager = new ContributionsSvgManager(contributionHistoryService);
+    }
+
+    @Test
+    void getHeatmap_shouldRenderOneCellPerDay() {
+        Mockito.when(contributionHistoryService.getRecentYear()).thenReturn(contributions(5));
+
+        String svg = new String(contributionsSvgManager.getHeatmap().raw(), StandardCharsets.UTF_8);
+
+        assertTrue(svg.startsWith("<svg"));
+        assertEquals(3, svg.split("width=\"10\"", -1).length - 1);
+        assertTrue(svg.contains("#39d353"));
+        assertTrue(svg.contains("5 contributions in the last year"));
+    }
+
+    @Test
+    void getHeatmap_shouldReuseBytes_whenDataIsUnchanged() {
+        Mockito.when(contributionHistoryService.getRecentYear()).thenReturn(contributions(5), contributions(5), contributions(6));
+
+        CachedAsset first = contributionsSvgManager.getHeatmap();
+        CachedAsset second = contributionsSvgManager.getHeatmap();
+        CachedAsset third = contributionsSvgManager.getHeatmap();
+
+        assertSame(first, second);
+        assertNotEquals(first.etag(), third.etag());
+    }
+
+    @Test
+    void toResponse_shouldReturnNotModified_whenEtagMatches() {
+        Mockito.when(contributionHistoryService.getRecentYear()).thenReturn(contributions(5));
+        CachedAsset asset = contributionsSvgManager.getHeatmap();
+
+        ResponseEntity<byte[]> response = asset.toResponse(asset.etag(), "gzip", CacheControl.noCache());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    private GithubContributionsResponse contributions(int total) {
+        return new GithubContributionsResponse(total, List.of(
+                new ContributionDay("2025-06-01", 0, 0),
+                new ContributionDay("2025-06-02", 1, 1),
+                new ContributionDay("2025-06-03", total - 1, 4)));
+    }
+}
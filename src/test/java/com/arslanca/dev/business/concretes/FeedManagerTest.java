@@ -0,0 +1,103 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.dto.responses.BlogFeedEntry;
+import com.arslanca.dev.core.utilities.http.CachedAsset;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.dataAccess.PinnedProjectRepository;
+import com.arslanca.dev.entities.PinnedProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+class FeedManagerTest {
+
+    private static final Instant DAY = Instant.parse("2026-03-01T10:00:00Z");
+
+    private BlogRepository blogRepository;
+    private PinnedProjectRepository pinnedProjectRepository;
+    private FeedManager feedManager;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository = Mockito.mock(BlogRepository.class);
+        pinnedProjectRepository = Mockito.mock(PinnedProjectRepository.class);
+        feedManager = new FeedManager(blogRepository, pinnedProjectRepository, Mockito.mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(feedManager, "siteUrl", "https://example.dev");
+        ReflectionTestUtils.setField(feedManager, "siteTitle", "example.dev");
+    }
+
+    @Test
+    void generate_shouldMergeProjectsIntoFeedsByDate_andListEveryPostInSitemap() {
+        PinnedProject project = new PinnedProject(4L, "Portfolio API", "Spring & Postgres", null, List.of(),
+                "https://github.com/octo/api", DAY.minusSeconds(3600));
+        Mockito.when(pinnedProjectRepository.findAll(any(Sort.class))).thenReturn(List.of(project));
+        Mockito.when(blogRepository.streamFeedEntries()).thenAnswer(invocation -> Stream.of(
+                new BlogFeedEntry(2, "Caching <fast>", "Java", "Why & how", DAY),
+                new BlogFeedEntry(1, "Hello", "General", "First post", DAY.minusSeconds(7200))));
+
+        String rss = body(feedManager.getRss());
+        String atom = body(feedManager.getAtom());
+        String sitemap = body(feedManager.getSitemap());
+
+        assertTrue(rss.contains("<title>Caching &lt;fast&gt;</title>"));
+        assertTrue(rss.indexOf("/blog/2") < rss.indexOf("Portfolio API"));
+        assertTrue(rss.indexOf("Portfolio API") < rss.indexOf("/blog/1"));
+        assertTrue(rss.contains("<pubDate>Sun, 1 Mar 2026 10:00:00 GMT</pubDate>"));
+        assertTrue(atom.contains("<feed xmlns=\"http://www.w3.org/2005/Atom\">"));
+        assertTrue(atom.contains("<updated>2026-03-01T10:00:00Z</updated>"));
+        assertTrue(atom.contains("<link href=\"https://github.com/octo/api\"/>"));
+        assertTrue(sitemap.contains("<loc>https://example.dev/blog/1</loc><lastmod>2026-03-01</lastmod>"));
+        assertTrue(sitemap.contains("<loc>https://example.dev/contact</loc>"));
+        assertFalse(sitemap.contains("github.com"));
+    }
+
+    @Test
+    void generate_shouldCapFeedsButNotSitemap() {
+        Mockito.when(blogRepository.streamFeedEntries()).thenAnswer(invocation -> IntStream.range(0, FeedManager.FEED_SIZE + 10)
+                .mapToObj(i -> new BlogFeedEntry(1000 - i, "Post " + i, "Java", "x", DAY.minusSeconds(i))));
+
+        String rss = body(feedManager.getRss());
+        String sitemap = body(feedManager.getSitemap());
+
+        assertEquals(FeedManager.FEED_SIZE, rss.split("<item>", -1).length - 1);
+        assertEquals(FeedManager.FEED_SIZE + 10 + 5, sitemap.split("<url>", -1).length - 1);
+    }
+
+    @Test
+    void feeds_shouldRegenerateOnlyAfterAWrite_andKeepValidatorsWhenUnchanged() {
+        Mockito.when(blogRepository.streamFeedEntries()).thenAnswer(invocation -> Stream.of(
+                new BlogFeedEntry(1, "Hello", "General", "First post", DAY)));
+
+        CachedAsset first = feedManager.getRss();
+        feedManager.getAtom();
+        feedManager.getSitemap();
+        Mockito.verify(blogRepository, Mockito.times(1)).streamFeedEntries();
+
+        feedManager.onContentChanged(new FeedManager.ContentChanged());
+        assertSame(first, feedManager.getRss());
+        Mockito.verify(blogRepository, Mockito.times(2)).streamFeedEntries();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, first.toResponse(null, first.lastModified().toEpochMilli(), null,
+                CacheControl.noCache()).getStatusCode());
+        assertEquals(HttpStatus.OK, first.toResponse(null, first.lastModified().minusSeconds(1).toEpochMilli(), null,
+                CacheControl.noCache()).getStatusCode());
+    }
+
+    private static String body(CachedAsset asset) {
+        return new String(asset.raw(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,98 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.business.abstracts.ContributionHistoryService;
+import com.arslanca.dev.business.abstracts.LanguageStatsService;
+import com.arslanca.dev.business.abstracts.ProjectReadmeService;
+import com.arslanca.dev.business.dto.responses.GithubWebhookResponse;
+import com.arslanca.dev.core.utilities.replay.WebhookReplayRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GithubWebhookManagerTest {
+
+    private GithubAdapter githubAdapter;
+    private ContributionHistoryService contributionHistoryService;
+    private LanguageStatsService languageStatsService;
+    private ProjectReadmeService projectReadmeService;
+    private GithubWebhookManager githubWebhookManager;
+
+    @BeforeEach
+    void setUp() {
+        githubAdapter = Mockito.mock(GithubAdapter.class);
+        contributionHistoryService = Mockito.mock(ContributionHistoryService.class);
+        languageStatsService = Mockito.mock(LanguageStatsService.class);
+        projectReadmeService = Mockito.mock(ProjectReadmeService.class);
+        // Uzun sessiz süre: testte yenileme yalnızca flush() ile çalışır
+        githubWebhookManager = new GithubWebhookManager(githubAdapter, contributionHistoryService,
+                languageStatsService, projectReadmeService, 60_000, 120_000);
+        ReflectionTestUtils.setField(githubWebhookManager, "webhookSecret", "s3cret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        githubWebhookManager.shutdown();
+    }
+
+    @Test
+    void isSignatureValid_shouldAcceptOnlyTheMatchingHmac() {
+        byte[] body = "{\"zen\":\"hi\"}".getBytes(StandardCharsets.UTF_8);
+        String signature = "sha256=" + HexFormat.of().formatHex(GithubWebhookManager.sign("s3cret", body));
+
+        assertTrue(githubWebhookManager.isSignatureValid(body, signature));
+        assertFalse(githubWebhookManager.isSignatureValid(body, "sha256=" + HexFormat.of().formatHex(GithubWebhookManager.sign("other", body))));
+        assertFalse(githubWebhookManager.isSignatureValid(body, null));
+        assertFalse(githubWebhookManager.isSignatureValid(body, "sha256=zz"));
+    }
+
+    @Test
+    void handle_shouldCoalesceABurstOfPushesIntoOneRefresh() {
+        byte[] push = "{\"ref\":\"refs/heads/main\",\"repository\":{\"name\":\"dev\",\"default_branch\":\"main\"}}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("queued", githubWebhookManager.handle("push", "delivery-" + i, push).status());
+        }
+        githubWebhookManager.flush();
+
+        InOrder inOrder = Mockito.inOrder(githubAdapter, contributionHistoryService, languageStatsService, projectReadmeService);
+        inOrder.verify(githubAdapter, Mockito.times(1)).refreshSnapshot();
+        inOrder.verify(contributionHistoryService, Mockito.times(1)).refresh();
+        inOrder.verify(languageStatsService, Mockito.times(1)).refresh();
+        inOrder.verify(projectReadmeService, Mockito.times(1)).refresh("dev");
+    }
+
+    @Test
+    void handle_shouldIgnoreRedeliveredPayloads() {
+        byte[] star = "{\"repository\":{\"name\":\"dev\"}}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("queued", githubWebhookManager.handle("star", "same", star).status());
+        assertEquals("duplicate", githubWebhookManager.handle("star", "same", star).status());
+    }
+
+    @Test
+    void replay_shouldFeedRecordedPayloadsThroughTheHandler() throws Exception {
+        List<GithubWebhookResponse> responses =
+                WebhookReplayRunner.replay(githubWebhookManager, Path.of("src/test/resources/webhooks"));
+
+        assertEquals(List.of("push", "push", "star", "ping"), responses.stream().map(GithubWebhookResponse::event).toList());
+        assertTrue(responses.get(0).targets().contains("readme:dev"));
+        assertFalse(responses.get(1).targets().contains("readme:dev"));
+        assertEquals("pong", responses.get(3).status());
+
+        Mockito.verify(githubAdapter, Mockito.times(1)).refreshSnapshot();
+        Mockito.verify(projectReadmeService, Mockito.times(1)).refresh("dev");
+        Mockito.verify(projectReadmeService, Mockito.never()).refresh("notes");
+    }
+}
@@ -0,0 +1,152 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.dto.requests.HeartbeatRequest;
+import com.arslanca.dev.business.dto.responses.StatsResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.dataAccess.HeartbeatRepository;
+import com.arslanca.dev.entities.Heartbeat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeartbeatManagerTest {
+
+    private static final String USER_AGENT = "wakatime/v1.73.0 (linux-x86_64) go1.21.1 vscode/1.85.1 vscode-wakatime/24.4.0";
+
+    private HeartbeatManager heartbeatManager;
+    private HeartbeatRepository heartbeatRepository;
+
+    @BeforeEach
+    void setUp() {
+        heartbeatRepository = Mockito.mock(HeartbeatRepository.class);
+        heartbeatManager = new HeartbeatManager(heartbeatRepository);
+        ReflectionTestUtils.setField(heartbeatManager, "collectorKey", "secret-key");
+        ReflectionTestUtils.setField(heartbeatManager, "zoneId", "UTC");
+    }
+
+    @Test
+    void getCurrentStatus_shouldBeEmpty_whenNoHeartbeatReceivedToday() {
+        assertTrue(heartbeatManager.getCurrentStatus().isEmpty());
+    }
+
+    @Test
+    void record_shouldAccumulateTimeIncrementally() {
+        double now = System.currentTimeMillis() / 1000.0;
+        double start = now - 5 * 60;
+
+        heartbeatManager.record(heartbeat("/src/Main.java", "portfolio", start), USER_AGENT);
+        heartbeatManager.record(heartbeat("/src/Main.java", "portfolio", start + 120), USER_AGENT);
+        heartbeatManager.record(heartbeat("/src/App.java", "portfolio", start + 240), USER_AGENT);
+
+        StatsResponse status = heartbeatManager.getCurrentStatus().orElseThrow();
+
+        assertTrue(status.getIsCodingNow());
+        assertEquals("VS Code", status.getIdeName());
+        assertEquals("portfolio", status.getProjectName());
+        assertEquals("App.java", status.getCurrentlyEditingFile());
+        assertEquals("4 mins", status.getTotalSpentOnAllProjects());
+        assertEquals("4 mins", status.getTotalSpentOnCurrentProject());
+    }
+
+    @Test
+    void record_shouldIgnoreGapsLongerThanTimeout() {
+        double now = System.currentTimeMillis() / 1000.0;
+
+        heartbeatManager.record(heartbeat("a.java", "portfolio", now - 3600), USER_AGENT);
+        heartbeatManager.record(heartbeat("a.java", "portfolio", now - 60), USER_AGENT);
+
+        StatsResponse status = heartbeatManager.getCurrentStatus().orElseThrow();
+        assertEquals("0 mins", status.getTotalSpentOnAllProjects());
+    }
+
+    @Test
+    void flush_shouldPersistPendingHeartbeatsInOneBatch() {
+        double now = System.currentTimeMillis() / 1000.0;
+        heartbeatManager.record(heartbeat("a.java", "portfolio", now - 30), USER_AGENT);
+        heartbeatManager.record(heartbeat("b.java", "portfolio", now), USER_AGENT);
+
+        heartbeatManager.flush();
+        heartbeatManager.flush();
+
+        Mockito.verify(heartbeatRepository, Mockito.times(1)).saveAll(Mockito.argThat(batch -> ((List<?>) batch).size() == 2));
+    }
+
+    @Test
+    void flush_shouldKeepOnlyTheNewestHeartbeats_whileTheDatabaseIsDown() {
+        ReflectionTestUtils.setField(heartbeatManager, "maxPending", 3);
+        Mockito.when(heartbeatRepository.saveAll(Mockito.anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+        double now = System.currentTimeMillis() / 1000.0;
+        for (int i = 4; i >= 0; i--) {
+            heartbeatManager.record(heartbeat(i + ".java", "portfolio", now - i), USER_AGENT);
+        }
+
+        heartbeatManager.flush();
+        heartbeatManager.record(heartbeat("new.java", "portfolio", now + 1), USER_AGENT);
+        heartbeatManager.flush();
+
+        ArgumentCaptor<List<Heartbeat>> batches = ArgumentCaptor.captor();
+        Mockito.verify(heartbeatRepository, Mockito.times(2)).saveAll(batches.capture());
+        assertEquals(List.of("1.java", "0.java", "new.java"),
+                batches.getAllValues().get(1).stream().map(Heartbeat::getEntity).toList());
+    }
+
+    @Test
+    void record_shouldRejectAHeartbeatWithoutTime_beforeQueueingIt() {
+        HeartbeatRequest request = heartbeat("a.java", "portfolio", 0);
+        request.setTime(null);
+
+        assertThrows(BusinessException.class, () -> heartbeatManager.record(request, USER_AGENT));
+        heartbeatManager.flush();
+
+        Mockito.verifyNoInteractions(heartbeatRepository);
+    }
+
+    @Test
+    void flush_shouldDropOnlyTheRowsThatViolateAConstraint() {
+        double now = System.currentTimeMillis() / 1000.0;
+        heartbeatManager.record(heartbeat("good.java", "portfolio", now - 30), USER_AGENT);
+        heartbeatManager.record(heartbeat("bad.java", "portfolio", now - 20), USER_AGENT);
+        heartbeatManager.record(heartbeat("later.java", "portfolio", now - 10), USER_AGENT);
+        Mockito.when(heartbeatRepository.saveAll(Mockito.anyList()))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        Mockito.when(heartbeatRepository.save(Mockito.<Heartbeat>argThat(heartbeat -> heartbeat != null && heartbeat.getEntity().equals("bad.java"))))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+
+        heartbeatManager.flush();
+        heartbeatManager.flush();
+
+        ArgumentCaptor<Heartbeat> saved = ArgumentCaptor.forClass(Heartbeat.class);
+        Mockito.verify(heartbeatRepository, Mockito.times(3)).save(saved.capture());
+        assertEquals(List.of("good.java", "bad.java", "later.java"), saved.getAllValues().stream().map(Heartbeat::getEntity).toList());
+        Mockito.verify(heartbeatRepository, Mockito.times(1)).saveAll(Mockito.anyList());
+    }
+
+    @Test
+    void isAuthorized_shouldAcceptBasicAuthWithApiKey() {
+        String header = "Basic " + Base64.getEncoder().encodeToString("secret-key".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(heartbeatManager.isAuthorized(header, null));
+        assertTrue(heartbeatManager.isAuthorized(null, "secret-key"));
+        assertFalse(heartbeatManager.isAuthorized(null, "wrong-key"));
+        assertFalse(heartbeatManager.isAuthorized("Basic !!!", null));
+    }
+
+    private HeartbeatRequest heartbeat(String entity, String project, double time) {
+        HeartbeatRequest request = new HeartbeatRequest();
+        request.setEntity(entity);
+        request.setProject(project);
+        request.setTime(time);
+        return request;
+    }
+}
@@ -0,0 +1,92 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.models.ConditionalResponse;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.business.dto.responses.LanguageShareResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.UpstreamUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LanguageStatsManagerTest {
+
+    private GithubAdapter githubAdapter;
+    private LanguageStatsManager languageStatsManager;
+
+    @BeforeEach
+    void setUp() {
+        githubAdapter = Mockito.mock(GithubAdapter.class);
+        languageStatsManager = new LanguageStatsManager(githubAdapter, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        languageStatsManager.shutdown();
+    }
+
+    @Test
+    void refresh_shouldAggregateByteCountsAcrossRepositories() {
+        Mockito.when(githubAdapter.getRepos()).thenReturn(List.of(repo("api", "t1"), repo("web", "t1")));
+        Mockito.when(githubAdapter.getRepoLanguages("api", null))
+                .thenReturn(new ConditionalResponse<>(false, "\"a\"", Map.of("Java", 300L)));
+        Mockito.when(githubAdapter.getRepoLanguages("web", null))
+                .thenReturn(new ConditionalResponse<>(false, "\"w\"", Map.of("Java", 100L, "TypeScript", 600L)));
+
+        languageStatsManager.refresh();
+        List<LanguageShareResponse> shares = languageStatsManager.getLanguageShares();
+
+        assertEquals(2, shares.size());
+        assertEquals("TypeScript", shares.get(0).language());
+        assertEquals(60.0, shares.get(0).percentage());
+        assertEquals(400L, shares.get(1).bytes());
+        assertEquals(2, shares.get(1).repositoryCount());
+    }
+
+    @Test
+    void refresh_shouldNotRefetchRepositories_whosePushedAtDidNotChange() {
+        Mockito.when(githubAdapter.getRepos()).thenReturn(List.of(repo("api", "t1")));
+        Mockito.when(githubAdapter.getRepoLanguages("api", null))
+                .thenReturn(new ConditionalResponse<>(false, "\"a\"", Map.of("Java", 300L)));
+
+        languageStatsManager.refresh();
+        languageStatsManager.refresh();
+
+        Mockito.verify(githubAdapter, Mockito.times(1)).getRepoLanguages(Mockito.anyString(), Mockito.any());
+        assertEquals(1, languageStatsManager.getLanguageShares().size());
+    }
+
+    @Test
+    void refresh_shouldRetryARepository_whenItsFetchFailedAfterAPush() {
+        Mockito.when(githubAdapter.getRepos())
+                .thenReturn(List.of(repo("api", "t1")))
+                .thenReturn(List.of(repo("api", "t2")));
+        Mockito.when(githubAdapter.getRepoLanguages("api", null))
+                .thenReturn(new ConditionalResponse<>(false, "\"a\"", Map.of("Java", 300L)));
+        Mockito.when(githubAdapter.getRepoLanguages("api", "\"a\""))
+                .thenThrow(new UpstreamUnavailableException("GitHub servisine şu anda ulaşılamıyor"))
+                .thenReturn(new ConditionalResponse<>(false, "\"b\"", Map.of("Kotlin", 500L)));
+
+        languageStatsManager.refresh();
+        languageStatsManager.refresh();
+        assertEquals("Java", languageStatsManager.getLanguageShares().get(0).language());
+
+        // pushed_at hâlâ t1 olarak kayıtlı: t2 değişmiş sayılır ve yeniden istenir
+        languageStatsManager.refresh();
+        assertEquals("Kotlin", languageStatsManager.getLanguageShares().get(0).language());
+        Mockito.verify(githubAdapter, Mockito.times(2)).getRepoLanguages("api", "\"a\"");
+    }
+
+    private GithubRepoResponse repo(String name, String pushedAt) {
+        GithubRepoResponse repo = new GithubRepoResponse();
+        repo.setName(name);
+        repo.setPushedAt(pushedAt);
+        return repo;
+    }
+}
@@ -0,0 +1,102 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.abstracts.MediaService;
+import com.arslanca.dev.business.dto.responses.MediaResponse;
+import com.arslanca.dev.business.dto.responses.MediaVariantResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.core.utilities.media.LocalMediaStorage;
+import com.arslanca.dev.core.utilities.media.MediaStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class MediaManagerTest {
+
+    @TempDir
+    Path root;
+
+    private MediaStorage mediaStorage;
+    private MediaManager mediaManager;
+
+    @BeforeEach
+    void setUp() {
+        mediaStorage = Mockito.spy(new LocalMediaStorage(root.toString()));
+        mediaManager = new MediaManager(mediaStorage);
+        ReflectionTestUtils.setField(mediaManager, "maxBytes", 1_048_576L);
+    }
+
+    @Test
+    void upload_shouldStoreByHash_andRenderNarrowerVariants() throws IOException {
+        MediaResponse response = mediaManager.upload(image("cover.png", "png", 800, 400));
+
+        assertEquals(64, response.hash().length());
+        assertEquals("/api/media/" + response.hash() + ".png", response.url());
+        assertEquals("image/png", response.contentType());
+        assertEquals(800, response.width());
+        assertFalse(response.deduplicated());
+        assertEquals(List.of(320, 640), response.variants().stream().map(MediaVariantResponse::width).toList());
+
+        MediaService.MediaFile variant = mediaManager.get(response.hash() + "-320w.png").orElseThrow();
+        BufferedImage scaled = ImageIO.read(variant.resource().getInputStream());
+        assertEquals(320, scaled.getWidth());
+        assertEquals(160, scaled.getHeight());
+        assertTrue(mediaManager.get(response.hash() + ".png").isPresent());
+    }
+
+    @Test
+    void upload_shouldNotWriteAnythingForAKnownHash() throws IOException {
+        MediaResponse first = mediaManager.upload(image("a.jpg", "jpeg", 700, 700));
+        Mockito.clearInvocations(mediaStorage);
+
+        MediaResponse second = mediaManager.upload(image("b.jpg", "jpeg", 700, 700));
+
+        assertTrue(second.deduplicated());
+        assertEquals(first.url(), second.url());
+        assertEquals(first.variants(), second.variants());
+        Mockito.verify(mediaStorage, Mockito.never()).put(anyString(), any(Path.class));
+    }
+
+    @Test
+    void upload_shouldRejectFilesThatAreNotImages() {
+        MockMultipartFile text = new MockMultipartFile("file", "notes.png", "image/png",
+                "not an image".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BusinessException.class, () -> mediaManager.upload(text));
+    }
+
+    @Test
+    void get_shouldOnlyAcceptContentAddressedNames() {
+        assertTrue(mediaManager.get("../../etc/passwd").isEmpty());
+        assertTrue(mediaManager.get("a".repeat(64) + ".svg").isEmpty());
+        assertTrue(mediaManager.get("a".repeat(64) + ".png").isEmpty());
+    }
+
+    @Test
+    void variantWidths_shouldSkipWidthsNotSmallerThanTheOriginal() {
+        assertEquals(List.of(), MediaManager.variantWidths(320));
+        assertEquals(List.of(320, 640, 1280), MediaManager.variantWidths(4000));
+    }
+
+    private static MockMultipartFile image(String name, String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(width / 2, height / 2, 0xff3366);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return new MockMultipartFile("file", name, "image/" + format, out.toByteArray());
+    }
+}
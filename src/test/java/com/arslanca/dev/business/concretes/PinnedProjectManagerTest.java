@@ -1,16 +1,22 @@
 package com.arslanca.dev.business.concretes;
 
+import com.arslanca.dev.adapters.GithubAdapter;
 import com.arslanca.dev.business.dto.requests.CreatePinnedProjectRequest;
 import com.arslanca.dev.business.dto.requests.UpdatePinnedProjectRequest;
+import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
 import com.arslanca.dev.business.dto.responses.PinnedProjectResponse;
 import com.arslanca.dev.business.mappers.PinnedProjectMapper;
 import com.arslanca.dev.dataAccess.PinnedProjectRepository;
 import com.arslanca.dev.entities.PinnedProject;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,12 +26,60 @@ class PinnedProjectManagerTest {
     private PinnedProjectManager pinnedProjectManager;
     private PinnedProjectRepository pinnedProjectRepository;
     private PinnedProjectMapper pinnedProjectMapper;
+    private GithubAdapter githubAdapter;
 
     @BeforeEach
     void setUp() {
         pinnedProjectRepository = org.mockito.Mockito.mock(PinnedProjectRepository.class);
         pinnedProjectMapper = org.mockito.Mockito.mock(PinnedProjectMapper.class);
-        pinnedProjectManager = new PinnedProjectManager(pinnedProjectRepository, pinnedProjectMapper);
+        githubAdapter = Mockito.mock(GithubAdapter.class);
+        pinnedProjectManager = new PinnedProjectManager(pinnedProjectRepository, pinnedProjectMapper, githubAdapter,
+                Mockito.mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(pinnedProjectManager, "refreshAheadMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pinnedProjectManager.shutdown();
+    }
+
+    @Test
+    void getAll_shouldJoinLiveGithubStats_fromOneBatchedLookup() {
+        PinnedProject api = new PinnedProject(1L, "API", null, null, List.of(), "https://github.com/Octo/api", null);
+        PinnedProject web = new PinnedProject(2L, "Web", null, null, List.of(), "https://github.com/octo/web.git", null);
+        GithubRepoResponse apiRepo = new GithubRepoResponse();
+        apiRepo.setStars(42);
+        apiRepo.setLanguage("Java");
+        apiRepo.setPushedAt("2026-01-01T00:00:00Z");
+
+        Mockito.when(pinnedProjectRepository.findAll()).thenReturn(List.of(api, web));
+        Mockito.when(pinnedProjectMapper.toResponse(Mockito.any(PinnedProject.class)))
+                .thenAnswer(invocation -> {
+                    PinnedProject project = invocation.getArgument(0);
+                    PinnedProjectResponse response = new PinnedProjectResponse();
+                    response.setId(project.getId());
+                    return response;
+                });
+        Mockito.when(githubAdapter.getRepositories(List.of("Octo/api", "octo/web")))
+                .thenReturn(Map.of("octo/api", apiRepo));
+
+        List<PinnedProjectResponse> first = pinnedProjectManager.getAll();
+        List<PinnedProjectResponse> second = pinnedProjectManager.getAll();
+
+        assertSame(first, second);
+        assertEquals(42, first.get(0).getStars());
+        assertEquals("Java", first.get(0).getPrimaryLanguage());
+        assertNull(first.get(1).getStars());
+        Mockito.verify(githubAdapter, Mockito.times(1)).getRepositories(Mockito.anyList());
+    }
+
+    @Test
+    void fullNameOf_shouldParseGithubUrls() {
+        assertEquals("octo/dev", PinnedProjectManager.fullNameOf("https://github.com/octo/dev"));
+        assertEquals("octo/dev", PinnedProjectManager.fullNameOf("https://github.com/octo/dev.git"));
+        assertEquals("octo/dev", PinnedProjectManager.fullNameOf("https://www.github.com/octo/dev/tree/main"));
+        assertNull(PinnedProjectManager.fullNameOf("https://gitlab.com/octo/dev"));
+        assertNull(PinnedProjectManager.fullNameOf(null));
     }
 
     @Test
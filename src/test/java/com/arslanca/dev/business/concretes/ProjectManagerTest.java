@@ -2,6 +2,8 @@ package com.arslanca.dev.business.concretes;
 
 import com.arslanca.dev.adapters.GithubAdapter;
 import com.arslanca.dev.business.dto.responses.GithubRepoResponse;
+import com.arslanca.dev.business.dto.responses.PageResponse;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -28,6 +30,10 @@ class ProjectManagerTest {
             repo.setName("Repo " + i);
             repo.setDescription("Description for Repo " + i);
             repo.setUrl("http://repo" + i + ".url");
+            repo.setStars(i);
+            repo.setLanguage(i % 2 == 0 ? "Java" : "TypeScript");
+            // Repo 1 en son güncellenen
+            repo.setPushedAt(String.format("2025-01-%02dT00:00:00Z", 26 - i));
             mockRepos.add(repo);
         }
     }
@@ -36,38 +42,78 @@ class ProjectManagerTest {
     void getProjects_shouldReturnFirstPage_whenPageSizeIsFive() {
         Mockito.when(githubAdapter.getRepos()).thenReturn(mockRepos);
 
-        List<GithubRepoResponse> result = projectManager.getProjects(1, 5);
+        PageResponse<GithubRepoResponse> result = projectManager.getProjects(1, 5, null, null);
 
-        assertEquals(5, result.size());
-        assertEquals("Repo 1", result.get(0).getName());
-        assertEquals("Repo 5", result.get(4).getName());
+        assertEquals(5, result.content().size());
+        assertEquals("Repo 1", result.content().get(0).getName());
+        assertEquals("Repo 5", result.content().get(4).getName());
+        assertEquals(25, result.totalElements());
+        assertEquals(5, result.totalPages());
+        assertTrue(result.first());
+        assertFalse(result.last());
     }
 
     @Test
     void getProjects_shouldReturnEmptyList_whenPageNumberExceedsTotalPages() {
         Mockito.when(githubAdapter.getRepos()).thenReturn(mockRepos);
 
-        List<GithubRepoResponse> result = projectManager.getProjects(6, 5);
+        PageResponse<GithubRepoResponse> result = projectManager.getProjects(6, 5, null, null);
 
-        assertTrue(result.isEmpty());
+        assertTrue(result.content().isEmpty());
+        assertTrue(result.empty());
     }
 
     @Test
     void getProjects_shouldReturnRemainingRepos_whenLastPageHasFewerItems() {
         Mockito.when(githubAdapter.getRepos()).thenReturn(mockRepos);
 
-        List<GithubRepoResponse> result = projectManager.getProjects(5, 6);
+        PageResponse<GithubRepoResponse> result = projectManager.getProjects(5, 6, null, null);
 
-        assertEquals(1, result.size());
-        assertEquals("Repo 25", result.get(0).getName());
+        assertEquals(1, result.content().size());
+        assertEquals("Repo 25", result.content().get(0).getName());
+        assertTrue(result.last());
     }
 
     @Test
     void getProjects_shouldReturnAllRepos_whenPageSizeExceedsTotalRepos() {
         Mockito.when(githubAdapter.getRepos()).thenReturn(mockRepos);
 
-        List<GithubRepoResponse> result = projectManager.getProjects(1, 30);
+        PageResponse<GithubRepoResponse> result = projectManager.getProjects(1, 30, null, null);
 
-        assertEquals(25, result.size());
+        assertEquals(25, result.content().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getProjects_shouldFilterByLanguageAndSortByStars() {
+        Mockito.when(githubAdapter.getRepos()).thenReturn(mockRepos);
+
+        PageResponse<GithubRepoResponse> result = projectManager.getProjects(1, 3, "java", "stars");
+
+        assertEquals(12, result.totalElements());
+        assertEquals(List.of("Repo 24", "Repo 22", "Repo 20"),
+                result.content().stream().map(GithubRepoResponse::getName).toList());
+    }
+
+    @Test
+    void getProjects_shouldReuseCatalog_untilTheRepositoryListChanges() {
+        Mockito.when(githubAdapter.getRepos()).thenReturn(mockRepos);
+        projectManager.getProjects(1, 5, null, "name");
+
+        GithubRepoResponse newest = new GithubRepoResponse();
+        newest.setName("AAA");
+        newest.setPushedAt("2026-01-01T00:00:00Z");
+        List<GithubRepoResponse> refreshed = new ArrayList<>(mockRepos);
+        refreshed.add(newest);
+        Mockito.when(githubAdapter.getRepos()).thenReturn(refreshed);
+
+        assertEquals("AAA", projectManager.getProjects(1, 5, null, "name").content().get(0).getName());
+        assertEquals(26, projectManager.getProjects(1, 5, null, null).totalElements());
+    }
+
+    @Test
+    void getProjects_shouldThrowBusinessException_whenSortIsUnknown() {
+        Mockito.when(githubAdapter.getRepos()).thenReturn(mockRepos);
+
+        assertThrows(BusinessException.class, () -> projectManager.getProjects(1, 5, null, "forks"));
+    }
+}
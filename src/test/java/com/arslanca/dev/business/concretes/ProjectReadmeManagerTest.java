@@ -0,0 +1,100 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.adapters.GithubAdapter;
+import com.arslanca.dev.adapters.models.ConditionalResponse;
+import com.arslanca.dev.adapters.models.GithubReadme;
+import com.arslanca.dev.core.utilities.exceptions.types.NotFoundException;
+import com.arslanca.dev.core.utilities.markdown.MarkdownRenderer;
+import com.arslanca.dev.dataAccess.ProjectReadmeRepository;
+import com.arslanca.dev.entities.ProjectReadme;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectReadmeManagerTest {
+
+    private GithubAdapter githubAdapter;
+    private ProjectReadmeRepository projectReadmeRepository;
+    private ProjectReadmeManager projectReadmeManager;
+
+    @BeforeEach
+    void setUp() {
+        githubAdapter = Mockito.mock(GithubAdapter.class);
+        projectReadmeRepository = Mockito.mock(ProjectReadmeRepository.class);
+        projectReadmeManager = new ProjectReadmeManager(githubAdapter, projectReadmeRepository, new MarkdownRenderer());
+        ReflectionTestUtils.setField(projectReadmeManager, "githubUsername", "octo");
+    }
+
+    @Test
+    void refreshOne_shouldRenderSanitizedHtml_withAbsoluteLinks() {
+        String markdown = "# Dev\n\n![logo](docs/logo.png) [guide](docs/GUIDE.md)\n\n<script>alert(1)</script>";
+        Mockito.when(projectReadmeRepository.findByRepoName("dev")).thenReturn(Optional.empty());
+        Mockito.when(githubAdapter.getReadme("dev", null))
+                .thenReturn(new ConditionalResponse<>(false, "\"e1\"", readme("sha-1", markdown)));
+
+        assertTrue(projectReadmeManager.refreshOne("dev"));
+
+        ArgumentCaptor<ProjectReadme> captor = ArgumentCaptor.forClass(ProjectReadme.class);
+        Mockito.verify(projectReadmeRepository).save(captor.capture());
+        String html = captor.getValue().getHtml();
+        assertTrue(html.contains("<h1>Dev</h1>"));
+        assertTrue(html.contains("https://raw.githubusercontent.com/octo/dev/HEAD/docs/logo.png"));
+        assertTrue(html.contains("https://github.com/octo/dev/blob/HEAD/docs/GUIDE.md"));
+        assertFalse(html.contains("<script"));
+        assertEquals("\"e1\"", captor.getValue().getEtag());
+
+        String served = new String(projectReadmeManager.getReadme("dev").raw(), StandardCharsets.UTF_8);
+        assertEquals(html, served);
+    }
+
+    @Test
+    void refreshOne_shouldNotRender_whenBlobShaIsUnchanged() {
+        ProjectReadme existing = ProjectReadme.builder().repoName("dev").sha("sha-1").etag("\"e1\"").html("<p>old</p>").build();
+        Mockito.when(projectReadmeRepository.findByRepoName("dev")).thenReturn(Optional.of(existing));
+        Mockito.when(githubAdapter.getReadme("dev", "\"e1\""))
+                .thenReturn(new ConditionalResponse<>(false, "\"e2\"", readme("sha-1", "# Dev")));
+
+        assertFalse(projectReadmeManager.refreshOne("dev"));
+        assertEquals("<p>old</p>", existing.getHtml());
+        assertEquals("\"e2\"", existing.getEtag());
+    }
+
+    @Test
+    void refreshOne_shouldDoNothing_whenNotModified() {
+        ProjectReadme existing = ProjectReadme.builder().repoName("dev").sha("sha-1").etag("\"e1\"").html("<p>old</p>").build();
+        Mockito.when(projectReadmeRepository.findByRepoName("dev")).thenReturn(Optional.of(existing));
+        Mockito.when(githubAdapter.getReadme("dev", "\"e1\"")).thenReturn(ConditionalResponse.notModified("\"e1\""));
+
+        assertFalse(projectReadmeManager.refreshOne("dev"));
+        Mockito.verify(projectReadmeRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void getReadme_shouldRememberAMissingReadme_untilItIsSynced() {
+        Mockito.when(projectReadmeRepository.findByRepoName("dev")).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> projectReadmeManager.getReadme("dev"));
+        assertThrows(NotFoundException.class, () -> projectReadmeManager.getReadme("dev"));
+        Mockito.verify(projectReadmeRepository, Mockito.times(1)).findByRepoName("dev");
+
+        Mockito.when(githubAdapter.getReadme("dev", null))
+                .thenReturn(new ConditionalResponse<>(false, "\"e1\"", readme("sha-1", "# Dev")));
+        assertTrue(projectReadmeManager.refreshOne("dev"));
+
+        String html = new String(projectReadmeManager.getReadme("dev").raw(), StandardCharsets.UTF_8);
+        assertTrue(html.contains("Dev"));
+    }
+
+    private GithubReadme readme(String sha, String markdown) {
+        String content = Base64.getEncoder().encodeToString(markdown.getBytes(StandardCharsets.UTF_8));
+        return new GithubReadme(sha, "README.md", content, "base64", "https://github.com/octo/dev/blob/main/README.md");
+    }
+}
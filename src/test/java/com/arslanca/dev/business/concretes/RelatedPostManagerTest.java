@@ -0,0 +1,91 @@
+package com.arslanca.dev.business.concretes;
+
+import com.arslanca.dev.business.dto.responses.RelatedBlogResponse;
+import com.arslanca.dev.business.dto.transfer.BlogPostRow;
+import com.arslanca.dev.core.utilities.exceptions.types.BusinessException;
+import com.arslanca.dev.dataAccess.BlogRepository;
+import com.arslanca.dev.entities.BlogPost;
+import com.arslanca.dev.entities.enums.BlogStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelatedPostManagerTest {
+
+    private BlogRepository blogRepository;
+    private RelatedPostManager relatedPostManager;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository = Mockito.mock(BlogRepository.class);
+        relatedPostManager = new RelatedPostManager(blogRepository, Mockito.mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        relatedPostManager.shutdown();
+    }
+
+    @Test
+    void tokensOf_shouldLowercaseSplitAndDropNoise() {
+        List<String> tokens = RelatedPostManager.tokensOf("Spring Boot", null, "Bu yazı ile Java 21 ve the 2024 virtual-threads");
+
+        assertEquals(List.of("spring", "boot", "spring", "boot", "yazı", "java", "virtual", "threads"), tokens);
+    }
+
+    @Test
+    void rebuild_shouldIndexOnlyPublishedPosts() {
+        Mockito.when(blogRepository.streamExportRows()).thenReturn(Stream.of(
+                row(1, "Spring Boot ile REST", "Java", BlogStatus.PUBLISHED),
+                row(2, "Spring Boot testleri", "Java", BlogStatus.PUBLISHED),
+                row(3, "Spring Boot taslak", "Java", BlogStatus.DRAFT)));
+
+        relatedPostManager.rebuild();
+
+        List<RelatedBlogResponse> related = relatedPostManager.getRelated(1, 5);
+        assertEquals(List.of(2), related.stream().map(RelatedBlogResponse::id).toList());
+        assertEquals("Spring Boot testleri", related.get(0).title());
+        assertTrue(relatedPostManager.getRelated(3, 5).isEmpty());
+    }
+
+    @Test
+    void apply_shouldUpdateNeighboursOnEditAndUnpublish() {
+        relatedPostManager.apply(RelatedPostManager.PostChanged.of(1, post("Postgres index", "Veritabanı", BlogStatus.PUBLISHED)));
+        relatedPostManager.apply(RelatedPostManager.PostChanged.of(2, post("React hooks", "Frontend", BlogStatus.PUBLISHED)));
+        assertTrue(relatedPostManager.getRelated(1, 5).isEmpty());
+
+        relatedPostManager.apply(RelatedPostManager.PostChanged.of(2, post("Postgres index bakımı", "Veritabanı", BlogStatus.PUBLISHED)));
+        assertEquals(List.of(2), relatedPostManager.getRelated(1, 5).stream().map(RelatedBlogResponse::id).toList());
+
+        relatedPostManager.apply(RelatedPostManager.PostChanged.of(2, post("Postgres index bakımı", "Veritabanı", BlogStatus.DRAFT)));
+        assertTrue(relatedPostManager.getRelated(1, 5).isEmpty());
+        assertTrue(relatedPostManager.getRelated(2, 5).isEmpty());
+    }
+
+    @Test
+    void getRelated_shouldRejectLimitsOutsideTheList() {
+        assertThrows(BusinessException.class, () -> relatedPostManager.getRelated(1, 0));
+        assertThrows(BusinessException.class, () -> relatedPostManager.getRelated(1, RelatedPostManager.MAX_RELATED + 1));
+    }
+
+    private static BlogPostRow row(int id, String title, String category, BlogStatus status) {
+        return new BlogPostRow(id, title, title, category, status, null, Instant.EPOCH);
+    }
+
+    private static BlogPost post(String title, String category, BlogStatus status) {
+        BlogPost blogPost = new BlogPost();
+        blogPost.setTitle(title);
+        blogPost.setCategory(category);
+        blogPost.setContent(title);
+        blogPost.setStatus(status);
+        return blogPost;
+    }
+}
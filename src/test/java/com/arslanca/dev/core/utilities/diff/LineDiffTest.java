@@ -0,0 +1,81 @@
+package com.arslanca.dev.core.utilities.diff;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineDiffTest {
+
+    @Test
+    void diff_shouldReturnRunsOfEqualDeletedAndInsertedLines() {
+        List<LineDiff.Edit> edits = LineDiff.diff(List.of("a", "b", "c", "d"), List.of("a", "x", "c", "d", "e"));
+
+        assertEquals(List.of(
+                new LineDiff.Edit(LineDiff.Op.EQUAL, 1),
+                new LineDiff.Edit(LineDiff.Op.DELETE, 1),
+                new LineDiff.Edit(LineDiff.Op.INSERT, 1),
+                new LineDiff.Edit(LineDiff.Op.EQUAL, 2),
+                new LineDiff.Edit(LineDiff.Op.INSERT, 1)), edits);
+    }
+
+    @Test
+    void encode_shouldOnlyCarryTheChangedLines() {
+        StringBuilder base = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            base.append("line ").append(i).append('\n');
+        }
+        String target = base.toString().replace("line 1000\n", "line 1000 edited\n");
+
+        assertEquals("=1000\n-1\n+1\nline 1000 edited\n=1000", LineDiff.encode(base.toString(), target));
+    }
+
+    @Test
+    void apply_shouldRestoreTheTargetExactly() {
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            List<String> base = new ArrayList<>();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                base.add(String.valueOf((char) ('a' + random.nextInt(4))));
+            }
+            List<String> target = new ArrayList<>(base);
+            for (int i = random.nextInt(8); i > 0; i--) {
+                if (!target.isEmpty() && random.nextBoolean()) {
+                    target.remove(random.nextInt(target.size()));
+                } else {
+                    target.add(random.nextInt(target.size() + 1), String.valueOf((char) ('a' + random.nextInt(5))));
+                }
+            }
+            String from = String.join("\n", base);
+            String to = String.join("\n", target) + (round % 5 == 0 ? "\n" : "");
+
+            assertEquals(to, LineDiff.apply(from, LineDiff.encode(from, to)));
+        }
+    }
+
+    @Test
+    void encode_shouldFallBackToReplacingEverything_whenTheTextsShareNothing() {
+        StringBuilder from = new StringBuilder();
+        StringBuilder to = new StringBuilder();
+        for (int i = 0; i < LineDiff.MAX_EDIT_DISTANCE * 2; i++) {
+            from.append("old ").append(i).append('\n');
+            to.append("new ").append(i).append('\n');
+        }
+
+        String delta = LineDiff.encode(from.toString(), to.toString());
+
+        assertTrue(delta.startsWith("-" + LineDiff.MAX_EDIT_DISTANCE * 2 + "\n+"));
+        assertEquals(to.toString(), LineDiff.apply(from.toString(), delta));
+    }
+
+    @Test
+    void apply_shouldRejectADeltaForAnotherBase() {
+        String delta = LineDiff.encode("a\nb\nc", "a\nc");
+
+        assertThrows(IllegalArgumentException.class, () -> LineDiff.apply("a\nb", delta));
+        assertThrows(IllegalArgumentException.class, () -> LineDiff.apply("a\nb\nc", "?1"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.arslanca.dev.core.utilities.markdown;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    void renderArticle_shouldAnchorHeadingsAndBuildToc() {
+        MarkdownRenderer.Article article = renderer.renderArticle(
+                "# Önbellek Katmanı\n\n## Kurulum\n\ntext\n\n## Kurulum\n\n#### Derin başlık\n");
+
+        assertEquals(List.of(
+                new MarkdownRenderer.Heading(1, "onbellek-katmani", "Önbellek Katmanı"),
+                new MarkdownRenderer.Heading(2, "kurulum", "Kurulum"),
+                new MarkdownRenderer.Heading(2, "kurulum-2", "Kurulum")), article.toc());
+        assertTrue(article.html().contains("<h4 id=\"derin-baslik\">"));
+        assertTrue(article.html().contains("href=\"#kurulum-2\""));
+    }
+
+    @Test
+    void renderArticle_shouldHighlightKnownLanguagesOnly() {
+        MarkdownRenderer.Article article = renderer.renderArticle(
+                "```java\nreturn \"<b>\"; // done\n```\n\n```brainfuck\n+[<]\n```\n");
+
+        assertTrue(article.html().contains("<span class=\"tok-kw\">return</span>"));
+        assertTrue(article.html().contains("<span class=\"tok-str\">\"&lt;b&gt;\"</span>"));
+        assertTrue(article.html().contains("<span class=\"tok-com\">// done</span>"));
+        assertTrue(article.html().contains("<code>+[&lt;]"));
+    }
+
+    @Test
+    void renderArticle_shouldSanitizeRawHtmlAndCountVisibleWords() {
+        MarkdownRenderer.Article article = renderer.renderArticle(
+                "<script>alert(1)</script>\n\n<h2 id=\"x\" onclick=\"y()\">Raw</h2>\n\n<code class=\"tok-kw\">a b</code> three\n");
+
+        assertFalse(article.html().contains("script"));
+        assertFalse(article.html().contains("onclick"));
+        assertFalse(article.html().contains("class=\"tok-kw\""));
+        assertTrue(article.html().contains("<h2 id=\"raw\">"));
+        assertEquals(4, article.wordCount());
+    }
+}
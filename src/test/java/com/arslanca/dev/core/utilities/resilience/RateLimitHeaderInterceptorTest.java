@@ -0,0 +1,55 @@
+package com.arslanca.dev.core.utilities.resilience;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitHeaderInterceptorTest {
+
+    private final RateLimitBudget budget = new RateLimitBudget();
+    private final RateLimitHeaderInterceptor interceptor = new RateLimitHeaderInterceptor(budget, "github");
+
+    @Test
+    void observe_shouldRecordWindowPerResource() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-RateLimit-Limit", "5000");
+        headers.add("X-RateLimit-Remaining", "4321");
+        headers.add("X-RateLimit-Reset", "1700000000");
+        headers.add("X-RateLimit-Resource", "graphql");
+
+        interceptor.observe(200, headers, 0);
+
+        RateLimitBudget.Window window = budget.window("github:graphql");
+        assertEquals(5000, window.limit());
+        assertEquals(4321, window.remaining());
+        assertEquals(1_700_000_000_000L, window.resetAtMillis());
+        assertNull(budget.window("github:core"));
+    }
+
+    @Test
+    void observe_shouldPauseOnTooManyRequests() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.RETRY_AFTER, "120");
+        RateLimitHeaderInterceptor waka = new RateLimitHeaderInterceptor(budget, "wakatime");
+
+        waka.observe(429, headers, 1_000);
+
+        assertEquals(121_000, budget.window("wakatime").pausedUntilMillis());
+        assertEquals(121_000, budget.blockedUntil("wakatime", 1, true, 2_000));
+        assertEquals(0, budget.blockedUntil("wakatime", 1, true, 121_000));
+    }
+
+    @Test
+    void observe_shouldPauseUntilResetWhenGithubQuotaIsSpent() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-RateLimit-Limit", "5000");
+        headers.add("X-RateLimit-Remaining", "0");
+        headers.add("X-RateLimit-Reset", "1800");
+        headers.add("X-RateLimit-Resource", "core");
+
+        interceptor.observe(403, headers, 1_000);
+
+        assertEquals(1_800_000, budget.window("github:core").pausedUntilMillis());
+    }
+}
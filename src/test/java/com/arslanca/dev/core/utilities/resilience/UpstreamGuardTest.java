@@ -0,0 +1,83 @@
+package com.arslanca.dev.core.utilities.resilience;
+
+import com.arslanca.dev.core.utilities.exceptions.types.UpstreamUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamGuardTest {
+
+    private UpstreamGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        UpstreamPolicy policy = new UpstreamPolicy("test", Duration.ofMillis(100), Duration.ofMillis(100),
+                3, Duration.ofMillis(1), 2, Duration.ofMinutes(1), 2);
+        guard = new UpstreamGuard(policy);
+    }
+
+    @Test
+    void call_shouldRetryIdempotentCallsOnIoErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = guard.call("op", true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ResourceAccessException("timeout");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2, guard.getStatus().retries());
+    }
+
+    @Test
+    void call_shouldNotRetryNonIdempotentCalls() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(UpstreamUnavailableException.class, () -> guard.call("op", false, () -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("timeout");
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void call_shouldFailFastToLastGoodValue_whenCircuitIsOpen() {
+        guard.call("op", true, () -> "cached");
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals("cached", guard.call("op", false, () -> {
+                throw new IllegalStateException("boom");
+            }));
+        }
+        assertEquals("OPEN", guard.getStatus().circuitState());
+
+        AtomicInteger invoked = new AtomicInteger();
+        String result = guard.call("op", true, () -> {
+            invoked.incrementAndGet();
+            return "fresh";
+        });
+
+        assertEquals("cached", result);
+        assertEquals(0, invoked.get());
+        assertEquals(1, guard.getStatus().shortCircuited());
+    }
+
+    @Test
+    void callWithoutFallback_shouldThrowInsteadOfReplayingTheLastGoodValue() {
+        assertEquals("fresh", guard.callWithoutFallback("op", true, () -> "fresh"));
+
+        assertThrows(UpstreamUnavailableException.class, () -> guard.callWithoutFallback("op", false, () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(0, guard.getStatus().fallbacks());
+    }
+}
@@ -0,0 +1,113 @@
+package com.arslanca.dev.core.utilities.scheduler;
+
+import com.arslanca.dev.core.utilities.resilience.RateLimitBudget;
+import com.arslanca.dev.core.utilities.scheduler.RefreshScheduler.Priority;
+import com.arslanca.dev.core.utilities.scheduler.RefreshScheduler.Source;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshSchedulerTest {
+
+    private static final long HOUR = 3_600_000;
+
+    private RateLimitBudget budget;
+    private RefreshScheduler scheduler;
+    private List<String> runs;
+
+    @BeforeEach
+    void setUp() {
+        budget = new RateLimitBudget();
+        scheduler = new RefreshScheduler(budget, 1000, 0);
+        runs = new ArrayList<>();
+    }
+
+    @Test
+    void intervalOf_shouldKeepFreshnessTargetWhileBudgetIsAmple() {
+        Source source = source("snapshot", Priority.NORMAL, Duration.ofMinutes(10), 1);
+        scheduler.register(source, Duration.ZERO);
+        long now = System.currentTimeMillis();
+        budget.record("github:graphql", 5000, 4900, now + HOUR);
+
+        assertEquals(1.0, scheduler.pressureOf("github:graphql", now));
+        assertEquals(Duration.ofMinutes(10).toMillis(), scheduler.intervalOf(source, now));
+    }
+
+    @Test
+    void intervalOf_shouldStretchLowPriorityMoreUnderPressure() {
+        Source high = source("high", Priority.HIGH, Duration.ofMinutes(1), 10);
+        Source low = source("low", Priority.LOW, Duration.ofMinutes(1), 10);
+        scheduler.register(high, Duration.ZERO);
+        scheduler.register(low, Duration.ZERO);
+        long now = System.currentTimeMillis();
+        // 60 dakikada 2 kaynak * 60 tur * 10 istek = 1200 istek isteniyor, 300 + rezerv var
+        budget.record("github:graphql", 1000, 350, now + HOUR);
+
+        double pressure = scheduler.pressureOf("github:graphql", now);
+        assertEquals(4.0, pressure, 0.01);
+        assertEquals((long) (60_000 * Math.pow(4.0, 0.5)), scheduler.intervalOf(high, now), 50);
+        assertEquals((long) (60_000 * Math.pow(4.0, 1.5)), scheduler.intervalOf(low, now), 50);
+    }
+
+    @Test
+    void runDue_shouldRunDueSourcesByPriority() {
+        scheduler.register(source("low", Priority.LOW, Duration.ofMinutes(1), 1), Duration.ZERO);
+        scheduler.register(source("high", Priority.HIGH, Duration.ofMinutes(1), 1), Duration.ZERO);
+        scheduler.register(source("later", Priority.HIGH, Duration.ofMinutes(1), 1), Duration.ofHours(1));
+
+        scheduler.runDue(System.currentTimeMillis());
+
+        assertEquals(List.of("high", "low"), runs);
+    }
+
+    @Test
+    void runDue_shouldHoldSourcesWhileQuotaIsExhausted() {
+        scheduler.register(source("low", Priority.LOW, Duration.ofMinutes(1), 5), Duration.ZERO);
+        scheduler.register(source("high", Priority.HIGH, Duration.ofMinutes(1), 5), Duration.ZERO);
+        long now = System.currentTimeMillis();
+        // Rezerv (50) altında: yalnızca yüksek öncelik çalışabilir
+        budget.record("github:graphql", 1000, 30, now + HOUR);
+
+        scheduler.runDue(now);
+        assertEquals(List.of("high"), runs);
+
+        budget.pause("github:graphql", now + HOUR);
+        runs.clear();
+        scheduler.triggerNow("high");
+        scheduler.runDue(System.currentTimeMillis());
+        assertTrue(runs.isEmpty());
+        assertTrue(scheduler.getDashboard().sources().stream().allMatch(s -> s.state().equals("PAUSED")));
+    }
+
+    @Test
+    void runDue_shouldRecordFailuresWithoutStoppingOtherSources() {
+        scheduler.register(new Source("broken", "github:core", Priority.HIGH, Duration.ofMinutes(1), 1, () -> {
+            throw new IllegalStateException("boom");
+        }), Duration.ZERO);
+        scheduler.register(source("healthy", Priority.LOW, Duration.ofMinutes(1), 1), Duration.ZERO);
+
+        scheduler.runDue(System.currentTimeMillis());
+
+        assertEquals(List.of("healthy"), runs);
+        var broken = scheduler.getDashboard().sources().get(0);
+        assertEquals(1, broken.consecutiveFailures());
+        assertEquals("boom", broken.lastError());
+        assertTrue(broken.stale());
+    }
+
+    @Test
+    void register_shouldRejectDuplicateNames() {
+        scheduler.register(source("a", Priority.LOW, Duration.ofMinutes(1), 1), Duration.ZERO);
+        assertThrows(IllegalStateException.class,
+                () -> scheduler.register(source("a", Priority.HIGH, Duration.ofMinutes(1), 1), Duration.ZERO));
+    }
+
+    private Source source(String name, Priority priority, Duration freshness, int cost) {
+        return new Source(name, "github:graphql", priority, freshness, cost, () -> runs.add(name));
+    }
+}
@@ -0,0 +1,88 @@
+package com.arslanca.dev.core.utilities.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TfIdfIndexTest {
+
+    @Test
+    void put_shouldRankDocumentsSharingRareTermsFirst() {
+        TfIdfIndex index = new TfIdfIndex(2);
+        index.put(1, List.of("spring", "boot", "postgres"));
+        index.put(2, List.of("spring", "boot", "hibernate"));
+        index.put(3, List.of("react", "vite", "typescript"));
+        index.put(4, List.of("postgres", "index", "vacuum"));
+
+        assertArrayEquals(new int[]{2, 4}, index.neighbours(1));
+        assertArrayEquals(new int[]{1}, index.neighbours(2));
+        assertEquals(0, index.neighbours(3).length);
+        assertTrue(index.neighbourScores(1)[0] > index.neighbourScores(1)[1]);
+    }
+
+    @Test
+    void put_shouldReportOnlyTheListsItChanged() {
+        TfIdfIndex index = new TfIdfIndex(3);
+        index.put(1, List.of("java", "virtual", "threads"));
+        index.put(2, List.of("css", "grid", "layout"));
+
+        Set<Integer> changed = index.put(3, List.of("java", "threads", "loom"));
+
+        assertEquals(Set.of(1, 3), changed);
+        assertArrayEquals(new int[]{3}, index.neighbours(1));
+        assertEquals(0, index.neighbours(2).length);
+    }
+
+    @Test
+    void put_shouldReplaceAnEditedDocument() {
+        TfIdfIndex index = new TfIdfIndex(3);
+        index.put(1, List.of("java", "threads"));
+        index.put(2, List.of("java", "threads"));
+        index.put(3, List.of("css", "grid"));
+
+        index.put(2, List.of("css", "grid"));
+
+        assertEquals(3, index.size());
+        assertEquals(0, index.neighbours(1).length);
+        assertArrayEquals(new int[]{3}, index.neighbours(2));
+        assertArrayEquals(new int[]{2}, index.neighbours(3));
+    }
+
+    @Test
+    void remove_shouldDropTheDocumentFromEveryList() {
+        TfIdfIndex index = new TfIdfIndex(3);
+        index.put(1, List.of("java", "threads"));
+        index.put(2, List.of("java", "threads"));
+        index.put(3, List.of("java", "records"));
+
+        Set<Integer> changed = index.remove(2);
+
+        assertTrue(changed.containsAll(Set.of(1, 2, 3)));
+        assertFalse(index.contains(2));
+        assertArrayEquals(new int[]{3}, index.neighbours(1));
+        assertArrayEquals(new int[]{1}, index.neighbours(3));
+        assertEquals(Set.of(), index.remove(2));
+    }
+
+    @Test
+    void builder_shouldComputeEveryNeighbourList() {
+        List<List<String>> documents = List.of(
+                List.of("spring", "boot", "postgres"),
+                List.of("spring", "boot", "hibernate"),
+                List.of("postgres", "index", "vacuum"),
+                List.of("react", "vite", "spring"));
+
+        TfIdfIndex.Builder builder = TfIdfIndex.builder(2);
+        for (int i = 0; i < documents.size(); i++) {
+            builder.add(i + 1, documents.get(i));
+        }
+        TfIdfIndex built = builder.build();
+
+        assertEquals(4, built.size());
+        assertArrayEquals(new int[]{2, 3}, built.neighbours(1));
+        assertArrayEquals(new int[]{1, 4}, built.neighbours(2));
+    }
+}
@@ -0,0 +1,61 @@
+package com.arslanca.dev.core.utilities.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailySeriesTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void stats_shouldFollowIncrementalUpdatesOfTheTail() {
+        DailySeries series = new DailySeries();
+        int[] counts = {1, 2, 0, 3, 4, 5, 0, 1};
+        for (int i = 0; i < counts.length; i++) {
+            series.put(START.plusDays(i), counts[i], counts[i] == 0 ? 0 : 1);
+        }
+
+        assertEquals(16, series.total());
+        assertEquals(3, series.longestStreak());
+        assertEquals(5, series.longestStreakEndIndex());
+        assertEquals(5, series.bestDayIndex());
+        assertEquals(1, series.currentStreak());
+
+        // Son günü güncellemek yalnızca kuyruğu yeniden hesaplar
+        series.put(START.plusDays(6), 7, 4);
+
+        assertEquals(23, series.total());
+        assertEquals(5, series.longestStreak());
+        assertEquals(6, series.bestDayIndex());
+        assertEquals(5, series.currentStreak());
+    }
+
+    @Test
+    void put_shouldFillGapsWithZero_andSupportEarlierDates() {
+        DailySeries series = new DailySeries();
+        series.put(START.plusDays(3), 2, 1);
+        series.put(START.plusDays(6), 4, 2);
+        series.put(START, 1, 1);
+
+        assertEquals(START, series.start());
+        assertEquals(7, series.size());
+        assertEquals(0, series.countAt(4));
+        assertEquals(7, series.total());
+        assertEquals(6, series.sumBetween(START.plusDays(2), START.plusDays(30)));
+        assertFalse(series.put(START.plusDays(3), 2, 1));
+    }
+
+    @Test
+    void currentStreak_shouldIgnoreAnUnfinishedZeroDay() {
+        DailySeries series = new DailySeries();
+        series.put(START, 3, 1);
+        series.put(START.plusDays(1), 2, 1);
+        series.put(START.plusDays(2), 0, 0);
+
+        assertEquals(2, series.currentStreak());
+        assertEquals(5.0 / 3, series.averageOfLast(7), 1e-9);
+    }
+}
@@ -0,0 +1,113 @@
+package com.arslanca.dev.dataAccess;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Search latency on a synthetic 100k-post corpus. Needs a disposable Postgres, e.g.
+ * {@code BLOG_SEARCH_BENCHMARK_URL=jdbc:postgresql://localhost:5432/bench BLOG_SEARCH_BENCHMARK_USER=...
+ * BLOG_SEARCH_BENCHMARK_PASSWORD=... mvn test -Dtest=BlogSearchBenchmarkTest}. Everything happens in
+ * its own schema, which is dropped afterwards.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "BLOG_SEARCH_BENCHMARK_URL", matches = ".+")
+class BlogSearchBenchmarkTest {
+
+    private static final int POSTS = 100_000;
+    private static final int WORDS_PER_POST = 150;
+    // Her kelime yaklaşık 100_000 * 150 / 20_000 = 750 yazıda geçer
+    private static final int VOCABULARY = 20_000;
+    private static final int RUNS = 200;
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static BlogSearchRepository repository;
+
+    @BeforeAll
+    static void createCorpus() {
+        dataSource = new SingleConnectionDataSource(System.getenv("BLOG_SEARCH_BENCHMARK_URL"),
+                System.getenv("BLOG_SEARCH_BENCHMARK_USER"), System.getenv("BLOG_SEARCH_BENCHMARK_PASSWORD"), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS blog_search_bench CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA blog_search_bench");
+        jdbcTemplate.execute("SET search_path TO blog_search_bench");
+        jdbcTemplate.execute("""
+                CREATE TABLE blog_posts (
+                    id SERIAL PRIMARY KEY,
+                    title VARCHAR(200) NOT NULL,
+                    content TEXT,
+                    created_date DATE,
+                    status VARCHAR(16),
+                    category VARCHAR(255))
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO blog_posts (title, content, created_date, status, category)
+                SELECT 'Post ' || g || ' ' || substr(md5((g % ?)::text), 1, 7),
+                       (SELECT string_agg(substr(md5(((g * 7919 + i * 104729) % ?)::text), 1, 7), ' ')
+                        FROM generate_series(1, ?) i),
+                       DATE '2020-01-01' + (g % 2000),
+                       CASE WHEN g % 20 = 0 THEN 'DRAFT' ELSE 'PUBLISHED' END,
+                       (ARRAY['Java', 'Spring', 'Postgres', 'Frontend', 'DevOps'])[1 + g % 5]
+                FROM generate_series(1, ?) g
+                """, VOCABULARY, VOCABULARY, WORDS_PER_POST, POSTS);
+
+        repository = new BlogSearchRepository(dataSource);
+        repository.initializeSchema();
+        jdbcTemplate.execute("ANALYZE blog_posts");
+    }
+
+    @AfterAll
+    static void dropCorpus() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS blog_search_bench CASCADE");
+            dataSource.destroy();
+        }
+    }
+
+    @Test
+    void search_shouldStayInSingleDigitMilliseconds() {
+        List<String> terms = jdbcTemplate.queryForList(
+                "SELECT substr(md5((i * 37 % ?)::text), 1, 7) FROM generate_series(1, 50) i", String.class, VOCABULARY);
+
+        // Isınma: plan önbelleği ve sayfa önbelleği
+        terms.forEach(term -> repository.search(term + ":*", null, null, 10));
+
+        long[] micros = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            String query = run % 2 == 0
+                    ? terms.get(run % terms.size()) + ":*"
+                    : terms.get(run % terms.size()) + ":* & " + terms.get((run + 7) % terms.size()).substring(0, 4) + ":*";
+            long start = System.nanoTime();
+            List<BlogSearchRepository.SearchRow> page = repository.search(query, null, null, 10);
+            if (!page.isEmpty()) {
+                // İkinci sayfa: keyset ile devam
+                BlogSearchRepository.SearchRow last = page.get(page.size() - 1);
+                repository.search(query, last.rank(), last.id(), 10);
+            }
+            micros[run] = (System.nanoTime() - start) / 1000 / 2;
+        }
+
+        Arrays.sort(micros);
+        long median = micros[RUNS / 2];
+        long p95 = micros[(int) (RUNS * 0.95)];
+        log.info("Blog search over {} posts: median {} us, p95 {} us", POSTS, median, p95);
+
+        List<String> plan = new ArrayList<>(jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM blog_posts WHERE search_vector @@ to_tsquery('simple', ?) AND status = 'PUBLISHED'", String.class,
+                terms.get(0) + ":*"));
+        assertTrue(plan.stream().anyMatch(line -> line.contains("idx_blog_posts_published_search_vector")), String.join("\n", plan));
+        assertTrue(median < 10_000, "median " + median + " us");
+    }
+}
@@ -0,0 +1,103 @@
+package com.arslanca.dev.dataAccess;
+
+import com.arslanca.dev.business.concretes.ContentTransferManager;
+import com.arslanca.dev.business.dto.responses.ImportResultResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Imports 100k blog posts from an NDJSON file through the real Hibernate setup (pooled sequence ids,
+ * JDBC batching). Needs a disposable Postgres, e.g.
+ * {@code CONTENT_IMPORT_BENCHMARK_URL=jdbc:postgresql://localhost:5432/bench CONTENT_IMPORT_BENCHMARK_USER=...
+ * CONTENT_IMPORT_BENCHMARK_PASSWORD=... mvn test -Dtest=ContentImportBenchmarkTest}. Tables live in their own
+ * schema and are dropped afterwards.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "CONTENT_IMPORT_BENCHMARK_URL", matches = ".+")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ContentTransferManager.class)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+// İçe aktarma kendi işlemini commit etmeli; test işlemine katılırsa flush'lar ölçülür ama commit ölçülmez
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContentImportBenchmarkTest {
+
+    private static final int POSTS = 100_000;
+
+    @Autowired
+    private ContentTransferManager contentTransferManager;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("CONTENT_IMPORT_BENCHMARK_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv("CONTENT_IMPORT_BENCHMARK_USER"));
+        registry.add("spring.datasource.password", () -> System.getenv("CONTENT_IMPORT_BENCHMARK_PASSWORD"));
+        registry.add("spring.datasource.hikari.connection-init-sql",
+                () -> "CREATE SCHEMA IF NOT EXISTS content_import_bench; SET search_path TO content_import_bench");
+        registry.add("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("app.import.batch-size", () -> "500");
+    }
+
+    @Test
+    void importBlogPosts_100kRows() throws Exception {
+        Path file = Files.createTempFile("blog-import", ".ndjson");
+        try {
+            writePosts(file);
+
+            long started = System.nanoTime();
+            ImportResultResponse result;
+            try (InputStream in = Files.newInputStream(file)) {
+                result = contentTransferManager.importBlogPosts(in);
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            log.info("Imported {} posts ({} MB) in {} ms, {} rows/s", result.imported(),
+                    Files.size(file) >> 20, elapsed.toMillis(), Math.round(POSTS / (elapsed.toNanos() / 1e9)));
+            assertEquals(POSTS, result.imported());
+            assertEquals(0, result.skipped());
+            assertEquals(POSTS, blogRepository.count());
+            // Satır başına bir gidiş-dönüş (IDENTITY) burada dakikalar sürer
+            assertTrue(elapsed.compareTo(Duration.ofSeconds(60)) < 0, "import took " + elapsed);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void writePosts(Path file) throws Exception {
+        Instant start = Instant.parse("2020-01-01T00:00:00Z");
+        String body = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(20);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < POSTS; i++) {
+                writer.write("{\"title\":\"Post " + i + "\",\"content\":\"## Post " + i + "\\n\\n" + body
+                        + "\",\"category\":\"Category " + (i % 12) + "\",\"createdAt\":\""
+                        + start.plusSeconds(i * 600L) + "\"}\n");
+            }
+        }
+    }
+}